@@ -0,0 +1,297 @@
+package com.example.battleship.ai;
+
+import com.example.battleship.exceptions.InvalidShipPlacementException;
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.model.Ship;
+import com.example.battleship.patterns.PlacementStrategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Adversarial fleet placement - Hard difficulty.
+ * Samples as many random layouts as fit in a fixed time budget, in parallel, and scores each
+ * one against a model of where shooters look first. Lower scores mean ships the shooter is
+ * less likely to find early.
+ *
+ * <p>Shooter model: placement density of the fleet (what a probability-based hunter fires at)
+ * blended with a checkerboard bonus (what a parity hunter fires at). Ships touching each other
+ * are penalised too, because finding one in target mode finds the other for free.</p>
+ *
+ * <p>Randomness floor: the final layout is drawn uniformly from the best few candidates, and
+ * a share of games use a plain random layout, so the placement cannot be learned and exploited.</p>
+ *
+ * <p>Threading: the samplers run on a dedicated pool, not the common pool, so a search never
+ * competes with event delivery or other parallel work. The caller waits for the search, at most
+ * one budget per placement.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class AdversarialPlacement implements PlacementStrategy {
+
+    /**
+     * Default search time per placement: 40 ms.
+     */
+    public static final long DEFAULT_BUDGET_NANOS = 40_000_000L;
+
+    private static final int SIZE = 10;
+    private static final int CELLS = SIZE * SIZE;
+    private static final int TOP_CANDIDATES = 8;
+    private static final double RANDOM_FLOOR = 0.15;
+    private static final double PARITY_WEIGHT = 0.25;
+    private static final double TOUCH_PENALTY = 0.5;
+
+    private static final ForkJoinPool SEARCH_POOL = new ForkJoinPool(
+            Runtime.getRuntime().availableProcessors(), pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("adversarial-search-" + thread.getPoolIndex());
+                thread.setDaemon(true);
+                return thread;
+            }, null, false);
+
+    private final long budgetNanos;
+    private final int parallelism;
+    private volatile SearchResult lastResult;
+
+    /**
+     * Creates a placement with the default budget on all available cores.
+     */
+    public AdversarialPlacement() {
+        this(DEFAULT_BUDGET_NANOS, SEARCH_POOL.getParallelism());
+    }
+
+    /**
+     * Creates a placement with a custom budget.
+     *
+     * @param budgetNanos Search time per placement
+     * @param parallelism Number of parallel samplers
+     */
+    public AdversarialPlacement(long budgetNanos, int parallelism) {
+        this.budgetNanos = budgetNanos;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    @Override
+    public void placeFleet(Board board, List<Ship> fleet, Random random) {
+        if (random.nextDouble() < RANDOM_FLOOR) {
+            board.placeFleetRandomly(fleet, random);
+            return;
+        }
+
+        int[] sizes = new int[fleet.size()];
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = fleet.get(i).getSize();
+        }
+
+        SearchResult result = search(sizes, random);
+        lastResult = result;
+        int[] layout = result.getLayout();
+        try {
+            for (int i = 0; i < layout.length; i++) {
+                int start = layout[i] >> 1;
+                board.placeShip(fleet.get(i), new Coordinate(start / SIZE, start % SIZE), (layout[i] & 1) != 0);
+            }
+        } catch (InvalidShipPlacementException e) {
+            throw new IllegalStateException("Adversarial layout is not valid", e);
+        }
+    }
+
+    /**
+     * Searches for a hard-to-find layout within the time budget.
+     *
+     * @param sizes Ship sizes of the fleet, in placement order
+     * @param random Generator that seeds the samplers and picks among the best candidates
+     * @return The chosen layout and search statistics
+     */
+    public SearchResult search(int[] sizes, Random random) {
+        double[] heat = heat(sizes);
+        long deadline = System.nanoTime() + budgetNanos;
+        long[] seeds = new long[parallelism];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = random.nextLong();
+        }
+
+        List<ForkJoinTask<Sampler>> samplers = new ArrayList<>();
+        for (long seed : seeds) {
+            samplers.add(SEARCH_POOL.submit(() -> new Sampler(sizes, heat, seed).run(deadline)));
+        }
+
+        List<Candidate> best = new ArrayList<>();
+        long scored = 0;
+        for (ForkJoinTask<Sampler> task : samplers) {
+            Sampler sampler = task.join();
+            best.addAll(sampler.top);
+            scored += sampler.scored;
+        }
+        best.sort(Comparator.comparingDouble(candidate -> candidate.score));
+        List<Candidate> top = best.subList(0, Math.min(TOP_CANDIDATES, best.size()));
+        Candidate chosen = top.get(random.nextInt(top.size()));
+        return new SearchResult(chosen.layout, chosen.score, scored, budgetNanos);
+    }
+
+    /**
+     * Gets the statistics of the last adversarial search.
+     *
+     * @return The last result, or null if no search ran yet
+     */
+    public SearchResult getLastResult() {
+        return lastResult;
+    }
+
+    /**
+     * Shooter model: how likely each cell is to be fired at early, from 0 to 1.
+     */
+    static double[] heat(int[] sizes) {
+        int[] density = OpeningBook.density(sizes, new boolean[CELLS]);
+        int max = 1;
+        for (int value : density) {
+            max = Math.max(max, value);
+        }
+        double[] heat = new double[CELLS];
+        for (int cell = 0; cell < CELLS; cell++) {
+            boolean parity = (cell / SIZE + cell % SIZE) % 2 == 0;
+            heat[cell] = (1 - PARITY_WEIGHT) * density[cell] / max + (parity ? PARITY_WEIGHT : 0);
+        }
+        return heat;
+    }
+
+    /**
+     * Single-threaded sampler that keeps its own best candidates.
+     */
+    private static class Sampler {
+        private final int[] sizes;
+        private final double[] heat;
+        private final Random random;
+        private final int[] owner = new int[CELLS];
+        private final int[] layout;
+        private final List<Candidate> top = new ArrayList<>();
+        private long scored;
+
+        Sampler(int[] sizes, double[] heat, long seed) {
+            this.sizes = sizes;
+            this.heat = heat;
+            this.random = new Random(seed);
+            this.layout = new int[sizes.length];
+        }
+
+        Sampler run(long deadline) {
+            do {
+                // Check the clock every 64 samples
+                for (int i = 0; i < 64; i++) {
+                    sample();
+                    offer(score());
+                    scored++;
+                }
+            } while (System.nanoTime() < deadline);
+            return this;
+        }
+
+        /**
+         * Draws a random valid layout; owner[cell] is the ship index + 1, or 0 for water.
+         */
+        private void sample() {
+            Arrays.fill(owner, 0);
+            for (int s = 0; s < sizes.length; s++) {
+                int size = sizes[s];
+                while (true) {
+                    int row = random.nextInt(SIZE);
+                    int col = random.nextInt(SIZE);
+                    boolean horizontal = random.nextBoolean();
+                    if (horizontal ? col + size > SIZE : row + size > SIZE) continue;
+
+                    int step = horizontal ? 1 : SIZE;
+                    int start = row * SIZE + col;
+                    boolean free = true;
+                    for (int i = 0; i < size && free; i++) {
+                        free = owner[start + i * step] == 0;
+                    }
+                    if (!free) continue;
+
+                    for (int i = 0; i < size; i++) {
+                        owner[start + i * step] = s + 1;
+                    }
+                    layout[s] = start << 1 | (horizontal ? 1 : 0);
+                    break;
+                }
+            }
+        }
+
+        private double score() {
+            double score = 0;
+            for (int cell = 0; cell < CELLS; cell++) {
+                int ship = owner[cell];
+                if (ship == 0) continue;
+                score += heat[cell];
+
+                // Count each touching pair once: look right and down only
+                if (cell % SIZE < SIZE - 1 && owner[cell + 1] != 0 && owner[cell + 1] != ship) score += TOUCH_PENALTY;
+                if (cell + SIZE < CELLS && owner[cell + SIZE] != 0 && owner[cell + SIZE] != ship) score += TOUCH_PENALTY;
+            }
+            return score;
+        }
+
+        private void offer(double score) {
+            if (top.size() == TOP_CANDIDATES && score >= top.get(top.size() - 1).score) return;
+            Candidate candidate = new Candidate(layout.clone(), score);
+            int index = 0;
+            while (index < top.size() && top.get(index).score <= score) index++;
+            top.add(index, candidate);
+            if (top.size() > TOP_CANDIDATES) top.remove(top.size() - 1);
+        }
+    }
+
+    private static class Candidate {
+        private final int[] layout;
+        private final double score;
+
+        Candidate(int[] layout, double score) {
+            this.layout = layout;
+            this.score = score;
+        }
+    }
+
+    /**
+     * Outcome of one adversarial search.
+     */
+    public static class SearchResult {
+        private final int[] layout;
+        private final double score;
+        private final long candidatesScored;
+        private final long budgetNanos;
+
+        SearchResult(int[] layout, double score, long candidatesScored, long budgetNanos) {
+            this.layout = layout;
+            this.score = score;
+            this.candidatesScored = candidatesScored;
+            this.budgetNanos = budgetNanos;
+        }
+
+        /**
+         * Gets the chosen layout: per ship, {@code startCell << 1 | horizontal}.
+         *
+         * @return The layout
+         */
+        public int[] getLayout() { return layout.clone(); }
+
+        public double getScore() { return score; }
+        public long getCandidatesScored() { return candidatesScored; }
+
+        /**
+         * Gets the sampling throughput of the search.
+         *
+         * @return Layouts scored per second
+         */
+        public double getLayoutsPerSecond() {
+            return candidatesScored / (budgetNanos / 1e9);
+        }
+    }
+}
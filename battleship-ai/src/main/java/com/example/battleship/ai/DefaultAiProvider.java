@@ -0,0 +1,41 @@
+package com.example.battleship.ai;
+
+import com.example.battleship.patterns.AiProvider;
+import com.example.battleship.patterns.PlacementStrategy;
+import com.example.battleship.patterns.ShootingStrategy;
+
+/**
+ * Built-in AI levels.
+ * <ul>
+ *   <li>EASY: random shooting, random placement</li>
+ *   <li>MEDIUM: targets after a hit, random placement</li>
+ *   <li>HARD: hunt &amp; target with opening book, adversarial placement</li>
+ * </ul>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class DefaultAiProvider implements AiProvider {
+
+    @Override
+    public ShootingStrategy createShootingStrategy(String difficulty) {
+        switch (difficulty.toUpperCase()) {
+            case "MEDIUM":
+                return new SmartStrategy();
+            case "HARD":
+                return new HuntTargetStrategy();
+            case "EASY":
+            default:
+                return new RandomStrategy();
+        }
+    }
+
+    @Override
+    public PlacementStrategy createPlacementStrategy(String difficulty) {
+        if ("HARD".equalsIgnoreCase(difficulty)) {
+            return new AdversarialPlacement();
+        }
+        return new RandomPlacement();
+    }
+}
@@ -1,14 +1,17 @@
-package com.example.battleship.patterns;
+package com.example.battleship.ai;
 
 import com.example.battleship.model.Board;
 import com.example.battleship.model.Coordinate;
+import com.example.battleship.model.OpponentModel;
+import com.example.battleship.patterns.ShootingStrategy;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
 /**
  * Hunt-and-target strategy - Hard difficulty.
- * Uses checkerboard pattern for hunting, then AGGRESSIVELY targets adjacent cells after hits.
+ * Opens with the precomputed {@link OpeningBook} line, hunts with a checkerboard pattern,
+ * then AGGRESSIVELY targets adjacent cells after hits.
  * This strategy will pursue ships until they are sunk.
  *
  * @author Battleship Team
@@ -20,6 +23,7 @@ public class HuntTargetStrategy implements ShootingStrategy {
     private List<Coordinate> targetQueue = new ArrayList<>();
     private Coordinate lastHit = null;
     private List<Coordinate> hitHistory = new ArrayList<>();
+    private volatile OpponentModel prior = null;
 
     /**
      * Gets next shot using improved hunt-target algorithm.
@@ -52,6 +56,16 @@ public class HuntTargetStrategy implements ShootingStrategy {
             }
         }
 
+        // OPENING: precomputed first shots while every shot so far has missed,
+        // unless we already know where this opponent likes to hide
+        OpponentModel opponent = prior;
+        boolean usePrior = opponent != null && opponent.isReliable();
+        Coordinate bookMove = usePrior ? null : OpeningBook.getDefault().lookup(board);
+        if (bookMove != null) {
+            System.out.println("📖 AI OPENING BOOK: " + bookMove.getRow() + "," + bookMove.getCol());
+            return bookMove;
+        }
+
         // HUNT MODE: Use checkerboard pattern for efficiency
         List<Coordinate> checkerboard = new ArrayList<>();
         for (int row = 0; row < 10; row++) {
@@ -66,8 +80,11 @@ public class HuntTargetStrategy implements ShootingStrategy {
         }
 
         if (!checkerboard.isEmpty()) {
-            Coordinate shot = checkerboard.get(random.nextInt(checkerboard.size()));
-            System.out.println("🔍 AI HUNTING (checkerboard): " + shot.getRow() + "," + shot.getCol());
+            Coordinate shot = usePrior
+                    ? opponent.pick(checkerboard, random)
+                    : checkerboard.get(random.nextInt(checkerboard.size()));
+            System.out.println("🔍 AI HUNTING (checkerboard" + (usePrior ? ", opponent prior" : "") + "): "
+                    + shot.getRow() + "," + shot.getCol());
             return shot;
         }
 
@@ -93,6 +110,7 @@ public class HuntTargetStrategy implements ShootingStrategy {
      * Registers a hit and adds adjacent cells to target queue.
      * This is called externally when AI scores a hit.
      */
+    @Override
     public void registerHit(Coordinate coord) {
         System.out.println("✅ AI HIT REGISTERED at " + coord.getRow() + "," + coord.getCol());
         lastHit = coord;
@@ -132,6 +150,7 @@ public class HuntTargetStrategy implements ShootingStrategy {
      * Clears a ship from hit history once it's sunk.
      * This prevents the AI from wasting shots around sunk ships.
      */
+    @Override
     public void registerSunk(List<Coordinate> shipCoords) {
         System.out.println("💀 AI: Enemy ship SUNK, removing from pursuit");
         hitHistory.removeAll(shipCoords);
@@ -164,6 +183,17 @@ public class HuntTargetStrategy implements ShootingStrategy {
         return adjacent;
     }
 
+    /**
+     * Sets the placement history of the current opponent.
+     * Once reliable, it replaces the opening book and weights checkerboard hunting.
+     *
+     * @param prior The opponent's occupancy model, or null to hunt uniformly
+     */
+    @Override
+    public void setPrior(OpponentModel prior) {
+        this.prior = prior;
+    }
+
     /**
      * Resets the strategy state (for new games).
      */
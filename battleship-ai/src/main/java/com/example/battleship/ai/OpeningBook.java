@@ -0,0 +1,243 @@
+package com.example.battleship.ai;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.model.Ship;
+import com.example.battleship.util.ArchivoUtil;
+import com.example.battleship.util.ShipFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Precomputed opening moves for knowledge-based strategies.
+ * While every shot so far has missed, the best next shot depends only on which cells were
+ * missed, so the line "best shot, miss, best shot, miss..." is computed once and stored.
+ * The machine's early hunting turns then cost a table lookup.
+ *
+ * <p>"Best" means the cell covered by the most legal placements of the remaining fleet
+ * (placement density), ties broken by the lowest cell index.</p>
+ *
+ * <p>Binary format (big endian): magic {@code BOOK}, version, board size, depth,
+ * fleet size, one byte per ship size, then one cell index ({@code row * 10 + col}) per move.
+ * The file lives in the data folder and is read through a memory mapping on first use.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class OpeningBook {
+
+    private static final int MAGIC = 0x424F4F4B; // "BOOK"
+    private static final byte VERSION = 1;
+    private static final int SIZE = 10;
+
+    /**
+     * Number of opening moves stored by default.
+     */
+    public static final int DEFAULT_DEPTH = 16;
+
+    private final ByteBuffer moves;
+    private final int depth;
+
+    private OpeningBook(ByteBuffer moves, int depth) {
+        this.moves = moves;
+        this.depth = depth;
+    }
+
+    /**
+     * Lazy holder: the book is mapped the first time a strategy asks for it.
+     */
+    private static class Holder {
+        private static final OpeningBook INSTANCE = loadOrBuild(ArchivoUtil.getDataPath("opening.book"), DEFAULT_DEPTH);
+    }
+
+    /**
+     * Gets the shared book for the standard board and fleet.
+     *
+     * @return The opening book
+     */
+    public static OpeningBook getDefault() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Looks up the book move for the current board.
+     * Only applies while every shot fired so far is a miss that follows the book line.
+     *
+     * @param board The target board
+     * @return The book move, or null if the position is out of book
+     */
+    public Coordinate lookup(Board board) {
+        int misses = 0;
+        for (Board.CellState state : board.getGrid().values()) {
+            if (state == Board.CellState.MISS) misses++;
+            else if (state == Board.CellState.HIT || state == Board.CellState.SUNK) return null;
+        }
+        if (misses >= depth) return null;
+
+        for (int i = 0; i < misses; i++) {
+            if (board.getGrid().get(cellAt(i)) != Board.CellState.MISS) return null;
+        }
+
+        Coordinate next = cellAt(misses);
+        Board.CellState state = board.getGrid().get(next);
+        return state == Board.CellState.WATER || state == Board.CellState.SHIP ? next : null;
+    }
+
+    /**
+     * Gets the number of moves stored.
+     *
+     * @return Book depth
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Gets the i-th book move.
+     *
+     * @param index Move index (0 to depth - 1)
+     * @return The move coordinate
+     */
+    public Coordinate cellAt(int index) {
+        int cell = moves.get(index) & 0xFF;
+        return new Coordinate(cell / SIZE, cell % SIZE);
+    }
+
+    /**
+     * Maps the book file, rebuilding it first if it is missing or was built for another fleet.
+     *
+     * @param file Book file
+     * @param depth Number of moves to build if the file must be (re)built
+     * @return The opening book
+     */
+    public static OpeningBook loadOrBuild(Path file, int depth) {
+        int[] fleet = fleetSizes();
+        try {
+            OpeningBook book = load(file, fleet);
+            if (book != null) return book;
+
+            write(file, fleet, build(fleet, depth));
+            book = load(file, fleet);
+            if (book != null) return book;
+        } catch (IOException e) {
+            System.err.println("Error cargando el libro de aperturas: " + e.getMessage());
+        }
+        // Could not use the file: keep the book in memory only
+        return new OpeningBook(ByteBuffer.wrap(build(fleet, depth)), depth);
+    }
+
+    /**
+     * Maps an existing book file.
+     *
+     * @return The book, or null if the file is missing or does not match the fleet
+     */
+    private static OpeningBook load(Path file, int[] fleet) throws IOException {
+        if (!Files.exists(file)) return null;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int header = 8 + fleet.length;
+            if (buffer.remaining() < header || buffer.getInt(0) != MAGIC || buffer.get(4) != VERSION
+                    || buffer.get(5) != SIZE || buffer.get(7) != fleet.length) {
+                return null;
+            }
+            for (int i = 0; i < fleet.length; i++) {
+                if (buffer.get(8 + i) != fleet[i]) return null;
+            }
+            int depth = buffer.get(6) & 0xFF;
+            if (buffer.remaining() < header + depth) return null;
+
+            ByteBuffer moves = buffer.position(header).slice();
+            return new OpeningBook(moves, depth);
+        }
+    }
+
+    /**
+     * Writes a book file atomically (temporary file plus rename).
+     */
+    private static void write(Path file, int[] fleet, byte[] moves) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        ByteBuffer buffer = ByteBuffer.allocate(8 + fleet.length + moves.length);
+        buffer.putInt(MAGIC).put(VERSION).put((byte) SIZE).put((byte) moves.length).put((byte) fleet.length);
+        for (int size : fleet) {
+            buffer.put((byte) size);
+        }
+        buffer.put(moves).flip();
+
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Computes the book line: repeatedly picks the densest cell and assumes it missed.
+     *
+     * @param fleet Ship sizes of the fleet
+     * @param depth Number of moves
+     * @return Cell index of each move
+     */
+    static byte[] build(int[] fleet, int depth) {
+        boolean[] missed = new boolean[SIZE * SIZE];
+        byte[] moves = new byte[Math.min(depth, SIZE * SIZE)];
+        for (int move = 0; move < moves.length; move++) {
+            int[] density = density(fleet, missed);
+            int best = -1;
+            for (int cell = 0; cell < density.length; cell++) {
+                if (!missed[cell] && (best < 0 || density[cell] > density[best])) best = cell;
+            }
+            moves[move] = (byte) best;
+            missed[best] = true;
+        }
+        return moves;
+    }
+
+    /**
+     * Counts, for each cell, the legal ship placements that cover it.
+     */
+    static int[] density(int[] fleet, boolean[] missed) {
+        int[] density = new int[SIZE * SIZE];
+        for (int size : fleet) {
+            for (int row = 0; row < SIZE; row++) {
+                for (int col = 0; col < SIZE; col++) {
+                    addPlacement(density, missed, row, col, size, true);
+                    if (size > 1) addPlacement(density, missed, row, col, size, false);
+                }
+            }
+        }
+        return density;
+    }
+
+    private static void addPlacement(int[] density, boolean[] missed, int row, int col, int size, boolean horizontal) {
+        if (horizontal ? col + size > SIZE : row + size > SIZE) return;
+        int step = horizontal ? 1 : SIZE;
+        int start = row * SIZE + col;
+        for (int i = 0; i < size; i++) {
+            if (missed[start + i * step]) return;
+        }
+        for (int i = 0; i < size; i++) {
+            density[start + i * step]++;
+        }
+    }
+
+    static int[] fleetSizes() {
+        List<Ship> fleet = ShipFactory.createFleet();
+        int[] sizes = new int[fleet.size()];
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = fleet.get(i).getSize();
+        }
+        return sizes;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.battleship.ai;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Ship;
+import com.example.battleship.patterns.PlacementStrategy;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Uniformly random fleet placement - Easy and Medium difficulty.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class RandomPlacement implements PlacementStrategy {
+
+    @Override
+    public void placeFleet(Board board, List<Ship> fleet, Random random) {
+        board.placeFleetRandomly(fleet, random);
+    }
+}
@@ -1,7 +1,8 @@
-package com.example.battleship.patterns;
+package com.example.battleship.ai;
 
 import com.example.battleship.model.Board;
 import com.example.battleship.model.Coordinate;
+import com.example.battleship.patterns.ShootingStrategy;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
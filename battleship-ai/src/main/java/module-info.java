@@ -0,0 +1,8 @@
+// Estrategias de disparo y colocación de la IA
+module com.example.battleship.ai {
+    requires transitive com.example.battleship.core;
+
+    exports com.example.battleship.ai;
+
+    provides com.example.battleship.patterns.AiProvider with com.example.battleship.ai.DefaultAiProvider;
+}
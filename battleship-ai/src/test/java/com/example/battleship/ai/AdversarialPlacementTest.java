@@ -0,0 +1,105 @@
+package com.example.battleship.ai;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.model.Ship;
+import com.example.battleship.util.ShipFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the AdversarialPlacement class.
+ * Tests that the placed fleet is valid and that the random layout floor holds.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class AdversarialPlacementTest {
+
+    private static final long BUDGET_NANOS = 1_000_000L;
+
+    @Test
+    @DisplayName("Should place the whole fleet in straight, non-overlapping lines")
+    void testFleetIsValid() {
+        for (long seed = 0; seed < 20; seed++) {
+            List<Ship> fleet = ShipFactory.createFleet();
+            Board board = new Board();
+            new AdversarialPlacement(BUDGET_NANOS, 2).placeFleet(board, fleet, new Random(seed));
+
+            Map<Ship, List<Coordinate>> cells = new HashMap<>();
+            board.getShipPlacement().forEach((cell, ship) ->
+                    cells.computeIfAbsent(ship, s -> new ArrayList<>()).add(cell));
+            assertEquals(fleet.size(), cells.size(), "Every ship should be placed, seed " + seed);
+
+            int total = 0;
+            for (Ship ship : fleet) {
+                List<Coordinate> shipCells = cells.get(ship);
+                assertNotNull(shipCells, ship.getType() + " should be on the board, seed " + seed);
+                assertEquals(ship.getSize(), shipCells.size(), ship.getType() + " should cover its size");
+                assertTrue(isStraightLine(shipCells), ship.getType() + " should be one straight line");
+                total += ship.getSize();
+            }
+            assertEquals(total, board.getShipPlacement().size(), "Ships should not share cells");
+        }
+    }
+
+    @Test
+    @DisplayName("Should use a plain random layout in about 15% of games")
+    void testRandomFloor() {
+        int games = 400;
+        int random = 0;
+        Random seeds = new Random(42); // Seeds drawn like the game draws them; small sequential seeds correlate
+        for (int game = 0; game < games; game++) {
+            AdversarialPlacement placement = new AdversarialPlacement(BUDGET_NANOS, 1);
+            placement.placeFleet(new Board(), ShipFactory.createFleet(), new Random(seeds.nextLong()));
+            if (placement.getLastResult() == null) {
+                random++;
+            }
+        }
+
+        assertTrue(random >= games * 0.10 && random <= games * 0.20,
+                "About 15% of layouts should skip the search, got " + random + " of " + games);
+    }
+
+    @Test
+    @DisplayName("Should choose a layout that scores below random layouts")
+    void testSearchBeatsRandom() {
+        int[] sizes = OpeningBook.fleetSizes();
+        AdversarialPlacement.SearchResult result = new AdversarialPlacement(BUDGET_NANOS, 2).search(sizes, new Random(7));
+
+        assertTrue(result.getCandidatesScored() > 0, "The search should score candidates");
+        assertEquals(sizes.length, result.getLayout().length, "The layout should hold every ship");
+
+        double[] heat = AdversarialPlacement.heat(sizes);
+        Random random = new Random(7);
+        double randomScore = 0;
+        for (int i = 0; i < 50; i++) {
+            Board board = new Board();
+            board.placeFleetRandomly(ShipFactory.createFleet(), random);
+            randomScore += board.getShipPlacement().keySet().stream()
+                    .mapToDouble(cell -> heat[cell.getRow() * 10 + cell.getCol()]).sum();
+        }
+        assertTrue(result.getScore() < randomScore / 50, "The chosen layout should be harder to find than average");
+    }
+
+    private static boolean isStraightLine(List<Coordinate> cells) {
+        int minRow = 10, maxRow = -1, minCol = 10, maxCol = -1;
+        for (Coordinate cell : cells) {
+            minRow = Math.min(minRow, cell.getRow());
+            maxRow = Math.max(maxRow, cell.getRow());
+            minCol = Math.min(minCol, cell.getCol());
+            maxCol = Math.max(maxCol, cell.getCol());
+        }
+        int span = Math.max(maxRow - minRow, maxCol - minCol) + 1;
+        return (minRow == maxRow || minCol == maxCol) && span == cells.size();
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.battleship.ai;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.model.Ship;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the OpeningBook class.
+ * Tests building the book line, looking up positions and the book file round trip.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class OpeningBookTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Should build a line of distinct cells, each the densest after the misses before it")
+    void testBuild() {
+        int[] fleet = OpeningBook.fleetSizes();
+        byte[] moves = OpeningBook.build(fleet, 16);
+
+        assertEquals(16, moves.length, "Should build the requested depth");
+        boolean[] missed = new boolean[100];
+        Set<Integer> seen = new HashSet<>();
+        for (byte move : moves) {
+            int[] density = OpeningBook.density(fleet, missed);
+            for (int cell = 0; cell < 100; cell++) {
+                if (!missed[cell]) {
+                    assertTrue(density[move] >= density[cell], "Move " + move + " should be the densest cell");
+                }
+            }
+            assertTrue(seen.add((int) move), "Moves should not repeat");
+            missed[move] = true;
+        }
+        assertEquals(100, OpeningBook.build(fleet, 500).length, "The line cannot be longer than the board");
+    }
+
+    @Test
+    @DisplayName("Should follow the book line while every shot is a book miss")
+    void testLookup() {
+        OpeningBook book = OpeningBook.loadOrBuild(dir.resolve("opening.book"), 4);
+        Board board = new Board();
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(book.cellAt(i), book.lookup(board), "Should return book move " + i);
+            board.fireAt(book.cellAt(i));
+        }
+        assertNull(book.lookup(board), "Should be out of book past its depth");
+
+        Board offBook = new Board();
+        Coordinate other = new Coordinate(9, 9).equals(book.cellAt(0)) ? new Coordinate(0, 0) : new Coordinate(9, 9);
+        offBook.fireAt(other);
+        assertNull(book.lookup(offBook), "A miss off the line should leave the book");
+    }
+
+    @Test
+    @DisplayName("Should leave the book after a hit")
+    void testLookupAfterHit() throws Exception {
+        OpeningBook book = OpeningBook.loadOrBuild(dir.resolve("opening.book"), 4);
+        Board board = new Board();
+        board.placeShip(new Ship("Frigate", 1), book.cellAt(0), true);
+        board.fireAt(book.cellAt(0));
+
+        assertNull(book.lookup(board), "A hit should end the opening");
+    }
+
+    @Test
+    @DisplayName("Should save the book and map the same line back, rebuilding a damaged file")
+    void testSaveAndLoad() throws IOException {
+        Path file = dir.resolve("books").resolve("opening.book");
+        OpeningBook built = OpeningBook.loadOrBuild(file, 8);
+        assertTrue(Files.exists(file), "The book should be written");
+        byte[] written = Files.readAllBytes(file);
+
+        OpeningBook loaded = OpeningBook.loadOrBuild(file, 8);
+        assertEquals(8, loaded.getDepth(), "Depth should be read from the file");
+        for (int i = 0; i < 8; i++) {
+            assertEquals(built.cellAt(i), loaded.cellAt(i), "Move " + i + " should survive the round trip");
+        }
+        assertArrayEquals(written, Files.readAllBytes(file), "A valid book should not be rewritten");
+
+        Coordinate last = loaded.cellAt(7); // Read before the mapped file is damaged
+        Files.write(file, new byte[]{1, 2, 3});
+        OpeningBook rebuilt = OpeningBook.loadOrBuild(file, 8);
+        assertEquals(last, rebuilt.cellAt(7), "A damaged book should be rebuilt");
+        assertArrayEquals(written, Files.readAllBytes(file), "The rebuilt book should be written again");
+    }
+}
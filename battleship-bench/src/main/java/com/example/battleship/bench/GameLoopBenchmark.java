@@ -0,0 +1,77 @@
+package com.example.battleship.bench;
+
+import com.example.battleship.engine.GameActor;
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.util.ShipFactory;
+
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Measures turn processing throughput of the single-writer game loop.
+ * Several producer threads submit shot commands; one actor applies them to its boards.
+ * Usage: {@code GameLoopBenchmark [producers] [shotsPerProducer]}
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class GameLoopBenchmark {
+
+    private static final int BOARDS = 64;
+
+    public static void main(String[] args) throws Exception {
+        int producers = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int shotsPerProducer = args.length > 1 ? Integer.parseInt(args[1]) : 250_000;
+
+        run(producers, shotsPerProducer / 10); // Warm-up
+        run(producers, shotsPerProducer);
+    }
+
+    private static void run(int producers, int shotsPerProducer) throws Exception {
+        GameActor actor = new GameActor();
+        Board[] boards = new Board[BOARDS];
+        Random layoutRandom = new Random(42);
+        for (int i = 0; i < BOARDS; i++) {
+            boards[i] = new Board();
+            boards[i].placeFleetRandomly(ShipFactory.createFleet(), layoutRandom);
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            long seed = p;
+            threads[p] = new Thread(() -> {
+                Random random = new Random(seed);
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < shotsPerProducer; i++) {
+                    Board board = boards[random.nextInt(BOARDS)];
+                    Coordinate target = new Coordinate(random.nextInt(10), random.nextInt(10));
+                    // Shots at resolved cells are no-ops but still go through the loop
+                    actor.execute(() -> board.fireAt(target));
+                }
+            });
+            threads[p].start();
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        CompletableFuture<Void> drained = actor.submit(() -> null);
+        drained.join();
+        long elapsed = System.nanoTime() - begin;
+
+        long commands = actor.getProcessedCount();
+        System.out.printf("producers=%d: %,d commands in %.1f ms, %,.0f commands/s, %.0f ns busy per command%n",
+                producers, commands, elapsed / 1e6, commands / (elapsed / 1e9),
+                (double) actor.getBusyNanos() / commands);
+    }
+}
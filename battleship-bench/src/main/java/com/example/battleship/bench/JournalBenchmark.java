@@ -0,0 +1,88 @@
+package com.example.battleship.bench;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.util.LiveSaveFile;
+import com.example.battleship.util.SaveCodec;
+import com.example.battleship.util.ShipFactory;
+import com.example.battleship.util.ShotJournal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+/**
+ * Measures how many moves per second can be persisted by appending them to the shot journal
+ * and by updating the memory-mapped live save in place, in each durability mode, against
+ * rewriting the whole save file after every move.
+ * Usage: {@code JournalBenchmark [moves] [movesPerTurn]}
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JournalBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int moves = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int movesPerTurn = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        Path dir = Files.createTempDirectory("journal-bench");
+
+        for (ShotJournal.Durability durability : ShotJournal.Durability.values()) {
+            Path file = dir.resolve(durability + ".journal");
+            try (ShotJournal journal = new ShotJournal(file, durability, 16)) {
+                journal.reset(0);
+                long start = System.nanoTime();
+                for (int i = 0; i < moves; i++) {
+                    if (i % 100 == 0) journal.reset(i); // A full save every 100 moves keeps cells unique
+                    journal.appendShot((i & 1) == 0, new Coordinate(i % 100 / 10, i % 10));
+                    if (i % movesPerTurn == movesPerTurn - 1) journal.commitTurn();
+                }
+                double seconds = (System.nanoTime() - start) / 1e9;
+                System.out.printf("journal %-5s: %,10.0f appends/s (%d fsyncs)%n",
+                        durability, moves / seconds, journal.getForceCount());
+            }
+        }
+
+        Board player = new Board();
+        Board machine = new Board();
+        Random random = new Random(1);
+        player.placeFleetRandomly(ShipFactory.createFleet(), random);
+        machine.placeFleetRandomly(ShipFactory.createFleet(), random);
+
+        for (ShotJournal.Durability durability : ShotJournal.Durability.values()) {
+            try (LiveSaveFile live = new LiveSaveFile(dir.resolve(durability + ".live"), durability, 16)) {
+                live.write(player, machine, true);
+                long start = System.nanoTime();
+                for (int i = 0; i < moves; i++) {
+                    live.appendShot((i & 1) == 0, new Coordinate(i % 100 / 10, i % 10));
+                    if (i % movesPerTurn == movesPerTurn - 1) live.commitTurn();
+                }
+                double seconds = (System.nanoTime() - start) / 1e9;
+                System.out.printf("live    %-5s: %,10.0f updates/s (%d msyncs)%n",
+                        durability, moves / seconds, live.getForceCount());
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(SaveCodec.MAX_BYTES);
+        Path file = dir.resolve("game.dat");
+        long start = System.nanoTime();
+        for (int i = 0; i < moves; i++) {
+            buffer.clear();
+            SaveCodec.encode(player, machine, true, buffer);
+            buffer.flip();
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("full save per move: %,10.0f saves/s (no fsync)%n", moves / seconds);
+    }
+}
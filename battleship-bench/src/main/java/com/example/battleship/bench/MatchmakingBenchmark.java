@@ -0,0 +1,79 @@
+package com.example.battleship.bench;
+
+import com.example.battleship.engine.GameScheduler;
+import com.example.battleship.engine.Matchmaker;
+import com.example.battleship.util.LatencyHistogram;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Simulates many players queueing for matches in one JVM. Client threads join skill
+ * buckets in bursts; each match "plays" for a random time on the game loop and then frees
+ * its slot. Reports throughput, queue depth, rejections and wait-time percentiles.
+ * Usage: {@code MatchmakingBenchmark [players] [maxActiveMatches] [clientThreads]}
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class MatchmakingBenchmark {
+
+    public static void main(String[] args) throws InterruptedException {
+        int players = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int maxActive = args.length > 1 ? Integer.parseInt(args[1]) : 5_000;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+
+        run(players / 10, maxActive, threads); // Warm-up
+        run(players, maxActive, threads);
+    }
+
+    private static void run(int players, int maxActive, int threads) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(players);
+        LongAdder retries = new LongAdder();
+        Matchmaker[] holder = new Matchmaker[1];
+        Matchmaker matchmaker = new Matchmaker(maxActive, 2_000, 200, match -> {
+            long playMillis = 1 + (match.getId() % 20);
+            GameScheduler.sharedExecutor().schedule(() -> {
+                holder[0].matchFinished(match);
+                done.countDown();
+                if (!match.isAgainstBot()) done.countDown();
+            }, playMillis, TimeUnit.MILLISECONDS);
+        });
+        holder[0] = matchmaker;
+
+        long start = System.nanoTime();
+        Thread[] clients = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int worker = t;
+            clients[t] = new Thread(() -> {
+                Random random = new Random(worker);
+                for (int i = worker; i < players; i += threads) {
+                    String bucket = Matchmaker.skillBucket(800 + random.nextInt(1200), 100);
+                    while (matchmaker.join("player-" + i, bucket) == null) {
+                        retries.increment(); // Backpressure: back off and try again
+                        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                    }
+                }
+            });
+            clients[t].start();
+        }
+        for (Thread client : clients) {
+            client.join();
+        }
+        done.await();
+        long nanos = System.nanoTime() - start;
+        matchmaker.shutdown();
+
+        LatencyHistogram waits = matchmaker.getWaitTimes();
+        System.out.printf("%d players, %d match slots, %d client threads%n", players, maxActive, threads);
+        System.out.printf("  Matches: %d (%d against bots) in %.2f s, %.0f players/s%n",
+                matchmaker.getMatchesStarted(), matchmaker.getBotMatches(), nanos / 1e9, players / (nanos / 1e9));
+        System.out.printf("  Max queue depth: %d, rejected joins: %d%n", matchmaker.getMaxQueueDepth(), retries.sum());
+        System.out.printf("  Wait: p50 %.1f ms, p99 %.1f ms, max %.1f ms%n",
+                waits.getPercentile(50) / 1e6, waits.getPercentile(99) / 1e6, waits.getPercentile(100) / 1e6);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.battleship.bench;
+
+import com.example.battleship.model.Ship;
+import com.example.battleship.ai.AdversarialPlacement;
+import com.example.battleship.util.ShipFactory;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures how many candidate layouts the adversarial placement scores per second.
+ * Usage: {@code PlacementBenchmark [budgetMillis] [rounds]}
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class PlacementBenchmark {
+
+    public static void main(String[] args) {
+        long budgetMillis = args.length > 0 ? Long.parseLong(args[0]) : 40;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+
+        List<Ship> fleet = ShipFactory.createFleet();
+        int[] sizes = new int[fleet.size()];
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = fleet.get(i).getSize();
+        }
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int parallelism : new int[]{1, cores}) {
+            AdversarialPlacement placement = new AdversarialPlacement(budgetMillis * 1_000_000L, parallelism);
+            Random random = new Random(42);
+            placement.search(sizes, random); // Warm-up
+
+            double layoutsPerSecond = 0;
+            double score = 0;
+            for (int round = 0; round < rounds; round++) {
+                AdversarialPlacement.SearchResult result = placement.search(sizes, random);
+                layoutsPerSecond += result.getLayoutsPerSecond();
+                score += result.getScore();
+            }
+            System.out.printf("parallelism=%d budget=%dms: %,.0f layouts scored/s, mean chosen score %.2f%n",
+                    parallelism, budgetMillis, layoutsPerSecond / rounds, score / rounds);
+        }
+    }
+}
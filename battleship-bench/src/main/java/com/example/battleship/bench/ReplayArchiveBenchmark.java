@@ -0,0 +1,78 @@
+package com.example.battleship.bench;
+
+import com.example.battleship.replay.ReplayPlayer;
+import com.example.battleship.replay.ReplayReader;
+import com.example.battleship.replay.ReplayRecord;
+import com.example.battleship.replay.ReplayWriter;
+import com.example.battleship.simulation.ReferenceSimulator;
+import com.example.battleship.simulation.ShotOrder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Records simulated games in a replay archive and reports the bytes taken per game, how many
+ * games per second are decoded by streaming the archive, how long a random read takes and how
+ * long the replay viewer takes to seek within a game.
+ * Usage: {@code ReplayArchiveBenchmark [games] [blockBytes]}
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ReplayArchiveBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int blockBytes = args.length > 1 ? Integer.parseInt(args[1]) : ReplayWriter.DEFAULT_BLOCK_BYTES;
+        Path file = Files.createTempDirectory("replay-bench").resolve("games.bsr");
+
+        for (ShotOrder order : ShotOrder.values()) {
+            Files.deleteIfExists(file);
+            long start = System.nanoTime();
+            long moves = 0;
+            try (ReplayWriter writer = new ReplayWriter(file, blockBytes)) {
+                new ReferenceSimulator().simulate(order.ordinal(), games, order, writer);
+            }
+            double written = (System.nanoTime() - start) / 1e9;
+            long size = Files.size(file);
+
+            try (ReplayReader reader = new ReplayReader(file)) {
+                start = System.nanoTime();
+                for (ReplayRecord record : reader) {
+                    moves += record.getMoveCount();
+                }
+                double decoded = (System.nanoTime() - start) / 1e9;
+
+                Random random = new Random(1);
+                int reads = 2_000;
+                start = System.nanoTime();
+                for (int i = 0; i < reads; i++) {
+                    reader.get(random.nextInt(games));
+                }
+                double seek = (System.nanoTime() - start) / 1e3 / reads;
+
+                System.out.printf("%-6s: %,d games in %d blocks, %,d bytes (%.1f bytes/game, %.1f moves/game)%n",
+                        order, reader.size(), reader.getBlockCount(), size, (double) size / games,
+                        (double) moves / games);
+                System.out.printf("        simulate+write %,10.0f games/s, decode %,10.0f games/s, random read %,.0f us%n",
+                        games / written, games / decoded, seek);
+
+                // Scrubbing: random seeks within one game, as the replay viewer does
+                ReplayPlayer player = new ReplayPlayer(reader.get(0));
+                int seeks = 200_000;
+                long changed = 0;
+                start = System.nanoTime();
+                for (int i = 0; i < seeks; i++) {
+                    changed += player.seek(random.nextInt(player.getMoveCount() + 1)).length;
+                }
+                double perSeek = (System.nanoTime() - start) / 1e3 / seeks;
+                System.out.printf("        seek %.2f us (%.1f shots, %.1f changed cells per seek, keyframe every %d)%n",
+                        perSeek, (double) player.getShotsApplied() / seeks, (double) changed / seeks,
+                        player.getKeyframeEvery());
+            }
+        }
+    }
+}
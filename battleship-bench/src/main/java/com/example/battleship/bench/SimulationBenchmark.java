@@ -0,0 +1,51 @@
+package com.example.battleship.bench;
+
+import com.example.battleship.simulation.BitSlicedSimulator;
+import com.example.battleship.simulation.ReferenceSimulator;
+import com.example.battleship.simulation.ShotOrder;
+import com.example.battleship.simulation.SimulationResult;
+
+/**
+ * Compares the bit-sliced batch simulator with the regular object engine.
+ * Usage: {@code SimulationBenchmark [games] [seed]}
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SimulationBenchmark {
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42L;
+
+        BitSlicedSimulator batch = new BitSlicedSimulator();
+        ReferenceSimulator reference = new ReferenceSimulator();
+
+        for (ShotOrder order : ShotOrder.values()) {
+            // Warm-up
+            batch.simulate(seed, games / 10, order);
+            reference.simulate(seed, games / 100, order);
+
+            long start = System.nanoTime();
+            SimulationResult fast = SimulationResult.of(batch.simulate(seed, games, order));
+            long batchNanos = System.nanoTime() - start;
+
+            int referenceGames = Math.max(1, games / 20);
+            start = System.nanoTime();
+            SimulationResult slow = SimulationResult.of(reference.simulate(seed, referenceGames, order));
+            long referenceNanos = System.nanoTime() - start;
+
+            System.out.println("=== " + order + " ===");
+            report("bit-sliced", fast, batchNanos);
+            report("reference ", slow, referenceNanos);
+        }
+    }
+
+    private static void report(String name, SimulationResult result, long nanos) {
+        double seconds = nanos / 1e9;
+        System.out.printf("%s: %,d games, %.2f shots/game, %,.0f games/s, %,.0f shots/s%n",
+                name, result.getGames(), result.getMeanShots(),
+                result.getGames() / seconds, result.getTotalShots() / seconds);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.battleship.bench;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.sync.DeltaApplier;
+import com.example.battleship.sync.DeltaEncoder;
+import com.example.battleship.sync.SyncProtocol;
+import com.example.battleship.util.ShipFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/**
+ * Compares the bytes sent per shot by delta sync against full-state sends: a packed
+ * snapshot and a serialized {@link Board}, as written to the save file.
+ * Plays random games to the end, sending one update per shot.
+ * Usage: {@code SyncBenchmark [games]}
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SyncBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+
+        run(games / 10); // Warm-up
+        run(games);
+    }
+
+    private static void run(int games) throws IOException {
+        Random random = new Random(42);
+        ByteBuffer wire = ByteBuffer.allocate(SyncProtocol.MAX_MESSAGE_BYTES);
+        long shots = 0;
+        long deltaBytes = 0;
+        long snapshotBytes = 0;
+        long serializedBytes = 0;
+        long sampledShots = 0;
+        long nanos = 0;
+
+        for (int game = 0; game < games; game++) {
+            Board board = new Board();
+            board.placeFleetRandomly(ShipFactory.createFleet(), random);
+            DeltaEncoder encoder = new DeltaEncoder(false);
+            DeltaApplier applier = new DeltaApplier();
+            sync(encoder, applier, board, wire);
+
+            while (board.hasShipsAfloat()) {
+                Coordinate target = new Coordinate(random.nextInt(10), random.nextInt(10));
+                Board.CellState state = board.getGrid().get(target);
+                if (state != Board.CellState.WATER && state != Board.CellState.SHIP) continue;
+                board.fireAt(target);
+                shots++;
+
+                long start = System.nanoTime();
+                deltaBytes += sync(encoder, applier, board, wire);
+                nanos += System.nanoTime() - start;
+
+                wire.clear();
+                snapshotBytes += encoder.snapshot(wire);
+                if (game < 100) {
+                    serializedBytes += serializedSize(board); // Slow: sample the first games only
+                    sampledShots++;
+                }
+            }
+        }
+
+        System.out.printf("%d games, %d shots%n", games, shots);
+        System.out.printf("  Delta:            %6.1f bytes/shot, %.0f ns/shot encode+apply%n",
+                (double) deltaBytes / shots, (double) nanos / shots);
+        System.out.printf("  Packed snapshot:  %6.1f bytes/shot%n", (double) snapshotBytes / shots);
+        System.out.printf("  Serialized Board: %6.1f bytes/shot (first 100 games)%n", (double) serializedBytes / sampledShots);
+    }
+
+    private static int sync(DeltaEncoder encoder, DeltaApplier applier, Board board, ByteBuffer wire) {
+        wire.clear();
+        int bytes = encoder.encode(board, wire);
+        wire.flip();
+        if (bytes > 0 && applier.apply(wire) == DeltaApplier.Result.NEEDS_SNAPSHOT) {
+            throw new IllegalStateException("Desync in benchmark");
+        }
+        return bytes;
+    }
+
+    private static int serializedSize(Board board) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(board);
+        }
+        return bytes.size();
+    }
+}
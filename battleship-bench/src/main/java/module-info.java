@@ -0,0 +1,7 @@
+// Benchmarks de línea de comandos (sin JavaFX)
+module com.example.battleship.bench {
+    requires com.example.battleship.core;
+    requires com.example.battleship.ai;
+
+    exports com.example.battleship.bench;
+}
@@ -0,0 +1,217 @@
+package com.example.battleship.engine;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Single-writer event loop for game state (Actor Pattern).
+ * Any thread may submit commands; they go into a lock-free multi-producer queue and are
+ * applied one at a time, in submission order, by the owner thread. Game state touched only
+ * from commands therefore needs no locks.
+ *
+ * <p>By default every actor drains on one shared daemon thread, "game-actor", so there is a
+ * single owner thread for all games of the process. A custom executor can be passed instead;
+ * commands of one actor still never run concurrently.</p>
+ *
+ * <p>Commands submitted from the owner thread itself with {@link #call(Callable)} run inline,
+ * so a command can call other actor methods without deadlocking.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class GameActor {
+
+    private static volatile ExecutorService sharedOwner;
+
+    private final Executor executor;
+    private final ConcurrentLinkedQueue<Command<?>> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private volatile Thread owner;
+
+    // Throughput statistics
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder busyNanos = new LongAdder();
+
+    /**
+     * Creates an actor on the shared owner thread.
+     */
+    public GameActor() {
+        this(sharedOwner());
+    }
+
+    /**
+     * Creates an actor on a custom executor.
+     *
+     * @param executor Executor that drains the mailbox
+     */
+    public GameActor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Gets the owner thread shared by every actor of the process.
+     *
+     * @return The shared single-thread executor (daemon, created on first use)
+     */
+    public static ExecutorService sharedOwner() {
+        if (sharedOwner == null) {
+            synchronized (GameActor.class) {
+                if (sharedOwner == null) {
+                    sharedOwner = Executors.newSingleThreadExecutor(runnable -> {
+                        Thread thread = new Thread(runnable, "game-actor");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+            }
+        }
+        return sharedOwner;
+    }
+
+    /**
+     * Queues a command and returns its result asynchronously.
+     *
+     * @param command The command to apply on the owner thread
+     * @param <T> Result type
+     * @return Future completed with the result, or exceptionally with the command's exception
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> command) {
+        Command<T> queued = new Command<>(command);
+        mailbox.offer(queued);
+        if (wip.getAndIncrement() == 0) {
+            executor.execute(this::drain);
+        }
+        return queued.result;
+    }
+
+    /**
+     * Queues a command without waiting for it. Exceptions are logged.
+     *
+     * @param command The command to apply on the owner thread
+     */
+    public void execute(Runnable command) {
+        submit(() -> {
+            command.run();
+            return null;
+        }).whenComplete((ignored, error) -> {
+            if (error != null) {
+                System.err.println("Error in game command: " + error.getMessage());
+                error.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * Applies a command and waits for its result.
+     * Runs inline when called from the owner thread.
+     *
+     * @param command The command to apply
+     * @param <T> Result type
+     * @return The command's result
+     * @throws Exception The exception thrown by the command
+     */
+    public <T> T call(Callable<T> command) throws Exception {
+        if (isOwnerThread()) {
+            return command.call();
+        }
+        try {
+            return submit(command).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) throw (Exception) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw e;
+        }
+    }
+
+    /**
+     * Checks if the caller is running a command of this actor.
+     *
+     * @return true on the owner thread, while draining
+     */
+    public boolean isOwnerThread() {
+        return owner == Thread.currentThread();
+    }
+
+    /**
+     * Gets the number of commands applied so far.
+     *
+     * @return Processed command count
+     */
+    public long getProcessedCount() {
+        return processed.sum();
+    }
+
+    /**
+     * Gets the time the owner thread spent applying commands.
+     *
+     * @return Busy time in nanoseconds
+     */
+    public long getBusyNanos() {
+        return busyNanos.sum();
+    }
+
+    /**
+     * Gets the number of commands waiting in the mailbox.
+     *
+     * @return Queue length (approximate while producers are active)
+     */
+    public int getQueueLength() {
+        return mailbox.size();
+    }
+
+    /**
+     * Applies queued commands until the mailbox is empty.
+     * The wip counter guarantees at most one drain runs at a time.
+     */
+    private void drain() {
+        owner = Thread.currentThread();
+        try {
+            int missed = 1;
+            while (true) {
+                Command<?> command;
+                while ((command = mailbox.poll()) != null) {
+                    long start = System.nanoTime();
+                    command.run();
+                    busyNanos.add(System.nanoTime() - start);
+                    processed.increment();
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        } finally {
+            owner = null;
+        }
+    }
+
+    /**
+     * Queued command with its pending result.
+     */
+    private static class Command<T> {
+        private final Callable<T> action;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        Command(Callable<T> action) {
+            this.action = action;
+        }
+
+        void run() {
+            try {
+                result.complete(action.call());
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            } catch (Error e) {
+                result.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,725 @@
+package com.example.battleship.engine;
+
+import com.example.battleship.exceptions.InvalidShipPlacementException;
+import com.example.battleship.interfaces.IBattleShipGame;
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.model.GameEvent;
+import com.example.battleship.model.Ship;
+import com.example.battleship.patterns.AiProvider;
+import com.example.battleship.patterns.GameObserver;
+import com.example.battleship.patterns.PlacementStrategy;
+import com.example.battleship.patterns.ShootingStrategy;
+import com.example.battleship.replay.ReplayRecord;
+import com.example.battleship.util.ArchivoUtil;
+import com.example.battleship.util.OpponentStore;
+import com.example.battleship.util.SaveInfo;
+import com.example.battleship.util.SaveWorker;
+import com.example.battleship.util.ShipFactory;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+
+/**
+ * Main controller for the Battleship game.
+ * Handles game logic, AI turns, persistence, and observer notifications.
+ * Implements MVC architecture and Observer/Strategy patterns.
+ *
+ * <p>Threading: all game state is owned by a {@link GameActor}. Public methods turn into
+ * commands applied one at a time on the actor's thread, and the machine turn runs there too,
+ * so boards are never mutated concurrently. Immutable {@link GameEvent}s are published from
+ * that thread to a {@link GameEventStream}; observers run on the stream's executor with their
+ * own buffers, so a slow observer never stalls the game.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2025-12-07
+ */
+public class GameController implements IBattleShipGame {
+
+    private volatile Board playerBoard;
+    private volatile Board machineBoard;
+    private volatile boolean isPlayerTurn;
+    private Queue<Ship> shipsToPlace;
+    private Random random;
+    private long eventSequence = 0;
+    private String playerNickname = "Jugador 1";
+    private String difficulty = "EASY";
+    private long startedAt = System.currentTimeMillis();
+    private ReplayRecord.Builder replay; // Moves of the game started here; null for loaded games
+    private volatile Runnable onMachineTurnFinished;
+
+    // Game loop: machine turns run as cancellable tasks on a shared executor
+    private final GameScheduler scheduler = new GameScheduler();
+    private volatile PacingPolicy pacing = PacingPolicy.REALISTIC;
+    private int shotsSinceSave = 0;
+    private volatile boolean saveEnabled = true;
+    private final SaveWorker saver = SaveWorker.getDefault();
+
+    // Single writer: every state change runs as a command on the actor
+    private final GameActor actor;
+
+    // Observer Pattern: events are published on an asynchronous stream
+    private final GameEventStream events;
+    private final Map<GameObserver, Flow.Subscription> observers = new ConcurrentHashMap<>();
+
+    // Strategy Pattern: AI implementations come from the AI module
+    private final AiProvider ai;
+
+    // Strategy Pattern: AI shooting strategy
+    private ShootingStrategy shootingStrategy;
+
+    // Strategy Pattern: AI fleet placement
+    private PlacementStrategy placementStrategy;
+
+    /**
+     * Constructs a new GameController with default settings.
+     * Initializes boards, fleet, and default AI strategy.
+     */
+    public GameController() {
+        this(new GameActor(), AiProvider.getDefault());
+    }
+
+    /**
+     * Constructs a GameController whose state is owned by the given actor.
+     *
+     * @param actor The actor that applies every command
+     * @param ai Provider of the AI strategies
+     */
+    public GameController(GameActor actor, AiProvider ai) {
+        this(actor, ai, new Random());
+    }
+
+    /**
+     * Constructs a GameController with its own random generator, e.g. one per hosted session.
+     *
+     * @param actor The actor that applies every command
+     * @param ai Provider of the AI strategies
+     * @param random Generator for the machine's fleet placement
+     */
+    public GameController(GameActor actor, AiProvider ai, Random random) {
+        this.actor = actor;
+        this.ai = ai;
+        this.random = random;
+        this.shipsToPlace = new ConcurrentLinkedQueue<>();
+        this.events = new GameEventStream();
+        this.playerBoard = new Board();
+        this.machineBoard = new Board();
+        this.isPlayerTurn = true;
+
+        // Default strategy: Easy
+        this.shootingStrategy = ai.createShootingStrategy("EASY");
+        this.placementStrategy = ai.createPlacementStrategy("EASY");
+
+        initializeFleet();
+    }
+
+    /**
+     * Loads a saved game from persistent storage.
+     *
+     * @return true if game loaded successfully, false otherwise
+     */
+    public boolean loadGameFromSave() {
+        saver.flush(); // A save of the previous game may still be on its way
+        return apply(() -> {
+            Object[] loadedData = ArchivoUtil.loadGame();
+            if (loadedData != null) {
+                SaveInfo info = ArchivoUtil.loadSaveInfo();
+                if (info != null) this.startedAt = info.getCreatedAt();
+                this.replay = null; // Its first moves were not recorded
+                scheduler.cancelAll();
+                this.playerBoard = (Board) loadedData[0];
+                this.machineBoard = (Board) loadedData[1];
+                this.isPlayerTurn = true; // Always player's turn after loading
+                this.shipsToPlace.clear();
+
+                notifyBoardChanged(true);
+                notifyBoardChanged(false);
+
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Resets the game to initial state.
+     * Clears boards and reinitializes fleet.
+     */
+    public void resetGame() {
+        run(() -> {
+            scheduler.cancelAll();
+            this.playerBoard = new Board();
+            this.machineBoard = new Board();
+            this.isPlayerTurn = true;
+            this.shipsToPlace.clear();
+            this.replay = null;
+            initializeFleet();
+        });
+    }
+
+    /**
+     * Sets the player's nickname for score tracking.
+     *
+     * @param nickname The player's nickname
+     */
+    public void setPlayerNickname(String nickname) {
+        run(() -> {
+            this.playerNickname = nickname;
+            applyOpponentPrior();
+        });
+    }
+
+    /**
+     * Sets callback for when machine turn finishes.
+     * It runs on the actor's thread after every machine shot.
+     *
+     * @param callback The callback to execute
+     */
+    public void setOnMachineTurnFinished(Runnable callback) {
+        this.onMachineTurnFinished = callback;
+    }
+
+    /**
+     * Sets the AI difficulty level.
+     * IMPROVED: Resets strategy state when changing difficulty.
+     *
+     * @param difficulty "EASY", "MEDIUM", or "HARD"
+     */
+    public void setDifficulty(String difficulty) {
+        run(() -> applyDifficulty(difficulty));
+    }
+
+    private void applyDifficulty(String difficulty) {
+        this.difficulty = difficulty.toUpperCase();
+        shootingStrategy = ai.createShootingStrategy(difficulty);
+        placementStrategy = ai.createPlacementStrategy(difficulty);
+        System.out.println("🎯 AI Difficulty: " + difficulty.toUpperCase() + " ("
+                + shootingStrategy.getClass().getSimpleName() + ", "
+                + placementStrategy.getClass().getSimpleName() + ")");
+        applyOpponentPrior();
+    }
+
+    /**
+     * Feeds the player's recorded placement habits to the AI, if it uses them.
+     * The history is loaded in the background and attached when ready.
+     */
+    private void applyOpponentPrior() {
+        ShootingStrategy strategy = shootingStrategy;
+        OpponentStore.getDefault().load(playerNickname).thenAccept(strategy::setPrior);
+    }
+
+    /**
+     * Initializes the fleet of ships to be placed.
+     */
+    private void initializeFleet() {
+        shipsToPlace.addAll(ShipFactory.createFleet());
+    }
+
+    /**
+     * Gets the next ship to be placed.
+     *
+     * @return The next ship, or null if all ships are placed
+     */
+    public Ship getNextShipToPlace() {
+        return shipsToPlace.peek();
+    }
+
+    @Override
+    public void startNewGame() {
+        run(() -> {
+            if (saveEnabled) {
+                OpponentStore.getDefault().record(playerNickname, playerBoard);
+            }
+            long seed = random.nextLong(); // Recorded, so the machine's layout can be reproduced
+            placeMachineShips(seed);
+            startedAt = System.currentTimeMillis();
+            replay = new ReplayRecord.Builder(seed).fleet(true, playerBoard).fleet(false, machineBoard);
+            saveGame();
+            notifyBoardChanged(false);
+        });
+    }
+
+    @Override
+    public void placeShip(Coordinate start, int length, boolean isHorizontal) throws InvalidShipPlacementException {
+        try {
+            actor.call(() -> {
+                if (shipsToPlace.isEmpty()) {
+                    throw new InvalidShipPlacementException("All ships are already placed!");
+                }
+                Ship shipToPlace = shipsToPlace.peek();
+                playerBoard.placeShip(shipToPlace, start, isHorizontal);
+                shipsToPlace.poll();
+
+                notifyBoardChanged(true);
+                return null;
+            });
+        } catch (InvalidShipPlacementException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public boolean shoot(Coordinate target) {
+        return apply(() -> playerShot(target));
+    }
+
+    /**
+     * Applies a player shot on the machine's board.
+     *
+     * @param target The target coordinate
+     * @return true if hit, false if miss or not allowed
+     */
+    private boolean playerShot(Coordinate target) {
+        if (!isPlayerTurn) return false;
+
+        Board.CellState state = machineBoard.getGrid().get(target);
+        if (state != Board.CellState.WATER && state != Board.CellState.SHIP) {
+            return false;
+        }
+
+        boolean hit = processShot(machineBoard, target);
+        recordShot(false, target);
+
+        // Notify observers about the shot
+        notifyShotFired(false, target, hit, machineBoard.getShipPlacement().get(target));
+        notifyBoardChanged(false);
+
+        saveAfterShot(false, target, !hit);
+
+        if (!hit) {
+            isPlayerTurn = false;
+            notifyTurnChanged(false);
+            startMachineTurn();
+        }
+
+        return hit;
+    }
+
+    /**
+     * Processes a shot on the given board.
+     *
+     * @param board The board to shoot at
+     * @param target The target coordinate
+     * @return true if hit, false if miss
+     */
+    private boolean processShot(Board board, Coordinate target) {
+        return board.fireAt(target);
+    }
+
+    /**
+     * Records a shot for the replay archive, and archives the game once it is over.
+     *
+     * @param isPlayerBoard true if the shot landed on the player's board
+     * @param target The target cell
+     */
+    private void recordShot(boolean isPlayerBoard, Coordinate target) {
+        if (replay == null) return;
+        replay.shot(isPlayerBoard, target);
+        if (gameOver()) {
+            ReplayRecord record = replay.build();
+            replay = null;
+            if (saveEnabled) saver.archiveReplay(record);
+        }
+    }
+
+    /**
+     * Starts the machine's turn on the game-loop scheduler.
+     * Every shot is its own task: leaving or resetting the game cancels the rest of the turn,
+     * and pausing freezes it between shots.
+     */
+    private void startMachineTurn() {
+        long generation = scheduler.getGeneration();
+        scheduler.schedule(() -> actor.execute(() -> machineShot(generation)), pacing.getThinkDelayMillis());
+    }
+
+    /**
+     * Fires one machine shot and schedules the next one after a hit.
+     * IMPROVED: Notifies the AI strategy about hits and sinks.
+     *
+     * @param generation Scheduler generation of the turn
+     */
+    private void machineShot(long generation) {
+        if (!scheduler.isCurrent(generation)) return; // Game left or reset meanwhile
+        Board board = playerBoard;
+        if (gameOver()) {
+            endMachineTurn(generation);
+            return;
+        }
+
+        // Use strategy pattern for shot selection
+        Coordinate target;
+        Board.CellState state;
+        do {
+            target = shootingStrategy.getNextShot(board);
+            state = board.getGrid().get(target);
+        } while (state == Board.CellState.HIT || state == Board.CellState.MISS || state == Board.CellState.SUNK);
+
+        boolean hit = processShot(board, target);
+        recordShot(true, target);
+
+        // IMPROVED: Notify AI about the result
+        Ship ship = board.getShipPlacement().get(target);
+        boolean isSunk = ship != null && ship.isSunk();
+        if (hit) {
+            shootingStrategy.registerHit(target);
+            if (isSunk) {
+                shootingStrategy.registerSunk(ship.getCoordinates());
+            }
+        }
+
+        // Notify observers (with coalesced rendering, boards are redrawn once at the end of the turn)
+        notifyShotFired(true, target, hit, ship);
+        if (!pacing.isCoalesceRendering()) {
+            notifyBoardChanged(true);
+            if (onMachineTurnFinished != null) onMachineTurnFinished.run();
+        }
+
+        saveAfterShot(true, target, false);
+
+        if (hit && !gameOver()) {
+            scheduler.schedule(() -> actor.execute(() -> machineShot(generation)), pacing.getHitDelayMillis());
+        } else {
+            endMachineTurn(generation);
+        }
+    }
+
+    /**
+     * Hands the turn back to the player, or announces the winner.
+     *
+     * @param generation Scheduler generation of the turn
+     */
+    private void endMachineTurn(long generation) {
+        if (!scheduler.isCurrent(generation)) return;
+
+        if (pacing.isCoalesceRendering()) {
+            notifyBoardChanged(true);
+            if (onMachineTurnFinished != null) onMachineTurnFinished.run();
+        }
+
+        if (gameOver()) {
+            notifyGameOver(!machineBoard.hasShipsAfloat());
+        }
+
+        isPlayerTurn = true;
+        notifyTurnChanged(true);
+        if (saver.hasJournal()) {
+            if (saveEnabled) {
+                saver.updateInfo(captureInfo(isPlayerTurn));
+                saver.endTurn(); // Turn boundary: the turn's shots are journaled, with the summary
+            }
+        } else {
+            saveGame(); // Turn boundary
+        }
+    }
+
+    /**
+     * Sets the pacing of the game loop. Takes effect from the next scheduled shot.
+     *
+     * @param pacing The pacing policy
+     */
+    public void setPacing(PacingPolicy pacing) {
+        this.pacing = pacing;
+    }
+
+    /**
+     * Gets the pacing of the game loop.
+     *
+     * @return The pacing policy
+     */
+    public PacingPolicy getPacing() {
+        return pacing;
+    }
+
+    /**
+     * Enables or disables saving to the game file and recording the player's fleet layout.
+     * Hosted sessions disable it, since they would all share the desktop data files.
+     *
+     * @param saveEnabled true to save (the default)
+     */
+    public void setSaveEnabled(boolean saveEnabled) {
+        this.saveEnabled = saveEnabled;
+    }
+
+    /**
+     * Saves a shot. With a journal, the shot is appended to it and the whole game is saved
+     * every {@link SaveWorker#getSnapshotEvery()} moves and at the end of the game. Without
+     * one, a save is asked for if the pacing policy asks for it: shots within the worker's
+     * interval are coalesced into one write, and turn boundaries and the end of the game are
+     * written right away.
+     *
+     * @param isPlayerBoard true if the shot landed on the player's board
+     * @param target The target cell
+     * @param turnEnds true if the shot ends the turn
+     */
+    private void saveAfterShot(boolean isPlayerBoard, Coordinate target, boolean turnEnds) {
+        if (saver.hasJournal()) {
+            if (!saveEnabled) return;
+            saver.journalShot(isPlayerBoard, target);
+            saver.updateInfo(captureInfo(turnEnds != isPlayerTurn)); // A missed player shot hands the turn over
+            if (gameOver() || ++shotsSinceSave >= saver.getSnapshotEvery()) {
+                shotsSinceSave = 0;
+                saveGame();
+            } else if (turnEnds) {
+                saver.endTurn();
+            }
+        } else if (turnEnds || gameOver()) {
+            saveGame();
+        } else if (saveEnabled && ++shotsSinceSave >= pacing.getShotsPerSave()) {
+            shotsSinceSave = 0;
+            saver.request(this::captureSave);
+        }
+    }
+
+    /**
+     * Pauses the game loop: a machine turn in progress freezes until {@link #resume()}.
+     */
+    public void pause() {
+        scheduler.pause();
+    }
+
+    /**
+     * Resumes a game loop paused with {@link #pause()}.
+     */
+    public void resume() {
+        scheduler.resume();
+    }
+
+    /**
+     * Stops all pending game-loop work of this game.
+     * Call it before leaving the game screen; machine shots already queued on the actor
+     * are dropped, so they will not touch the boards or the save file afterwards.
+     */
+    public void shutdown() {
+        scheduler.cancelAll();
+    }
+
+    /**
+     * Places machine ships using the placement strategy of the current difficulty.
+     * Runs on the actor, so the placement is ordered with the rest of the game start. The Hard
+     * placement blocks the actor for its search budget (40 ms by default) once per game; its
+     * samplers run on their own pool, so only queued commands wait, never event delivery.
+     *
+     * @param seed Seed of the placement, drawn from the game's generator
+     */
+    private void placeMachineShips(long seed) {
+        placementStrategy.placeFleet(machineBoard, ShipFactory.createFleet(), new Random(seed));
+    }
+
+    /**
+     * Tells whether either fleet is sunk. Answered on the actor, so it is safe from any thread.
+     *
+     * @return true if the game is over
+     */
+    @Override
+    public boolean isGameOver() {
+        return apply(this::gameOver);
+    }
+
+    private boolean gameOver() {
+        return !playerBoard.hasShipsAfloat() || !machineBoard.hasShipsAfloat();
+    }
+
+    /**
+     * Tells whether the player sank the machine's whole fleet. Answered on the actor.
+     *
+     * @return true if the player won
+     */
+    public boolean hasPlayerWon() {
+        return apply(() -> !machineBoard.hasShipsAfloat());
+    }
+
+    /**
+     * Counts the machine's ships sunk by the player. Answered on the actor.
+     *
+     * @return Number of enemy ships sunk
+     */
+    public int getEnemyShipsSunk() {
+        return apply(() -> countSunkShips(machineBoard));
+    }
+
+    /**
+     * Asks the {@link SaveWorker} to save the game as soon as possible. Returns at once; the
+     * state is captured and written on the worker's thread.
+     */
+    @Override
+    public void saveGame() {
+        if (!saveEnabled) return;
+        saver.requestNow(this::captureSave);
+    }
+
+    /**
+     * Copies the state to save, on the actor's thread. Called by the save worker.
+     *
+     * @return The snapshot
+     */
+    private SaveWorker.Snapshot captureSave() {
+        return apply(() -> new SaveWorker.Snapshot(playerBoard.copy(), machineBoard.copy(), isPlayerTurn,
+                playerNickname, countSunkShips(machineBoard), difficulty, startedAt));
+    }
+
+    /**
+     * Summarizes the game for menus, on the actor's thread. Written by the save worker at turn
+     * boundaries and on close, between full saves.
+     *
+     * @param playerTurn true if the player moves next
+     * @return The summary
+     */
+    private SaveInfo captureInfo(boolean playerTurn) {
+        long now = System.currentTimeMillis();
+        return new SaveInfo(playerNickname, difficulty, playerTurn, startedAt == 0 ? now : startedAt, now,
+                SaveInfo.countShots(machineBoard), SaveInfo.countShots(playerBoard), countSunkShips(machineBoard));
+    }
+
+    @Override
+    public void loadGame() {}
+
+    /**
+     * Counts the number of sunk ships on a board.
+     *
+     * @param board The board to count from
+     * @return Number of sunk ships
+     */
+    private int countSunkShips(Board board) {
+        return (int) board.getShipPlacement().values().stream()
+                .distinct()
+                .filter(Ship::isSunk)
+                .count();
+    }
+
+    /**
+     * Gets the actor that owns this game's state.
+     *
+     * @return The game actor, e.g. to read its throughput statistics
+     */
+    public GameActor getActor() {
+        return actor;
+    }
+
+    /**
+     * Applies a command on the actor and waits for its result.
+     */
+    private <T> T apply(Callable<T> command) {
+        try {
+            return actor.call(command);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Applies a command on the actor and waits for it to finish.
+     */
+    private void run(Runnable command) {
+        apply(() -> {
+            command.run();
+            return null;
+        });
+    }
+
+    // Observer Pattern Methods
+
+    /**
+     * Gets the stream of this game's events, to subscribe with backpressure.
+     *
+     * @return The event stream
+     */
+    public GameEventStream getEvents() {
+        return events;
+    }
+
+    /**
+     * Adds an observer to be notified of game events.
+     * It is called on the event stream's executor, never on the game loop, so UI observers
+     * still hop to their own thread.
+     *
+     * @param observer The observer to add
+     */
+    public void addObserver(GameObserver observer) {
+        observers.computeIfAbsent(observer, events::subscribe);
+    }
+
+    /**
+     * Removes an observer from notifications.
+     *
+     * @param observer The observer to remove
+     */
+    public void removeObserver(GameObserver observer) {
+        Flow.Subscription subscription = observers.remove(observer);
+        if (subscription != null) subscription.cancel();
+    }
+
+    /**
+     * Publishes an event to the stream, on the actor's thread. Never blocks.
+     *
+     * @param event The immutable event
+     */
+    private void publish(GameEvent event) {
+        events.publish(event);
+    }
+
+    /**
+     * Notifies observers that a board has changed.
+     *
+     * @param isPlayerBoard true for player board, false for machine
+     */
+    private void notifyBoardChanged(boolean isPlayerBoard) {
+        publish(GameEvent.boardChanged(++eventSequence, isPlayerBoard, isPlayerBoard ? playerBoard : machineBoard));
+    }
+
+    /**
+     * Notifies observers that a shot was fired.
+     *
+     * @param isPlayerBoard true if the shot landed on the player's board
+     * @param target The target cell
+     * @param isHit true if hit, false if miss
+     * @param ship The ship at the target, or null
+     */
+    private void notifyShotFired(boolean isPlayerBoard, Coordinate target, boolean isHit, Ship ship) {
+        publish(GameEvent.shotFired(++eventSequence, isPlayerBoard, target, isHit, ship));
+    }
+
+    /**
+     * Notifies observers that the game is over.
+     *
+     * @param playerWon true if player won, false if machine won
+     */
+    private void notifyGameOver(boolean playerWon) {
+        publish(GameEvent.gameOver(++eventSequence, playerWon));
+    }
+
+    /**
+     * Notifies observers that the turn has changed.
+     *
+     * @param isPlayerTurn true if player's turn, false for machine
+     */
+    private void notifyTurnChanged(boolean isPlayerTurn) {
+        publish(GameEvent.turnChanged(++eventSequence, isPlayerTurn));
+    }
+
+    // Getters
+
+    /**
+     * Gets a copy of the player's board, taken on the actor. Changes to it do not affect the game.
+     *
+     * @return Copy of the board
+     */
+    public Board getPlayerBoard() { return apply(() -> playerBoard.copy()); }
+
+    /**
+     * Gets a copy of the machine's board, taken on the actor. Changes to it do not affect the game.
+     *
+     * @return Copy of the board
+     */
+    public Board getMachineBoard() { return apply(() -> machineBoard.copy()); }
+    public boolean isPlayerTurn() { return isPlayerTurn; }
+}
\ No newline at end of file
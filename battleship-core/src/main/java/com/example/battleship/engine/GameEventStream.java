@@ -0,0 +1,267 @@
+package com.example.battleship.engine;
+
+import com.example.battleship.model.GameEvent;
+import com.example.battleship.patterns.GameObserver;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Asynchronous stream of a game's events ({@link Flow.Publisher}).
+ * Every subscriber gets its own mailbox, drained on the stream's executor, so the UI,
+ * persistence, metrics or network fan-out never run inside turn processing, and a slow
+ * subscriber only delays itself. Publishing never blocks.
+ *
+ * <p>Backpressure: subscribers pull events with {@link Flow.Subscription#request(long)}.
+ * When a subscriber already has a full buffer of events pending, a board change event is
+ * dropped for it and counted: board change events carry a full snapshot, so a view that lost
+ * one is correct again after the next one. Shots, turn changes and the end of the game cannot
+ * be rebuilt from later events, so they are always queued, past the buffer if needed; a game
+ * publishes a few hundred of them at most, so a stalled subscriber costs little memory.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class GameEventStream implements Flow.Publisher<GameEvent>, AutoCloseable {
+
+    /**
+     * Events buffered per subscriber by default: a whole machine turn fits many times.
+     */
+    public static final int DEFAULT_BUFFER = 256;
+
+    private final Executor executor;
+    private final int bufferSize;
+    private final List<Mailbox> mailboxes = new CopyOnWriteArrayList<>();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     * Creates a stream delivering on the common pool.
+     */
+    public GameEventStream() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BUFFER);
+    }
+
+    /**
+     * Creates a stream.
+     *
+     * @param executor Executor running the subscribers
+     * @param bufferSize Board change events buffered per subscriber before they are dropped
+     */
+    public GameEventStream(Executor executor, int bufferSize) {
+        this.executor = executor;
+        this.bufferSize = Math.max(1, bufferSize);
+    }
+
+    /**
+     * Publishes an event to every subscriber. Never blocks: board change events are dropped
+     * for subscribers with a full buffer, other events are always queued. Events published
+     * after {@link #close()} are ignored.
+     *
+     * @param event The immutable event
+     * @return Subscribers whose buffer was full and missed the event
+     */
+    int publish(GameEvent event) {
+        if (closed) return 0; // Closed with its session while a command was still running
+        published.increment();
+        int missed = 0;
+        for (Mailbox mailbox : mailboxes) {
+            if (!mailbox.offer(event)) missed++;
+        }
+        if (missed > 0) dropped.add(missed);
+        return missed;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super GameEvent> subscriber) {
+        register(subscriber);
+    }
+
+    /**
+     * Subscribes a classic observer: its callbacks run on the stream's executor, one event
+     * at a time and in order.
+     *
+     * @param observer The observer
+     * @return The subscription, to cancel it later; cancelling takes effect at once
+     */
+    public Flow.Subscription subscribe(GameObserver observer) {
+        return register(new ObserverSubscriber(observer));
+    }
+
+    private Mailbox register(Flow.Subscriber<? super GameEvent> subscriber) {
+        Mailbox mailbox = new Mailbox(subscriber);
+        mailboxes.add(mailbox);
+        mailbox.signal(); // onSubscribe, or onComplete at once if the stream is closed
+        return mailbox;
+    }
+
+    /**
+     * Ends the stream: subscribers get {@code onComplete} after their queued events.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        mailboxes.forEach(Mailbox::signal);
+    }
+
+    public boolean isClosed() { return closed; }
+    public int getSubscriberCount() { return mailboxes.size(); }
+    public long getPublishedCount() { return published.sum(); }
+    public long getDroppedCount() { return dropped.sum(); }
+
+    /**
+     * Gets how far the slowest subscriber is behind.
+     *
+     * @return Events published but not yet consumed
+     */
+    public int getMaxLag() {
+        int lag = 0;
+        for (Mailbox mailbox : mailboxes) {
+            lag = Math.max(lag, mailbox.pending.get());
+        }
+        return lag;
+    }
+
+    /**
+     * One subscriber's queue and demand. Any thread may offer events; they are delivered by
+     * one drain task at a time on the executor, so the subscriber's signals never overlap.
+     */
+    private final class Mailbox implements Flow.Subscription, Runnable {
+        private final Flow.Subscriber<? super GameEvent> subscriber;
+        private final ConcurrentLinkedQueue<GameEvent> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong demand = new AtomicLong();
+        private volatile boolean done;
+        private volatile long badRequest;
+        private boolean subscribed; // Drain task only
+
+        Mailbox(Flow.Subscriber<? super GameEvent> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        /**
+         * Queues an event.
+         *
+         * @return false if it was a board change event dropped for a full buffer
+         */
+        boolean offer(GameEvent event) {
+            if (done) return true;
+            if (event.getType() == GameEvent.Type.BOARD_CHANGED && pending.get() >= bufferSize) {
+                return false; // The next snapshot replaces it
+            }
+            pending.incrementAndGet();
+            queue.add(event);
+            signal();
+            return true;
+        }
+
+        void signal() {
+            if (wip.getAndIncrement() != 0) return; // The running drain task picks it up
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                finish(); // The executor is gone; nothing can be delivered anymore
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                if (!subscribed) {
+                    subscribed = true;
+                    subscriber.onSubscribe(this);
+                }
+                while (!done && demand.get() > 0) {
+                    GameEvent event = queue.poll();
+                    if (event == null) break;
+                    pending.decrementAndGet();
+                    if (demand.get() != Long.MAX_VALUE) demand.decrementAndGet();
+                    try {
+                        subscriber.onNext(event);
+                    } catch (Throwable t) {
+                        finish();
+                        subscriber.onError(t);
+                    }
+                }
+                if (!done && badRequest != 0) {
+                    finish();
+                    subscriber.onError(new IllegalArgumentException("Non-positive request: " + badRequest));
+                } else if (!done && closed && queue.isEmpty()) {
+                    finish();
+                    subscriber.onComplete();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                badRequest = n;
+            } else {
+                demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            finish();
+        }
+
+        private void finish() {
+            done = true;
+            mailboxes.remove(this);
+            queue.clear();
+            pending.set(0);
+        }
+    }
+
+    /**
+     * Adapts a {@link GameObserver} to the stream. It requests one event at a time.
+     */
+    private static class ObserverSubscriber implements Flow.Subscriber<GameEvent> {
+        private final GameObserver observer;
+        private Flow.Subscription subscription;
+
+        ObserverSubscriber(GameObserver observer) {
+            this.observer = observer;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(GameEvent event) {
+            try {
+                observer.onEvent(event);
+            } catch (RuntimeException e) {
+                System.err.println("Game observer failed on " + event + ": " + e.getMessage());
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            System.err.println("Game event stream failed: " + throwable.getMessage());
+        }
+
+        @Override
+        public void onComplete() {}
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.battleship.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-game scheduler for timed game-loop work (machine turns, pacing delays).
+ * Every game gets its own instance, but all instances share one {@link ScheduledExecutorService},
+ * so no thread is created per turn and a delay never blocks a thread.
+ *
+ * <p>Tasks can be cancelled all at once (leaving a game, resetting it), paused and resumed.
+ * While paused, due tasks wait and keep their remaining delay. Each cancel starts a new
+ * generation; long-running tasks can call {@link #isCurrent(long)} before side effects to find
+ * out whether they were cancelled meanwhile.</p>
+ *
+ * <p>The shared executor uses daemon platform threads. On a runtime with virtual threads, pass an
+ * executor built from a virtual thread factory to {@link #GameScheduler(ScheduledExecutorService)}.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class GameScheduler {
+
+    private static volatile ScheduledExecutorService sharedExecutor;
+
+    private final ScheduledExecutorService executor;
+    private final List<TurnTask> pending = new ArrayList<>();
+    private long generation = 0;
+    private boolean paused = false;
+
+    /**
+     * Creates a scheduler on the shared game-loop executor.
+     */
+    public GameScheduler() {
+        this(sharedExecutor());
+    }
+
+    /**
+     * Creates a scheduler on a custom executor.
+     *
+     * @param executor Executor that runs the tasks
+     */
+    public GameScheduler(ScheduledExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Gets the executor shared by every game of the process.
+     *
+     * @return The shared executor (daemon threads, created on first use)
+     */
+    public static ScheduledExecutorService sharedExecutor() {
+        if (sharedExecutor == null) {
+            synchronized (GameScheduler.class) {
+                if (sharedExecutor == null) {
+                    AtomicInteger count = new AtomicInteger();
+                    ThreadFactory factory = runnable -> {
+                        Thread thread = new Thread(runnable, "game-loop-" + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    };
+                    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
+                            Math.max(2, Runtime.getRuntime().availableProcessors()), factory);
+                    executor.setRemoveOnCancelPolicy(true);
+                    sharedExecutor = executor;
+                }
+            }
+        }
+        return sharedExecutor;
+    }
+
+    /**
+     * Schedules a task of the current generation.
+     *
+     * @param task The work to run
+     * @param delayMillis Delay before running it
+     * @return Handle of the scheduled task
+     */
+    public synchronized TurnTask schedule(Runnable task, long delayMillis) {
+        long delayNanos = TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        TurnTask turnTask = new TurnTask(task, generation, System.nanoTime() + delayNanos);
+        turnTask.remainingNanos = delayNanos;
+        pending.add(turnTask);
+        if (!paused) submit(turnTask);
+        return turnTask;
+    }
+
+    /**
+     * Freezes every pending task; they keep their remaining delay.
+     */
+    public synchronized void pause() {
+        if (paused) return;
+        paused = true;
+        long now = System.nanoTime();
+        for (TurnTask task : pending) {
+            if (task.future != null) task.future.cancel(false);
+            task.future = null;
+            task.remainingNanos = Math.max(0, task.dueNanos - now);
+        }
+    }
+
+    /**
+     * Resumes the tasks frozen by {@link #pause()}.
+     */
+    public synchronized void resume() {
+        if (!paused) return;
+        paused = false;
+        long now = System.nanoTime();
+        for (TurnTask task : pending) {
+            task.dueNanos = now + task.remainingNanos;
+            submit(task);
+        }
+    }
+
+    /**
+     * Cancels every pending task and starts a new generation.
+     * Also clears the paused state.
+     */
+    public synchronized void cancelAll() {
+        generation++;
+        for (TurnTask task : pending) {
+            if (task.future != null) task.future.cancel(false);
+        }
+        pending.clear();
+        paused = false;
+    }
+
+    /**
+     * Gets the current generation.
+     *
+     * @return Generation number, incremented by every {@link #cancelAll()}
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Checks if work of the given generation is still wanted.
+     *
+     * @param taskGeneration Generation captured when the work was scheduled
+     * @return true if no cancel happened since
+     */
+    public synchronized boolean isCurrent(long taskGeneration) {
+        return taskGeneration == generation;
+    }
+
+    /**
+     * Checks if the scheduler is paused.
+     *
+     * @return true if paused
+     */
+    public synchronized boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Gets the number of tasks waiting to run.
+     *
+     * @return Pending task count
+     */
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    private void submit(TurnTask task) {
+        long delay = Math.max(0, task.dueNanos - System.nanoTime());
+        task.future = executor.schedule(() -> run(task), delay, TimeUnit.NANOSECONDS);
+    }
+
+    private void run(TurnTask task) {
+        synchronized (this) {
+            if (paused || task.generation != generation || !pending.remove(task)) return;
+            task.future = null;
+        }
+        try {
+            task.action.run();
+        } catch (RuntimeException e) {
+            System.err.println("Error in game loop task: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Handle of a scheduled task.
+     */
+    public static class TurnTask {
+        private final Runnable action;
+        private final long generation;
+        private long dueNanos;
+        private long remainingNanos;
+        private ScheduledFuture<?> future;
+
+        TurnTask(Runnable action, long generation, long dueNanos) {
+            this.action = action;
+            this.generation = generation;
+            this.dueNanos = dueNanos;
+        }
+
+        /**
+         * Gets the generation the task belongs to.
+         *
+         * @return Generation number
+         */
+        public long getGeneration() {
+            return generation;
+        }
+    }
+}
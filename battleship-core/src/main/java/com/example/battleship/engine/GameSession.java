@@ -1,17 +1,20 @@
-package com.example.battleship.controller;
+package com.example.battleship.engine;
+
+import com.example.battleship.model.GameEvent;
+import com.example.battleship.patterns.GameObserver;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * Singleton class to store game session data across screens.
- * Implements the Singleton pattern for global state management.
- * This class maintains player information, game settings, and statistics
- * that persist throughout the application lifecycle.
+ * Data of one player's session: player information, game settings and statistics.
+ * Sessions are created and hosted by a {@link SessionRegistry}; the desktop app uses the
+ * registry's local session across its screens.
  *
- * <p>Design Pattern: Singleton</p>
- * <p>Purpose: Centralized state management without global variables</p>
- * <p>Benefits: Single source of truth, easy access, thread-safe</p>
+ * <p>Thread-safe: settings are volatile and statistics use {@link LongAdder} counters, so
+ * a session can be updated from its game thread while other threads read it.</p>
  *
  * @author Battleship Team
  * @version 1.0
@@ -20,80 +23,166 @@ import java.time.format.DateTimeFormatter;
 public class GameSession {
 
     /**
-     * The single instance of GameSession (Singleton pattern).
+     * Unique id of the session within its registry.
+     */
+    private final String id;
+
+    /**
+     * Random generator of this session's game.
+     */
+    private final Random random;
+
+    /**
+     * Game hosted by this session, or null if the session has no game yet.
+     */
+    private volatile GameController game;
+
+    /**
+     * Observer that feeds this session's statistics from the hosted game.
      */
-    private static GameSession instance;
+    private volatile GameObserver statsObserver;
+
+    /**
+     * Last time the session was used (System.nanoTime based, see {@link SessionRegistry}).
+     */
+    private volatile long lastAccessNanos;
 
     /**
      * Player's nickname/commander name.
      */
-    private String playerNickname = "Admiral";
+    private volatile String playerNickname = "Admiral";
 
     /**
      * Current difficulty level: EASY, MEDIUM, or HARD.
      */
-    private String difficulty = "EASY";
+    private volatile String difficulty = "EASY";
+
+    /**
+     * Pacing of the game loop. Defaults to the "battleship.pacing" system property
+     * (realistic, accelerated or turbo).
+     */
+    private volatile PacingPolicy pacing = PacingPolicy.fromName(System.getProperty("battleship.pacing"));
 
     /**
      * Flag indicating if starting a new game (true) or continuing (false).
      */
-    private boolean isNewGame = true;
+    private volatile boolean isNewGame = true;
 
     /**
      * Number of enemy ships destroyed by the player.
      */
-    private int enemyShipsDestroyed = 0;
+    private volatile int enemyShipsDestroyed = 0;
 
     /**
      * Number of player ships destroyed by the enemy.
      */
-    private int playerShipsDestroyed = 0;
+    private volatile int playerShipsDestroyed = 0;
 
     /**
      * Total number of shots fired by the player.
      */
-    private int totalShotsFired = 0;
+    private final LongAdder totalShotsFired = new LongAdder();
 
     /**
      * Number of successful hits by the player.
      */
-    private int successfulHits = 0;
+    private final LongAdder successfulHits = new LongAdder();
 
     /**
      * Timestamp of when the current game session started.
      */
-    private LocalDateTime gameStartTime;
+    private volatile LocalDateTime gameStartTime;
 
     /**
      * Flag indicating if this is the first launch of the application.
      */
-    private boolean isFirstLaunch = true;
+    private volatile boolean isFirstLaunch = true;
 
     /**
-     * Private constructor to prevent instantiation (Singleton pattern).
-     */
-    private GameSession() {
+     * Creates a session. Use {@link SessionRegistry} to create hosted sessions.
+     *
+     * @param id Unique id of the session
+     * @param seed Seed of the session's random generator
+     * @param nowNanos Creation time, counted as the first access
+     */
+    GameSession(String id, long seed, long nowNanos) {
+        this.id = id;
+        this.random = new Random(seed);
+        this.lastAccessNanos = nowNanos;
         this.gameStartTime = LocalDateTime.now();
     }
 
+    // ==================== GETTERS AND SETTERS ====================
+
+    /**
+     * Gets the session id.
+     *
+     * @return The id, unique within the registry
+     */
+    public String getId() {
+        return id;
+    }
+
     /**
-     * Gets the single instance of GameSession.
-     * Creates the instance if it doesn't exist (lazy initialization).
+     * Gets the random generator of this session.
+     * Each session has its own, so games do not contend on a shared generator.
      *
-     * @return The singleton instance of GameSession
-     */
-    public static GameSession getInstance() {
-        if (instance == null) {
-            synchronized (GameSession.class) {
-                if (instance == null) {
-                    instance = new GameSession();
-                }
-            }
-        }
-        return instance;
+     * @return The session's generator
+     */
+    public Random getRandom() {
+        return random;
     }
 
-    // ==================== GETTERS AND SETTERS ====================
+    /**
+     * Gets the game hosted by this session.
+     *
+     * @return The game, or null if none
+     */
+    public GameController getGame() {
+        return game;
+    }
+
+    /**
+     * Attaches a game to this session and starts tracking its statistics.
+     *
+     * @param game The game to host
+     */
+    void attachGame(GameController game) {
+        this.game = game;
+        this.statsObserver = new StatsObserver();
+        game.addObserver(statsObserver);
+    }
+
+    /**
+     * Gets the last time the session was used.
+     *
+     * @return Access time in registry clock nanoseconds
+     */
+    long getLastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    /**
+     * Marks the session as used.
+     *
+     * @param nowNanos Current registry clock time
+     */
+    void touch(long nowNanos) {
+        this.lastAccessNanos = nowNanos;
+    }
+
+    /**
+     * Stops the hosted game, if any, and releases its statistics subscription and event stream.
+     * Called when the session expires or is removed.
+     */
+    void close() {
+        GameController hosted = game;
+        if (hosted != null) {
+            hosted.shutdown();
+            hosted.removeObserver(statsObserver);
+            hosted.getEvents().close();
+        }
+    }
 
     /**
      * Gets the player's nickname.
@@ -135,6 +224,26 @@ public class GameSession {
         }
     }
 
+    /**
+     * Gets the pacing policy of the game loop.
+     *
+     * @return The pacing policy
+     */
+    public PacingPolicy getPacing() {
+        return pacing;
+    }
+
+    /**
+     * Sets the pacing policy of the game loop.
+     *
+     * @param pacing The policy to set; null is ignored
+     */
+    public void setPacing(PacingPolicy pacing) {
+        if (pacing != null) {
+            this.pacing = pacing;
+        }
+    }
+
     /**
      * Checks if this is a new game.
      *
@@ -199,14 +308,14 @@ public class GameSession {
      * @return Total shots fired
      */
     public int getTotalShotsFired() {
-        return totalShotsFired;
+        return totalShotsFired.intValue();
     }
 
     /**
      * Increments the total shots fired counter.
      */
     public void incrementShotsFired() {
-        this.totalShotsFired++;
+        totalShotsFired.increment();
     }
 
     /**
@@ -215,14 +324,14 @@ public class GameSession {
      * @return Number of successful hits
      */
     public int getSuccessfulHits() {
-        return successfulHits;
+        return successfulHits.intValue();
     }
 
     /**
      * Increments the successful hits counter.
      */
     public void incrementSuccessfulHits() {
-        this.successfulHits++;
+        successfulHits.increment();
     }
 
     /**
@@ -231,8 +340,9 @@ public class GameSession {
      * @return Accuracy as a percentage (0-100)
      */
     public double getAccuracy() {
-        if (totalShotsFired == 0) return 0.0;
-        return (successfulHits * 100.0) / totalShotsFired;
+        long shots = totalShotsFired.sum();
+        if (shots == 0) return 0.0;
+        return (successfulHits.sum() * 100.0) / shots;
     }
 
     /**
@@ -284,8 +394,8 @@ public class GameSession {
         this.isNewGame = true;
         this.enemyShipsDestroyed = 0;
         this.playerShipsDestroyed = 0;
-        this.totalShotsFired = 0;
-        this.successfulHits = 0;
+        this.totalShotsFired.reset();
+        this.successfulHits.reset();
         this.gameStartTime = LocalDateTime.now();
     }
 
@@ -296,8 +406,8 @@ public class GameSession {
     public void resetStatistics() {
         this.enemyShipsDestroyed = 0;
         this.playerShipsDestroyed = 0;
-        this.totalShotsFired = 0;
-        this.successfulHits = 0;
+        this.totalShotsFired.reset();
+        this.successfulHits.reset();
         this.gameStartTime = LocalDateTime.now();
     }
 
@@ -311,6 +421,7 @@ public class GameSession {
         summary.append("=== GAME SESSION ===\n");
         summary.append("Player: ").append(playerNickname).append("\n");
         summary.append("Difficulty: ").append(difficulty).append("\n");
+        summary.append("Pacing: ").append(pacing).append("\n");
         summary.append("Enemy Ships Destroyed: ").append(enemyShipsDestroyed).append("/10\n");
         summary.append("Player Ships Destroyed: ").append(playerShipsDestroyed).append("/10\n");
         summary.append("Total Shots Fired: ").append(totalShotsFired).append("\n");
@@ -345,10 +456,10 @@ public class GameSession {
         if (playerShipsDestroyed < 0 || playerShipsDestroyed > 10) {
             return false;
         }
-        if (totalShotsFired < 0 || successfulHits < 0) {
+        if (getTotalShotsFired() < 0 || getSuccessfulHits() < 0) {
             return false;
         }
-        if (successfulHits > totalShotsFired) {
+        if (getSuccessfulHits() > getTotalShotsFired()) {
             return false;
         }
         return true;
@@ -357,8 +468,10 @@ public class GameSession {
     @Override
     public String toString() {
         return "GameSession{" +
-                "playerNickname='" + playerNickname + '\'' +
+                "id='" + id + '\'' +
+                ", playerNickname='" + playerNickname + '\'' +
                 ", difficulty='" + difficulty + '\'' +
+                ", pacing=" + pacing +
                 ", isNewGame=" + isNewGame +
                 ", enemyShipsDestroyed=" + enemyShipsDestroyed +
                 ", playerShipsDestroyed=" + playerShipsDestroyed +
@@ -367,4 +480,37 @@ public class GameSession {
                 ", accuracy=" + String.format("%.1f", getAccuracy()) + "%" +
                 '}';
     }
+
+    /**
+     * Counts the player's shots and sinks from the hosted game's events. The stream delivers
+     * them one at a time, so the counters trail the game by the stream's delivery delay.
+     */
+    private class StatsObserver implements GameObserver {
+
+        @Override
+        public void onEvent(GameEvent event) {
+            if (event.getType() != GameEvent.Type.SHOT_FIRED) return;
+            if (event.isPlayerBoard()) {
+                // The machine fired (events arrive one at a time, so ++ is safe)
+                if (event.isSunk()) playerShipsDestroyed++;
+                return;
+            }
+            // The player fired
+            incrementShotsFired();
+            if (event.isHit()) incrementSuccessfulHits();
+            if (event.isSunk()) enemyShipsDestroyed++;
+        }
+
+        @Override
+        public void onBoardChanged(boolean isPlayerBoard) {}
+
+        @Override
+        public void onShotFired(boolean isHit, boolean isSunk) {}
+
+        @Override
+        public void onGameOver(boolean playerWon) {}
+
+        @Override
+        public void onTurnChanged(boolean isPlayerTurn) {}
+    }
 }
\ No newline at end of file
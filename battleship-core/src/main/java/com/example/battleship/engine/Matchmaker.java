@@ -0,0 +1,385 @@
+package com.example.battleship.engine;
+
+import com.example.battleship.util.LatencyHistogram;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Pairs waiting players into matches.
+ * Players join a bucket, e.g. a difficulty or a skill band from {@link #skillBucket(int, int)};
+ * each bucket is a lock-free {@link ConcurrentLinkedQueue}, so joining never blocks.
+ * Pairing runs on the game-loop executor, one drain at a time: after joins, and on a
+ * periodic tick that fills in a bot for players who waited longer than the bot timeout.
+ *
+ * <p>Backpressure: at most {@code maxActiveMatches} matches run at once. While the server is
+ * full, players keep waiting, and once a bucket holds {@code maxQueuedPerBucket} players new
+ * joins are rejected, so clients can back off instead of queueing without bound.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class Matchmaker {
+
+    private final int maxActiveMatches;
+    private final int maxQueuedPerBucket;
+    private final long botFillNanos;
+    private final Consumer<Match> starter;
+    private final ScheduledExecutorService executor;
+    private final LongSupplier clock;
+
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger activeMatches = new AtomicInteger();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private final AtomicLong matchIds = new AtomicLong();
+    private volatile ScheduledFuture<?> ticker;
+
+    // Statistics
+    private final LatencyHistogram waitTimes = new LatencyHistogram();
+    private final LongAdder joined = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+    private final LongAdder matchesStarted = new LongAdder();
+    private final LongAdder botMatches = new LongAdder();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+    /**
+     * Creates a matchmaker on the shared game-loop executor.
+     *
+     * @param maxActiveMatches Matches allowed to run at once
+     * @param maxQueuedPerBucket Waiting players per bucket before joins are rejected
+     * @param botFillMillis Wait after which a player is matched against a bot
+     * @param starter Starts a match, e.g. by hosting a game; runs on the game loop and must not block
+     */
+    public Matchmaker(int maxActiveMatches, int maxQueuedPerBucket, long botFillMillis, Consumer<Match> starter) {
+        this(maxActiveMatches, maxQueuedPerBucket, botFillMillis, starter,
+                GameScheduler.sharedExecutor(), System::nanoTime);
+    }
+
+    /**
+     * Creates a matchmaker.
+     *
+     * @param maxActiveMatches Matches allowed to run at once
+     * @param maxQueuedPerBucket Waiting players per bucket before joins are rejected
+     * @param botFillMillis Wait after which a player is matched against a bot
+     * @param starter Starts a match; runs on the executor and must not block
+     * @param executor Executor for pairing and the periodic tick
+     * @param clock Nanosecond clock, replaceable in tests
+     */
+    public Matchmaker(int maxActiveMatches, int maxQueuedPerBucket, long botFillMillis, Consumer<Match> starter,
+                      ScheduledExecutorService executor, LongSupplier clock) {
+        this.maxActiveMatches = maxActiveMatches;
+        this.maxQueuedPerBucket = maxQueuedPerBucket;
+        this.botFillNanos = TimeUnit.MILLISECONDS.toNanos(botFillMillis);
+        this.starter = starter;
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    /**
+     * Gets the bucket of a skill rating, e.g. ratings 1200 to 1299 with width 100.
+     *
+     * @param rating Player's rating
+     * @param width Rating range per bucket
+     * @return Bucket name
+     */
+    public static String skillBucket(int rating, int width) {
+        return "skill-" + Math.floorDiv(rating, width);
+    }
+
+    /**
+     * Puts a player in a bucket's queue.
+     *
+     * @param playerId Player
+     * @param bucket Bucket, e.g. "HARD" or {@link #skillBucket(int, int)}
+     * @return The player's ticket, or null if the bucket is full (try again later)
+     */
+    public Ticket join(String playerId, String bucket) {
+        Bucket queue = buckets.computeIfAbsent(bucket, Bucket::new);
+        int depth = queue.depth.incrementAndGet();
+        if (depth > maxQueuedPerBucket) {
+            queue.depth.decrementAndGet();
+            rejected.increment();
+            return null;
+        }
+        maxQueueDepth.accumulateAndGet(depth, Math::max);
+
+        Ticket ticket = new Ticket(playerId, bucket, clock.getAsLong());
+        queue.waiting.add(ticket);
+        joined.increment();
+        startTicker();
+        if (depth >= 2) requestDrain();
+        return ticket;
+    }
+
+    /**
+     * Takes a player out of the queue, if not matched yet.
+     *
+     * @param ticket The player's ticket
+     * @return true if the ticket was still waiting
+     */
+    public boolean cancel(Ticket ticket) {
+        while (true) {
+            int state = ticket.state.get();
+            if (state == Ticket.WAITING && ticket.state.compareAndSet(Ticket.WAITING, Ticket.CANCELLED)) break;
+            if (state == Ticket.RESERVED) {
+                Thread.onSpinWait(); // The drain is deciding about it right now
+            } else if (state != Ticket.WAITING) {
+                return false;
+            }
+        }
+        buckets.get(ticket.bucket).depth.decrementAndGet();
+        ticket.match.cancel(false);
+        cancelled.increment();
+        return true;
+    }
+
+    /**
+     * Reports that a match ended, freeing its slot for waiting players.
+     *
+     * @param match The finished match
+     */
+    public void matchFinished(Match match) {
+        if (match.finished.compareAndSet(false, true)) {
+            activeMatches.decrementAndGet();
+            requestDrain();
+        }
+    }
+
+    /**
+     * Schedules a pairing pass on the executor, unless one is already pending.
+     * Requests made while a pass runs trigger one more pass.
+     */
+    private void requestDrain() {
+        if (drainRequests.getAndIncrement() == 0) {
+            executor.execute(this::drainLoop);
+        }
+    }
+
+    private void drainLoop() {
+        int missed = 1;
+        do {
+            try {
+                drain();
+            } catch (RuntimeException e) {
+                System.err.println("Matchmaking error: " + e.getMessage());
+            }
+            missed = drainRequests.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    /**
+     * Pairs players in every bucket, oldest first, while there is room for matches.
+     * Only one drain runs at a time.
+     */
+    void drain() {
+        long now = clock.getAsLong();
+        for (Bucket bucket : buckets.values()) {
+            while (activeMatches.get() < maxActiveMatches) {
+                Ticket first = bucket.pollLive();
+                if (first == null) break;
+                Ticket second = bucket.pollLive();
+                if (second == null && now - first.joinNanos < botFillNanos) {
+                    first.state.set(Ticket.WAITING);
+                    bucket.oldest = first; // Keep its place at the head
+                    break;
+                }
+                start(bucket, first, second, now);
+            }
+        }
+    }
+
+    private void start(Bucket bucket, Ticket first, Ticket second, long now) {
+        first.state.set(Ticket.MATCHED);
+        bucket.depth.decrementAndGet();
+        waitTimes.record(now - first.joinNanos);
+        if (second != null) {
+            second.state.set(Ticket.MATCHED);
+            bucket.depth.decrementAndGet();
+            waitTimes.record(now - second.joinNanos);
+        } else {
+            botMatches.increment();
+        }
+
+        Match match = new Match(matchIds.incrementAndGet(), bucket.name, first, second);
+        activeMatches.incrementAndGet();
+        matchesStarted.increment();
+        try {
+            starter.accept(match);
+        } catch (RuntimeException e) {
+            System.err.println("Could not start match " + match.id + ": " + e.getMessage());
+            matchFinished(match);
+        }
+        first.match.complete(match);
+        if (second != null) second.match.complete(match);
+    }
+
+    /**
+     * Starts the periodic pairing pass that fills in bots, at a quarter of the bot timeout.
+     */
+    private void startTicker() {
+        if (ticker != null) return;
+        synchronized (this) {
+            if (ticker != null) return;
+            long period = Math.max(TimeUnit.MILLISECONDS.toNanos(10), botFillNanos / 4);
+            ticker = executor.scheduleAtFixedRate(this::requestDrain, period, period, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Stops the periodic tick. Waiting players stay queued.
+     */
+    public void shutdown() {
+        ScheduledFuture<?> task = ticker;
+        if (task != null) task.cancel(false);
+    }
+
+    /**
+     * Gets how many players wait in a bucket.
+     *
+     * @param bucket Bucket name
+     * @return Queue depth
+     */
+    public int getQueueDepth(String bucket) {
+        Bucket queue = buckets.get(bucket);
+        return queue == null ? 0 : Math.max(0, queue.depth.get());
+    }
+
+    /**
+     * Gets how many players wait in all buckets.
+     *
+     * @return Total queue depth
+     */
+    public int getTotalQueueDepth() {
+        int total = 0;
+        for (Bucket bucket : buckets.values()) {
+            total += Math.max(0, bucket.depth.get());
+        }
+        return total;
+    }
+
+    /**
+     * Checks if every match slot is taken.
+     *
+     * @return true while new pairs have to wait
+     */
+    public boolean isSaturated() {
+        return activeMatches.get() >= maxActiveMatches;
+    }
+
+    /**
+     * Gets the time players waited before being matched, in nanoseconds.
+     *
+     * @return Wait time histogram
+     */
+    public LatencyHistogram getWaitTimes() { return waitTimes; }
+
+    public int getActiveMatches() { return activeMatches.get(); }
+    public int getMaxQueueDepth() { return maxQueueDepth.get(); }
+    public long getJoinedCount() { return joined.sum(); }
+    public long getRejectedCount() { return rejected.sum(); }
+    public long getCancelledCount() { return cancelled.sum(); }
+    public long getMatchesStarted() { return matchesStarted.sum(); }
+    public long getBotMatches() { return botMatches.sum(); }
+
+    /**
+     * Waiting players of one bucket.
+     */
+    private static class Bucket {
+        private final String name;
+        private final ConcurrentLinkedQueue<Ticket> waiting = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger depth = new AtomicInteger();
+        private Ticket oldest; // Only touched by the drain
+
+        Bucket(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Takes and reserves the oldest ticket still waiting, skipping cancelled ones.
+         */
+        Ticket pollLive() {
+            Ticket ticket = oldest;
+            oldest = null;
+            if (ticket != null && ticket.state.compareAndSet(Ticket.WAITING, Ticket.RESERVED)) return ticket;
+            while ((ticket = waiting.poll()) != null) {
+                if (ticket.state.compareAndSet(Ticket.WAITING, Ticket.RESERVED)) return ticket;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A player's place in a queue.
+     */
+    public static class Ticket {
+        private static final int WAITING = 0;
+        private static final int RESERVED = 1;
+        private static final int MATCHED = 2;
+        private static final int CANCELLED = 3;
+
+        private final String playerId;
+        private final String bucket;
+        private final long joinNanos;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private final CompletableFuture<Match> match = new CompletableFuture<>();
+
+        Ticket(String playerId, String bucket, long joinNanos) {
+            this.playerId = playerId;
+            this.bucket = bucket;
+            this.joinNanos = joinNanos;
+        }
+
+        public String getPlayerId() { return playerId; }
+        public String getBucket() { return bucket; }
+
+        /**
+         * Gets the match, completed on the game loop once the player is paired.
+         *
+         * @return Future of the match; cancelled if the ticket is cancelled
+         */
+        public CompletableFuture<Match> getMatch() { return match; }
+    }
+
+    /**
+     * Two paired players, or a player and a bot.
+     */
+    public static class Match {
+        private final long id;
+        private final String bucket;
+        private final Ticket first;
+        private final Ticket second;
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        Match(long id, String bucket, Ticket first, Ticket second) {
+            this.id = id;
+            this.bucket = bucket;
+            this.first = first;
+            this.second = second;
+        }
+
+        public long getId() { return id; }
+        public String getBucket() { return bucket; }
+        public Ticket getFirst() { return first; }
+
+        /**
+         * Gets the second player.
+         *
+         * @return The opponent's ticket, or null when playing against a bot
+         */
+        public Ticket getSecond() { return second; }
+
+        public boolean isAgainstBot() { return second == null; }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.battleship.engine;
+
+/**
+ * Pacing of the game loop: how long the machine "thinks", how often the game is saved
+ * and how often boards are redrawn.
+ *
+ * <ul>
+ *   <li>{@link #REALISTIC}: human-facing delays, save and redraw after every shot</li>
+ *   <li>{@link #ACCELERATED}: short delays for demos, save every few shots</li>
+ *   <li>{@link #TURBO}: no delays, rare saves and one redraw per machine turn, for
+ *       fast regression play-throughs and soak tests</li>
+ * </ul>
+ *
+ * <p>Whatever the policy, the game is always saved when it ends and when it is left.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum PacingPolicy {
+
+    REALISTIC(1000, 800, 1, false),
+    ACCELERATED(250, 150, 4, false),
+    TURBO(0, 0, 32, true);
+
+    private final long thinkDelayMillis;
+    private final long hitDelayMillis;
+    private final int shotsPerSave;
+    private final boolean coalesceRendering;
+
+    PacingPolicy(long thinkDelayMillis, long hitDelayMillis, int shotsPerSave, boolean coalesceRendering) {
+        this.thinkDelayMillis = thinkDelayMillis;
+        this.hitDelayMillis = hitDelayMillis;
+        this.shotsPerSave = shotsPerSave;
+        this.coalesceRendering = coalesceRendering;
+    }
+
+    /**
+     * Parses a policy name, case-insensitively.
+     *
+     * @param name Policy name, e.g. "turbo"
+     * @return The policy, or REALISTIC if the name is unknown or null
+     */
+    public static PacingPolicy fromName(String name) {
+        if (name != null) {
+            for (PacingPolicy policy : values()) {
+                if (policy.name().equalsIgnoreCase(name.trim())) return policy;
+            }
+        }
+        return REALISTIC;
+    }
+
+    /**
+     * Gets the delay before the machine's first shot of a turn.
+     *
+     * @return Think time in milliseconds
+     */
+    public long getThinkDelayMillis() {
+        return thinkDelayMillis;
+    }
+
+    /**
+     * Gets the delay between machine shots after a hit.
+     *
+     * @return Delay in milliseconds
+     */
+    public long getHitDelayMillis() {
+        return hitDelayMillis;
+    }
+
+    /**
+     * Gets how many shots may pass between two saves.
+     *
+     * @return Shots per save; 1 saves after every shot
+     */
+    public int getShotsPerSave() {
+        return shotsPerSave;
+    }
+
+    /**
+     * Checks if board redraws are coalesced to one per machine turn.
+     *
+     * @return true if intermediate machine shots do not redraw the boards
+     */
+    public boolean isCoalesceRendering() {
+        return coalesceRendering;
+    }
+}
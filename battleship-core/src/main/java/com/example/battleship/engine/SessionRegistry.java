@@ -0,0 +1,226 @@
+package com.example.battleship.engine;
+
+import com.example.battleship.patterns.AiProvider;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process host for many independent game sessions.
+ * Sessions live in a {@link ConcurrentHashMap} (internally striped, so lookups never block
+ * each other), and each one has its own settings, statistics and random generator.
+ * Sessions idle for longer than the timeout are expired by a periodic sweep.
+ *
+ * <p>Hosted games run on actors over a shared pool: each game still applies its commands
+ * one at a time, but different games run in parallel.</p>
+ *
+ * <p>The desktop app uses {@link #getLocalSession()}, a session that never expires.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SessionRegistry {
+
+    /**
+     * Default idle time before a hosted session expires: 30 minutes.
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+    private static final SessionRegistry DEFAULT = new SessionRegistry(
+            DEFAULT_IDLE_TIMEOUT_MILLIS, ForkJoinPool.commonPool(), System::nanoTime);
+
+    private final ConcurrentHashMap<String, GameSession> sessions = new ConcurrentHashMap<>();
+    private final long idleTimeoutNanos;
+    private final Executor gameExecutor;
+    private final LongSupplier clock;
+    private final SplittableRandom seeds = new SplittableRandom();
+    private final GameSession localSession;
+    private volatile ScheduledFuture<?> sweeper;
+
+    // Registry statistics
+    private final LongAdder created = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder removed = new LongAdder();
+
+    /**
+     * Creates a registry.
+     *
+     * @param idleTimeoutMillis Idle time after which a hosted session expires
+     * @param gameExecutor Pool that runs the actors of hosted games
+     * @param clock Nanosecond clock, replaceable in tests
+     */
+    public SessionRegistry(long idleTimeoutMillis, Executor gameExecutor, LongSupplier clock) {
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.gameExecutor = gameExecutor;
+        this.clock = clock;
+        this.localSession = new GameSession("local", nextSeed(), clock.getAsLong());
+    }
+
+    /**
+     * Gets the process-wide registry.
+     *
+     * @return The default registry
+     */
+    public static SessionRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Gets the session of the desktop player. It is not listed among hosted sessions
+     * and never expires.
+     *
+     * @return The local session
+     */
+    public GameSession getLocalSession() {
+        return localSession;
+    }
+
+    /**
+     * Creates a hosted session without a game.
+     *
+     * @param nickname Player's nickname
+     * @return The new session
+     */
+    public GameSession create(String nickname) {
+        GameSession session = new GameSession(UUID.randomUUID().toString(), nextSeed(), clock.getAsLong());
+        session.setPlayerNickname(nickname);
+        sessions.put(session.getId(), session);
+        created.increment();
+        startSweeper();
+        return session;
+    }
+
+    /**
+     * Creates a hosted session with its own game.
+     * The game does not write the desktop save file and uses the session's generator.
+     *
+     * @param nickname Player's nickname
+     * @param difficulty "EASY", "MEDIUM" or "HARD"
+     * @param pacing Pacing of the machine's turns
+     * @param ai Provider of the AI strategies
+     * @return The new session, with {@link GameSession#getGame()} set
+     */
+    public GameSession host(String nickname, String difficulty, PacingPolicy pacing, AiProvider ai) {
+        GameSession session = create(nickname);
+        session.setDifficulty(difficulty);
+        session.setPacing(pacing);
+
+        GameController game = new GameController(new GameActor(gameExecutor), ai, session.getRandom());
+        game.setSaveEnabled(false);
+        game.setPlayerNickname(session.getPlayerNickname());
+        game.setDifficulty(session.getDifficulty());
+        game.setPacing(pacing);
+        session.attachGame(game);
+        return session;
+    }
+
+    /**
+     * Looks up a hosted session and marks it as used.
+     *
+     * @param id Session id
+     * @return The session, or null if unknown or expired
+     */
+    public GameSession get(String id) {
+        GameSession session = sessions.get(id);
+        if (session != null) {
+            session.touch(clock.getAsLong());
+        }
+        return session;
+    }
+
+    /**
+     * Removes a hosted session and stops its game.
+     *
+     * @param id Session id
+     * @return true if the session existed
+     */
+    public boolean remove(String id) {
+        GameSession session = sessions.remove(id);
+        if (session == null) return false;
+        session.close();
+        removed.increment();
+        return true;
+    }
+
+    /**
+     * Expires every hosted session idle for longer than the timeout.
+     * Runs periodically once the first session is created; can also be called directly.
+     *
+     * @return Number of sessions expired
+     */
+    public int expireIdle() {
+        long now = clock.getAsLong();
+        int count = 0;
+        for (GameSession session : sessions.values()) {
+            if (now - session.getLastAccessNanos() > idleTimeoutNanos
+                    && sessions.remove(session.getId(), session)) {
+                session.close();
+                expired.increment();
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the hosted sessions.
+     *
+     * @return Read-only live view of the sessions
+     */
+    public Collection<GameSession> getSessions() {
+        return Collections.unmodifiableCollection(sessions.values());
+    }
+
+    /**
+     * Gets the number of hosted sessions.
+     *
+     * @return Active session count
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    public long getCreatedCount() { return created.sum(); }
+    public long getExpiredCount() { return expired.sum(); }
+    public long getRemovedCount() { return removed.sum(); }
+
+    /**
+     * Stops the periodic sweep.
+     */
+    public void shutdown() {
+        ScheduledFuture<?> task = sweeper;
+        if (task != null) task.cancel(false);
+    }
+
+    private synchronized long nextSeed() {
+        return seeds.nextLong(); // SplittableRandom is not thread-safe
+    }
+
+    /**
+     * Starts the idle sweep on the shared game-loop executor, four times per timeout.
+     */
+    private void startSweeper() {
+        if (sweeper != null) return;
+        synchronized (this) {
+            if (sweeper != null) return;
+            long period = Math.max(1, idleTimeoutNanos / 4);
+            sweeper = GameScheduler.sharedExecutor().scheduleAtFixedRate(() -> {
+                try {
+                    expireIdle();
+                } catch (RuntimeException e) {
+                    System.err.println("Error expiring sessions: " + e.getMessage());
+                }
+            }, period, period, TimeUnit.NANOSECONDS);
+        }
+    }
+}
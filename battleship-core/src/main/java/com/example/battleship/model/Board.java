@@ -0,0 +1,194 @@
+package com.example.battleship.model;
+
+import com.example.battleship.exceptions.InvalidShipPlacementException;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class Board implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public enum CellState { WATER, SHIP, HIT, MISS, SUNK }
+
+    private Map<Coordinate, CellState> grid;
+    private Map<Coordinate, Ship> shipPlacement; // Para saber a qué barco le dimos
+
+    public Board() {
+        grid = new HashMap<>();
+        shipPlacement = new HashMap<>();
+        initializeBoard();
+    }
+
+    private void initializeBoard() {
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 10; j++) {
+                grid.put(new Coordinate(i, j), CellState.WATER);
+            }
+        }
+    }
+
+    /**
+     * HU-1: Valida y coloca un barco en el tablero.
+     */
+    public void placeShip(Ship ship, Coordinate start, boolean isHorizontal) throws InvalidShipPlacementException {
+        int size = ship.getSize(); // Asumimos que Ship tiene getSize()
+        int row = start.getRow();
+        int col = start.getCol();
+
+        // 1. Validar límites del tablero
+        if (isHorizontal) {
+            if (col + size > 10) throw new InvalidShipPlacementException("Ship goes out of bounds (Horizontal)");
+        } else {
+            if (row + size > 10) throw new InvalidShipPlacementException("Ship goes out of bounds (Vertical)");
+        }
+
+        // 2. Validar superposición (Overlapping)
+        for (int i = 0; i < size; i++) {
+            Coordinate checkCoord;
+            if (isHorizontal) checkCoord = new Coordinate(row, col + i);
+            else              checkCoord = new Coordinate(row + i, col);
+
+            if (grid.getOrDefault(checkCoord, CellState.WATER) == CellState.SHIP) {
+                throw new InvalidShipPlacementException("Position occupied by another ship");
+            }
+        }
+
+        // 3. Si todo es válido, colocar el barco
+        for (int i = 0; i < size; i++) {
+            Coordinate newCoord;
+            if (isHorizontal) newCoord = new Coordinate(row, col + i);
+            else              newCoord = new Coordinate(row + i, col);
+
+            grid.put(newCoord, CellState.SHIP);
+            shipPlacement.put(newCoord, ship);
+            ship.addCoordinate(newCoord); // Agregar coord al objeto barco
+        }
+    }
+
+    /**
+     * Coloca una flota completa en posiciones aleatorias.
+     * Cada intento consume fila, columna y orientación del generador, en ese orden,
+     * de modo que una misma semilla produce siempre el mismo tablero.
+     *
+     * @param fleet Barcos a colocar, en orden
+     * @param random Generador usado para elegir las posiciones
+     */
+    public void placeFleetRandomly(Collection<Ship> fleet, Random random) {
+        for (Ship ship : fleet) {
+            boolean placed = false;
+            while (!placed) {
+                int row = random.nextInt(10);
+                int col = random.nextInt(10);
+                boolean horizontal = random.nextBoolean();
+                try {
+                    placeShip(ship, new Coordinate(row, col), horizontal);
+                    placed = true;
+                } catch (InvalidShipPlacementException e) {}
+            }
+        }
+    }
+
+    /**
+     * HU-4: Resuelve un disparo sobre este tablero.
+     * Marca la casilla como HIT o MISS y, si el barco recibe su último impacto,
+     * marca todas sus casillas como SUNK.
+     *
+     * @param target Casilla objetivo
+     * @return true si el disparo impactó un barco
+     */
+    public boolean fireAt(Coordinate target) {
+        CellState currentState = grid.get(target);
+        if (currentState == CellState.SHIP) {
+            grid.put(target, CellState.HIT);
+            Ship ship = shipPlacement.get(target);
+            if (ship != null) {
+                ship.registerHit();
+                if (ship.isSunk()) {
+                    for (Coordinate coord : ship.getCoordinates()) {
+                        grid.put(coord, CellState.SUNK);
+                    }
+                }
+            }
+            return true;
+        } else if (currentState == CellState.WATER) {
+            grid.put(target, CellState.MISS);
+            return false;
+        }
+        return false;
+    }
+
+    /**
+     * Indica si queda alguna casilla de barco sin impactar.
+     *
+     * @return true si la flota sigue a flote
+     */
+    public boolean hasShipsAfloat() {
+        return grid.containsValue(CellState.SHIP);
+    }
+
+    /**
+     * Copia inmutable del estado de las casillas, para leer el tablero desde otro hilo.
+     *
+     * @return Estados indexados por fila * 10 + columna
+     */
+    public CellState[] snapshotCells() {
+        CellState[] cells = new CellState[100];
+        for (int row = 0; row < 10; row++) {
+            for (int col = 0; col < 10; col++) {
+                cells[row * 10 + col] = grid.get(new Coordinate(row, col));
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Copia independiente del tablero, para guardarlo desde otro hilo mientras el juego sigue.
+     * Los barcos se reconstruyen con sus impactos a partir del estado de sus casillas.
+     *
+     * @return Tablero nuevo con las mismas casillas y barcos
+     */
+    public Board copy() {
+        Board copy = new Board();
+        copy.grid.putAll(grid);
+        Map<Ship, Ship> ships = new HashMap<>();
+        for (Map.Entry<Coordinate, Ship> entry : shipPlacement.entrySet()) {
+            Ship ship = ships.computeIfAbsent(entry.getValue(), original -> {
+                Ship clone = new Ship(original.getType(), original.getSize());
+                for (Coordinate coord : original.getCoordinates()) {
+                    clone.addCoordinate(coord);
+                    CellState state = grid.get(coord);
+                    if (state == CellState.HIT || state == CellState.SUNK) clone.registerHit();
+                }
+                return clone;
+            });
+            copy.shipPlacement.put(entry.getKey(), ship);
+        }
+        return copy;
+    }
+
+    public Object[] getShipRenderInfo(Coordinate coord) {
+        Ship ship = shipPlacement.get(coord);
+        if (ship == null) return null;
+
+        String type = ship.getType();
+        int position = ship.getCoordinates().indexOf(coord);
+        int size = ship.getSize();
+        boolean isHorizontal = isShipHorizontal(ship);
+
+        return new Object[]{type, position, size, isHorizontal};
+    }
+
+    private boolean isShipHorizontal(Ship ship) {
+        if (ship.getCoordinates().size() < 2) return true;
+
+        Coordinate first = ship.getCoordinates().get(0);
+        Coordinate second = ship.getCoordinates().get(1);
+
+        return first.getRow() == second.getRow();
+    }
+
+    public Map<Coordinate, CellState> getGrid() { return grid; }
+    public Map<Coordinate, Ship> getShipPlacement() { return shipPlacement; }
+}
\ No newline at end of file
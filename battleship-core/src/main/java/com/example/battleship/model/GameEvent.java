@@ -0,0 +1,167 @@
+package com.example.battleship.model;
+
+import java.util.List;
+
+/**
+ * Immutable game event published by the game loop.
+ * Events carry everything an observer needs, so they can be handed to other threads
+ * without sharing mutable game state.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class GameEvent {
+
+    /**
+     * Kind of event.
+     */
+    public enum Type { BOARD_CHANGED, SHOT_FIRED, TURN_CHANGED, GAME_OVER }
+
+    private final Type type;
+    private final long sequence;
+    private final boolean playerBoard;
+    private final Coordinate target;
+    private final boolean hit;
+    private final boolean sunk;
+    private final boolean playerTurn;
+    private final boolean playerWon;
+    private final Board.CellState[] cells;
+    private final Object[][] shipInfo;
+    private final int shipSize;
+    private final List<Coordinate> sunkShip;
+
+    private GameEvent(Type type, long sequence, boolean playerBoard, Coordinate target, boolean hit,
+                      boolean sunk, boolean playerTurn, boolean playerWon, Board.CellState[] cells,
+                      Object[][] shipInfo, int shipSize, List<Coordinate> sunkShip) {
+        this.type = type;
+        this.sequence = sequence;
+        this.playerBoard = playerBoard;
+        this.target = target;
+        this.hit = hit;
+        this.sunk = sunk;
+        this.playerTurn = playerTurn;
+        this.playerWon = playerWon;
+        this.cells = cells;
+        this.shipInfo = shipInfo;
+        this.shipSize = shipSize;
+        this.sunkShip = sunkShip;
+    }
+
+    /**
+     * Creates a board change event with a snapshot of the board's cells and ship layout.
+     *
+     * @param sequence Event number within the game
+     * @param playerBoard true for the player's board, false for the machine's
+     * @param board The board, read on the game-loop thread
+     * @return The event
+     */
+    public static GameEvent boardChanged(long sequence, boolean playerBoard, Board board) {
+        Object[][] shipInfo = new Object[100][];
+        for (Coordinate coord : board.getShipPlacement().keySet()) {
+            shipInfo[coord.getRow() * 10 + coord.getCol()] = board.getShipRenderInfo(coord);
+        }
+        return new GameEvent(Type.BOARD_CHANGED, sequence, playerBoard, null, false, false,
+                false, false, board.snapshotCells(), shipInfo, 0, List.of());
+    }
+
+    /**
+     * Creates a shot event.
+     *
+     * @param sequence Event number within the game
+     * @param playerBoard true if the shot landed on the player's board
+     * @param target The target cell
+     * @param hit true if a ship was hit
+     * @param ship The ship hit, or null on a miss; read on the game-loop thread
+     * @return The event
+     */
+    public static GameEvent shotFired(long sequence, boolean playerBoard, Coordinate target, boolean hit, Ship ship) {
+        boolean sunk = ship != null && ship.isSunk();
+        return new GameEvent(Type.SHOT_FIRED, sequence, playerBoard, target, hit, sunk, false, false, null, null,
+                ship == null ? 0 : ship.getSize(), sunk ? List.copyOf(ship.getCoordinates()) : List.of());
+    }
+
+    /**
+     * Creates a turn change event.
+     *
+     * @param sequence Event number within the game
+     * @param playerTurn true if it is now the player's turn
+     * @return The event
+     */
+    public static GameEvent turnChanged(long sequence, boolean playerTurn) {
+        return new GameEvent(Type.TURN_CHANGED, sequence, false, null, false, false, playerTurn, false, null, null, 0, List.of());
+    }
+
+    /**
+     * Creates a game over event.
+     *
+     * @param sequence Event number within the game
+     * @param playerWon true if the player won
+     * @return The event
+     */
+    public static GameEvent gameOver(long sequence, boolean playerWon) {
+        return new GameEvent(Type.GAME_OVER, sequence, false, null, false, false, false, playerWon, null, null, 0, List.of());
+    }
+
+    public Type getType() { return type; }
+    public long getSequence() { return sequence; }
+    public boolean isPlayerBoard() { return playerBoard; }
+    public Coordinate getTarget() { return target; }
+    public boolean isHit() { return hit; }
+    public boolean isSunk() { return sunk; }
+    public boolean isPlayerTurn() { return playerTurn; }
+    public boolean isPlayerWon() { return playerWon; }
+
+    /**
+     * Gets the size of the ship a shot hit.
+     *
+     * @return Ship size, or 0 for a miss and other events
+     */
+    public int getShipSize() { return shipSize; }
+
+    /**
+     * Gets the cells of the ship a shot sunk, e.g. to outline it.
+     *
+     * @return The ship's cells, or an empty list if the shot sunk nothing
+     */
+    public List<Coordinate> getSunkShip() { return sunkShip; }
+
+    /**
+     * Gets the state of one cell of a board change event.
+     *
+     * @param row Row index
+     * @param col Column index
+     * @return The cell state, or null if this is not a board change event
+     */
+    public Board.CellState getCell(int row, int col) {
+        return cells == null ? null : cells[row * 10 + col];
+    }
+
+    /**
+     * Gets a copy of the board snapshot of a board change event.
+     *
+     * @return Cell states indexed by row * 10 + col, or null for other events
+     */
+    public Board.CellState[] getCells() {
+        return cells == null ? null : cells.clone();
+    }
+
+    /**
+     * Gets the ship layout of one cell of a board change event, as
+     * {@link Board#getShipRenderInfo(Coordinate)} returned it when the event was created.
+     *
+     * @param row Row index
+     * @param col Column index
+     * @return [type, position, size, horizontal], or null if there is no ship or this is
+     *         not a board change event
+     */
+    public Object[] getShipRenderInfo(int row, int col) {
+        Object[] info = shipInfo == null ? null : shipInfo[row * 10 + col];
+        return info == null ? null : info.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "GameEvent{" + type + " #" + sequence + "}";
+    }
+}
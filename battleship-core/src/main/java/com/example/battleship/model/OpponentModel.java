@@ -0,0 +1,143 @@
+package com.example.battleship.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Occupancy histogram of the layouts a human player has used.
+ * For each cell it counts in how many recorded games the player had a ship there,
+ * which strategies use as a prior when choosing where to hunt.
+ *
+ * <p>Instances are immutable: recording a layout returns a new model, so a strategy can keep
+ * using its copy while the store updates the player's history in the background.
+ * Once a player reaches {@link #MAX_GAMES} games all counts are halved, which keeps the
+ * numbers small and lets recent habits weigh more than old ones.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class OpponentModel {
+
+    /**
+     * Games after which counts are halved.
+     */
+    public static final int MAX_GAMES = 1000;
+
+    /**
+     * Games needed before the prior is trusted over the default hunting pattern.
+     */
+    public static final int MIN_GAMES = 3;
+
+    private static final int SIZE = 10;
+
+    /**
+     * How much a cell always used by the player outweighs a cell never used.
+     */
+    private static final double PRIOR_STRENGTH = 4.0;
+
+    private final int games;
+    private final int[] counts;
+
+    /**
+     * Creates an empty model.
+     */
+    public OpponentModel() {
+        this(0, new int[SIZE * SIZE]);
+    }
+
+    /**
+     * Creates a model from stored counts.
+     *
+     * @param games Number of layouts recorded
+     * @param counts Occupancy count per cell ({@code row * 10 + col})
+     */
+    public OpponentModel(int games, int[] counts) {
+        this.games = games;
+        this.counts = Arrays.copyOf(counts, SIZE * SIZE);
+    }
+
+    /**
+     * Encodes the ship cells of a board as a 100-bit mask (two longs).
+     *
+     * @param board Board with a complete fleet
+     * @return {@code [cells 0-63, cells 64-99]}
+     */
+    public static long[] layoutMask(Board board) {
+        long[] mask = new long[2];
+        for (Map.Entry<Coordinate, Board.CellState> entry : board.getGrid().entrySet()) {
+            if (board.getShipPlacement().containsKey(entry.getKey())) {
+                int cell = entry.getKey().getRow() * SIZE + entry.getKey().getCol();
+                mask[cell >> 6] |= 1L << (cell & 63);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Returns a new model that also counts the given layout.
+     *
+     * @param mask Layout mask from {@link #layoutMask}
+     * @return The updated model
+     */
+    public OpponentModel withLayout(long[] mask) {
+        int[] updated = Arrays.copyOf(counts, counts.length);
+        int updatedGames = games + 1;
+        for (int cell = 0; cell < updated.length; cell++) {
+            if ((mask[cell >> 6] & (1L << (cell & 63))) != 0) updated[cell]++;
+        }
+        if (updatedGames > MAX_GAMES) {
+            for (int cell = 0; cell < updated.length; cell++) {
+                updated[cell] /= 2;
+            }
+            updatedGames /= 2;
+        }
+        return new OpponentModel(updatedGames, updated);
+    }
+
+    /**
+     * Gets the smoothed probability that the player has a ship on a cell.
+     *
+     * @param coord The cell
+     * @return Probability in (0, 1)
+     */
+    public double occupancy(Coordinate coord) {
+        return (counts[coord.getRow() * SIZE + coord.getCol()] + 1.0) / (games + 2.0);
+    }
+
+    /**
+     * Checks if enough games were recorded to use the model as a prior.
+     *
+     * @return true if the prior is informative
+     */
+    public boolean isReliable() {
+        return games >= MIN_GAMES;
+    }
+
+    /**
+     * Picks one of the candidates, favouring cells the player tends to use.
+     *
+     * @param candidates Non-empty list of valid shots
+     * @param random Random generator
+     * @return The chosen coordinate
+     */
+    public Coordinate pick(List<Coordinate> candidates, Random random) {
+        double[] weights = new double[candidates.size()];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = 1.0 + PRIOR_STRENGTH * occupancy(candidates.get(i));
+            total += weights[i];
+        }
+        double roll = random.nextDouble() * total;
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) return candidates.get(i);
+        }
+        return candidates.get(candidates.size() - 1);
+    }
+
+    public int getGames() { return games; }
+    public int[] getCounts() { return Arrays.copyOf(counts, counts.length); }
+}
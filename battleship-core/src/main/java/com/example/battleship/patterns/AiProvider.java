@@ -0,0 +1,43 @@
+package com.example.battleship.patterns;
+
+import java.util.ServiceLoader;
+
+/**
+ * Service that creates the AI strategies of each difficulty level.
+ * The rules engine only knows the strategy interfaces; implementations are looked up
+ * with {@link ServiceLoader}, so a build without an AI module still compiles and runs
+ * everything that does not need a machine opponent.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface AiProvider {
+
+    /**
+     * Creates the shooting strategy of a difficulty level.
+     *
+     * @param difficulty "EASY", "MEDIUM" or "HARD"; unknown levels fall back to EASY
+     * @return A new strategy instance
+     */
+    ShootingStrategy createShootingStrategy(String difficulty);
+
+    /**
+     * Creates the fleet placement strategy of a difficulty level.
+     *
+     * @param difficulty "EASY", "MEDIUM" or "HARD"; unknown levels fall back to EASY
+     * @return A new strategy instance
+     */
+    PlacementStrategy createPlacementStrategy(String difficulty);
+
+    /**
+     * Finds the first AI provider on the module path or class path.
+     *
+     * @return The provider
+     * @throws IllegalStateException if no AI module is deployed
+     */
+    static AiProvider getDefault() {
+        return ServiceLoader.load(AiProvider.class).findFirst()
+                .orElseThrow(() -> new IllegalStateException("No AI provider found: add battleship-ai to the module path"));
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.battleship.patterns;
 
+import com.example.battleship.model.GameEvent;
+
 /**
  * Observer interface for game events (Observer Pattern).
  * Allows components to be notified of game state changes without tight coupling.
@@ -41,4 +43,29 @@ public interface GameObserver {
      * @param isPlayerTurn true if it's player's turn, false for machine turn
      */
     void onTurnChanged(boolean isPlayerTurn);
-}
\ No newline at end of file
+
+    /**
+     * Called for every event published by the game, on the event stream's executor, never
+     * on the game loop; UI observers must hop to their own thread. Events arrive one at a
+     * time and in order. The default implementation forwards the event to the matching
+     * callback above.
+     *
+     * @param event The immutable event
+     */
+    default void onEvent(GameEvent event) {
+        switch (event.getType()) {
+            case BOARD_CHANGED:
+                onBoardChanged(event.isPlayerBoard());
+                break;
+            case SHOT_FIRED:
+                onShotFired(event.isHit(), event.isSunk());
+                break;
+            case TURN_CHANGED:
+                onTurnChanged(event.isPlayerTurn());
+                break;
+            case GAME_OVER:
+                onGameOver(event.isPlayerWon());
+                break;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.battleship.patterns;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Ship;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Strategy interface for placing the machine's fleet (Strategy Pattern).
+ * Lets each difficulty level decide how hard its ships are to find.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface PlacementStrategy {
+
+    /**
+     * Places every ship of the fleet on an empty board.
+     *
+     * @param board The board to fill
+     * @param fleet Ships to place, in order
+     * @param random Random generator of the game
+     */
+    void placeFleet(Board board, List<Ship> fleet, Random random);
+}
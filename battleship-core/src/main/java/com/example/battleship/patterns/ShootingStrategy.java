@@ -0,0 +1,51 @@
+package com.example.battleship.patterns;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.model.OpponentModel;
+
+import java.util.List;
+
+/**
+ * Strategy interface for AI shooting behavior (Strategy Pattern).
+ * Allows different AI difficulty levels without modifying core game logic.
+ *
+ * <p>Design Pattern: Strategy</p>
+ * <p>Purpose: Enable different AI algorithms to be swapped at runtime</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2025-12-07
+ */
+public interface ShootingStrategy {
+
+    /**
+     * Determines the next shot coordinate based on the strategy.
+     *
+     * @param board The target board to shoot at
+     * @return The coordinate to shoot at
+     */
+    Coordinate getNextShot(Board board);
+
+    /**
+     * Called after the strategy's shot hit a ship. Does nothing by default.
+     *
+     * @param coord The coordinate that was hit
+     */
+    default void registerHit(Coordinate coord) {}
+
+    /**
+     * Called after the strategy's shot sunk a ship. Does nothing by default.
+     *
+     * @param shipCoords All cells of the sunk ship
+     */
+    default void registerSunk(List<Coordinate> shipCoords) {}
+
+    /**
+     * Gives the strategy the placement history of the current opponent.
+     * Ignored by default.
+     *
+     * @param prior The opponent's occupancy model, or null
+     */
+    default void setPrior(OpponentModel prior) {}
+}
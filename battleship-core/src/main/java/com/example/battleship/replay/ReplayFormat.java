@@ -0,0 +1,169 @@
+package com.example.battleship.replay;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Layout of a replay archive, shared by {@link ReplayWriter} and {@link ReplayReader}.
+ *
+ * <pre>
+ * archive = [magic i32 "BSRP"][version u8][blocks][index][trailer]
+ * block   = [raw bytes i32][compressed bytes i32][games i32][CRC32 of the raw bytes, i32]
+ *           [records, deflate compressed]
+ * index   = blocks x [offset i64][first game i64][games i32]
+ * trailer = [index offset i64][games i64][blocks i32][magic i32]
+ * </pre>
+ *
+ * <p>An archive whose writer was not closed has no trailer; its index is rebuilt by walking
+ * the block headers, keeping every complete block.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class ReplayFormat {
+
+    static final int MAGIC = 0x42535250; // "BSRP"
+    static final byte VERSION = 1;
+    static final int HEADER_BYTES = 5;
+    static final int BLOCK_HEADER_BYTES = 16;
+    static final int INDEX_ENTRY_BYTES = 20;
+    static final int TRAILER_BYTES = 24;
+
+    private ReplayFormat() {}
+
+    /**
+     * Block positions of an archive.
+     */
+    static final class Index {
+        long[] offsets = new long[16];
+        long[] firstGames = new long[16];
+        int[] games = new int[16];
+        int blocks;
+        long totalGames;
+        long end = HEADER_BYTES; // Where the next block goes
+
+        void add(long offset, int count, long blockEnd) {
+            if (blocks == offsets.length) {
+                offsets = Arrays.copyOf(offsets, blocks * 2);
+                firstGames = Arrays.copyOf(firstGames, blocks * 2);
+                games = Arrays.copyOf(games, blocks * 2);
+            }
+            offsets[blocks] = offset;
+            firstGames[blocks] = totalGames;
+            games[blocks] = count;
+            blocks++;
+            totalGames += count;
+            end = blockEnd;
+        }
+
+        /**
+         * Finds the block holding a game.
+         */
+        int blockOf(long game) {
+            int low = 0;
+            int high = blocks - 1;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (firstGames[mid] <= game) low = mid; else high = mid - 1;
+            }
+            return low;
+        }
+    }
+
+    /**
+     * Reads the index of an archive, from its trailer or by walking its blocks.
+     *
+     * @param channel Open archive
+     * @return The index
+     * @throws IOException If the file is not a replay archive
+     */
+    static Index readIndex(FileChannel channel) throws IOException {
+        long size = channel.size();
+        ByteBuffer header = read(channel, 0, HEADER_BYTES);
+        if (header.getInt() != MAGIC) throw new IOException("No es un archivo de repeticiones");
+        byte version = header.get();
+        if (version != VERSION) throw new IOException("Versión de repeticiones no soportada: " + version);
+
+        Index index = new Index();
+        if (size >= HEADER_BYTES + TRAILER_BYTES) {
+            ByteBuffer trailer = read(channel, size - TRAILER_BYTES, TRAILER_BYTES);
+            long indexOffset = trailer.getLong();
+            long games = trailer.getLong();
+            int blocks = trailer.getInt();
+            if (trailer.getInt() == MAGIC && indexOffset >= HEADER_BYTES
+                    && indexOffset + (long) blocks * INDEX_ENTRY_BYTES + TRAILER_BYTES == size) {
+                ByteBuffer entries = read(channel, indexOffset, blocks * INDEX_ENTRY_BYTES);
+                for (int i = 0; i < blocks; i++) {
+                    long offset = entries.getLong();
+                    entries.getLong(); // First game, recomputed
+                    int count = entries.getInt();
+                    index.add(offset, count, indexOffset);
+                }
+                if (index.totalGames == games) return index;
+                index = new Index();
+            }
+        }
+
+        // No trailer: keep every complete block
+        long offset = HEADER_BYTES;
+        while (offset + BLOCK_HEADER_BYTES <= size) {
+            ByteBuffer block = read(channel, offset, BLOCK_HEADER_BYTES);
+            block.getInt();
+            int compressed = block.getInt();
+            int games = block.getInt();
+            long next = offset + BLOCK_HEADER_BYTES + compressed;
+            if (compressed <= 0 || games <= 0 || next > size) break;
+            index.add(offset, games, next);
+            offset = next;
+        }
+        return index;
+    }
+
+    static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) throw new IOException("Archivo incompleto");
+        }
+        return buffer.flip();
+    }
+
+    static void putVarInt(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    static void putVarLong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    static int getVarInt(ByteBuffer in) throws IOException {
+        long value = getVarLong(in);
+        if (value >>> 32 != 0) throw new IOException("Entero fuera de rango");
+        return (int) value;
+    }
+
+    static long getVarLong(ByteBuffer in) throws IOException {
+        try {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = in.get();
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) return value;
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Repetición incompleta", e);
+        }
+        throw new IOException("Entero demasiado largo");
+    }
+}
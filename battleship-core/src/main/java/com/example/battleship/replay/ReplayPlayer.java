@@ -0,0 +1,224 @@
+package com.example.battleship.replay;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.model.Ship;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Steps through a recorded game, forwards and backwards.
+ * The game is played once when the player is created, keeping a keyframe (the state of
+ * every cell) every {@link #getKeyframeEvery()} moves; the recorded shots are the deltas
+ * between keyframes. {@link #seek(int)} starts from the nearest keyframe, or from the
+ * current position when moving forward a little, so any position costs fewer than
+ * {@code keyframeEvery} shots.
+ *
+ * <p>Cells of both boards are numbered together: {@code 0..99} are the player's board and
+ * {@code 100..199} the machine's, each as row * 10 + col.</p>
+ *
+ * <p>Not thread-safe: use it from one thread, e.g. the FX thread.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ReplayPlayer {
+
+    /**
+     * Default number of moves between keyframes.
+     */
+    public static final int DEFAULT_KEYFRAME_EVERY = 10;
+
+    /**
+     * Cells of one board.
+     */
+    public static final int CELLS = 100;
+
+    private static final Board.CellState[] STATES = Board.CellState.values();
+    private static final byte WATER = (byte) Board.CellState.WATER.ordinal();
+    private static final byte SHIP = (byte) Board.CellState.SHIP.ordinal();
+    private static final byte HIT = (byte) Board.CellState.HIT.ordinal();
+    private static final byte MISS = (byte) Board.CellState.MISS.ordinal();
+    private static final byte SUNK = (byte) Board.CellState.SUNK.ordinal();
+
+    private final ReplayRecord record;
+    private final int keyframeEvery;
+    private final Board playerLayout;
+    private final Board machineLayout;
+
+    // Ship of each cell (-1 for water) and the cells of each ship
+    private final int[] shipOf = new int[2 * CELLS];
+    private final int[][] shipCells;
+
+    private final byte[][] keyframes;
+    private byte[] cells = new byte[2 * CELLS]; // State at the current position
+    private byte[] next = new byte[2 * CELLS];
+    private int position;
+    private long shotsApplied;
+
+    /**
+     * Creates a player with a keyframe every {@link #DEFAULT_KEYFRAME_EVERY} moves.
+     *
+     * @param record The recorded game
+     * @throws IOException If a recorded ship does not fit
+     */
+    public ReplayPlayer(ReplayRecord record) throws IOException {
+        this(record, DEFAULT_KEYFRAME_EVERY);
+    }
+
+    /**
+     * Creates a player at position 0, before the first move.
+     *
+     * @param record The recorded game
+     * @param keyframeEvery Moves between keyframes; fewer means faster seeks and more memory
+     * @throws IOException If a recorded ship does not fit
+     */
+    public ReplayPlayer(ReplayRecord record, int keyframeEvery) throws IOException {
+        this.record = record;
+        this.keyframeEvery = Math.max(1, keyframeEvery);
+        this.playerLayout = record.newBoard(true);
+        this.machineLayout = record.newBoard(false);
+
+        Arrays.fill(shipOf, -1);
+        Map<Ship, Integer> ships = new IdentityHashMap<>();
+        indexShips(playerLayout, 0, ships);
+        indexShips(machineLayout, CELLS, ships);
+        shipCells = new int[ships.size()][];
+        for (int cell = 0; cell < 2 * CELLS; cell++) {
+            int ship = shipOf[cell];
+            if (ship < 0) continue;
+            int[] list = shipCells[ship];
+            list = list == null ? new int[]{cell} : Arrays.copyOf(list, list.length + 1);
+            list[list.length - 1] = cell;
+            shipCells[ship] = list;
+            cells[cell] = SHIP;
+        }
+
+        int moves = record.getMoveCount();
+        keyframes = new byte[moves / this.keyframeEvery + 1][];
+        keyframes[0] = cells.clone();
+        byte[] state = cells.clone();
+        for (int move = 0; move < moves; move++) {
+            apply(state, move);
+            if ((move + 1) % this.keyframeEvery == 0) {
+                keyframes[(move + 1) / this.keyframeEvery] = state.clone();
+            }
+        }
+        shotsApplied = 0;
+    }
+
+    private void indexShips(Board board, int offset, Map<Ship, Integer> ships) {
+        for (Map.Entry<Coordinate, Ship> entry : board.getShipPlacement().entrySet()) {
+            Coordinate coord = entry.getKey();
+            Integer ship = ships.computeIfAbsent(entry.getValue(), key -> ships.size());
+            shipOf[offset + coord.getRow() * 10 + coord.getCol()] = ship;
+        }
+    }
+
+    /**
+     * Fires a recorded shot on a state, with the rules of {@link Board#fireAt(Coordinate)}.
+     */
+    private void apply(byte[] state, int move) {
+        int cell = (record.isPlayerBoard(move) ? 0 : CELLS) + record.getCell(move);
+        shotsApplied++;
+        if (state[cell] == WATER) {
+            state[cell] = MISS;
+        } else if (state[cell] == SHIP) {
+            state[cell] = HIT;
+            int[] ship = shipCells[shipOf[cell]];
+            for (int part : ship) {
+                if (state[part] != HIT) return;
+            }
+            for (int part : ship) {
+                state[part] = SUNK;
+            }
+        }
+    }
+
+    /**
+     * Moves to a position.
+     *
+     * @param target Number of moves played, from 0 to {@link #getMoveCount()}
+     * @return Cells whose state changed, numbered as described in the class comment
+     */
+    public int[] seek(int target) {
+        if (target < 0 || target > record.getMoveCount()) {
+            throw new IndexOutOfBoundsException("Jugada " + target + " de " + record.getMoveCount());
+        }
+        int keyframe = target / keyframeEvery * keyframeEvery;
+        int from;
+        if (position <= target && target - position < target - keyframe) {
+            System.arraycopy(cells, 0, next, 0, next.length);
+            from = position;
+        } else {
+            System.arraycopy(keyframes[target / keyframeEvery], 0, next, 0, next.length);
+            from = keyframe;
+        }
+        for (int move = from; move < target; move++) {
+            apply(next, move);
+        }
+
+        int[] changed = new int[2 * CELLS];
+        int count = 0;
+        for (int cell = 0; cell < changed.length; cell++) {
+            if (next[cell] != cells[cell]) changed[count++] = cell;
+        }
+        byte[] previous = cells;
+        cells = next;
+        next = previous;
+        position = target;
+        return Arrays.copyOf(changed, count);
+    }
+
+    /**
+     * Gets the state of a cell at the current position.
+     *
+     * @param cell Cell, numbered as described in the class comment
+     * @return Its state
+     */
+    public Board.CellState getCell(int cell) {
+        return STATES[cells[cell]];
+    }
+
+    /**
+     * Copies the cells of one board at the current position, like {@link Board#snapshotCells()}.
+     *
+     * @param playerBoard true for the player's board
+     * @return States indexed by row * 10 + col
+     */
+    public Board.CellState[] snapshotCells(boolean playerBoard) {
+        Board.CellState[] snapshot = new Board.CellState[CELLS];
+        int offset = playerBoard ? 0 : CELLS;
+        for (int cell = 0; cell < CELLS; cell++) {
+            snapshot[cell] = STATES[cells[offset + cell]];
+        }
+        return snapshot;
+    }
+
+    /**
+     * Gets a board with one side's fleet and no shots, for the ship layout
+     * ({@link Board#getShipRenderInfo(Coordinate)}). It is not updated by seeks.
+     *
+     * @param playerBoard true for the player's board
+     * @return The board
+     */
+    public Board getLayout(boolean playerBoard) {
+        return playerBoard ? playerLayout : machineLayout;
+    }
+
+    public ReplayRecord getRecord() { return record; }
+    public int getPosition() { return position; }
+    public int getMoveCount() { return record.getMoveCount(); }
+    public int getKeyframeEvery() { return keyframeEvery; }
+
+    /**
+     * Gets how many shots seeks have applied, to check their cost.
+     *
+     * @return Shots applied since the player was created
+     */
+    public long getShotsApplied() { return shotsApplied; }
+}
@@ -0,0 +1,168 @@
+package com.example.battleship.replay;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reads a replay archive written by {@link ReplayWriter}.
+ * Iterating streams the archive one block at a time; {@link #get(long)} jumps to a game
+ * through the index, inflating only its block. The last inflated block is kept, so reading
+ * nearby games does not inflate it again.
+ *
+ * <p>Not thread-safe: use one reader per thread.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ReplayReader implements AutoCloseable, Iterable<ReplayRecord> {
+
+    private final FileChannel channel;
+    private final ReplayFormat.Index index;
+    private final Inflater inflater = new Inflater();
+    private final CRC32 crc = new CRC32();
+
+    // Last inflated block, for get()
+    private int cachedBlock = -1;
+    private ByteBuffer cached;
+    private long cachedGame;
+
+    /**
+     * Opens an archive. Only its index is read.
+     *
+     * @param file Archive file
+     * @throws IOException If the file cannot be read or is not a replay archive
+     */
+    public ReplayReader(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            this.index = ReplayFormat.readIndex(channel);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the number of games in the archive.
+     *
+     * @return Number of games
+     */
+    public long size() {
+        return index.totalGames;
+    }
+
+    public int getBlockCount() { return index.blocks; }
+
+    /**
+     * Reads one game.
+     *
+     * @param game Game number, from 0
+     * @return The recorded game
+     * @throws IOException If its block is damaged
+     */
+    public ReplayRecord get(long game) throws IOException {
+        if (game < 0 || game >= index.totalGames) {
+            throw new IndexOutOfBoundsException("Partida " + game + " de " + index.totalGames);
+        }
+        int block = index.blockOf(game);
+        if (block != cachedBlock || game < cachedGame) {
+            cached = inflate(block);
+            cachedBlock = block;
+            cachedGame = index.firstGames[block];
+        }
+        while (cachedGame < game) { // Records have no fixed size: skip the ones before it
+            decode(cached);
+            cachedGame++;
+        }
+        cachedGame++;
+        return decode(cached);
+    }
+
+    /**
+     * Streams every game in order, holding one block at a time.
+     *
+     * @return Iterator over the games; it throws {@link UncheckedIOException} on a damaged block
+     */
+    @Override
+    public Iterator<ReplayRecord> iterator() {
+        return new Iterator<>() {
+            private int block;
+            private ByteBuffer records;
+            private int left;
+
+            @Override
+            public boolean hasNext() {
+                return left > 0 || block < index.blocks;
+            }
+
+            @Override
+            public ReplayRecord next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                try {
+                    if (left == 0) {
+                        records = inflate(block);
+                        left = index.games[block++];
+                    }
+                    left--;
+                    return decode(records);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+
+    private static ReplayRecord decode(ByteBuffer records) throws IOException {
+        try {
+            return ReplayRecord.decode(records);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Repetición incompleta", e);
+        }
+    }
+
+    /**
+     * Reads and inflates a block, checking its CRC.
+     */
+    private ByteBuffer inflate(int block) throws IOException {
+        long offset = index.offsets[block];
+        ByteBuffer header = ReplayFormat.read(channel, offset, ReplayFormat.BLOCK_HEADER_BYTES);
+        int raw = header.getInt();
+        int length = header.getInt();
+        header.getInt(); // Games, taken from the index
+        int expected = header.getInt();
+        if (raw < 0 || length < 0) throw new IOException("Bloque dañado en " + offset);
+        ByteBuffer compressed = ReplayFormat.read(channel, offset + ReplayFormat.BLOCK_HEADER_BYTES, length);
+
+        byte[] records = new byte[raw];
+        inflater.reset();
+        inflater.setInput(compressed.array(), 0, length);
+        try {
+            if (inflater.inflate(records) != raw || !inflater.finished()) {
+                throw new IOException("Bloque dañado en " + offset + ": tamaño incorrecto");
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Bloque dañado en " + offset + ": " + e.getMessage(), e);
+        }
+        crc.reset();
+        crc.update(records);
+        if ((int) crc.getValue() != expected) throw new IOException("Bloque dañado en " + offset + ": checksum incorrecto");
+        return ByteBuffer.wrap(records);
+    }
+
+    @Override
+    public void close() throws IOException {
+        inflater.end();
+        channel.close();
+    }
+}
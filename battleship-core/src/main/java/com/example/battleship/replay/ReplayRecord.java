@@ -0,0 +1,224 @@
+package com.example.battleship.replay;
+
+import com.example.battleship.exceptions.InvalidShipPlacementException;
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.model.Ship;
+import com.example.battleship.util.SaveCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * A recorded game: the seed it was played with, both fleet layouts and every shot in order.
+ * Immutable; built with {@link Builder}.
+ *
+ * <pre>
+ * record = [seed, zigzag varint][player fleet][machine fleet][moves varint][moves x move varint]
+ * fleet  = [ships u8][ships x descriptor u16]  (see {@link SaveCodec})
+ * move   = zigzag(cell - previous cell of the same board) &lt;&lt; 1 | board (1 = player's)
+ * </pre>
+ *
+ * <p>Consecutive shots on a board are usually close (a hunt around a hit is ±1 or ±10),
+ * so most moves take a single byte before compression.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class ReplayRecord {
+
+    /**
+     * Most moves a game can have: every cell of both boards.
+     */
+    public static final int MAX_MOVES = 200;
+
+    /**
+     * Largest encoded record.
+     */
+    static final int MAX_BYTES = 10 + 2 * (1 + 2 * 100) + 2 + MAX_MOVES * 2;
+
+    private final long seed;
+    private final short[] playerFleet;
+    private final short[] machineFleet;
+    private final byte[] moves; // Bit 7 = player's board, bits 0-6 = cell
+
+    private ReplayRecord(long seed, short[] playerFleet, short[] machineFleet, byte[] moves) {
+        this.seed = seed;
+        this.playerFleet = playerFleet;
+        this.machineFleet = machineFleet;
+        this.moves = moves;
+    }
+
+    /**
+     * Creates a board with the recorded fleet of one side and no shots.
+     *
+     * @param playerBoard true for the player's board
+     * @return The board
+     * @throws IOException If a recorded ship does not fit
+     */
+    public Board newBoard(boolean playerBoard) throws IOException {
+        Board board = new Board();
+        for (short descriptor : playerBoard ? playerFleet : machineFleet) {
+            try {
+                SaveCodec.placeShip(board, descriptor & 0xFFFF);
+            } catch (InvalidShipPlacementException e) {
+                throw new IOException("Barco inválido en la repetición: " + e.getMessage(), e);
+            }
+        }
+        return board;
+    }
+
+    public long getSeed() { return seed; }
+    public int getMoveCount() { return moves.length; }
+
+    /**
+     * Gets the target cell of a move.
+     *
+     * @param move Move number, from 0
+     * @return Cell index, row * 10 + col
+     */
+    public int getCell(int move) {
+        return moves[move] & 0x7F;
+    }
+
+    /**
+     * Tells which board a move was fired at.
+     *
+     * @param move Move number, from 0
+     * @return true if it landed on the player's board
+     */
+    public boolean isPlayerBoard(int move) {
+        return moves[move] < 0;
+    }
+
+    void encode(ByteBuffer out) {
+        ReplayFormat.putVarLong(out, seed << 1 ^ seed >> 63);
+        putFleet(playerFleet, out);
+        putFleet(machineFleet, out);
+        ReplayFormat.putVarInt(out, moves.length);
+        int[] previous = new int[2];
+        for (byte move : moves) {
+            int board = move < 0 ? 1 : 0;
+            int cell = move & 0x7F;
+            int delta = cell - previous[board];
+            previous[board] = cell;
+            ReplayFormat.putVarInt(out, (delta << 1 ^ delta >> 31) << 1 | board);
+        }
+    }
+
+    static ReplayRecord decode(ByteBuffer in) throws IOException {
+        long zigzag = ReplayFormat.getVarLong(in);
+        long seed = zigzag >>> 1 ^ -(zigzag & 1);
+        short[] playerFleet = getFleet(in);
+        short[] machineFleet = getFleet(in);
+        int count = ReplayFormat.getVarInt(in);
+        if (count > MAX_MOVES) throw new IOException("Demasiadas jugadas: " + count);
+        byte[] moves = new byte[count];
+        int[] previous = new int[2];
+        for (int i = 0; i < count; i++) {
+            int value = ReplayFormat.getVarInt(in);
+            int board = value & 1;
+            int delta = value >>> 2 ^ -(value >>> 1 & 1);
+            int cell = previous[board] + delta;
+            if (cell < 0 || cell >= 100) throw new IOException("Casilla fuera del tablero: " + cell);
+            previous[board] = cell;
+            moves[i] = (byte) (board << 7 | cell);
+        }
+        return new ReplayRecord(seed, playerFleet, machineFleet, moves);
+    }
+
+    private static void putFleet(short[] fleet, ByteBuffer out) {
+        out.put((byte) fleet.length);
+        for (short descriptor : fleet) {
+            out.putShort(descriptor);
+        }
+    }
+
+    private static short[] getFleet(ByteBuffer in) {
+        short[] fleet = new short[in.get() & 0xFF];
+        for (int i = 0; i < fleet.length; i++) {
+            fleet[i] = in.getShort();
+        }
+        return fleet;
+    }
+
+    /**
+     * Builds a record while a game is played.
+     */
+    public static final class Builder {
+        private final long seed;
+        private short[] playerFleet = new short[0];
+        private short[] machineFleet = new short[0];
+        private final byte[] moves = new byte[MAX_MOVES];
+        private int count;
+
+        /**
+         * Starts a record.
+         *
+         * @param seed Seed the game was played with, or 0 if unknown
+         */
+        public Builder(long seed) {
+            this.seed = seed;
+        }
+
+        /**
+         * Records the fleet of one side, as currently placed on its board.
+         *
+         * @param playerBoard true for the player's board
+         * @param board The board with its ships placed
+         * @return This builder
+         */
+        public Builder fleet(boolean playerBoard, Board board) {
+            Map<Coordinate, Ship> placement = board.getShipPlacement();
+            short[] fleet = new short[100];
+            int size = 0;
+            for (int cell = 0; cell < 100; cell++) {
+                Coordinate coord = new Coordinate(cell / 10, cell % 10);
+                Ship ship = placement.get(coord);
+                if (ship != null && coord.equals(ship.getCoordinates().get(0))) { // Each ship once, in cell order
+                    fleet[size++] = SaveCodec.descriptor(ship);
+                }
+            }
+            fleet = Arrays.copyOf(fleet, size);
+            if (playerBoard) playerFleet = fleet; else machineFleet = fleet;
+            return this;
+        }
+
+        /**
+         * Records a shot. Shots beyond {@link #MAX_MOVES} are ignored.
+         *
+         * @param playerBoard true if it landed on the player's board
+         * @param target The target cell
+         * @return This builder
+         */
+        public Builder shot(boolean playerBoard, Coordinate target) {
+            return shot(playerBoard, target.getRow() * 10 + target.getCol());
+        }
+
+        /**
+         * Records a shot. Shots beyond {@link #MAX_MOVES} are ignored.
+         *
+         * @param playerBoard true if it landed on the player's board
+         * @param cell Cell index, row * 10 + col
+         * @return This builder
+         */
+        public Builder shot(boolean playerBoard, int cell) {
+            if (count < MAX_MOVES) moves[count++] = (byte) ((playerBoard ? 0x80 : 0) | cell);
+            return this;
+        }
+
+        public int getMoveCount() { return count; }
+
+        /**
+         * Builds the record of the moves so far.
+         *
+         * @return The record
+         */
+        public ReplayRecord build() {
+            return new ReplayRecord(seed, playerFleet, machineFleet, Arrays.copyOf(moves, count));
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.battleship.replay;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Streams recorded games into a replay archive (see {@link ReplayFormat}).
+ * Records are encoded into a block of about {@link #DEFAULT_BLOCK_BYTES}; a full block is
+ * compressed and written, so at most one block is ever held in memory. Closing writes the
+ * index used for random access.
+ *
+ * <p>Opening an existing archive appends to it. If its writer died before closing, every
+ * complete block is kept and the torn one is overwritten.</p>
+ *
+ * <p>Not thread-safe: use one writer per thread or file.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ReplayWriter implements AutoCloseable {
+
+    /**
+     * Default uncompressed size of a block.
+     */
+    public static final int DEFAULT_BLOCK_BYTES = 64 * 1024;
+
+    private final FileChannel channel;
+    private final ReplayFormat.Index index;
+    private final int blockBytes;
+    private final ByteBuffer block;
+    private final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+    private final CRC32 crc = new CRC32();
+    private byte[] compressed;
+    private int blockGames;
+
+    /**
+     * Opens an archive with blocks of {@link #DEFAULT_BLOCK_BYTES}.
+     *
+     * @param file Archive file, created if missing
+     * @throws IOException If the file exists and is not a replay archive
+     */
+    public ReplayWriter(Path file) throws IOException {
+        this(file, DEFAULT_BLOCK_BYTES);
+    }
+
+    /**
+     * Opens an archive.
+     *
+     * @param file Archive file, created if missing
+     * @param blockBytes Uncompressed size of a block; larger blocks compress better
+     * @throws IOException If the file exists and is not a replay archive
+     */
+    public ReplayWriter(Path file, int blockBytes) throws IOException {
+        this.blockBytes = Math.max(1024, blockBytes);
+        this.block = ByteBuffer.allocate(this.blockBytes + ReplayRecord.MAX_BYTES);
+        this.compressed = new byte[this.blockBytes + ReplayRecord.MAX_BYTES];
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(ReplayFormat.HEADER_BYTES);
+                header.putInt(ReplayFormat.MAGIC).put(ReplayFormat.VERSION).flip();
+                write(header, 0);
+                index = new ReplayFormat.Index();
+            } else {
+                index = ReplayFormat.readIndex(channel);
+                channel.truncate(index.end); // Drop the old index, and a torn block if any
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends a game. Writes the current block once it is full.
+     *
+     * @param record The recorded game
+     * @throws IOException If a block cannot be written
+     */
+    public void append(ReplayRecord record) throws IOException {
+        record.encode(block);
+        blockGames++;
+        if (block.position() >= blockBytes) {
+            writeBlock();
+        }
+    }
+
+    /**
+     * Writes the current block, even if it is not full.
+     *
+     * @throws IOException If the block cannot be written
+     */
+    public void flush() throws IOException {
+        if (blockGames > 0) writeBlock();
+    }
+
+    private void writeBlock() throws IOException {
+        int raw = block.position();
+        deflater.reset();
+        deflater.setInput(block.array(), 0, raw);
+        deflater.finish();
+        int length = 0;
+        while (!deflater.finished()) {
+            if (length == compressed.length) compressed = Arrays.copyOf(compressed, length * 2);
+            length += deflater.deflate(compressed, length, compressed.length - length);
+        }
+        crc.reset();
+        crc.update(block.array(), 0, raw);
+
+        ByteBuffer header = ByteBuffer.allocate(ReplayFormat.BLOCK_HEADER_BYTES);
+        header.putInt(raw).putInt(length).putInt(blockGames).putInt((int) crc.getValue()).flip();
+        long offset = index.end;
+        write(header, offset);
+        write(ByteBuffer.wrap(compressed, 0, length), offset + ReplayFormat.BLOCK_HEADER_BYTES);
+        index.add(offset, blockGames, offset + ReplayFormat.BLOCK_HEADER_BYTES + length);
+
+        block.clear();
+        blockGames = 0;
+    }
+
+    private void write(ByteBuffer data, long position) throws IOException {
+        while (data.hasRemaining()) {
+            position += channel.write(data, position);
+        }
+    }
+
+    /**
+     * Writes the last block and the index, and closes the file.
+     *
+     * @throws IOException If the archive cannot be completed
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            ByteBuffer tail = ByteBuffer.allocate(index.blocks * ReplayFormat.INDEX_ENTRY_BYTES
+                    + ReplayFormat.TRAILER_BYTES);
+            for (int i = 0; i < index.blocks; i++) {
+                tail.putLong(index.offsets[i]).putLong(index.firstGames[i]).putInt(index.games[i]);
+            }
+            tail.putLong(index.end).putLong(index.totalGames).putInt(index.blocks).putInt(ReplayFormat.MAGIC);
+            write(tail.flip(), index.end);
+            channel.force(false);
+        } finally {
+            deflater.end();
+            channel.close();
+        }
+    }
+
+    /**
+     * Gets the games in the archive, including those of the current block.
+     *
+     * @return Number of games
+     */
+    public long getGameCount() {
+        return index.totalGames + blockGames;
+    }
+
+    /**
+     * Gets the size of the written blocks.
+     *
+     * @return Bytes from the start of the file to the end of the last written block
+     */
+    public long getBytesWritten() {
+        return index.end;
+    }
+}
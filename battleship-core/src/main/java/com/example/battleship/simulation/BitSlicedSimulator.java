@@ -0,0 +1,216 @@
+package com.example.battleship.simulation;
+
+import com.example.battleship.model.Ship;
+import com.example.battleship.util.ShipFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Bit-sliced batch simulator for non-adaptive shooting strategies.
+ * Runs 64 games side by side: bit {@code lane} of every word belongs to game {@code lane}
+ * of the current batch, so a single AND/XOR applies a shot, detects hits and
+ * detects sinks in all 64 games at once.
+ *
+ * <p>Memory layout (struct-of-arrays, one long per cell and ship slot):</p>
+ * <ul>
+ *   <li>{@code shipPlanes[ship * 100 + cell]}: lanes where ship slot {@code ship} covers {@code cell}</li>
+ *   <li>{@code occupied[cell]}: lanes where any ship covers {@code cell}</li>
+ *   <li>{@code hits0/1/2[ship]}: three bit planes of a per-lane hit counter</li>
+ *   <li>{@code sunk[ship]}: lanes where the ship has gone down</li>
+ * </ul>
+ *
+ * <p>All lanes of a batch share one shot order (derived from the batch seed) and each lane
+ * has its own fleet layout. Layouts are drawn exactly like {@link com.example.battleship.model.Board#placeFleetRandomly},
+ * so {@link ReferenceSimulator} reproduces every game with the regular engine.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class BitSlicedSimulator {
+
+    /**
+     * Games simulated per word.
+     */
+    public static final int LANES = 64;
+
+    private static final int SIZE = 10;
+    private static final int CELLS = ShotOrder.CELLS;
+
+    private final int[] shipSizes;
+    private final long[] shipPlanes;
+    private final long[] occupied = new long[CELLS];
+    private final long[] hits0;
+    private final long[] hits1;
+    private final long[] hits2;
+    private final long[] sunk;
+
+    // Scratch grid for placing one lane's fleet
+    private final boolean[] laneGrid = new boolean[CELLS];
+
+    /**
+     * Creates a simulator for the standard fleet.
+     */
+    public BitSlicedSimulator() {
+        List<Ship> fleet = ShipFactory.createFleet();
+        shipSizes = new int[fleet.size()];
+        for (int i = 0; i < shipSizes.length; i++) {
+            shipSizes[i] = fleet.get(i).getSize();
+        }
+        shipPlanes = new long[shipSizes.length * CELLS];
+        hits0 = new long[shipSizes.length];
+        hits1 = new long[shipSizes.length];
+        hits2 = new long[shipSizes.length];
+        sunk = new long[shipSizes.length];
+    }
+
+    /**
+     * Seed of the fleet layout of one game.
+     *
+     * @param seed Base seed of the run
+     * @param game Game index
+     * @return Layout seed for that game
+     */
+    public static long layoutSeed(long seed, int game) {
+        return seed + game;
+    }
+
+    /**
+     * Seed of the shot order shared by one batch of 64 games.
+     *
+     * @param seed Base seed of the run
+     * @param batch Batch index
+     * @return Shot-order seed for that batch
+     */
+    public static long orderSeed(long seed, int batch) {
+        return seed ^ (0x9E3779B97F4A7C15L * (batch + 1));
+    }
+
+    /**
+     * Simulates {@code games} games, 64 at a time.
+     *
+     * @param seed Base seed of the run
+     * @param games Number of games
+     * @param order Shot order to follow
+     * @return Shots needed by each game to sink the whole fleet
+     */
+    public int[] simulate(long seed, int games, ShotOrder order) {
+        int[] shotsToWin = new int[games];
+        int batches = (games + LANES - 1) / LANES;
+        for (int batch = 0; batch < batches; batch++) {
+            int first = batch * LANES;
+            int lanes = Math.min(LANES, games - first);
+            int[] shots = order.generate(new Random(orderSeed(seed, batch)));
+            runBatch(seed, first, lanes, shots, shotsToWin);
+        }
+        return shotsToWin;
+    }
+
+    /**
+     * Runs one batch of up to 64 games to completion.
+     */
+    private void runBatch(long seed, int first, int lanes, int[] shots, int[] shotsToWin) {
+        Arrays.fill(shipPlanes, 0L);
+        Arrays.fill(occupied, 0L);
+        Arrays.fill(hits0, 0L);
+        Arrays.fill(hits1, 0L);
+        Arrays.fill(hits2, 0L);
+        Arrays.fill(sunk, 0L);
+
+        for (int lane = 0; lane < lanes; lane++) {
+            placeLane(layoutSeed(seed, first + lane), lane);
+        }
+
+        int ships = shipSizes.length;
+        long active = lanes == LANES ? -1L : (1L << lanes) - 1;
+
+        for (int step = 0; step < shots.length && active != 0; step++) {
+            int cell = shots[step];
+
+            // Hit detection: lanes still playing that have a ship on this cell
+            if ((occupied[cell] & active) == 0) continue;
+
+            long sunkNow = 0;
+            for (int s = 0; s < ships; s++) {
+                long hit = shipPlanes[s * CELLS + cell] & active;
+                if (hit == 0) continue;
+
+                // Ripple-carry increment of the 3-bit hit counter, 64 lanes at a time
+                long carry0 = hits0[s] & hit;
+                hits0[s] ^= hit;
+                long carry1 = hits1[s] & carry0;
+                hits1[s] ^= carry0;
+                hits2[s] |= carry1;
+
+                long justSunk = hit & counterEquals(s, shipSizes[s]);
+                sunk[s] |= justSunk;
+                sunkNow |= justSunk;
+            }
+
+            if (sunkNow == 0) continue;
+
+            // Sunk detection: lanes where every ship slot is down
+            long finished = sunkNow;
+            for (int s = 0; s < ships && finished != 0; s++) {
+                finished &= sunk[s];
+            }
+
+            active &= ~finished;
+            while (finished != 0) {
+                int lane = Long.numberOfTrailingZeros(finished);
+                shotsToWin[first + lane] = step + 1;
+                finished &= finished - 1;
+            }
+        }
+    }
+
+    /**
+     * Lanes whose hit counter for ship slot {@code s} equals {@code value}.
+     */
+    private long counterEquals(int s, int value) {
+        long eq = (value & 1) != 0 ? hits0[s] : ~hits0[s];
+        eq &= (value & 2) != 0 ? hits1[s] : ~hits1[s];
+        eq &= (value & 4) != 0 ? hits2[s] : ~hits2[s];
+        return eq;
+    }
+
+    /**
+     * Places the fleet of one lane, consuming the generator exactly like
+     * {@link com.example.battleship.model.Board#placeFleetRandomly}.
+     */
+    private void placeLane(long layoutSeed, int lane) {
+        Random random = new Random(layoutSeed);
+        long bit = 1L << lane;
+        Arrays.fill(laneGrid, false);
+
+        for (int s = 0; s < shipSizes.length; s++) {
+            int size = shipSizes[s];
+            boolean placed = false;
+            while (!placed) {
+                int row = random.nextInt(SIZE);
+                int col = random.nextInt(SIZE);
+                boolean horizontal = random.nextBoolean();
+
+                if (horizontal ? col + size > SIZE : row + size > SIZE) continue;
+
+                int step = horizontal ? 1 : SIZE;
+                int start = row * SIZE + col;
+                boolean free = true;
+                for (int i = 0; i < size && free; i++) {
+                    free = !laneGrid[start + i * step];
+                }
+                if (!free) continue;
+
+                for (int i = 0; i < size; i++) {
+                    int cell = start + i * step;
+                    laneGrid[cell] = true;
+                    shipPlanes[s * CELLS + cell] |= bit;
+                    occupied[cell] |= bit;
+                }
+                placed = true;
+            }
+        }
+    }
+}
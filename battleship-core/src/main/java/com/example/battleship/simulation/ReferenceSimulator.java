@@ -0,0 +1,94 @@
+package com.example.battleship.simulation;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.patterns.ShootingStrategy;
+import com.example.battleship.replay.ReplayRecord;
+import com.example.battleship.replay.ReplayWriter;
+import com.example.battleship.util.ShipFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Random;
+
+/**
+ * Plays simulated games through the regular object model ({@link Board}, {@link ShootingStrategy}).
+ * Uses the same seeds as {@link BitSlicedSimulator}, so both must return identical results.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ReferenceSimulator {
+
+    /**
+     * Simulates {@code games} games with the regular engine.
+     *
+     * @param seed Base seed of the run
+     * @param games Number of games
+     * @param order Shot order to follow
+     * @return Shots needed by each game to sink the whole fleet
+     */
+    public int[] simulate(long seed, int games, ShotOrder order) {
+        try {
+            return simulate(seed, games, order, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Nothing is written without an archive
+        }
+    }
+
+    /**
+     * Simulates {@code games} games with the regular engine, recording each one in a replay
+     * archive. The record's seed is the layout seed, and its shots land on the machine's board.
+     *
+     * @param seed Base seed of the run
+     * @param games Number of games
+     * @param order Shot order to follow
+     * @param archive Archive receiving every game, or null
+     * @return Shots needed by each game to sink the whole fleet
+     * @throws IOException If the archive cannot be written
+     */
+    public int[] simulate(long seed, int games, ShotOrder order, ReplayWriter archive) throws IOException {
+        int[] shotsToWin = new int[games];
+        int[] shots = null;
+        int batch = -1;
+        for (int game = 0; game < games; game++) {
+            if (game / BitSlicedSimulator.LANES != batch) {
+                batch = game / BitSlicedSimulator.LANES;
+                shots = order.generate(new Random(BitSlicedSimulator.orderSeed(seed, batch)));
+            }
+            long layoutSeed = BitSlicedSimulator.layoutSeed(seed, game);
+            ReplayRecord.Builder replay = archive == null ? null : new ReplayRecord.Builder(layoutSeed);
+            shotsToWin[game] = play(layoutSeed, shots, replay);
+            if (archive != null) archive.append(replay.build());
+        }
+        return shotsToWin;
+    }
+
+    /**
+     * Plays a single game until the whole fleet is sunk.
+     *
+     * @param layoutSeed Seed used to place the fleet
+     * @param shots Shot order to follow
+     * @return Number of shots fired
+     */
+    public int play(long layoutSeed, int[] shots) {
+        return play(layoutSeed, shots, null);
+    }
+
+    private int play(long layoutSeed, int[] shots, ReplayRecord.Builder replay) {
+        Board board = new Board();
+        board.placeFleetRandomly(ShipFactory.createFleet(), new Random(layoutSeed));
+        if (replay != null) replay.fleet(false, board);
+
+        ShootingStrategy strategy = new ScriptedStrategy(shots);
+        int fired = 0;
+        while (board.hasShipsAfloat()) {
+            Coordinate target = strategy.getNextShot(board);
+            board.fireAt(target);
+            if (replay != null) replay.shot(false, target);
+            fired++;
+        }
+        return fired;
+    }
+}
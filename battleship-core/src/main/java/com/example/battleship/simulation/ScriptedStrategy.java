@@ -0,0 +1,48 @@
+package com.example.battleship.simulation;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.patterns.ShootingStrategy;
+
+/**
+ * Shooting strategy that follows a precomputed shot order.
+ * Lets the regular {@link Board} engine replay exactly the same sequence
+ * as the batch simulator, which is how the two are validated against each other.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ScriptedStrategy implements ShootingStrategy {
+
+    private final int[] script;
+    private int position = 0;
+
+    /**
+     * Creates a strategy that fires at the given cells in order.
+     *
+     * @param script Cell indices ({@code row * 10 + col})
+     */
+    public ScriptedStrategy(int[] script) {
+        this.script = script;
+    }
+
+    /**
+     * Returns the next scripted cell that has not been fired at yet.
+     *
+     * @param board The target board
+     * @return The next coordinate of the script
+     */
+    @Override
+    public Coordinate getNextShot(Board board) {
+        while (position < script.length) {
+            int cell = script[position++];
+            Coordinate coord = new Coordinate(cell / 10, cell % 10);
+            Board.CellState state = board.getGrid().get(coord);
+            if (state == Board.CellState.WATER || state == Board.CellState.SHIP) {
+                return coord;
+            }
+        }
+        return new Coordinate(0, 0); // Fallback
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.battleship.simulation;
+
+import java.util.Random;
+
+/**
+ * Non-adaptive shot orders used by the batch simulators.
+ * A shot order is a permutation of the 100 cell indices ({@code row * 10 + col})
+ * that does not depend on previous results, so the same order can be replayed
+ * against many fleet layouts at once.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum ShotOrder {
+
+    /**
+     * Every cell in uniformly random order (same behaviour as Easy difficulty).
+     */
+    RANDOM,
+
+    /**
+     * Checkerboard cells first in random order, then the remaining cells.
+     * Any ship of size 2 or more is always touched during the first half.
+     */
+    PARITY;
+
+    /**
+     * Number of cells on the board.
+     */
+    public static final int CELLS = 100;
+
+    /**
+     * Generates the full shot sequence for one game or batch.
+     *
+     * @param random Seeded generator that drives the shuffle
+     * @return Array of 100 distinct cell indices
+     */
+    public int[] generate(Random random) {
+        int[] cells = new int[CELLS];
+        if (this == RANDOM) {
+            for (int i = 0; i < CELLS; i++) {
+                cells[i] = i;
+            }
+            shuffle(cells, 0, CELLS, random);
+            return cells;
+        }
+
+        int even = 0;
+        int odd = CELLS / 2;
+        for (int cell = 0; cell < CELLS; cell++) {
+            if ((cell / 10 + cell % 10) % 2 == 0) cells[even++] = cell;
+            else                                  cells[odd++] = cell;
+        }
+        shuffle(cells, 0, CELLS / 2, random);
+        shuffle(cells, CELLS / 2, CELLS, random);
+        return cells;
+    }
+
+    /**
+     * Fisher-Yates shuffle of {@code cells[from, to)}.
+     */
+    private static void shuffle(int[] cells, int from, int to, Random random) {
+        for (int i = to - 1; i > from; i--) {
+            int j = from + random.nextInt(i - from + 1);
+            int tmp = cells[i];
+            cells[i] = cells[j];
+            cells[j] = tmp;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.battleship.simulation;
+
+/**
+ * Aggregated statistics of a simulation run: how many shots each game needed
+ * to sink the whole fleet. Results from different runs can be merged.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SimulationResult {
+
+    private final long[] histogram = new long[ShotOrder.CELLS + 1];
+    private long games;
+    private long totalShots;
+
+    /**
+     * Builds a result from per-game shot counts.
+     *
+     * @param shotsToWin Shots needed by each game
+     * @return The aggregated result
+     */
+    public static SimulationResult of(int[] shotsToWin) {
+        SimulationResult result = new SimulationResult();
+        for (int shots : shotsToWin) {
+            result.record(shots);
+        }
+        return result;
+    }
+
+    /**
+     * Records one finished game.
+     *
+     * @param shots Shots needed to sink the fleet (0-100)
+     */
+    public void record(int shots) {
+        record(shots, 1);
+    }
+
+    /**
+     * Records {@code count} games that needed the same number of shots.
+     *
+     * @param shots Shots needed to sink the fleet (0-100)
+     * @param count Number of games
+     */
+    public void record(int shots, long count) {
+        histogram[shots] += count;
+        games += count;
+        totalShots += shots * count;
+    }
+
+    /**
+     * Adds the games of another result to this one.
+     *
+     * @param other The result to merge
+     * @return This result
+     */
+    public SimulationResult merge(SimulationResult other) {
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] += other.histogram[i];
+        }
+        games += other.games;
+        totalShots += other.totalShots;
+        return this;
+    }
+
+    public long getGames() { return games; }
+    public long getTotalShots() { return totalShots; }
+    public long[] getHistogram() { return histogram; }
+
+    /**
+     * Gets the average number of shots per game.
+     *
+     * @return Mean shots to win, 0 if empty
+     */
+    public double getMeanShots() {
+        return games == 0 ? 0.0 : (double) totalShots / games;
+    }
+
+    /**
+     * Gets the smallest shot count observed.
+     *
+     * @return Minimum shots to win, 0 if empty
+     */
+    public int getMinShots() {
+        for (int i = 0; i < histogram.length; i++) {
+            if (histogram[i] > 0) return i;
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the largest shot count observed.
+     *
+     * @return Maximum shots to win, 0 if empty
+     */
+    public int getMaxShots() {
+        for (int i = histogram.length - 1; i >= 0; i--) {
+            if (histogram[i] > 0) return i;
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return "SimulationResult{" +
+                "games=" + games +
+                ", meanShots=" + String.format("%.2f", getMeanShots()) +
+                ", minShots=" + getMinShots() +
+                ", maxShots=" + getMaxShots() +
+                '}';
+    }
+}
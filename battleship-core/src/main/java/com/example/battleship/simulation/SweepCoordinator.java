@@ -0,0 +1,259 @@
+package com.example.battleship.simulation;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a simulation sweep on several local worker JVMs.
+ * Each worker is a child process started through {@link WorkerLauncher} that speaks the
+ * line protocol of {@link SweepWorker} over its stdin/stdout. Tasks are pulled from a shared
+ * queue, a few at a time per worker, and results are merged into one {@link SweepReport}
+ * as they stream back.
+ *
+ * <p>If a worker dies (end of stream or broken pipe), its in-flight tasks go back to the
+ * queue and a replacement process is started. A task is given up after {@code maxAttempts}
+ * tries, and a worker slot stops after {@code maxAttempts} launches in a row without progress.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SweepCoordinator {
+
+    private final int workers;
+    private final WorkerLauncher launcher;
+    private int maxAttempts = 3;
+    private int tasksInFlight = 2;
+
+    /**
+     * Creates a coordinator that runs workers in child JVMs of the current runtime.
+     *
+     * @param workers Number of worker processes
+     */
+    public SweepCoordinator(int workers) {
+        this(workers, WorkerLauncher.localJvm(List.of()));
+    }
+
+    /**
+     * Creates a coordinator with a custom worker launcher.
+     *
+     * @param workers Number of worker processes
+     * @param launcher Builds the process of each worker
+     */
+    public SweepCoordinator(int workers, WorkerLauncher launcher) {
+        if (workers < 1) throw new IllegalArgumentException("At least one worker is required");
+        this.workers = workers;
+        this.launcher = launcher;
+    }
+
+    /**
+     * Sets how many times a task or a worker slot is retried.
+     *
+     * @param maxAttempts Attempts per task (at least 1)
+     */
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    /**
+     * Sets how many tasks each worker gets ahead of time.
+     *
+     * @param tasksInFlight Pipelined tasks per worker (at least 1)
+     */
+    public void setTasksInFlight(int tasksInFlight) {
+        this.tasksInFlight = Math.max(1, tasksInFlight);
+    }
+
+    /**
+     * Runs all tasks and blocks until they finished or were given up.
+     *
+     * @param tasks Tasks of the sweep (ids must be unique)
+     * @return The merged report
+     * @throws InterruptedException if interrupted while waiting for workers
+     */
+    public SweepReport run(List<SweepTask> tasks) throws InterruptedException {
+        SweepReport report = new SweepReport();
+        LinkedBlockingQueue<SweepTask> pending = new LinkedBlockingQueue<>(tasks);
+        Map<Integer, Integer> attempts = new ConcurrentHashMap<>();
+        AtomicInteger remaining = new AtomicInteger(tasks.size());
+        long start = System.currentTimeMillis();
+
+        ExecutorService pool = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "sweep-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int slot = 0; slot < workers; slot++) {
+            int workerSlot = slot;
+            pool.submit(() -> driveSlot(workerSlot, pending, attempts, remaining, report));
+        }
+        pool.shutdown();
+        while (!pool.awaitTermination(1, TimeUnit.SECONDS)) {
+            // Keep waiting; workers stop on their own when the queue drains
+        }
+
+        // Tasks left behind if every slot gave up
+        for (SweepTask task : pending) {
+            report.taskFailed(task);
+        }
+        report.setElapsedMillis(System.currentTimeMillis() - start);
+        return report;
+    }
+
+    /**
+     * Keeps one worker slot busy, replacing its process whenever it is lost.
+     */
+    private void driveSlot(int slot, LinkedBlockingQueue<SweepTask> pending, Map<Integer, Integer> attempts,
+                           AtomicInteger remaining, SweepReport report) {
+        int launchesWithoutProgress = 0;
+        while (remaining.get() > 0 && launchesWithoutProgress < maxAttempts) {
+            List<SweepTask> inFlight = new ArrayList<>();
+            AtomicBoolean progressed = new AtomicBoolean(false);
+            Process process = null;
+            try {
+                process = launcher.create(slot)
+                        .redirectError(ProcessBuilder.Redirect.INHERIT)
+                        .start();
+                report.workerLaunched();
+                serve(process, pending, inFlight, remaining, progressed, report);
+                return;
+            } catch (IOException e) {
+                System.err.println("Sweep worker " + slot + " lost: " + e.getMessage());
+                report.workerLost();
+                launchesWithoutProgress = progressed.get() ? 0 : launchesWithoutProgress + 1;
+                for (SweepTask task : inFlight) {
+                    requeue(task, pending, attempts, remaining, report);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                for (SweepTask task : inFlight) {
+                    pending.add(task);
+                }
+                return;
+            } finally {
+                if (process != null) process.destroy();
+            }
+        }
+    }
+
+    /**
+     * Talks to one worker process until the sweep is done or the worker is lost.
+     * Sets {@code progressed} as soon as the worker completes a task.
+     */
+    private void serve(Process process, LinkedBlockingQueue<SweepTask> pending, List<SweepTask> inFlight,
+                       AtomicInteger remaining, AtomicBoolean progressed, SweepReport report)
+            throws IOException, InterruptedException {
+        BufferedWriter toWorker = new BufferedWriter(
+                new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+        BufferedReader fromWorker = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+
+        if (!awaitLine(fromWorker, SweepWorker.READY)) {
+            throw new IOException("Worker did not start");
+        }
+
+        while (true) {
+            // Top up the worker's pipeline
+            while (inFlight.size() < tasksInFlight) {
+                SweepTask task = inFlight.isEmpty()
+                        ? pending.poll(50, TimeUnit.MILLISECONDS)
+                        : pending.poll();
+                if (task == null) break;
+                toWorker.write(task.toLine());
+                toWorker.newLine();
+                inFlight.add(task);
+            }
+            toWorker.flush();
+
+            if (inFlight.isEmpty()) {
+                if (remaining.get() == 0) {
+                    toWorker.write(SweepWorker.QUIT);
+                    toWorker.newLine();
+                    toWorker.flush();
+                    process.waitFor(5, TimeUnit.SECONDS);
+                    return;
+                }
+                continue; // Another worker may still hand tasks back
+            }
+
+            String line = fromWorker.readLine();
+            if (line == null) throw new IOException("Worker closed its output");
+            if (!line.startsWith(SweepWorker.RESULT)) continue; // Stray output
+
+            int taskId = SweepWorker.resultTaskId(line);
+            for (Iterator<SweepTask> it = inFlight.iterator(); it.hasNext(); ) {
+                SweepTask task = it.next();
+                if (task.getId() == taskId) {
+                    it.remove();
+                    report.merge(task, SweepWorker.decodeResult(line));
+                    remaining.decrementAndGet();
+                    progressed.set(true);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads until a line equal to {@code expected}, skipping stray output.
+     */
+    private boolean awaitLine(BufferedReader reader, String expected) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.equals(expected)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Puts a task back in the queue, or gives it up after too many attempts.
+     */
+    private void requeue(SweepTask task, LinkedBlockingQueue<SweepTask> pending, Map<Integer, Integer> attempts,
+                         AtomicInteger remaining, SweepReport report) {
+        int tries = attempts.merge(task.getId(), 1, Integer::sum);
+        if (tries >= maxAttempts) {
+            report.taskFailed(task);
+            remaining.decrementAndGet();
+        } else {
+            report.taskRetried();
+            pending.add(task);
+        }
+    }
+
+    /**
+     * Command line entry point.
+     * Usage: {@code SweepCoordinator [workers] [gamesPerOrder] [seed] [chunk]}
+     *
+     * @param args Command line arguments
+     * @throws InterruptedException if interrupted while waiting for workers
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int workers = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        long games = args.length > 1 ? Long.parseLong(args[1]) : 1_000_000L;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+        int chunk = args.length > 3 ? Integer.parseInt(args[3]) : 64 * 1024;
+
+        List<SweepTask> tasks = new ArrayList<>();
+        for (ShotOrder order : ShotOrder.values()) {
+            tasks.addAll(SweepTask.split(order, seed, games, chunk, tasks.size()));
+        }
+
+        SweepReport report = new SweepCoordinator(workers).run(tasks);
+        System.out.println(report.getSummary());
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.battleship.simulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Merged outcome of a simulation sweep across all worker processes.
+ * Written concurrently by the coordinator's worker threads, so every mutator is synchronized.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SweepReport {
+
+    private final Map<ShotOrder, SimulationResult> results = new EnumMap<>(ShotOrder.class);
+    private final List<SweepTask> failedTasks = new ArrayList<>();
+    private int tasksCompleted;
+    private int tasksRetried;
+    private int workersLaunched;
+    private int workersLost;
+    private long elapsedMillis;
+
+    synchronized void merge(SweepTask task, SimulationResult result) {
+        results.computeIfAbsent(task.getOrder(), order -> new SimulationResult()).merge(result);
+        tasksCompleted++;
+    }
+
+    synchronized void taskRetried() { tasksRetried++; }
+    synchronized void taskFailed(SweepTask task) { failedTasks.add(task); }
+    synchronized void workerLaunched() { workersLaunched++; }
+    synchronized void workerLost() { workersLost++; }
+    synchronized void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+
+    /**
+     * Gets the merged result of one shot order.
+     *
+     * @param order The shot order
+     * @return The merged result, empty if the order was not part of the sweep
+     */
+    public synchronized SimulationResult getResult(ShotOrder order) {
+        return results.getOrDefault(order, new SimulationResult());
+    }
+
+    public synchronized List<SweepTask> getFailedTasks() { return Collections.unmodifiableList(new ArrayList<>(failedTasks)); }
+    public synchronized int getTasksCompleted() { return tasksCompleted; }
+    public synchronized int getTasksRetried() { return tasksRetried; }
+    public synchronized int getWorkersLaunched() { return workersLaunched; }
+    public synchronized int getWorkersLost() { return workersLost; }
+    public synchronized long getElapsedMillis() { return elapsedMillis; }
+
+    /**
+     * Checks if every task of the sweep finished.
+     *
+     * @return true if no task was given up
+     */
+    public synchronized boolean isComplete() {
+        return failedTasks.isEmpty();
+    }
+
+    /**
+     * Gets a printable summary of the sweep.
+     *
+     * @return Multi-line report
+     */
+    public synchronized String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append("=== SIMULATION SWEEP ===\n");
+        long games = 0;
+        long shots = 0;
+        for (Map.Entry<ShotOrder, SimulationResult> entry : results.entrySet()) {
+            summary.append(entry.getKey()).append(": ").append(entry.getValue()).append("\n");
+            games += entry.getValue().getGames();
+            shots += entry.getValue().getTotalShots();
+        }
+        double seconds = Math.max(1, elapsedMillis) / 1000.0;
+        summary.append("Tasks: ").append(tasksCompleted).append(" completed, ")
+                .append(tasksRetried).append(" retried, ")
+                .append(failedTasks.size()).append(" failed\n");
+        summary.append("Workers: ").append(workersLaunched).append(" launched, ")
+                .append(workersLost).append(" lost\n");
+        summary.append(String.format("Throughput: %,.0f games/s, %,.0f shots/s (%d ms)%n",
+                games / seconds, shots / seconds, elapsedMillis));
+        return summary.toString();
+    }
+
+    @Override
+    public String toString() {
+        return getSummary();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.battleship.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A unit of work of a simulation sweep: a contiguous seed range for one shot order.
+ * Travels between coordinator and worker as a single text line.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SweepTask {
+
+    private final int id;
+    private final ShotOrder order;
+    private final long seed;
+    private final int games;
+
+    /**
+     * Creates a task.
+     *
+     * @param id Unique id inside the sweep
+     * @param order Shot order to simulate
+     * @param seed Base seed of the range
+     * @param games Number of games in the range
+     */
+    public SweepTask(int id, ShotOrder order, long seed, int games) {
+        this.id = id;
+        this.order = order;
+        this.seed = seed;
+        this.games = games;
+    }
+
+    /**
+     * Splits {@code games} games into tasks of at most {@code chunk} games each.
+     * Chunks are multiples of 64 so every task runs full bit-sliced batches.
+     *
+     * @param order Shot order to simulate
+     * @param seed First seed of the sweep
+     * @param games Total number of games
+     * @param chunk Games per task
+     * @param firstId Id of the first task
+     * @return The tasks, in seed order
+     */
+    public static List<SweepTask> split(ShotOrder order, long seed, long games, int chunk, int firstId) {
+        int size = Math.max(BitSlicedSimulator.LANES, chunk - chunk % BitSlicedSimulator.LANES);
+        List<SweepTask> tasks = new ArrayList<>();
+        int id = firstId;
+        for (long offset = 0; offset < games; offset += size) {
+            int count = (int) Math.min(size, games - offset);
+            tasks.add(new SweepTask(id++, order, seed + offset, count));
+        }
+        return tasks;
+    }
+
+    /**
+     * Encodes the task as a protocol line: {@code TASK <id> <order> <seed> <games>}.
+     *
+     * @return The protocol line
+     */
+    public String toLine() {
+        return "TASK " + id + " " + order + " " + seed + " " + games;
+    }
+
+    /**
+     * Parses a protocol line produced by {@link #toLine()}.
+     *
+     * @param line The protocol line
+     * @return The decoded task
+     * @throws IllegalArgumentException if the line is not a task
+     */
+    public static SweepTask parse(String line) {
+        String[] parts = line.trim().split(" ");
+        if (parts.length != 5 || !parts[0].equals("TASK")) {
+            throw new IllegalArgumentException("Not a task line: " + line);
+        }
+        return new SweepTask(Integer.parseInt(parts[1]), ShotOrder.valueOf(parts[2]),
+                Long.parseLong(parts[3]), Integer.parseInt(parts[4]));
+    }
+
+    public int getId() { return id; }
+    public ShotOrder getOrder() { return order; }
+    public long getSeed() { return seed; }
+    public int getGames() { return games; }
+
+    @Override
+    public String toString() {
+        return toLine();
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.battleship.simulation;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Worker JVM of a simulation sweep.
+ * Reads {@code TASK} lines from stdin, runs them on the bit-sliced simulator and streams
+ * one {@code RESULT} line per task to stdout. Exits on {@code QUIT} or end of input.
+ *
+ * <p>Protocol (one message per line):</p>
+ * <pre>
+ * worker  → READY
+ * coord   → TASK &lt;id&gt; &lt;order&gt; &lt;seed&gt; &lt;games&gt;
+ * worker  → RESULT &lt;id&gt; &lt;shots&gt;=&lt;count&gt;,...
+ * coord   → QUIT
+ * </pre>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SweepWorker {
+
+    public static final String READY = "READY";
+    public static final String RESULT = "RESULT";
+    public static final String QUIT = "QUIT";
+
+    public static void main(String[] args) throws IOException {
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        BufferedWriter out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        BitSlicedSimulator simulator = new BitSlicedSimulator();
+
+        out.write(READY);
+        out.newLine();
+        out.flush();
+
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (line.equals(QUIT)) break;
+            if (line.isBlank()) continue;
+
+            SweepTask task = SweepTask.parse(line);
+            int[] shots = simulator.simulate(task.getSeed(), task.getGames(), task.getOrder());
+            out.write(encodeResult(task.getId(), SimulationResult.of(shots)));
+            out.newLine();
+            out.flush();
+        }
+    }
+
+    /**
+     * Encodes a result line with the non-empty histogram buckets.
+     *
+     * @param taskId Id of the task
+     * @param result Result of the task
+     * @return {@code RESULT <id> <shots>=<count>,...}
+     */
+    static String encodeResult(int taskId, SimulationResult result) {
+        StringBuilder line = new StringBuilder(RESULT).append(' ').append(taskId).append(' ');
+        long[] histogram = result.getHistogram();
+        boolean first = true;
+        for (int shots = 0; shots < histogram.length; shots++) {
+            if (histogram[shots] == 0) continue;
+            if (!first) line.append(',');
+            line.append(shots).append('=').append(histogram[shots]);
+            first = false;
+        }
+        return line.toString();
+    }
+
+    /**
+     * Decodes the histogram of a result line.
+     *
+     * @param line Line produced by {@link #encodeResult}
+     * @return The decoded result
+     */
+    static SimulationResult decodeResult(String line) {
+        String[] parts = line.trim().split(" ");
+        SimulationResult result = new SimulationResult();
+        if (parts.length < 3) return result;
+        for (String bucket : parts[2].split(",")) {
+            int eq = bucket.indexOf('=');
+            int shots = Integer.parseInt(bucket.substring(0, eq));
+            long count = Long.parseLong(bucket.substring(eq + 1));
+            result.record(shots, count);
+        }
+        return result;
+    }
+
+    /**
+     * Extracts the task id of a result line.
+     *
+     * @param line Line produced by {@link #encodeResult}
+     * @return The task id
+     */
+    static int resultTaskId(String line) {
+        return Integer.parseInt(line.trim().split(" ")[1]);
+    }
+}
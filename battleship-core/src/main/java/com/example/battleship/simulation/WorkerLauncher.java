@@ -0,0 +1,58 @@
+package com.example.battleship.simulation;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates the process of one sweep worker.
+ * The default implementation starts a new JVM with the same runtime, module path
+ * and class path as the current one.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@FunctionalInterface
+public interface WorkerLauncher {
+
+    /**
+     * Builds the process for a worker slot.
+     *
+     * @param slot Index of the worker slot (0 to workers - 1)
+     * @return A process builder ready to start
+     */
+    ProcessBuilder create(int slot);
+
+    /**
+     * Launches {@link SweepWorker} in a child JVM of the current runtime.
+     *
+     * @param jvmOptions Extra JVM options (for example {@code -Xmx256m})
+     * @return The launcher
+     */
+    static WorkerLauncher localJvm(List<String> jvmOptions) {
+        return slot -> {
+            List<String> command = new ArrayList<>();
+            command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+            command.addAll(jvmOptions);
+
+            String classPath = System.getProperty("java.class.path");
+            if (classPath != null && !classPath.isEmpty()) {
+                command.add("-cp");
+                command.add(classPath);
+            }
+
+            Module module = SweepWorker.class.getModule();
+            String modulePath = System.getProperty("jdk.module.path");
+            if (module.isNamed() && modulePath != null && !modulePath.isEmpty()) {
+                command.add("--module-path");
+                command.add(modulePath);
+                command.add("-m");
+                command.add(module.getName() + "/" + SweepWorker.class.getName());
+            } else {
+                command.add(SweepWorker.class.getName());
+            }
+            return new ProcessBuilder(command);
+        };
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.battleship.sync;
+
+import com.example.battleship.model.Board;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Client side of board sync: applies messages from a {@link DeltaEncoder} to a local copy
+ * of the board. A delta is only applied on top of the state right before it; after a gap
+ * in sequence numbers or a checksum mismatch the applier asks for a snapshot and ignores
+ * deltas until one arrives.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class DeltaApplier {
+
+    private static final Board.CellState[] STATES = Board.CellState.values();
+
+    /**
+     * Outcome of applying a message.
+     */
+    public enum Result {
+        /** The delta was applied and the checksum matches */
+        APPLIED,
+        /** The snapshot replaced the local state */
+        SNAPSHOT_APPLIED,
+        /** Already applied: an old or repeated message was ignored */
+        DUPLICATE,
+        /** Local state is out of sync; request a snapshot from the server */
+        NEEDS_SNAPSHOT
+    }
+
+    private final byte[] cells = new byte[SyncProtocol.CELLS];
+    private int fleet;
+    private int checksum = SyncProtocol.checksum(cells, 0);
+    private long sequence;
+    private boolean desynced;
+
+    // Statistics
+    private long deltasApplied;
+    private long snapshotsApplied;
+    private long desyncs;
+
+    /**
+     * Applies one message.
+     *
+     * @param in Buffer positioned at the start of the message; consumed on success
+     * @return What happened
+     * @throws IllegalArgumentException If the message is truncated or of an unknown type
+     */
+    public Result apply(ByteBuffer in) {
+        try {
+            byte type = in.get();
+            long seq = SyncProtocol.readVarint(in);
+            int newFleet = in.getShort() & 0xFFFF;
+            if (type == SyncProtocol.SNAPSHOT) return applySnapshot(in, seq, newFleet);
+            if (type != SyncProtocol.DELTA) throw new IllegalArgumentException("Unknown message type " + type);
+            return applyDelta(in, seq, newFleet);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated sync message", e);
+        }
+    }
+
+    private Result applyDelta(ByteBuffer in, long seq, int newFleet) {
+        int count = in.get() & 0xFF;
+        if (seq <= sequence && !desynced) {
+            in.position(in.position() + count * 2 + 4);
+            return Result.DUPLICATE;
+        }
+        if (desynced || seq != sequence + 1) {
+            in.position(in.position() + count * 2 + 4);
+            return desync();
+        }
+
+        int hash = checksum ^ SyncProtocol.fleetKey(fleet) ^ SyncProtocol.fleetKey(newFleet);
+        for (int i = 0; i < count; i++) {
+            int change = in.getShort();
+            int cell = change >>> 3 & 0x7F;
+            int state = change & 7;
+            if (cell >= SyncProtocol.CELLS || state >= SyncProtocol.STATES) {
+                in.position(in.position() + (count - i - 1) * 2 + 4);
+                return desync();
+            }
+            hash ^= SyncProtocol.cellKey(cell, cells[cell]) ^ SyncProtocol.cellKey(cell, state);
+            cells[cell] = (byte) state;
+        }
+        fleet = newFleet;
+        checksum = hash;
+        sequence = seq;
+        if (in.getInt() != hash) return desync();
+        deltasApplied++;
+        return Result.APPLIED;
+    }
+
+    private Result applySnapshot(ByteBuffer in, long seq, int newFleet) {
+        byte[] incoming = new byte[SyncProtocol.CELLS];
+        for (int i = 0; i < SyncProtocol.CELLS; i += 2) {
+            int pair = in.get() & 0xFF;
+            incoming[i] = (byte) (pair >>> 4);
+            incoming[i + 1] = (byte) (pair & 0xF);
+        }
+        int expected = in.getInt();
+        for (byte state : incoming) {
+            if (state >= SyncProtocol.STATES) return desync();
+        }
+        if (SyncProtocol.checksum(incoming, newFleet) != expected) return desync();
+
+        System.arraycopy(incoming, 0, cells, 0, SyncProtocol.CELLS);
+        fleet = newFleet;
+        checksum = expected;
+        sequence = seq;
+        desynced = false;
+        snapshotsApplied++;
+        return Result.SNAPSHOT_APPLIED;
+    }
+
+    private Result desync() {
+        if (!desynced) desyncs++;
+        desynced = true;
+        return Result.NEEDS_SNAPSHOT;
+    }
+
+    /**
+     * Gets a cell of the local copy.
+     *
+     * @param row Row index
+     * @param col Column index
+     * @return Cell state
+     */
+    public Board.CellState getCell(int row, int col) {
+        return STATES[cells[row * 10 + col]];
+    }
+
+    /**
+     * Gets how many ships of a size are sunk.
+     *
+     * @param size Ship size, 1 to 4
+     * @return Sunk count
+     */
+    public int getSunkCount(int size) {
+        return fleet >>> ((size - 1) * 4) & 0xF;
+    }
+
+    /**
+     * Checks if the local copy is waiting for a snapshot.
+     *
+     * @return true after a detected desync
+     */
+    public boolean isDesynced() {
+        return desynced;
+    }
+
+    public long getSequence() { return sequence; }
+    public int getChecksum() { return checksum; }
+    public long getDeltasApplied() { return deltasApplied; }
+    public long getSnapshotsApplied() { return snapshotsApplied; }
+    public long getDesyncs() { return desyncs; }
+}
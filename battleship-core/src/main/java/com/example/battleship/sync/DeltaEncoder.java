@@ -0,0 +1,144 @@
+package com.example.battleship.sync;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.model.Ship;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/**
+ * Server side of board sync: remembers the state last sent to a client and encodes only
+ * the cells that changed since then. One encoder per board and per client stream; clients
+ * that share a stream (e.g. spectators) can share one.
+ *
+ * <p>With {@code hideShips}, intact ship cells are sent as water, so the stream can go to
+ * the board owner's opponent.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class DeltaEncoder {
+
+    private static final Coordinate[] COORDINATES = new Coordinate[SyncProtocol.CELLS];
+
+    static {
+        for (int i = 0; i < SyncProtocol.CELLS; i++) {
+            COORDINATES[i] = new Coordinate(i / 10, i % 10);
+        }
+    }
+
+    private final boolean hideShips;
+    private final byte[] sent = new byte[SyncProtocol.CELLS];
+    private final short[] changes = new short[SyncProtocol.CELLS];
+    private int fleet;
+    private int checksum = SyncProtocol.checksum(sent, 0);
+    private long sequence;
+
+    /**
+     * Creates an encoder; the client is assumed to start from an empty board at sequence 0.
+     *
+     * @param hideShips true to send intact ship cells as water
+     */
+    public DeltaEncoder(boolean hideShips) {
+        this.hideShips = hideShips;
+    }
+
+    /**
+     * Writes a DELTA message with the cells that changed since the last message, or a
+     * SNAPSHOT if that is smaller (e.g. the first message after placing a fleet).
+     *
+     * @param board Current board; read on the caller's thread, e.g. the game's actor
+     * @param out Buffer with at least {@link SyncProtocol#MAX_MESSAGE_BYTES} bytes free
+     * @return Bytes written, or 0 if nothing changed (no message is needed)
+     */
+    public int encode(Board board, ByteBuffer out) {
+        Map<Coordinate, Board.CellState> grid = board.getGrid();
+        int count = 0;
+        for (int i = 0; i < SyncProtocol.CELLS; i++) {
+            int state = view(grid.get(COORDINATES[i]));
+            if (state != sent[i]) {
+                checksum ^= SyncProtocol.cellKey(i, sent[i]) ^ SyncProtocol.cellKey(i, state);
+                sent[i] = (byte) state;
+                changes[count++] = (short) (i << 3 | state);
+            }
+        }
+        int newFleet = fleetStatus(board);
+        if (count == 0 && newFleet == fleet) return 0;
+        checksum ^= SyncProtocol.fleetKey(fleet) ^ SyncProtocol.fleetKey(newFleet);
+        fleet = newFleet;
+        sequence++;
+        if (count * 2 > SyncProtocol.CELLS / 2) return snapshot(out);
+
+        int start = out.position();
+        out.put(SyncProtocol.DELTA);
+        SyncProtocol.writeVarint(out, sequence);
+        out.putShort((short) fleet);
+        out.put((byte) count);
+        for (int i = 0; i < count; i++) {
+            out.putShort(changes[i]);
+        }
+        out.putInt(checksum);
+        return out.position() - start;
+    }
+
+    /**
+     * Writes a SNAPSHOT of the last encoded state, e.g. for a new or desynced client.
+     * It keeps the current sequence number, so later deltas apply on top of it.
+     *
+     * @param out Buffer with at least {@link SyncProtocol#MAX_MESSAGE_BYTES} bytes free
+     * @return Bytes written
+     */
+    public int snapshot(ByteBuffer out) {
+        int start = out.position();
+        out.put(SyncProtocol.SNAPSHOT);
+        SyncProtocol.writeVarint(out, sequence);
+        out.putShort((short) fleet);
+        for (int i = 0; i < SyncProtocol.CELLS; i += 2) {
+            out.put((byte) (sent[i] << 4 | sent[i + 1]));
+        }
+        out.putInt(checksum);
+        return out.position() - start;
+    }
+
+    /**
+     * Gets the sequence number of the last message.
+     *
+     * @return Sequence number, 0 before the first change
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Gets the checksum of the last encoded state.
+     *
+     * @return Checksum
+     */
+    public int getChecksum() {
+        return checksum;
+    }
+
+    private int view(Board.CellState state) {
+        if (state == null || (hideShips && state == Board.CellState.SHIP)) return Board.CellState.WATER.ordinal();
+        return state.ordinal();
+    }
+
+    /**
+     * Counts sunk ships by size, four bits per size. Ships are found at their first cell,
+     * the top-left one, so each is counted once without extra collections.
+     */
+    private static int fleetStatus(Board board) {
+        Map<Coordinate, Ship> placement = board.getShipPlacement();
+        int status = 0;
+        for (int i = 0; i < SyncProtocol.CELLS; i++) {
+            Ship ship = placement.get(COORDINATES[i]);
+            if (ship != null && ship.isSunk() && ship.getSize() <= 4
+                    && COORDINATES[i].equals(ship.getCoordinates().get(0))) {
+                status += 1 << ((ship.getSize() - 1) * 4);
+            }
+        }
+        return status;
+    }
+}
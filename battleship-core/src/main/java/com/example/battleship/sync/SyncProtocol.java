@@ -0,0 +1,102 @@
+package com.example.battleship.sync;
+
+import com.example.battleship.model.Board;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/**
+ * Wire format and checksum shared by {@link DeltaEncoder} and {@link DeltaApplier}.
+ *
+ * <pre>
+ * DELTA     [0x01][seq varint][fleet u16][count u8][count x (cell &lt;&lt; 3 | state) u16][checksum i32]
+ * SNAPSHOT  [0x02][seq varint][fleet u16][50 bytes, two 4-bit cell states per byte][checksum i32]
+ * </pre>
+ *
+ * <p>Cell states are {@link Board.CellState} ordinals. {@code fleet} holds how many ships of
+ * each size (1 to 4) are sunk, four bits per size, so it never reveals where ships are.</p>
+ *
+ * <p>The checksum is a Zobrist hash: the XOR of a fixed random value per (cell, state) and
+ * per sunk count. Changing a cell only XORs two values, so both sides keep it up to date
+ * in constant time per change instead of rehashing the board.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class SyncProtocol {
+
+    public static final byte DELTA = 0x01;
+    public static final byte SNAPSHOT = 0x02;
+
+    public static final int CELLS = 100;
+    static final int STATES = Board.CellState.values().length;
+
+    /**
+     * Largest possible message: the largest delta with a 10-byte sequence number. Deltas
+     * that would be bigger than a snapshot are sent as snapshots.
+     */
+    public static final int MAX_MESSAGE_BYTES = 1 + 10 + 2 + 1 + CELLS / 2 + 4;
+
+    private static final int[] CELL_KEYS = new int[CELLS * STATES];
+    private static final int[] FLEET_KEYS = new int[16 * 4];
+
+    static {
+        Random random = new Random(0x5EED_B0A7L); // Fixed seed: both sides must agree
+        for (int i = 0; i < CELL_KEYS.length; i++) CELL_KEYS[i] = random.nextInt();
+        for (int i = 0; i < FLEET_KEYS.length; i++) FLEET_KEYS[i] = random.nextInt();
+    }
+
+    private SyncProtocol() {}
+
+    /**
+     * Checksum contribution of one cell.
+     */
+    static int cellKey(int cell, int state) {
+        return CELL_KEYS[cell * STATES + state];
+    }
+
+    /**
+     * Checksum contribution of the sunk counts.
+     */
+    static int fleetKey(int fleet) {
+        int key = 0;
+        for (int size = 0; size < 4; size++) {
+            key ^= FLEET_KEYS[size * 16 + (fleet >>> (size * 4) & 0xF)];
+        }
+        return key;
+    }
+
+    /**
+     * Computes the checksum of a whole state from scratch.
+     *
+     * @param cells Cell states by index
+     * @param fleet Sunk counts
+     * @return Checksum
+     */
+    public static int checksum(byte[] cells, int fleet) {
+        int hash = fleetKey(fleet);
+        for (int i = 0; i < CELLS; i++) {
+            hash ^= cellKey(i, cells[i]);
+        }
+        return hash;
+    }
+
+    static void writeVarint(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    static long readVarint(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IllegalArgumentException("Varint too long");
+    }
+}
@@ -0,0 +1,349 @@
+package com.example.battleship.util;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.model.Ship;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Clase encargada de la persistencia (HU-5).
+ * Maneja la partida en formato binario ({@link SaveCodec}) y la puntuación en archivo plano.
+ * Las partidas antiguas serializadas (game.ser) se migran al formato nuevo al cargarlas.
+ * Entre dos guardados completos, las jugadas se anotan en un diario ({@link ShotJournal})
+ * que se aplica sobre la partida al cargarla.
+ * Con la propiedad "battleship.liveSave=true" la partida vive en un archivo mapeado en memoria
+ * ({@link LiveSaveFile}) que se actualiza en el sitio con cada jugada.
+ * Los datos se guardan en la carpeta de la propiedad "battleship.dataDir" o, si no se indica,
+ * en battleship_data dentro de la carpeta del usuario, sin depender de dónde se lance el juego.
+ */
+public class ArchivoUtil {
+
+    private static final Path DATA_FOLDER = Paths.get(System.getProperty("battleship.dataDir",
+            Paths.get(System.getProperty("user.home"), "battleship_data").toString()));
+    private static final Path GAME_FILE = DATA_FOLDER.resolve("game.dat");
+    private static final Path LEGACY_GAME_FILE = DATA_FOLDER.resolve("game.ser");
+    private static final Path SCORE_FILE = DATA_FOLDER.resolve("score.txt");
+    private static final Path JOURNAL_FILE = DATA_FOLDER.resolve("game.journal");
+    private static final Path LIVE_FILE = DATA_FOLDER.resolve("game.live");
+    private static final Path INFO_FILE = DATA_FOLDER.resolve("game.meta");
+    private static final Path REPLAY_FILE = DATA_FOLDER.resolve("replays.bsr");
+    private static final boolean LIVE_SAVE = Boolean.getBoolean("battleship.liveSave");
+
+    // Búfer reutilizado por saveGame y loadGame (protegido por el candado de la clase)
+    private static final ByteBuffer GAME_BUFFER = ByteBuffer.allocateDirect(SaveCodec.MAX_BYTES);
+    private static final ByteBuffer INFO_BUFFER = ByteBuffer.allocateDirect(SaveInfo.MAX_BYTES);
+
+    // Diario creado al primer uso; la durabilidad se elige con la propiedad "battleship.durability"
+    private static class JournalHolder {
+        private static final ShotJournal INSTANCE = new ShotJournal(JOURNAL_FILE,
+                ShotJournal.Durability.fromName(System.getProperty("battleship.durability")),
+                Integer.getInteger("battleship.journalGroup", 16));
+    }
+
+    // Partida en vivo creada al primer uso, con la misma durabilidad que el diario
+    private static class LiveHolder {
+        private static final LiveSaveFile INSTANCE = new LiveSaveFile(LIVE_FILE,
+                ShotJournal.Durability.fromName(System.getProperty("battleship.durability")),
+                Integer.getInteger("battleship.journalGroup", 16));
+    }
+
+    /**
+     * Obtiene el diario de jugadas de la partida guardada.
+     *
+     * @return El diario compartido
+     */
+    public static ShotJournal getJournal() {
+        initDataFolder();
+        return JournalHolder.INSTANCE;
+    }
+
+    /**
+     * Obtiene la partida en vivo mapeada en memoria.
+     *
+     * @return La partida en vivo compartida
+     */
+    public static LiveSaveFile getLiveSave() {
+        initDataFolder();
+        return LiveHolder.INSTANCE;
+    }
+
+    /**
+     * Obtiene dónde se guardan las jugadas sueltas: la partida en vivo si "battleship.liveSave=true",
+     * si no el diario, o ninguno si "battleship.journal=false".
+     *
+     * @return El registro de jugadas, o null
+     */
+    public static MoveLog getMoveLog() {
+        if (LIVE_SAVE) return getLiveSave();
+        return Boolean.parseBoolean(System.getProperty("battleship.journal", "true")) ? getJournal() : null;
+    }
+
+    /**
+     * Inicializa la carpeta de datos si no existe.
+     */
+    public static void initDataFolder() {
+        try {
+            Files.createDirectories(DATA_FOLDER);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Obtiene la ruta de un archivo dentro de la carpeta de datos.
+     *
+     * @param fileName Nombre del archivo
+     * @return Ruta dentro de la carpeta de datos
+     */
+    public static Path getDataPath(String fileName) {
+        return DATA_FOLDER.resolve(fileName);
+    }
+
+    /**
+     * Guarda el estado completo del juego en formato binario, reutilizando el mismo búfer,
+     * y vacía el diario de jugadas, que ya están incluidas en el guardado.
+     * En modo en vivo la partida se escribe en el archivo mapeado.
+     *
+     * @return Checksum de la partida guardada, que identifica al diario que la continúa
+     */
+    public static synchronized int saveGame(Board playerBoard, Board machineBoard, boolean isPlayerTurn) {
+        if (LIVE_SAVE) {
+            try {
+                return getLiveSave().write(playerBoard, machineBoard, isPlayerTurn);
+            } catch (IOException e) {
+                System.err.println("Error guardando el juego: " + e.getMessage());
+                return 0;
+            }
+        }
+        initDataFolder();
+        GAME_BUFFER.clear();
+        SaveCodec.encode(playerBoard, machineBoard, isPlayerTurn, GAME_BUFFER);
+        GAME_BUFFER.flip();
+        int checksum = GAME_BUFFER.getInt(GAME_BUFFER.limit() - 4);
+        try (FileChannel channel = FileChannel.open(GAME_FILE, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (GAME_BUFFER.hasRemaining()) {
+                channel.write(GAME_BUFFER);
+            }
+            getJournal().reset(checksum);
+            System.out.println("Juego guardado correctamente en: " + GAME_FILE);
+        } catch (IOException e) {
+            System.err.println("Error guardando el juego: " + e.getMessage());
+        }
+        return checksum;
+    }
+
+    /**
+     * Guarda el resumen de la partida junto a ella (game.meta), para que el menú la describa
+     * sin cargar los tableros.
+     *
+     * @param info Resumen de la partida guardada
+     */
+    public static synchronized void saveInfo(SaveInfo info) {
+        initDataFolder();
+        INFO_BUFFER.clear();
+        info.encode(INFO_BUFFER);
+        INFO_BUFFER.flip();
+        try (FileChannel channel = FileChannel.open(INFO_FILE, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (INFO_BUFFER.hasRemaining()) {
+                channel.write(INFO_BUFFER);
+            }
+        } catch (IOException e) {
+            System.err.println("Error guardando el resumen: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Lee el resumen de la partida guardada, sin cargar los tableros.
+     * Si la partida es anterior al resumen, se carga una vez para crearlo.
+     *
+     * @return El resumen, o null si no hay partida guardada
+     */
+    public static synchronized SaveInfo loadSaveInfo() {
+        boolean saved = LIVE_SAVE ? Files.exists(LIVE_FILE)
+                : Files.exists(GAME_FILE) || Files.exists(LEGACY_GAME_FILE);
+        if (!saved) return null;
+
+        Path path = INFO_FILE;
+        if (Files.exists(path)) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                INFO_BUFFER.clear();
+                while (INFO_BUFFER.hasRemaining() && channel.read(INFO_BUFFER) >= 0) {
+                    // Leer hasta el final del archivo
+                }
+                INFO_BUFFER.flip();
+                return SaveInfo.decode(INFO_BUFFER);
+            } catch (IOException e) {
+                System.err.println("Error cargando el resumen: " + e.getMessage());
+            }
+        }
+
+        // Sin resumen válido: se reconstruye desde la partida
+        Object[] game = loadGame();
+        if (game == null) return null;
+        Board player = (Board) game[0];
+        Board machine = (Board) game[1];
+        int sunk = (int) machine.getShipPlacement().values().stream().distinct().filter(Ship::isSunk).count();
+        long now = System.currentTimeMillis();
+        SaveInfo info = new SaveInfo("", "", (Boolean) game[2], now, now,
+                SaveInfo.countShots(machine), SaveInfo.countShots(player), sunk);
+        saveInfo(info);
+        return info;
+    }
+
+    /**
+     * Guarda la partida actual en su ranura ({@link SaveSlots}) antes de que otra la reemplace.
+     * Las partidas terminadas no se guardan.
+     *
+     * @return La ranura, o null si no había partida en curso
+     */
+    public static synchronized SaveSlots.Slot archiveGame() {
+        SaveInfo info = loadSaveInfo();
+        Object[] game = info == null ? null : loadGame();
+        if (game == null) return null;
+        Board player = (Board) game[0];
+        Board machine = (Board) game[1];
+        if (!player.hasShipsAfloat() || !machine.hasShipsAfloat()) return null;
+        try {
+            return SaveSlots.getDefault().save(info, player, machine, (Boolean) game[2]);
+        } catch (IOException e) {
+            System.err.println("Error guardando la ranura: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Convierte la partida de una ranura en la partida actual, guardando antes la actual en la suya.
+     *
+     * @param id Ranura a restaurar
+     * @return true si se restauró
+     */
+    public static synchronized boolean restoreSlot(int id) {
+        SaveSlots slots = SaveSlots.getDefault();
+        SaveSlots.Slot slot = slots.get(id);
+        if (slot == null) return false;
+        try {
+            Object[] game = slots.load(id);
+            archiveGame();
+            saveGame((Board) game[0], (Board) game[1], (Boolean) game[2]);
+            saveInfo(slot.getInfo());
+            return true;
+        } catch (IOException e) {
+            System.err.println("Error cargando la ranura: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Ruta del archivo de repeticiones, que escribe {@link SaveWorker} y lee
+     * {@link com.example.battleship.replay.ReplayReader}.
+     *
+     * @return Ruta de replays.bsr (puede no existir todavía)
+     */
+    public static Path getReplayPath() {
+        return REPLAY_FILE;
+    }
+
+    /**
+     * Guarda el nickname y barcos hundidos (Archivo Plano).
+     * Formato: Nickname;BarcosHundidos
+     */
+    public static void saveScore(String nickname, int sunkenShips) {
+        initDataFolder();
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(SCORE_FILE.toFile()))) {
+            writer.write("Nickname: " + nickname);
+            writer.newLine();
+            writer.write("Barcos Hundidos: " + sunkenShips);
+            writer.newLine();
+            writer.write("Fecha: " + java.time.LocalDateTime.now());
+            System.out.println("Puntuación guardada en texto plano.");
+        } catch (IOException e) {
+            System.err.println("Error guardando archivo plano: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Carga el juego (en modo en vivo, del archivo mapeado) y le aplica las jugadas del diario. Devuelve un array de objetos o null si falla.
+     * Estructura del return: [Board player, Board machine, Boolean turn]
+     */
+    public static synchronized Object[] loadGame() {
+        migrateLegacyGame();
+        if (LIVE_SAVE) {
+            try {
+                return getLiveSave().read();
+            } catch (IOException e) {
+                System.err.println("Error cargando partida: " + e.getMessage());
+                return null;
+            }
+        }
+        Path path = GAME_FILE;
+        if (!Files.exists(path)) return null;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > SaveCodec.MAX_BYTES) throw new IOException("Archivo de partida demasiado grande");
+            GAME_BUFFER.clear();
+            while (GAME_BUFFER.hasRemaining() && channel.read(GAME_BUFFER) >= 0) {
+                // Leer hasta el final del archivo
+            }
+            GAME_BUFFER.flip();
+            Object[] game = SaveCodec.decode(GAME_BUFFER);
+            int replayed = getJournal().replay(GAME_BUFFER.getInt(GAME_BUFFER.limit() - 4),
+                    (Board) game[0], (Board) game[1]);
+            if (replayed > 0) System.out.println("Jugadas recuperadas del diario: " + replayed);
+            return game;
+        } catch (IOException e) {
+            System.err.println("Error cargando partida: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Migra una partida serializada antigua (game.ser) al formato binario.
+     * El archivo antiguo se conserva como game.ser.bak.
+     *
+     * @return true si se migró una partida
+     */
+    public static synchronized boolean migrateLegacyGame() {
+        Path legacy = LEGACY_GAME_FILE;
+        if (!Files.exists(legacy) || Files.exists(GAME_FILE)) return false;
+
+        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(legacy.toFile()))) {
+            // Solo se aceptan las clases del tablero: nada más puede instanciarse desde el archivo
+            ois.setObjectInputFilter(ArchivoUtil::legacyFilter);
+            Board player = (Board) ois.readObject();
+            Board machine = (Board) ois.readObject();
+            boolean turn = ois.readBoolean();
+            saveGame(player, machine, turn);
+            Files.move(legacy, legacy.resolveSibling("game.ser.bak"), StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Partida antigua migrada a: " + GAME_FILE);
+            return true;
+        } catch (IOException | ClassNotFoundException | ClassCastException | IllegalArgumentException e) {
+            System.err.println("Error migrando la partida antigua: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static ObjectInputFilter.Status legacyFilter(ObjectInputFilter.FilterInfo info) {
+        if (info.depth() > 20 || info.references() > 10_000) return ObjectInputFilter.Status.REJECTED;
+        Class<?> type = info.serialClass();
+        if (type == null) return ObjectInputFilter.Status.UNDECIDED;
+        if (type == Board.class || type == Board.CellState.class || type == Coordinate.class || type == Ship.class
+                || type == HashMap.class || type == ArrayList.class || type == Enum.class
+                || type == String.class || type == Object[].class || type == Map.Entry[].class) {
+            return ObjectInputFilter.Status.ALLOWED;
+        }
+        return ObjectInputFilter.Status.REJECTED;
+    }
+}
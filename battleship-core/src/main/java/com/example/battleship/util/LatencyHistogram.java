@@ -0,0 +1,121 @@
+package com.example.battleship.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe log-linear latency histogram.
+ * Values are grouped by power of two and split into 16 linear sub-buckets, so every
+ * percentile is reported with at most ~6% error, with a fixed memory footprint and no
+ * allocation per recorded value.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * Records one value.
+     *
+     * @param value Latency, e.g. in nanoseconds; negative values count as 0
+     */
+    public void record(long value) {
+        counts.incrementAndGet(index(Math.max(0, value)));
+        total.increment();
+        sum.add(Math.max(0, value));
+    }
+
+    /**
+     * Adds every value recorded by another histogram.
+     *
+     * @param other Histogram to merge in
+     */
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            long count = other.counts.get(i);
+            if (count != 0) counts.addAndGet(i, count);
+        }
+        total.add(other.total.sum());
+        sum.add(other.sum.sum());
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return Value count
+     */
+    public long getCount() {
+        return total.sum();
+    }
+
+    /**
+     * Gets the mean of the recorded values.
+     *
+     * @return Mean, or 0 if empty
+     */
+    public double getMean() {
+        long count = total.sum();
+        return count == 0 ? 0 : (double) sum.sum() / count;
+    }
+
+    /**
+     * Gets a percentile of the recorded values.
+     *
+     * @param percentile Percentile between 0 and 100, e.g. 99.9
+     * @return Upper bound of the bucket holding the percentile, or 0 if empty
+     */
+    public long getPercentile(double percentile) {
+        long count = total.sum();
+        if (count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) return upperBound(i);
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    /**
+     * Formats the usual percentiles, with values divided by {@code unit}.
+     *
+     * @param unit Divisor for display, e.g. 1000 to show nanoseconds as microseconds
+     * @param unitName Name of the display unit
+     * @return Summary line
+     */
+    public String summary(double unit, String unitName) {
+        return String.format("n=%d mean=%.1f p50=%.1f p90=%.1f p99=%.1f p99.9=%.1f max=%.1f %s",
+                getCount(), getMean() / unit, getPercentile(50) / unit, getPercentile(90) / unit,
+                getPercentile(99) / unit, getPercentile(99.9) / unit, getPercentile(100) / unit, unitName);
+    }
+
+    /**
+     * Bucket of a value: values below 16 get their own bucket, larger ones are grouped by
+     * their highest bit and the next four bits.
+     */
+    static int index(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Largest value that falls in a bucket.
+     */
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) return index;
+        int shift = index / SUB_BUCKETS - 1;
+        long sub = index % SUB_BUCKETS;
+        long low = (SUB_BUCKETS + sub) << shift;
+        return low + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.battleship.util;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.model.Ship;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * The active game kept in a small fixed-layout file mapped into memory, for long-running
+ * deployments that save every move. A shot is a bit set in place: nothing is serialized,
+ * the file is never reopened and the OS writes the pages back.
+ *
+ * <pre>
+ * file = [magic i32 "BSLV"][version i32][reserved i64][slot A, 128 bytes][slot B, 128 bytes]
+ * slot = [CRC32 of bytes 4..112, i32][flags u8: bit 0 = player's turn][reserved 3]
+ *        [generation i64][player board][machine board]
+ * board = [16 x ship descriptor u16, 0 = none][shots, 100-bit mask as two i64]
+ * </pre>
+ *
+ * <p>Every update goes to the standby slot: it copies the current slot, applies the change,
+ * bumps the generation and seals the slot with its checksum. The current slot is never
+ * touched, so if the process dies mid-update the torn slot fails its checksum and loading
+ * uses the previous consistent state, the slot with the highest valid generation.</p>
+ *
+ * <p>Thread-safe: every method locks the file.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class LiveSaveFile implements MoveLog {
+
+    private static final int MAGIC = 0x42534C56; // "BSLV"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    public static final int SLOT_BYTES = 128;
+    public static final int FILE_BYTES = HEADER_BYTES + 2 * SLOT_BYTES;
+
+    /**
+     * Ships per board the layout has room for; the standard fleet has 10.
+     */
+    public static final int MAX_SHIPS = 16;
+
+    // Offsets within a slot
+    private static final int CRC = 0;
+    private static final int FLAGS = 4;
+    private static final int GENERATION = 8;
+    private static final int BOARDS = 16;
+    private static final int BOARD_BYTES = 2 * MAX_SHIPS + 16;
+    private static final int SLOT_USED = BOARDS + 2 * BOARD_BYTES;
+
+    private final Path file;
+    private final ShotJournal.Durability durability;
+    private final int groupSize;
+    private final CRC32 crc = new CRC32();
+
+    private FileChannel channel;
+    private MappedByteBuffer map;
+    private int active = -1; // Slot of the current state, -1 if there is no game
+    private int unforced;
+
+    // Statistics
+    private long updates;
+    private long forces;
+
+    /**
+     * Creates a live save. The file is mapped on first use.
+     *
+     * @param file Live save file
+     * @param durability When updates are forced to disk
+     * @param groupSize Updates per force in {@link ShotJournal.Durability#GROUP} mode
+     */
+    public LiveSaveFile(Path file, ShotJournal.Durability durability, int groupSize) {
+        this.file = file;
+        this.durability = durability;
+        this.groupSize = Math.max(1, groupSize);
+    }
+
+    /**
+     * Writes a whole game, e.g. a new game or a full save.
+     *
+     * @param playerBoard Player's board
+     * @param machineBoard Machine's board
+     * @param playerTurn true if it is the player's turn
+     * @return Checksum of the new state
+     * @throws IOException If a board has more than {@link #MAX_SHIPS} ships or the write fails
+     */
+    public synchronized int write(Board playerBoard, Board machineBoard, boolean playerTurn) throws IOException {
+        open();
+        int slot = standby();
+        map.put(slot + FLAGS, (byte) (playerTurn ? 1 : 0));
+        writeBoard(playerBoard, slot + BOARDS);
+        writeBoard(machineBoard, slot + BOARDS + BOARD_BYTES);
+        int checksum = seal(slot);
+        if (durability != ShotJournal.Durability.NONE) force();
+        return checksum;
+    }
+
+    /**
+     * Sets a shot in place.
+     *
+     * @param playerBoard true if the shot landed on the player's board
+     * @param target The target cell
+     * @throws IOException If there is no game or the write fails
+     */
+    @Override
+    public synchronized void appendShot(boolean playerBoard, Coordinate target) throws IOException {
+        int slot = copyToStandby();
+        int cell = target.getRow() * 10 + target.getCol();
+        int mask = slot + BOARDS + (playerBoard ? 0 : BOARD_BYTES) + 2 * MAX_SHIPS + (cell < 64 ? 0 : 8);
+        map.putLong(mask, map.getLong(mask) | 1L << (cell & 63));
+        commit(slot);
+    }
+
+    /**
+     * Forces the turn's updates to disk in {@link ShotJournal.Durability#TURN} mode.
+     *
+     * @throws IOException If the force fails
+     */
+    @Override
+    public synchronized void commitTurn() throws IOException {
+        if (durability == ShotJournal.Durability.TURN && unforced > 0) force();
+    }
+
+    /**
+     * Reads the current game.
+     *
+     * @return [Board player, Board machine, Boolean turn], or null if there is no game
+     * @throws IOException If the state holds an impossible board
+     */
+    public synchronized Object[] read() throws IOException {
+        open();
+        if (active < 0) return null;
+        int slot = active;
+        Board player = readBoard(slot + BOARDS);
+        Board machine = readBoard(slot + BOARDS + BOARD_BYTES);
+        return new Object[]{player, machine, (map.get(slot + FLAGS) & 1) != 0};
+    }
+
+    /**
+     * Maps the file and picks the slot with the highest valid generation.
+     */
+    private void open() throws IOException {
+        if (map != null) return;
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        boolean fresh = channel.size() < FILE_BYTES;
+        map = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_BYTES);
+        if (fresh || map.getInt(0) != MAGIC || map.getInt(4) != VERSION) {
+            for (int i = 0; i < FILE_BYTES; i++) {
+                map.put(i, (byte) 0);
+            }
+            map.putInt(0, MAGIC).putInt(4, VERSION);
+            active = -1;
+            return;
+        }
+
+        active = -1;
+        long newest = -1;
+        for (int s = 0; s < 2; s++) {
+            int slot = HEADER_BYTES + s * SLOT_BYTES;
+            long generation = map.getLong(slot + GENERATION);
+            if (generation > newest && map.getInt(slot + CRC) == checksum(slot)) {
+                newest = generation;
+                active = slot;
+            }
+        }
+    }
+
+    private int standby() {
+        return active == HEADER_BYTES ? HEADER_BYTES + SLOT_BYTES : HEADER_BYTES;
+    }
+
+    private int copyToStandby() throws IOException {
+        open();
+        if (active < 0) throw new IOException("No hay partida en vivo");
+        int slot = standby();
+        map.put(slot + FLAGS, map, active + FLAGS, SLOT_USED - FLAGS);
+        return slot;
+    }
+
+    private void commit(int slot) throws IOException {
+        seal(slot);
+        if (durability == ShotJournal.Durability.GROUP && unforced >= groupSize) force();
+    }
+
+    /**
+     * Stamps the next generation and the checksum on a slot and makes it current.
+     */
+    private int seal(int slot) {
+        long generation = active < 0 ? 1 : map.getLong(active + GENERATION) + 1;
+        map.putLong(slot + GENERATION, generation);
+        int checksum = checksum(slot);
+        map.putInt(slot + CRC, checksum);
+        active = slot;
+        updates++;
+        unforced++;
+        return checksum;
+    }
+
+    private int checksum(int slot) {
+        return SaveCodec.crc(crc, map, slot + FLAGS, slot + SLOT_USED);
+    }
+
+    /**
+     * Writes a board in the save codec's encoding, with the ship list padded to
+     * {@link #MAX_SHIPS} zero descriptors.
+     */
+    private void writeBoard(Board board, int at) throws IOException {
+        int count;
+        try {
+            count = SaveCodec.putShips(board, map, at, MAX_SHIPS);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Demasiados barcos para la partida en vivo", e);
+        }
+        while (count < MAX_SHIPS) {
+            map.putShort(at + 2 * count++, (short) 0);
+        }
+        SaveCodec.putShots(board, map, at + 2 * MAX_SHIPS);
+    }
+
+    private Board readBoard(int at) throws IOException {
+        int ships = 0;
+        while (ships < MAX_SHIPS && map.getShort(at + 2 * ships) != 0) ships++;
+        return SaveCodec.getBoard(map, at, ships, at + 2 * MAX_SHIPS);
+    }
+
+    private void force() {
+        map.force();
+        forces++;
+        unforced = 0;
+    }
+
+    /**
+     * Forces pending updates and closes the file. It is mapped again on next use.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (map == null) return;
+        if (durability != ShotJournal.Durability.NONE && unforced > 0) force();
+        map = null;
+        channel.close();
+        channel = null;
+    }
+
+    public synchronized long getGeneration() { return map == null || active < 0 ? 0 : map.getLong(active + GENERATION); }
+    public synchronized long getUpdateCount() { return updates; }
+    public synchronized long getForceCount() { return forces; }
+    public ShotJournal.Durability getDurability() { return durability; }
+}
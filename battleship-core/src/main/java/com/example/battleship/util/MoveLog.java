@@ -0,0 +1,42 @@
+package com.example.battleship.util;
+
+import com.example.battleship.model.Coordinate;
+
+import java.io.IOException;
+
+/**
+ * Persists single moves between full saves of the game.
+ * Implementations keep the moves so that loading the last full save plus the log gives
+ * the current game; the {@link SaveWorker} calls them on its thread, in order with the saves.
+ * Only shots are logged: ship placement ends with the full save written when the game starts.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface MoveLog extends AutoCloseable {
+
+    /**
+     * Records a shot.
+     *
+     * @param playerBoard true if the shot landed on the player's board
+     * @param target The target cell
+     * @throws IOException If the write fails
+     */
+    void appendShot(boolean playerBoard, Coordinate target) throws IOException;
+
+    /**
+     * Marks the end of a turn, e.g. to force the turn's moves to disk.
+     *
+     * @throws IOException If the write fails
+     */
+    void commitTurn() throws IOException;
+
+    /**
+     * Writes what is pending and releases the file.
+     *
+     * @throws IOException If the write fails
+     */
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,234 @@
+package com.example.battleship.util;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.OpponentModel;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Persists one {@link OpponentModel} per nickname.
+ * Each finished human layout is appended to a log as a small fixed record
+ * (nickname plus a 100-bit mask); once the log holds {@link #COMPACT_AFTER} records it is
+ * folded into a compact table with one histogram per nickname and truncated.
+ * The table keeps at most {@link #MAX_PLAYERS} nicknames, dropping the least played.
+ * A record torn by a crash is cut off the log when it is replayed, before anything is
+ * appended after it.
+ *
+ * <p>All disk work runs on a single background thread, so callers on the JavaFX thread
+ * only pay for building the layout mask.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class OpponentStore {
+
+    private static final int MAGIC = 0x4F50504D; // "OPPM"
+    private static final int VERSION = 1;
+
+    /**
+     * Log records folded into the table at a time.
+     */
+    public static final int COMPACT_AFTER = 256;
+
+    /**
+     * Nicknames kept in the table.
+     */
+    public static final int MAX_PLAYERS = 256;
+
+    private final Path tableFile;
+    private final Path logFile;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "opponent-store");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Only touched from the worker thread
+    private Map<String, OpponentModel> models;
+    private int logRecords;
+
+    /**
+     * Lazy holder for the store in the data folder.
+     */
+    private static class Holder {
+        private static final OpponentStore INSTANCE = new OpponentStore(
+                ArchivoUtil.getDataPath("opponents.db"), ArchivoUtil.getDataPath("opponents.log"));
+    }
+
+    /**
+     * Gets the store in the data folder.
+     *
+     * @return The shared store
+     */
+    public static OpponentStore getDefault() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Creates a store on the given files.
+     *
+     * @param tableFile Compacted histogram table
+     * @param logFile Append-only layout log
+     */
+    public OpponentStore(Path tableFile, Path logFile) {
+        this.tableFile = tableFile;
+        this.logFile = logFile;
+    }
+
+    /**
+     * Loads the model of a player in the background.
+     *
+     * @param nickname Player nickname
+     * @return Future with the model (empty if the player is unknown)
+     */
+    public CompletableFuture<OpponentModel> load(String nickname) {
+        return CompletableFuture.supplyAsync(() -> {
+            ensureLoaded();
+            return models.getOrDefault(nickname, new OpponentModel());
+        }, worker);
+    }
+
+    /**
+     * Records a finished layout in the background.
+     * The mask is taken immediately, so the board may change afterwards.
+     *
+     * @param nickname Player nickname
+     * @param board Board with the player's complete fleet
+     * @return Future completed once the record is on disk
+     */
+    public CompletableFuture<Void> record(String nickname, Board board) {
+        long[] mask = OpponentModel.layoutMask(board);
+        return CompletableFuture.runAsync(() -> {
+            ensureLoaded();
+            models.put(nickname, models.getOrDefault(nickname, new OpponentModel()).withLayout(mask));
+            try {
+                appendRecord(nickname, mask);
+                if (++logRecords >= COMPACT_AFTER) compact();
+            } catch (IOException e) {
+                System.err.println("Error guardando el historial del jugador: " + e.getMessage());
+            }
+        }, worker);
+    }
+
+    /**
+     * Reads the table and replays the log, once.
+     */
+    private void ensureLoaded() {
+        if (models != null) return;
+        models = new LinkedHashMap<>();
+        try {
+            readTable();
+            replayLog();
+        } catch (IOException e) {
+            System.err.println("Error cargando el historial de jugadores: " + e.getMessage());
+        }
+    }
+
+    private void readTable() throws IOException {
+        if (!Files.exists(tableFile)) return;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(tableFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) return;
+            int players = in.readInt();
+            for (int p = 0; p < players; p++) {
+                String nickname = in.readUTF();
+                int games = in.readInt();
+                int[] counts = new int[100];
+                for (int cell = 0; cell < counts.length; cell++) {
+                    counts[cell] = in.readUnsignedShort();
+                }
+                models.put(nickname, new OpponentModel(games, counts));
+            }
+        }
+    }
+
+    /**
+     * Replays the log into the models and cuts off a torn last record, so the next record
+     * is appended right after the last complete one.
+     */
+    private void replayLog() throws IOException {
+        if (!Files.exists(logFile)) return;
+        byte[] log = Files.readAllBytes(logFile); // At most COMPACT_AFTER small records
+        ByteArrayInputStream bytes = new ByteArrayInputStream(log);
+        DataInputStream in = new DataInputStream(bytes);
+        long valid = 0;
+        while (true) {
+            String nickname;
+            long[] mask = new long[2];
+            try {
+                nickname = in.readUTF();
+                mask[0] = in.readLong();
+                mask[1] = in.readLong();
+            } catch (EOFException | UTFDataFormatException e) {
+                break; // End of log, or a record torn by a crash
+            }
+            models.put(nickname, models.getOrDefault(nickname, new OpponentModel()).withLayout(mask));
+            logRecords++;
+            valid = log.length - bytes.available();
+        }
+        if (valid < log.length) {
+            try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+                channel.truncate(valid); // Torn write
+            }
+        }
+    }
+
+    private void appendRecord(String nickname, long[] mask) throws IOException {
+        Files.createDirectories(logFile.toAbsolutePath().getParent());
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(logFile,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)))) {
+            out.writeUTF(nickname);
+            out.writeLong(mask[0]);
+            out.writeLong(mask[1]);
+        }
+    }
+
+    /**
+     * Rewrites the table with every model and empties the log.
+     */
+    private void compact() throws IOException {
+        while (models.size() > MAX_PLAYERS) {
+            String leastPlayed = null;
+            for (Map.Entry<String, OpponentModel> entry : models.entrySet()) {
+                if (leastPlayed == null || entry.getValue().getGames() < models.get(leastPlayed).getGames()) {
+                    leastPlayed = entry.getKey();
+                }
+            }
+            models.remove(leastPlayed);
+        }
+
+        Path tmp = tableFile.resolveSibling(tableFile.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(models.size());
+            for (Map.Entry<String, OpponentModel> entry : models.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue().getGames());
+                for (int count : entry.getValue().getCounts()) {
+                    out.writeShort(count);
+                }
+            }
+        }
+        Files.move(tmp, tableFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.deleteIfExists(logFile);
+        logRecords = 0;
+    }
+}
@@ -0,0 +1,263 @@
+package com.example.battleship.util;
+
+import com.example.battleship.exceptions.InvalidShipPlacementException;
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.model.Ship;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Binary format of the saved game, replacing Java serialization of the boards.
+ *
+ * <pre>
+ * [magic i32 "BSAV"][version u8][flags u8: bit 0 = player's turn]
+ * [player board][machine board]
+ * [CRC32 of everything before it, i32]
+ *
+ * board = [ships u8][ships x descriptor u16][shots, 100-bit mask as two i64]
+ * descriptor = start cell (row * 10 + col) &lt;&lt; 8 | type &lt;&lt; 4 | horizontal &lt;&lt; 3 | size
+ * </pre>
+ *
+ * <p>Cell states are not stored: a shot cell with a ship is HIT (or SUNK once the whole
+ * ship is hit), without one it is MISS. Decoding places the ships and replays the shots
+ * on a new {@link Board}, so a loaded game always satisfies the board's own rules. The
+ * standard fleet takes 84 bytes for both boards, against about 6 KB serialized.</p>
+ *
+ * <p>Unknown magic numbers, versions, checksums or impossible boards are rejected with an
+ * {@link IOException}; no objects are instantiated from the file's contents.</p>
+ *
+ * <p>The other save files of this package ({@link LiveSaveFile}, {@link SaveInfo},
+ * {@link ShotJournal}, {@link SaveSlots}) reuse its board encoding and checksum helpers.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class SaveCodec {
+
+    public static final int MAGIC = 0x42534156; // "BSAV"
+    public static final byte VERSION = 1;
+
+    private static final String[] TYPES = {"Carrier", "Submarine", "Destroyer", "Frigate"};
+    private static final int MAX_SHIPS = 100;
+
+    /**
+     * Largest encoded game: one ship per cell on both boards.
+     */
+    public static final int MAX_BYTES = 4 + 1 + 1 + 2 * (1 + 2 * MAX_SHIPS + 16) + 4;
+
+    private SaveCodec() {}
+
+    /**
+     * Encodes a game.
+     *
+     * @param playerBoard Player's board
+     * @param machineBoard Machine's board
+     * @param playerTurn true if it is the player's turn
+     * @param out Buffer with at least {@link #MAX_BYTES} bytes free
+     * @return Bytes written
+     * @throws IllegalArgumentException If a ship type is unknown
+     */
+    public static int encode(Board playerBoard, Board machineBoard, boolean playerTurn, ByteBuffer out) {
+        int start = out.position();
+        out.putInt(MAGIC);
+        out.put(VERSION);
+        out.put((byte) (playerTurn ? 1 : 0));
+        encodeBoard(playerBoard, out);
+        encodeBoard(machineBoard, out);
+        out.putInt(crc(out, start, out.position()));
+        return out.position() - start;
+    }
+
+    /**
+     * Decodes a game.
+     *
+     * @param in Buffer positioned at the start of a save
+     * @return [Board player, Board machine, Boolean turn], like {@link ArchivoUtil#loadGame()}
+     * @throws IOException If the data is not a valid save
+     */
+    public static Object[] decode(ByteBuffer in) throws IOException {
+        int start = in.position();
+        try {
+            if (in.getInt() != MAGIC) throw new IOException("No es un archivo de partida");
+            byte version = in.get();
+            if (version != VERSION) throw new IOException("Versión de partida no soportada: " + version);
+            boolean playerTurn = (in.get() & 1) != 0;
+            Board player = decodeBoard(in);
+            Board machine = decodeBoard(in);
+            int expected = crc(in, start, in.position());
+            if (in.getInt() != expected) throw new IOException("Partida dañada: checksum incorrecto");
+            return new Object[]{player, machine, playerTurn};
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Partida incompleta", e);
+        }
+    }
+
+    private static void encodeBoard(Board board, ByteBuffer out) {
+        int countAt = out.position();
+        int count = putShips(board, out, countAt + 1, MAX_SHIPS);
+        out.put(countAt, (byte) count);
+        putShots(board, out, countAt + 1 + 2 * count);
+        out.position(countAt + 1 + 2 * count + 16);
+    }
+
+    /**
+     * Writes the descriptors of a board's ships, each once and in cell order, at an absolute
+     * position; the buffer's position does not move.
+     *
+     * @param board The board
+     * @param out Buffer to write to
+     * @param at Position of the first descriptor (u16)
+     * @param limit Most ships there is room for
+     * @return Ships written
+     * @throws IllegalArgumentException If the board has more ships than the limit, or a ship type is unknown
+     */
+    static int putShips(Board board, ByteBuffer out, int at, int limit) {
+        Map<Coordinate, Ship> placement = board.getShipPlacement();
+        int count = 0;
+        for (int cell = 0; cell < 100; cell++) {
+            Coordinate coord = new Coordinate(cell / 10, cell % 10);
+            Ship ship = placement.get(coord);
+            if (ship != null && coord.equals(ship.getCoordinates().get(0))) {
+                if (count == limit) throw new IllegalArgumentException("Too many ships: more than " + limit);
+                out.putShort(at + 2 * count++, descriptor(ship));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes the cells of a board that were shot at as a 100-bit mask (two i64) at an absolute
+     * position; the buffer's position does not move.
+     *
+     * @param board The board
+     * @param out Buffer to write to
+     * @param at Position of the mask
+     */
+    static void putShots(Board board, ByteBuffer out, int at) {
+        long low = 0;
+        long high = 0;
+        for (Map.Entry<Coordinate, Board.CellState> entry : board.getGrid().entrySet()) {
+            Board.CellState state = entry.getValue();
+            if (state == Board.CellState.HIT || state == Board.CellState.MISS || state == Board.CellState.SUNK) {
+                int cell = entry.getKey().getRow() * 10 + entry.getKey().getCol();
+                if (cell < 64) low |= 1L << cell; else high |= 1L << (cell - 64);
+            }
+        }
+        out.putLong(at, low);
+        out.putLong(at + 8, high);
+    }
+
+    /**
+     * Rebuilds a board from ship descriptors and a shot mask at absolute positions, as written by
+     * {@link #putShips} and {@link #putShots}; the buffer's position does not move.
+     *
+     * @param in Buffer to read from
+     * @param shipsAt Position of the first descriptor
+     * @param ships Number of descriptors
+     * @param shotsAt Position of the shot mask
+     * @return A new board with the ships placed and the shots replayed
+     * @throws IOException If a ship is invalid or a shot is off the board
+     */
+    static Board getBoard(ByteBuffer in, int shipsAt, int ships, int shotsAt) throws IOException {
+        Board board = new Board();
+        for (int i = 0; i < ships; i++) {
+            try {
+                placeShip(board, in.getShort(shipsAt + 2 * i) & 0xFFFF);
+            } catch (InvalidShipPlacementException e) {
+                throw new IOException("Barco inválido: " + e.getMessage(), e);
+            }
+        }
+
+        long low = in.getLong(shotsAt);
+        long high = in.getLong(shotsAt + 8);
+        if (high >>> 36 != 0) throw new IOException("Disparo fuera del tablero");
+        for (int cell = 0; cell < 100; cell++) {
+            boolean shot = cell < 64 ? (low >>> cell & 1) != 0 : (high >>> (cell - 64) & 1) != 0;
+            if (shot) board.fireAt(new Coordinate(cell / 10, cell % 10));
+        }
+        return board;
+    }
+
+    /**
+     * Places a ship from its descriptor, as written by {@link #descriptor(Ship)}.
+     *
+     * @param board Board to place it on
+     * @param descriptor Ship descriptor
+     * @throws IOException If the descriptor is invalid
+     * @throws InvalidShipPlacementException If the ship does not fit on the board
+     */
+    public static void placeShip(Board board, int descriptor) throws IOException, InvalidShipPlacementException {
+        int cell = descriptor >>> 8;
+        int type = descriptor >>> 4 & 0xF;
+        int size = descriptor & 7;
+        if (cell >= 100 || type >= TYPES.length || size == 0) {
+            throw new IOException("Barco inválido: " + Integer.toHexString(descriptor));
+        }
+        board.placeShip(new Ship(TYPES[type], size), new Coordinate(cell / 10, cell % 10), (descriptor & 8) != 0);
+    }
+
+    /**
+     * Packs a placed ship into 16 bits.
+     *
+     * @param ship Ship with its cells set
+     * @return Descriptor
+     */
+    public static short descriptor(Ship ship) {
+        List<Coordinate> cells = ship.getCoordinates();
+        Coordinate first = cells.get(0);
+        boolean horizontal = cells.size() < 2 || cells.get(1).getRow() == first.getRow();
+        int type = typeCode(ship.getType());
+        return (short) ((first.getRow() * 10 + first.getCol()) << 8 | type << 4
+                | (horizontal ? 1 : 0) << 3 | ship.getSize());
+    }
+
+    private static int typeCode(String type) {
+        for (int i = 0; i < TYPES.length; i++) {
+            if (TYPES[i].equals(type)) return i;
+        }
+        throw new IllegalArgumentException("Unknown ship type: " + type);
+    }
+
+    private static Board decodeBoard(ByteBuffer in) throws IOException {
+        int count = in.get() & 0xFF;
+        if (count > MAX_SHIPS) throw new IOException("Demasiados barcos: " + count);
+        int shipsAt = in.position();
+        if (in.remaining() < 2 * count + 16) throw new BufferUnderflowException();
+        in.position(shipsAt + 2 * count + 16);
+        return getBoard(in, shipsAt, count, shipsAt + 2 * count);
+    }
+
+    /**
+     * Computes the CRC32 of a range of a buffer, without moving its position.
+     *
+     * @param buffer The buffer
+     * @param from First byte
+     * @param to End of the range, exclusive
+     * @return The checksum
+     */
+    static int crc(ByteBuffer buffer, int from, int to) {
+        return crc(new CRC32(), buffer, from, to);
+    }
+
+    /**
+     * Computes the CRC32 of a range of a buffer with a reused checksum object.
+     *
+     * @param crc Checksum to reset and reuse
+     * @param buffer The buffer
+     * @param from First byte
+     * @param to End of the range, exclusive
+     * @return The checksum
+     */
+    static int crc(CRC32 crc, ByteBuffer buffer, int from, int to) {
+        crc.reset();
+        crc.update(buffer.duplicate().limit(to).position(from));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.battleship.util;
+
+import com.example.battleship.model.Board;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Summary of a saved game, kept next to it so menus can describe a save without loading
+ * its boards.
+ *
+ * <pre>
+ * [magic i32 "BSMD"][version u8][flags u8: bit 0 = player's turn]
+ * [created i64][saved i64, epoch millis][shots fired u8][shots received u8][enemy ships sunk u8]
+ * [nickname: length u8 + UTF-8][difficulty: length u8 + UTF-8]
+ * [CRC32 of everything before it, i32]
+ * </pre>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class SaveInfo {
+
+    public static final int MAGIC = 0x42534D44; // "BSMD"
+    public static final byte VERSION = 1;
+
+    /**
+     * Largest encoded summary: both strings at 255 bytes.
+     */
+    public static final int MAX_BYTES = 4 + 1 + 1 + 8 + 8 + 3 + 2 * (1 + 255) + 4;
+
+    private final String nickname;
+    private final String difficulty;
+    private final boolean playerTurn;
+    private final long createdAt;
+    private final long savedAt;
+    private final int shotsFired;
+    private final int shotsReceived;
+    private final int enemyShipsSunk;
+
+    /**
+     * Creates a summary.
+     *
+     * @param nickname Player's nickname
+     * @param difficulty AI difficulty, e.g. "EASY"
+     * @param playerTurn true if it is the player's turn
+     * @param createdAt When the game started, in epoch millis
+     * @param savedAt When it was saved, in epoch millis
+     * @param shotsFired Shots fired by the player
+     * @param shotsReceived Shots fired by the machine
+     * @param enemyShipsSunk Machine ships sunk by the player
+     */
+    public SaveInfo(String nickname, String difficulty, boolean playerTurn, long createdAt, long savedAt,
+                    int shotsFired, int shotsReceived, int enemyShipsSunk) {
+        this.nickname = nickname == null ? "" : nickname;
+        this.difficulty = difficulty == null ? "" : difficulty;
+        this.playerTurn = playerTurn;
+        this.createdAt = createdAt;
+        this.savedAt = savedAt;
+        this.shotsFired = shotsFired;
+        this.shotsReceived = shotsReceived;
+        this.enemyShipsSunk = enemyShipsSunk;
+    }
+
+    /**
+     * Counts the cells of a board that have been shot at.
+     *
+     * @param board The board
+     * @return Shots on the board
+     */
+    public static int countShots(Board board) {
+        int shots = 0;
+        for (Board.CellState state : board.getGrid().values()) {
+            if (state == Board.CellState.HIT || state == Board.CellState.MISS || state == Board.CellState.SUNK) {
+                shots++;
+            }
+        }
+        return shots;
+    }
+
+    /**
+     * Encodes the summary.
+     *
+     * @param out Buffer with at least {@link #MAX_BYTES} bytes free
+     * @return Bytes written
+     */
+    public int encode(ByteBuffer out) {
+        int start = out.position();
+        out.putInt(MAGIC);
+        out.put(VERSION);
+        out.put((byte) (playerTurn ? 1 : 0));
+        out.putLong(createdAt);
+        out.putLong(savedAt);
+        out.put((byte) shotsFired);
+        out.put((byte) shotsReceived);
+        out.put((byte) enemyShipsSunk);
+        putString(nickname, out);
+        putString(difficulty, out);
+        out.putInt(SaveCodec.crc(out, start, out.position()));
+        return out.position() - start;
+    }
+
+    /**
+     * Decodes a summary.
+     *
+     * @param in Buffer positioned at the start of a summary
+     * @return The summary
+     * @throws IOException If the data is not a valid summary
+     */
+    public static SaveInfo decode(ByteBuffer in) throws IOException {
+        int start = in.position();
+        try {
+            if (in.getInt() != MAGIC) throw new IOException("No es un resumen de partida");
+            byte version = in.get();
+            if (version != VERSION) throw new IOException("Versión de resumen no soportada: " + version);
+            boolean playerTurn = (in.get() & 1) != 0;
+            long createdAt = in.getLong();
+            long savedAt = in.getLong();
+            int shotsFired = in.get() & 0xFF;
+            int shotsReceived = in.get() & 0xFF;
+            int enemyShipsSunk = in.get() & 0xFF;
+            String nickname = getString(in);
+            String difficulty = getString(in);
+            int expected = SaveCodec.crc(in, start, in.position());
+            if (in.getInt() != expected) throw new IOException("Resumen dañado: checksum incorrecto");
+            return new SaveInfo(nickname, difficulty, playerTurn, createdAt, savedAt,
+                    shotsFired, shotsReceived, enemyShipsSunk);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Resumen incompleto", e);
+        }
+    }
+
+    private static void putString(String value, ByteBuffer out) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, 255);
+        out.put((byte) length);
+        out.put(bytes, 0, length);
+    }
+
+    private static String getString(ByteBuffer in) {
+        byte[] bytes = new byte[in.get() & 0xFF];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public String getNickname() { return nickname; }
+    public String getDifficulty() { return difficulty; }
+    public boolean isPlayerTurn() { return playerTurn; }
+    public long getCreatedAt() { return createdAt; }
+    public long getSavedAt() { return savedAt; }
+    public int getShotsFired() { return shotsFired; }
+    public int getShotsReceived() { return shotsReceived; }
+    public int getEnemyShipsSunk() { return enemyShipsSunk; }
+}
@@ -0,0 +1,306 @@
+package com.example.battleship.util;
+
+import com.example.battleship.model.Board;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Named save slots, so starting a new game no longer overwrites the previous one.
+ * Each slot is a file holding its {@link SaveInfo} and the game encoded by {@link SaveCodec};
+ * a compact index repeats every slot's summary, so listing slots reads one small file and
+ * never opens a slot. Games are only decoded by {@link #load(int)}.
+ *
+ * <pre>
+ * slot  = [summary][game]
+ * index = [magic i32 "BSIX"][version u8][next id i32][count u16]
+ *         [count x (id i32, summary)][CRC32 of everything before it, i32]
+ * </pre>
+ *
+ * <p>Files are replaced atomically (temporary file plus rename), the slot before the index.
+ * A slot is identified by its game: the nickname and start time of its summary. When there
+ * are more than {@link #getMaxSlots()} slots the least recently saved are evicted. A missing
+ * or damaged index is rebuilt from the slot files.</p>
+ *
+ * <p>Thread-safe: every method locks the slots.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SaveSlots {
+
+    private static final int MAGIC = 0x42534958; // "BSIX"
+    private static final byte VERSION = 1;
+    private static final String INDEX_FILE = "index.dat";
+    private static final String SLOT_SUFFIX = ".slot";
+
+    /**
+     * Default number of slots kept.
+     */
+    public static final int DEFAULT_MAX_SLOTS = 200;
+
+    private final Path dir;
+    private final int maxSlots;
+
+    // Loaded from the index on first use; in order of id
+    private Map<Integer, Slot> slots;
+    private int nextId = 1;
+
+    /**
+     * Lazy holder for the slots in the data folder.
+     */
+    private static class Holder {
+        private static final SaveSlots INSTANCE = new SaveSlots(ArchivoUtil.getDataPath("slots"),
+                Integer.getInteger("battleship.maxSlots", DEFAULT_MAX_SLOTS));
+    }
+
+    /**
+     * Gets the slots in the data folder. The cap can be set with the "battleship.maxSlots"
+     * system property.
+     *
+     * @return The shared slots
+     */
+    public static SaveSlots getDefault() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Creates the slots of a folder. Nothing is read until first use.
+     *
+     * @param dir Folder of the slot files and the index
+     * @param maxSlots Slots kept before evicting the least recently saved
+     */
+    public SaveSlots(Path dir, int maxSlots) {
+        this.dir = dir;
+        this.maxSlots = Math.max(1, Math.min(maxSlots, 0xFFFF)); // The index counts slots in 16 bits
+    }
+
+    /**
+     * Lists the slots, most recently saved first. Only the index is read.
+     *
+     * @return The slots
+     */
+    public synchronized List<Slot> list() {
+        List<Slot> list = new ArrayList<>(index().values());
+        list.sort(Comparator.comparingLong((Slot slot) -> slot.getInfo().getSavedAt()).reversed());
+        return list;
+    }
+
+    /**
+     * Gets a slot from the index.
+     *
+     * @param id Slot id
+     * @return The slot, or null if there is none
+     */
+    public synchronized Slot get(int id) {
+        return index().get(id);
+    }
+
+    /**
+     * Saves a game in its slot: the slot of the same game if there is one, otherwise a new
+     * one, evicting the least recently saved slots beyond the cap.
+     *
+     * @param info Summary of the game; its nickname and start time identify the slot
+     * @param playerBoard Player's board
+     * @param machineBoard Machine's board
+     * @param playerTurn true if it is the player's turn
+     * @return The slot
+     * @throws IOException If the slot cannot be written
+     */
+    public synchronized Slot save(SaveInfo info, Board playerBoard, Board machineBoard, boolean playerTurn)
+            throws IOException {
+        Map<Integer, Slot> index = index();
+        int id = 0;
+        for (Slot slot : index.values()) {
+            if (slot.getInfo().getCreatedAt() == info.getCreatedAt()
+                    && slot.getInfo().getNickname().equals(info.getNickname())) {
+                id = slot.getId();
+                break;
+            }
+        }
+        if (id == 0) id = nextId++;
+
+        ByteBuffer buffer = ByteBuffer.allocate(SaveInfo.MAX_BYTES + SaveCodec.MAX_BYTES);
+        info.encode(buffer);
+        SaveCodec.encode(playerBoard, machineBoard, playerTurn, buffer);
+        writeAtomically(slotFile(id), buffer.flip());
+
+        Slot slot = new Slot(id, info);
+        index.put(id, slot);
+        List<Integer> evicted = new ArrayList<>();
+        while (index.size() > maxSlots) {
+            Slot oldest = null;
+            for (Slot candidate : index.values()) {
+                if (oldest == null || candidate.getInfo().getSavedAt() < oldest.getInfo().getSavedAt()) {
+                    oldest = candidate;
+                }
+            }
+            index.remove(oldest.getId());
+            evicted.add(oldest.getId());
+        }
+        writeIndex();
+        for (int evictedId : evicted) {
+            Files.deleteIfExists(slotFile(evictedId));
+        }
+        return slot;
+    }
+
+    /**
+     * Loads the game of a slot.
+     *
+     * @param id Slot id
+     * @return [Board player, Board machine, Boolean turn], like {@link ArchivoUtil#loadGame()}
+     * @throws IOException If there is no such slot or its file is damaged
+     */
+    public synchronized Object[] load(int id) throws IOException {
+        if (!index().containsKey(id)) throw new IOException("No existe la ranura " + id);
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(slotFile(id)));
+        SaveInfo.decode(buffer);
+        return SaveCodec.decode(buffer);
+    }
+
+    /**
+     * Deletes a slot.
+     *
+     * @param id Slot id
+     * @return true if the slot existed
+     * @throws IOException If the index cannot be written
+     */
+    public synchronized boolean delete(int id) throws IOException {
+        if (index().remove(id) == null) return false;
+        writeIndex();
+        Files.deleteIfExists(slotFile(id));
+        return true;
+    }
+
+    public int getMaxSlots() { return maxSlots; }
+
+    private Path slotFile(int id) {
+        return dir.resolve(id + SLOT_SUFFIX);
+    }
+
+    /**
+     * Gets the index, reading it on first use or rebuilding it from the slot files.
+     */
+    private Map<Integer, Slot> index() {
+        if (slots != null) return slots;
+        slots = new LinkedHashMap<>();
+        Path indexFile = dir.resolve(INDEX_FILE);
+        if (Files.exists(indexFile)) {
+            try {
+                readIndex(ByteBuffer.wrap(Files.readAllBytes(indexFile)));
+                return slots;
+            } catch (IOException e) {
+                System.err.println("Índice de ranuras dañado, se reconstruye: " + e.getMessage());
+                slots.clear();
+            }
+        }
+        rebuildIndex();
+        return slots;
+    }
+
+    private void readIndex(ByteBuffer in) throws IOException {
+        try {
+            if (in.getInt() != MAGIC) throw new IOException("No es un índice de ranuras");
+            byte version = in.get();
+            if (version != VERSION) throw new IOException("Versión de índice no soportada: " + version);
+            nextId = in.getInt();
+            int count = in.getShort() & 0xFFFF;
+            for (int i = 0; i < count; i++) {
+                int id = in.getInt();
+                slots.put(id, new Slot(id, SaveInfo.decode(in)));
+            }
+            int expected = SaveCodec.crc(in, 0, in.position());
+            if (in.getInt() != expected) throw new IOException("Índice dañado: checksum incorrecto");
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Índice incompleto", e);
+        }
+    }
+
+    /**
+     * Rebuilds the index from the summaries at the start of the slot files.
+     */
+    private void rebuildIndex() {
+        if (!Files.isDirectory(dir)) return;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + SLOT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    int id = Integer.parseInt(name.substring(0, name.length() - SLOT_SUFFIX.length()));
+                    slots.put(id, new Slot(id, SaveInfo.decode(ByteBuffer.wrap(Files.readAllBytes(file)))));
+                    nextId = Math.max(nextId, id + 1);
+                } catch (NumberFormatException | IOException e) {
+                    System.err.println("Ranura ignorada: " + name);
+                }
+            }
+            writeIndex();
+        } catch (IOException e) {
+            System.err.println("Error reconstruyendo el índice de ranuras: " + e.getMessage());
+        }
+    }
+
+    private void writeIndex() throws IOException {
+        ByteBuffer out = ByteBuffer.allocate(4 + 1 + 4 + 2 + slots.size() * (4 + SaveInfo.MAX_BYTES) + 4);
+        out.putInt(MAGIC);
+        out.put(VERSION);
+        out.putInt(nextId);
+        out.putShort((short) slots.size());
+        for (Slot slot : slots.values()) {
+            out.putInt(slot.getId());
+            slot.getInfo().encode(out);
+        }
+        out.putInt(SaveCodec.crc(out, 0, out.position()));
+        writeAtomically(dir.resolve(INDEX_FILE), out.flip());
+    }
+
+    /**
+     * Writes a file through a temporary file renamed over it, so it is never seen half written.
+     */
+    private void writeAtomically(Path file, ByteBuffer data) throws IOException {
+        Files.createDirectories(dir);
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+            channel.force(false);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * A save slot, as listed in the index.
+     */
+    public static final class Slot {
+        private final int id;
+        private final SaveInfo info;
+
+        /**
+         * Creates a slot entry.
+         *
+         * @param id Slot id
+         * @param info Summary of its game
+         */
+        public Slot(int id, SaveInfo info) {
+            this.id = id;
+            this.info = info;
+        }
+
+        public int getId() { return id; }
+        public SaveInfo getInfo() { return info; }
+    }
+}
@@ -0,0 +1,471 @@
+package com.example.battleship.util;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.replay.ReplayRecord;
+import com.example.battleship.replay.ReplayWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Write-behind saving of the desktop game.
+ * Callers only hand over how to capture the state; a single background thread captures
+ * and writes the latest one. Requests that arrive before the next write are coalesced, so
+ * a burst of shots costs one write and saving never adds latency to a click.
+ *
+ * <ul>
+ *   <li>{@link #request(Callable)}: writes at most once per interval, e.g. after a shot.</li>
+ *   <li>{@link #requestNow(Callable)}: writes as soon as the worker is free, e.g. at a turn boundary.</li>
+ *   <li>{@link #flush()} and {@link #close()}: write what is pending and wait, e.g. on exit.</li>
+ * </ul>
+ *
+ * <p>With a {@link MoveLog} (the {@link ShotJournal} or the {@link LiveSaveFile}), single moves
+ * are written to it instead ({@link #journalShot(boolean, Coordinate)}), so every move is kept
+ * at the cost of one small write, and full saves are only needed every
+ * {@link #getSnapshotEvery()} moves. Move writes run on the same thread, in order with the saves.
+ * The menu summary ({@link SaveInfo}) handed over with {@link #updateInfo(SaveInfo)} is written
+ * at every turn boundary and on close, so it stays current between full saves.</p>
+ *
+ * <p>Finished games go to the replay archive ({@link #archiveReplay(ReplayRecord)}) through one
+ * {@link ReplayWriter} kept open on the worker thread: games share compressed blocks, and the
+ * archive's index is written once, on close. An archive left unclosed by a crash keeps its
+ * complete blocks when it is opened again.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SaveWorker implements AutoCloseable {
+
+    /**
+     * Default time between coalesced writes.
+     */
+    public static final long DEFAULT_INTERVAL_MILLIS = 500;
+
+    /**
+     * Default moves between full saves when moves are journaled.
+     */
+    public static final int DEFAULT_SNAPSHOT_EVERY = 32;
+
+    private final long intervalMillis;
+    private final Consumer<Snapshot> writer;
+    private final MoveLog journal;
+    private final int snapshotEvery;
+    private final Consumer<SaveInfo> infoWriter;
+    private final Path replayFile;
+    private ReplayWriter replays; // Opened on the first archived game; worker thread only
+    private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "save-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicReference<Callable<Snapshot>> pending = new AtomicReference<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicReference<SaveInfo> latestInfo = new AtomicReference<>();
+
+    // Statistics
+    private final LongAdder requested = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * Lazy holder for the worker saving to the data folder.
+     */
+    private static class Holder {
+        private static final SaveWorker INSTANCE = new SaveWorker(
+                Long.getLong("battleship.saveIntervalMillis", DEFAULT_INTERVAL_MILLIS), SaveWorker::writeFiles,
+                ArchivoUtil.getMoveLog(),
+                Integer.getInteger("battleship.snapshotEvery", DEFAULT_SNAPSHOT_EVERY), ArchivoUtil::saveInfo,
+                ArchivoUtil.getReplayPath());
+    }
+
+    /**
+     * Gets the worker saving to the data folder. The interval can be set with the
+     * "battleship.saveIntervalMillis" system property, the moves between full saves with
+     * "battleship.snapshotEvery"; see {@link ArchivoUtil#getMoveLog()} for where moves go.
+     *
+     * @return The shared worker
+     */
+    public static SaveWorker getDefault() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Creates a worker.
+     *
+     * @param intervalMillis Time between coalesced writes
+     * @param writer Writes a captured state; runs on the worker thread
+     */
+    public SaveWorker(long intervalMillis, Consumer<Snapshot> writer) {
+        this(intervalMillis, writer, null, 1);
+    }
+
+    /**
+     * Creates a worker that journals single moves.
+     *
+     * @param intervalMillis Time between coalesced writes
+     * @param writer Writes a captured state; runs on the worker thread
+     * @param journal Log of the moves since the last save, or null for none
+     * @param snapshotEvery Moves between full saves when journaling
+     */
+    public SaveWorker(long intervalMillis, Consumer<Snapshot> writer, MoveLog journal, int snapshotEvery) {
+        this(intervalMillis, writer, journal, snapshotEvery, null);
+    }
+
+    /**
+     * Creates a worker that journals single moves and keeps the menu summary current.
+     *
+     * @param intervalMillis Time between coalesced writes
+     * @param writer Writes a captured state; runs on the worker thread
+     * @param journal Log of the moves since the last save, or null for none
+     * @param snapshotEvery Moves between full saves when journaling
+     * @param infoWriter Writes the summary at turn boundaries and on close, or null for none
+     */
+    public SaveWorker(long intervalMillis, Consumer<Snapshot> writer, MoveLog journal, int snapshotEvery,
+                      Consumer<SaveInfo> infoWriter) {
+        this(intervalMillis, writer, journal, snapshotEvery, infoWriter, null);
+    }
+
+    /**
+     * Creates a worker that also keeps a replay archive.
+     *
+     * @param intervalMillis Time between coalesced writes
+     * @param writer Writes a captured state; runs on the worker thread
+     * @param journal Log of the moves since the last save, or null for none
+     * @param snapshotEvery Moves between full saves when journaling
+     * @param infoWriter Writes the summary at turn boundaries and on close, or null for none
+     * @param replayFile Replay archive for finished games, or null for none
+     */
+    public SaveWorker(long intervalMillis, Consumer<Snapshot> writer, MoveLog journal, int snapshotEvery,
+                      Consumer<SaveInfo> infoWriter, Path replayFile) {
+        this.replayFile = replayFile;
+        this.intervalMillis = intervalMillis;
+        this.writer = writer;
+        this.journal = journal;
+        this.snapshotEvery = Math.max(1, snapshotEvery);
+        this.infoWriter = infoWriter;
+    }
+
+    /**
+     * Indicates whether single moves are journaled.
+     *
+     * @return true if there is a move log
+     */
+    public boolean hasJournal() {
+        return journal != null;
+    }
+
+    /**
+     * Gets the moves between full saves when journaling.
+     *
+     * @return Moves per full save
+     */
+    public int getSnapshotEvery() {
+        return snapshotEvery;
+    }
+
+    /**
+     * Journals a shot. Never blocks.
+     *
+     * @param playerBoard true if the shot landed on the player's board
+     * @param target The target cell
+     */
+    public void journalShot(boolean playerBoard, Coordinate target) {
+        journalWrite(() -> journal.appendShot(playerBoard, target));
+    }
+
+    /**
+     * Hands over the summary of the current state; it is written at the next turn boundary or
+     * on close. Never blocks. Full saves write their own summary.
+     *
+     * @param info The summary
+     */
+    public void updateInfo(SaveInfo info) {
+        latestInfo.set(info);
+    }
+
+    /**
+     * Marks the end of a turn in the journal and writes the latest summary. Never blocks.
+     */
+    public void endTurn() {
+        journalWrite(() -> {
+            journal.commitTurn();
+            writeInfo();
+        });
+    }
+
+    /**
+     * Adds a finished game to the replay archive. Never blocks.
+     *
+     * @param record The recorded game
+     */
+    public void archiveReplay(ReplayRecord record) {
+        if (replayFile == null) return;
+        execute(() -> {
+            if (replays == null) {
+                Files.createDirectories(replayFile.toAbsolutePath().getParent());
+                replays = new ReplayWriter(replayFile);
+            }
+            replays.append(record);
+        });
+    }
+
+    /**
+     * Writes what is pending, including the archived games still held in the current replay
+     * block, and waits, e.g. before the replay viewer opens the archive.
+     */
+    public void flushReplays() {
+        await(() -> {
+            writePending();
+            if (replays == null) return;
+            try {
+                replays.flush();
+            } catch (IOException e) {
+                failed.increment();
+                System.err.println("Error guardando las repeticiones: " + e.getMessage());
+            }
+        });
+    }
+
+    private void journalWrite(BackgroundWrite write) {
+        if (journal == null) return;
+        submit(() -> worker.execute(() -> {
+            try {
+                write.run();
+            } catch (IOException e) {
+                failed.increment();
+                System.err.println("Error anotando la jugada: " + e.getMessage());
+            }
+        }));
+    }
+
+    /**
+     * Runs a write on the worker thread, after every write asked for before it. Never blocks.
+     *
+     * @param write The write; its errors are counted and logged
+     */
+    public void execute(BackgroundWrite write) {
+        submit(() -> worker.execute(() -> {
+            try {
+                write.run();
+            } catch (IOException e) {
+                failed.increment();
+                System.err.println("Error de escritura en segundo plano: " + e.getMessage());
+            }
+        }));
+    }
+
+    /**
+     * Asks for a save within the interval. Never blocks.
+     *
+     * @param capture Captures the state to save; called later on the worker thread
+     */
+    public void request(Callable<Snapshot> capture) {
+        requested.increment();
+        pending.set(capture);
+        if (scheduled.compareAndSet(false, true)) {
+            submit(() -> worker.schedule(this::writePending, intervalMillis, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    /**
+     * Asks for a save as soon as possible. Never blocks.
+     *
+     * @param capture Captures the state to save; called later on the worker thread
+     */
+    public void requestNow(Callable<Snapshot> capture) {
+        requested.increment();
+        pending.set(capture);
+        submit(() -> worker.execute(this::writePending));
+    }
+
+    /**
+     * Writes the pending save, if any, and waits for it.
+     * Must not be called from a thread the capture waits for, e.g. the game's actor.
+     */
+    public void flush() {
+        await(this::writePending);
+    }
+
+    /**
+     * Writes the pending save and the latest summary, completes the replay archive, stops the
+     * worker and closes the journal.
+     */
+    @Override
+    public void close() {
+        await(() -> {
+            writePending();
+            writeInfo();
+            closeReplays();
+        });
+        worker.shutdown();
+        if (journal == null) return;
+        try {
+            journal.close();
+        } catch (IOException e) {
+            System.err.println("Error cerrando el registro de jugadas: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Runs a task on the worker thread and waits for it.
+     */
+    private void await(Runnable task) {
+        try {
+            worker.submit(task).get();
+        } catch (RejectedExecutionException e) {
+            // Closed: everything was written on close
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.err.println("Error guardando la partida: " + e.getCause());
+        }
+    }
+
+    /**
+     * Write run on the worker thread.
+     */
+    public interface BackgroundWrite {
+        void run() throws IOException;
+    }
+
+    private void submit(Runnable schedule) {
+        try {
+            schedule.run();
+        } catch (RejectedExecutionException e) {
+            System.err.println("Partida no guardada: el guardado ya se cerró");
+        }
+    }
+
+    /**
+     * Captures and writes the latest requested state. Runs on the worker thread only.
+     */
+    private void writePending() {
+        scheduled.set(false);
+        Callable<Snapshot> capture = pending.getAndSet(null);
+        if (capture == null) return; // Coalesced into an earlier write
+
+        try {
+            Snapshot snapshot = capture.call();
+            if (snapshot == null) return;
+            writer.accept(snapshot);
+            written.increment();
+        } catch (Exception e) {
+            failed.increment();
+            System.err.println("Error guardando la partida: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the summary handed over since the last one written. Runs on the worker thread only.
+     */
+    private void writeInfo() {
+        SaveInfo info = latestInfo.getAndSet(null);
+        if (info != null && infoWriter != null) infoWriter.accept(info);
+    }
+
+    /**
+     * Writes the last replay block and the archive's index. Runs on the worker thread only.
+     */
+    private void closeReplays() {
+        if (replays == null) return;
+        try {
+            replays.close();
+        } catch (IOException e) {
+            failed.increment();
+            System.err.println("Error cerrando las repeticiones: " + e.getMessage());
+        }
+        replays = null;
+    }
+
+    private static void writeFiles(Snapshot snapshot) {
+        ArchivoUtil.saveGame(snapshot.getPlayerBoard(), snapshot.getMachineBoard(), snapshot.isPlayerTurn());
+        ArchivoUtil.saveScore(snapshot.getNickname(), snapshot.getEnemyShipsSunk());
+        ArchivoUtil.saveInfo(snapshot.toInfo(System.currentTimeMillis()));
+    }
+
+    public long getRequestedCount() { return requested.sum(); }
+    public long getWrittenCount() { return written.sum(); }
+    public long getFailedCount() { return failed.sum(); }
+
+    /**
+     * State to save, captured on the game's thread. The boards are private copies.
+     */
+    public static final class Snapshot {
+        private final Board playerBoard;
+        private final Board machineBoard;
+        private final boolean playerTurn;
+        private final String nickname;
+        private final int enemyShipsSunk;
+        private final String difficulty;
+        private final long createdAt;
+
+        /**
+         * Creates a snapshot.
+         *
+         * @param playerBoard Copy of the player's board
+         * @param machineBoard Copy of the machine's board
+         * @param playerTurn true if it is the player's turn
+         * @param nickname Player's nickname
+         * @param enemyShipsSunk Machine ships sunk by the player
+         */
+        public Snapshot(Board playerBoard, Board machineBoard, boolean playerTurn, String nickname, int enemyShipsSunk) {
+            this(playerBoard, machineBoard, playerTurn, nickname, enemyShipsSunk, null, 0);
+        }
+
+        /**
+         * Creates a snapshot with the details shown in menus.
+         *
+         * @param playerBoard Copy of the player's board
+         * @param machineBoard Copy of the machine's board
+         * @param playerTurn true if it is the player's turn
+         * @param nickname Player's nickname
+         * @param enemyShipsSunk Machine ships sunk by the player
+         * @param difficulty AI difficulty, e.g. "EASY"
+         * @param createdAt When the game started, in epoch millis
+         */
+        public Snapshot(Board playerBoard, Board machineBoard, boolean playerTurn, String nickname, int enemyShipsSunk,
+                        String difficulty, long createdAt) {
+            this.playerBoard = playerBoard;
+            this.machineBoard = machineBoard;
+            this.playerTurn = playerTurn;
+            this.nickname = nickname;
+            this.enemyShipsSunk = enemyShipsSunk;
+            this.difficulty = difficulty;
+            this.createdAt = createdAt;
+        }
+
+        /**
+         * Summarizes the snapshot for menus.
+         *
+         * @param savedAt When it is saved, in epoch millis
+         * @return The summary
+         */
+        public SaveInfo toInfo(long savedAt) {
+            return new SaveInfo(nickname, difficulty, playerTurn, createdAt == 0 ? savedAt : createdAt, savedAt,
+                    SaveInfo.countShots(machineBoard), SaveInfo.countShots(playerBoard), enemyShipsSunk);
+        }
+
+        public Board getPlayerBoard() { return playerBoard; }
+        public Board getMachineBoard() { return machineBoard; }
+        public boolean isPlayerTurn() { return playerTurn; }
+        public String getNickname() { return nickname; }
+        public int getEnemyShipsSunk() { return enemyShipsSunk; }
+        public String getDifficulty() { return difficulty; }
+        public long getCreatedAt() { return createdAt; }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.battleship.util;
+
+import com.example.battleship.model.Ship;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ShipFactory {
+
+    /**
+     * Tipos de la flota estándar, en el orden en que se colocan.
+     */
+    private static final String[] FLEET = {
+            "Carrier", "Submarine", "Submarine", "Destroyer", "Destroyer", "Destroyer",
+            "Frigate", "Frigate", "Frigate", "Frigate"
+    };
+
+    public static Ship createShip(String type) {
+        switch (type.toUpperCase()) {
+            case "CARRIER": return new Ship("Carrier", 4);
+            case "SUBMARINE": return new Ship("Submarine", 3);
+            case "DESTROYER": return new Ship("Destroyer", 2);
+            case "FRIGATE": return new Ship("Frigate", 1);
+            default: throw new IllegalArgumentException("Unknown ship type");
+        }
+    }
+
+    /**
+     * Crea la flota estándar de 10 barcos (1x4, 2x3, 3x2, 4x1).
+     *
+     * @return Lista nueva de barcos, en orden de colocación
+     */
+    public static List<Ship> createFleet() {
+        List<Ship> fleet = new ArrayList<>();
+        for (String type : FLEET) {
+            fleet.add(createShip(type));
+        }
+        return fleet;
+    }
+}
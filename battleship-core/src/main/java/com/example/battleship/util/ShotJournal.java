@@ -0,0 +1,274 @@
+package com.example.battleship.util;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of the moves made since the last full save (snapshot).
+ * Every shot is one fixed-size record, so saving a move costs one
+ * small write instead of rewriting the game. Loading replays the journal on top of the
+ * snapshot; writing a new snapshot resets it.
+ *
+ * <pre>
+ * header = [magic i32 "BSJL"][version i32][snapshot id i32][CRC32 of the header, i32]
+ * record = [kind u8: 2 shot][board u8: 0 player, 1 machine][cell u16]
+ *          [sequence i32, 1, 2, 3...][CRC32 of the record, i32]
+ * </pre>
+ *
+ * <p>The snapshot id is the checksum of the snapshot the journal continues, so a journal
+ * left over from another game is never replayed. Replay stops at the first torn or
+ * damaged record (e.g. the process died mid-write), and that tail is cut off before the
+ * next append. Replaying a move twice is harmless: shots already on the board are
+ * skipped, which covers a crash between a snapshot and the journal reset. Ship placement
+ * is never journaled: it ends with the snapshot written when the game starts.</p>
+ *
+ * <p>Thread-safe: every method locks the journal.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ShotJournal implements MoveLog {
+
+    /**
+     * When appended records are forced to disk.
+     */
+    public enum Durability {
+        /** Never forced; the OS writes them back. Fastest; a power cut can lose recent moves */
+        NONE,
+        /** Forced every {@code groupSize} records (group commit) */
+        GROUP,
+        /** Forced at the end of every turn */
+        TURN;
+
+        /**
+         * Parses a mode name, case-insensitively.
+         *
+         * @param name Mode name, e.g. "turn"
+         * @return The mode, or TURN if the name is unknown or null
+         */
+        public static Durability fromName(String name) {
+            if (name != null) {
+                for (Durability durability : values()) {
+                    if (durability.name().equalsIgnoreCase(name.trim())) return durability;
+                }
+            }
+            return TURN;
+        }
+    }
+
+    private static final int MAGIC = 0x42534A4C; // "BSJL"
+    private static final int VERSION = 1;
+    public static final int HEADER_BYTES = 16;
+    public static final int RECORD_BYTES = 12;
+
+    private static final byte SHOT = 2;
+
+    private final Path file;
+    private final Durability durability;
+    private final int groupSize;
+    private final ByteBuffer record = ByteBuffer.allocateDirect(RECORD_BYTES);
+    private final ByteBuffer header = ByteBuffer.allocateDirect(HEADER_BYTES);
+    private final CRC32 crc = new CRC32();
+
+    private FileChannel channel;
+    private int snapshotId;
+    private int sequence;
+    private int unforced;
+
+    // Statistics
+    private long appended;
+    private long forces;
+
+    /**
+     * Creates a journal. The file is opened on first use.
+     *
+     * @param file Journal file
+     * @param durability When records are forced to disk
+     * @param groupSize Records per force in {@link Durability#GROUP} mode
+     */
+    public ShotJournal(Path file, Durability durability, int groupSize) {
+        this.file = file;
+        this.durability = durability;
+        this.groupSize = Math.max(1, groupSize);
+    }
+
+    /**
+     * Appends a shot.
+     *
+     * @param playerBoard true if the shot landed on the player's board
+     * @param target The target cell
+     * @throws IOException If the write fails
+     */
+    @Override
+    public synchronized void appendShot(boolean playerBoard, Coordinate target) throws IOException {
+        append(SHOT, playerBoard, target.getRow() * 10 + target.getCol());
+    }
+
+    private void append(byte kind, boolean playerBoard, int value) throws IOException {
+        open();
+        record.clear();
+        record.put(kind).put((byte) (playerBoard ? 0 : 1)).putShort((short) value).putInt(sequence + 1);
+        record.putInt(checksum(record, 0, 8));
+        record.flip();
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+        sequence++;
+        appended++;
+        unforced++;
+        if (durability == Durability.GROUP && unforced >= groupSize) force();
+    }
+
+    /**
+     * Marks the end of a turn: forces the turn's records in {@link Durability#TURN} mode.
+     *
+     * @throws IOException If the force fails
+     */
+    @Override
+    public synchronized void commitTurn() throws IOException {
+        if (durability == Durability.TURN && unforced > 0) force();
+    }
+
+    /**
+     * Empties the journal after a snapshot was written.
+     *
+     * @param snapshotId Checksum of the new snapshot
+     * @throws IOException If the write fails
+     */
+    public synchronized void reset(int snapshotId) throws IOException {
+        open();
+        channel.truncate(HEADER_BYTES);
+        writeHeader(snapshotId);
+        channel.position(HEADER_BYTES);
+        sequence = 0;
+        if (durability != Durability.NONE) force();
+        unforced = 0;
+    }
+
+    /**
+     * Applies the journal's moves to the boards of a loaded snapshot.
+     * A journal of another snapshot is discarded.
+     *
+     * @param snapshotId Checksum of the loaded snapshot
+     * @param playerBoard Player's board, updated in place
+     * @param machineBoard Machine's board, updated in place
+     * @return Records applied
+     * @throws IOException If the journal cannot be read
+     */
+    public synchronized int replay(int snapshotId, Board playerBoard, Board machineBoard) throws IOException {
+        open();
+        if (this.snapshotId != snapshotId) {
+            reset(snapshotId); // Left over from another game
+            return 0;
+        }
+        channel.position(HEADER_BYTES);
+        for (int i = 0; i < sequence; i++) {
+            record.clear();
+            readFully(record);
+            record.flip();
+            byte kind = record.get();
+            Board board = record.get() == 0 ? playerBoard : machineBoard;
+            int value = record.getShort() & 0xFFFF;
+            if (kind == SHOT) {
+                board.fireAt(new Coordinate(value / 10, value % 10));
+            }
+        }
+        return sequence;
+    }
+
+    /**
+     * Opens the file: checks the header and cuts off a torn or damaged tail.
+     */
+    private void open() throws IOException {
+        if (channel != null) return;
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        header.clear();
+        channel.position(0);
+        if (channel.size() < HEADER_BYTES || !readHeader()) {
+            channel.truncate(0);
+            writeHeader(0);
+            channel.position(HEADER_BYTES);
+            sequence = 0;
+            return;
+        }
+
+        long records = (channel.size() - HEADER_BYTES) / RECORD_BYTES;
+        int valid = 0;
+        channel.position(HEADER_BYTES);
+        while (valid < records) {
+            record.clear();
+            readFully(record);
+            if (record.getInt(4) != valid + 1 || record.getInt(8) != checksum(record, 0, 8)) break;
+            valid++;
+        }
+        long end = HEADER_BYTES + (long) valid * RECORD_BYTES;
+        if (end < channel.size()) {
+            channel.truncate(end); // Torn write or damaged record
+        }
+        channel.position(end);
+        sequence = valid;
+    }
+
+    private boolean readHeader() throws IOException {
+        readFully(header);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION
+                || header.getInt(12) != checksum(header, 0, 12)) {
+            return false;
+        }
+        snapshotId = header.getInt(8);
+        return true;
+    }
+
+    private void writeHeader(int id) throws IOException {
+        header.clear();
+        header.putInt(MAGIC).putInt(VERSION).putInt(id);
+        header.putInt(checksum(header, 0, 12));
+        header.flip();
+        long position = 0;
+        while (header.hasRemaining()) {
+            position += channel.write(header, position);
+        }
+        snapshotId = id;
+    }
+
+    private void readFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) throw new IOException("Diario incompleto");
+        }
+    }
+
+    private void force() throws IOException {
+        channel.force(false);
+        forces++;
+        unforced = 0;
+    }
+
+    private int checksum(ByteBuffer buffer, int from, int to) {
+        return SaveCodec.crc(crc, buffer, from, to);
+    }
+
+    /**
+     * Forces pending records and closes the file.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel == null) return;
+        if (durability != Durability.NONE && unforced > 0) force();
+        channel.close();
+        channel = null;
+    }
+
+    public synchronized int getSequence() { return sequence; }
+    public synchronized long getAppendedCount() { return appended; }
+    public synchronized long getForceCount() { return forces; }
+    public Durability getDurability() { return durability; }
+}
@@ -0,0 +1,15 @@
+// Motor del juego sin JavaFX: modelo, reglas, persistencia y simulación
+module com.example.battleship.core {
+    exports com.example.battleship.model;
+    exports com.example.battleship.exceptions;
+    exports com.example.battleship.interfaces;
+    exports com.example.battleship.patterns;
+    exports com.example.battleship.util;
+    exports com.example.battleship.engine;
+    exports com.example.battleship.simulation;
+    exports com.example.battleship.sync;
+    exports com.example.battleship.replay;
+
+    // Las estrategias de IA se cargan desde battleship-ai
+    uses com.example.battleship.patterns.AiProvider;
+}
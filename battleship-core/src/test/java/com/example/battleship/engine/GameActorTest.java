@@ -0,0 +1,90 @@
+package com.example.battleship.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GameActor class.
+ * Tests ordering, confinement to one thread and error propagation.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class GameActorTest {
+
+    @Test
+    @DisplayName("Should apply commands of many producers one at a time on one thread, in order per producer")
+    void testSingleWriter() throws Exception {
+        GameActor actor = new GameActor();
+        int producers = 4;
+        int commands = 10_000;
+        List<int[]> applied = new ArrayList<>(); // Touched only by commands: no lock needed
+        Set<Thread> owners = Collections.synchronizedSet(new HashSet<>());
+
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < commands; i++) {
+                    int value = i;
+                    actor.execute(() -> {
+                        owners.add(Thread.currentThread());
+                        applied.add(new int[]{producer, value});
+                    });
+                }
+            });
+            threads[p].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        int size = actor.call(applied::size);
+
+        assertEquals(producers * commands, size, "Every command should be applied exactly once");
+        assertEquals(1, owners.size(), "All commands should run on the owner thread");
+
+        int[] last = new int[producers];
+        Arrays.fill(last, -1);
+        for (int[] entry : applied) {
+            assertEquals(last[entry[0]] + 1, entry[1], "Commands of a producer should keep their order");
+            last[entry[0]] = entry[1];
+        }
+        assertTrue(actor.getProcessedCount() >= producers * commands, "Processed count should cover every command");
+    }
+
+    @Test
+    @DisplayName("Should return results and rethrow command exceptions")
+    void testCallResults() {
+        GameActor actor = new GameActor();
+
+        assertDoesNotThrow(() -> assertEquals(42, actor.call(() -> 42), "Result should be returned"));
+        assertThrows(IOException.class, () -> actor.call(() -> {
+            throw new IOException("boom");
+        }), "Checked exception should reach the caller");
+    }
+
+    @Test
+    @DisplayName("Should run nested calls inline on the owner thread")
+    void testReentrantCall() throws Exception {
+        GameActor actor = new GameActor();
+
+        int result = actor.call(() -> {
+            assertTrue(actor.isOwnerThread(), "Command should run on the owner thread");
+            return actor.call(() -> 7) + 1;
+        });
+
+        assertEquals(8, result, "Nested call should not deadlock");
+        assertFalse(actor.isOwnerThread(), "Test thread is not the owner");
+    }
+}
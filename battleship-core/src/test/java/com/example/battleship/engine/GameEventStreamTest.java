@@ -0,0 +1,253 @@
+package com.example.battleship.engine;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.model.GameEvent;
+import com.example.battleship.model.Ship;
+import com.example.battleship.patterns.GameObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GameEventStream class.
+ * Tests ordered delivery, dropping only board snapshots for slow subscribers, queueing other
+ * events without blocking, demand, completion and cancelling.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class GameEventStreamTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should deliver events to an observer in order, off the publishing thread")
+    void testOrderedDelivery() throws InterruptedException {
+        GameEventStream stream = new GameEventStream(executor, 16);
+        List<Long> sequences = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        stream.subscribe(new RecordingObserver(event -> {
+            sequences.add(event.getSequence());
+            threads.add(Thread.currentThread());
+            if (event.getType() == GameEvent.Type.GAME_OVER) done.countDown();
+        }));
+
+        for (int i = 1; i <= 10; i++) {
+            stream.publish(GameEvent.turnChanged(i, i % 2 == 0));
+        }
+        stream.publish(GameEvent.gameOver(11, true));
+
+        assertTrue(done.await(5, TimeUnit.SECONDS), "All events should arrive");
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L), sequences, "Events should keep their order");
+        assertFalse(threads.contains(Thread.currentThread()), "Observers should not run on the publishing thread");
+    }
+
+    @Test
+    @DisplayName("Should drop board snapshots for a stalled subscriber without blocking the publisher")
+    void testSlowSubscriber() throws InterruptedException {
+        GameEventStream stream = new GameEventStream(executor, 8);
+        Board board = new Board();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> fast = new CopyOnWriteArrayList<>();
+        stream.subscribe(new RecordingObserver(event -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        stream.subscribe(new RecordingObserver(event -> fast.add(event.getSequence())));
+
+        long start = System.nanoTime();
+        for (int i = 1; i <= 1000; i++) {
+            stream.publish(GameEvent.boardChanged(i, true, board));
+            if (i % 4 == 0) Thread.sleep(1); // Let the fast subscriber keep up
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        assertTrue(millis < 5_000, "Publishing should not wait for the stalled subscriber");
+        assertTrue(stream.getDroppedCount() >= 1000 - 8 - 1, "The stalled subscriber should miss snapshots");
+        assertEquals(1000, stream.getPublishedCount(), "Every event should be published");
+        assertFalse(fast.isEmpty(), "The fast subscriber should keep receiving events");
+    }
+
+    @Test
+    @DisplayName("Should queue turn, shot and game over events for a stalled subscriber without blocking")
+    void testCriticalEventsQueued() throws InterruptedException {
+        GameEventStream stream = new GameEventStream(executor, 8);
+        Board board = new Board();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch over = new CountDownLatch(1);
+        List<Long> critical = new CopyOnWriteArrayList<>();
+        List<Long> sequences = new CopyOnWriteArrayList<>();
+        stream.subscribe(new RecordingObserver(event -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sequences.add(event.getSequence());
+            if (event.getType() != GameEvent.Type.BOARD_CHANGED) critical.add(event.getSequence());
+            if (event.getType() == GameEvent.Type.GAME_OVER) over.countDown();
+        }));
+
+        long start = System.nanoTime();
+        long sequence = 0;
+        for (int turn = 0; turn < 30; turn++) {
+            stream.publish(GameEvent.boardChanged(++sequence, true, board));
+            stream.publish(GameEvent.turnChanged(++sequence, turn % 2 == 0));
+        }
+        stream.publish(GameEvent.gameOver(++sequence, false));
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        assertTrue(millis < 1_000, "Publishing should never wait for the stalled subscriber");
+        assertTrue(over.await(5, TimeUnit.SECONDS), "The game over event should arrive");
+        assertEquals(31, critical.size(), "No turn or game over event should be lost");
+        assertEquals(sequence, (long) sequences.get(sequences.size() - 1), "The game over event should arrive last");
+        for (int i = 1; i < sequences.size(); i++) {
+            assertTrue(sequences.get(i) > sequences.get(i - 1), "Queued events should keep their order");
+        }
+        assertTrue(stream.getDroppedCount() >= 1, "Board snapshots past the buffer should be dropped");
+        int boards = sequences.size() - critical.size();
+        assertEquals(30, boards + stream.getDroppedCount(), "Only board snapshots should be dropped");
+    }
+
+    @Test
+    @DisplayName("Should honour demand and complete subscribers when the stream is closed")
+    void testDemandAndClose() throws InterruptedException {
+        GameEventStream stream = new GameEventStream(executor, 8);
+        List<Long> received = new CopyOnWriteArrayList<>();
+        CountDownLatch subscribed = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(1);
+        Flow.Subscription[] subscription = new Flow.Subscription[1];
+        stream.subscribe(new Flow.Subscriber<GameEvent>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscription[0] = s;
+                s.request(2);
+                subscribed.countDown();
+            }
+
+            @Override
+            public void onNext(GameEvent event) { received.add(event.getSequence()); }
+
+            @Override
+            public void onError(Throwable throwable) {}
+
+            @Override
+            public void onComplete() { completed.countDown(); }
+        });
+        assertTrue(subscribed.await(5, TimeUnit.SECONDS), "The subscriber should be subscribed");
+
+        for (int i = 1; i <= 5; i++) {
+            stream.publish(GameEvent.turnChanged(i, true));
+        }
+        stream.close();
+        stream.publish(GameEvent.gameOver(6, true)); // Ignored once closed
+        Thread.sleep(50);
+        assertEquals(List.of(1L, 2L), received, "Only the requested events should be delivered");
+        assertEquals(1, completed.getCount(), "Queued events should be delivered before completion");
+
+        subscription[0].request(Long.MAX_VALUE);
+        assertTrue(completed.await(5, TimeUnit.SECONDS), "The subscriber should complete after its queue");
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), received, "Events after close should be ignored");
+        assertEquals(0, stream.getSubscriberCount(), "Completed subscribers should be removed");
+    }
+
+    @Test
+    @DisplayName("Should carry ship data in shot events")
+    void testShotEvent() {
+        Ship ship = new Ship("Destroyer", 2);
+        ship.addCoordinate(new Coordinate(0, 0));
+        ship.addCoordinate(new Coordinate(0, 1));
+        ship.registerHit();
+        ship.registerHit();
+
+        GameEvent event = GameEvent.shotFired(1, false, new Coordinate(0, 1), true, ship);
+
+        assertTrue(event.isSunk(), "The ship should be sunk");
+        assertEquals(2, event.getShipSize(), "Should carry the ship size");
+        assertEquals(ship.getCoordinates(), event.getSunkShip(), "Should carry the sunk ship's cells");
+        assertTrue(GameEvent.shotFired(2, false, new Coordinate(5, 5), false, null).getSunkShip().isEmpty(),
+                "A miss should carry no ship");
+    }
+
+    @Test
+    @DisplayName("Should carry a snapshot of the cells and ship layout in board events")
+    void testBoardEventSnapshot() throws Exception {
+        Board board = new Board();
+        board.placeShip(new Ship("Destroyer", 2), new Coordinate(3, 4), false);
+        GameEvent event = GameEvent.boardChanged(1, true, board);
+
+        board.fireAt(new Coordinate(3, 4));
+        board.placeShip(new Ship("Frigate", 1), new Coordinate(0, 0), true);
+
+        assertEquals(Board.CellState.SHIP, event.getCell(3, 4), "Later shots should not change the snapshot");
+        assertArrayEquals(new Object[]{"Destroyer", 1, 2, false}, event.getShipRenderInfo(4, 4),
+                "Should carry the ship layout of each cell");
+        assertNull(event.getShipRenderInfo(0, 0), "Ships placed later should not appear");
+        assertNull(GameEvent.turnChanged(2, true).getShipRenderInfo(3, 4), "Other events carry no layout");
+    }
+
+    @Test
+    @DisplayName("Should stop delivering to a cancelled observer")
+    void testCancel() throws InterruptedException {
+        GameEventStream stream = new GameEventStream(executor, 16);
+        List<Long> received = new CopyOnWriteArrayList<>();
+        Flow.Subscription subscription = stream.subscribe(new RecordingObserver(event -> received.add(event.getSequence())));
+        subscription.cancel();
+
+        stream.publish(GameEvent.turnChanged(1, true));
+        Thread.sleep(50);
+
+        assertTrue(received.isEmpty(), "A cancelled observer should get nothing");
+        assertEquals(0, stream.getSubscriberCount(), "The subscriber should be gone");
+    }
+
+    /**
+     * Observer forwarding every event to a callback.
+     */
+    private static class RecordingObserver implements GameObserver {
+        private final Consumer<GameEvent> callback;
+
+        RecordingObserver(Consumer<GameEvent> callback) {
+            this.callback = callback;
+        }
+
+        @Override
+        public void onEvent(GameEvent event) { callback.accept(event); }
+
+        @Override
+        public void onBoardChanged(boolean isPlayerBoard) {}
+
+        @Override
+        public void onShotFired(boolean isHit, boolean isSunk) {}
+
+        @Override
+        public void onGameOver(boolean playerWon) {}
+
+        @Override
+        public void onTurnChanged(boolean isPlayerTurn) {}
+    }
+}
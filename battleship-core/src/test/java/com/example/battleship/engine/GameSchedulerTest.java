@@ -0,0 +1,65 @@
+package com.example.battleship.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GameScheduler class.
+ * Tests cancellation, pause and resume of game-loop tasks.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class GameSchedulerTest {
+
+    @Test
+    @DisplayName("Should run scheduled tasks")
+    void testRunsTask() throws InterruptedException {
+        GameScheduler scheduler = new GameScheduler();
+        CountDownLatch done = new CountDownLatch(1);
+
+        scheduler.schedule(done::countDown, 10);
+
+        assertTrue(done.await(2, TimeUnit.SECONDS), "Task should run");
+    }
+
+    @Test
+    @DisplayName("Should not run tasks cancelled before they are due")
+    void testCancelAll() throws InterruptedException {
+        GameScheduler scheduler = new GameScheduler();
+        AtomicInteger runs = new AtomicInteger();
+        long generation = scheduler.getGeneration();
+
+        scheduler.schedule(runs::incrementAndGet, 50);
+        scheduler.cancelAll();
+        Thread.sleep(150);
+
+        assertEquals(0, runs.get(), "Cancelled task should not run");
+        assertEquals(0, scheduler.getPendingCount(), "No task should be pending");
+        assertFalse(scheduler.isCurrent(generation), "Old generation should be stale");
+    }
+
+    @Test
+    @DisplayName("Should hold tasks while paused and run them on resume")
+    void testPauseResume() throws InterruptedException {
+        GameScheduler scheduler = new GameScheduler();
+        CountDownLatch done = new CountDownLatch(1);
+
+        scheduler.schedule(done::countDown, 20);
+        scheduler.pause();
+
+        assertFalse(done.await(150, TimeUnit.MILLISECONDS), "Task should not run while paused");
+        assertEquals(1, scheduler.getPendingCount(), "Task should still be pending");
+
+        scheduler.resume();
+
+        assertTrue(done.await(2, TimeUnit.SECONDS), "Task should run after resume");
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.battleship.engine;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Matchmaker class.
+ * Tests pairing under a large synthetic load, bot fill, backpressure and cancelling.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class MatchmakerTest {
+
+    private final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+    private final AtomicLong clock = new AtomicLong();
+    private final Queue<Matchmaker.Match> started = new ConcurrentLinkedQueue<>();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private Matchmaker newMatchmaker(int maxActive, int maxQueued) {
+        return new Matchmaker(maxActive, maxQueued, 1000, started::add, executor, clock::get);
+    }
+
+    private static Matchmaker.Match await(Matchmaker.Ticket ticket) throws Exception {
+        return ticket.getMatch().get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Should pair tens of thousands of concurrent players within their buckets")
+    void testSyntheticLoad() throws Exception {
+        Matchmaker matchmaker = new Matchmaker(Integer.MAX_VALUE, Integer.MAX_VALUE, 60_000,
+                started::add, executor, System::nanoTime);
+        int threads = 8;
+        int perThread = 5000;
+        Queue<Matchmaker.Ticket> tickets = new ConcurrentLinkedQueue<>();
+
+        Thread[] clients = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int worker = t;
+            clients[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    String bucket = Matchmaker.skillBucket(1000 + (i % 4) * 100, 100);
+                    tickets.add(matchmaker.join("player-" + worker + "-" + i, bucket));
+                }
+            });
+            clients[t].start();
+        }
+        for (Thread client : clients) {
+            client.join();
+        }
+        for (Matchmaker.Ticket ticket : tickets) {
+            assertNotNull(ticket, "No join should be rejected without limits");
+            await(ticket);
+        }
+        matchmaker.shutdown();
+
+        Set<String> players = ConcurrentHashMap.newKeySet();
+        for (Matchmaker.Match match : started) {
+            assertFalse(match.isAgainstBot(), "Even buckets should need no bots");
+            assertEquals(match.getBucket(), match.getFirst().getBucket(), "First player should be from the bucket");
+            assertEquals(match.getBucket(), match.getSecond().getBucket(), "Second player should be from the bucket");
+            assertTrue(players.add(match.getFirst().getPlayerId()), "A player should be matched once");
+            assertTrue(players.add(match.getSecond().getPlayerId()), "A player should be matched once");
+        }
+        assertEquals(threads * perThread, players.size(), "Every player should be matched");
+        assertEquals(threads * perThread / 2, matchmaker.getMatchesStarted(), "Two players per match");
+        assertEquals(0, matchmaker.getTotalQueueDepth(), "Queues should be empty");
+        assertEquals(threads * perThread, matchmaker.getWaitTimes().getCount(), "Every wait should be recorded");
+    }
+
+    @Test
+    @DisplayName("Should match a lone player against a bot after the timeout")
+    void testBotFill() throws Exception {
+        Matchmaker matchmaker = newMatchmaker(10, 10);
+        Matchmaker.Ticket ticket = matchmaker.join("alone", "EASY");
+
+        Thread.sleep(100);
+        assertFalse(ticket.getMatch().isDone(), "Should wait for an opponent before the timeout");
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+        Matchmaker.Match match = await(ticket);
+        matchmaker.shutdown();
+
+        assertTrue(match.isAgainstBot(), "Should be matched against a bot");
+        assertEquals(1, matchmaker.getBotMatches(), "Should count the bot match");
+        assertEquals(0, matchmaker.getQueueDepth("EASY"), "Queue should be empty");
+    }
+
+    @Test
+    @DisplayName("Should reject joins when saturated and recover when matches finish")
+    void testBackpressure() throws Exception {
+        Matchmaker matchmaker = newMatchmaker(1, 3);
+        Matchmaker.Ticket a = matchmaker.join("a", "HARD");
+        matchmaker.join("b", "HARD");
+        Matchmaker.Match running = await(a);
+        assertTrue(matchmaker.isSaturated(), "The only match slot should be taken");
+
+        Matchmaker.Ticket c = matchmaker.join("c", "HARD");
+        Matchmaker.Ticket d = matchmaker.join("d", "HARD");
+        assertNotNull(matchmaker.join("e", "HARD"), "The bucket should still have room");
+        assertNull(matchmaker.join("f", "HARD"), "A full bucket should reject the join");
+        Thread.sleep(100);
+        assertFalse(c.getMatch().isDone(), "No match should start while saturated");
+        assertEquals(3, matchmaker.getQueueDepth("HARD"), "Three players should be waiting");
+
+        matchmaker.matchFinished(running);
+        Matchmaker.Match next = await(c);
+        matchmaker.shutdown();
+
+        assertSame(next, await(d), "The next two players should be paired");
+        assertEquals(1, matchmaker.getRejectedCount(), "Should count the rejected join");
+        assertEquals(1, matchmaker.getQueueDepth("HARD"), "One player should still wait");
+    }
+
+    @Test
+    @DisplayName("Should skip cancelled players")
+    void testCancel() throws Exception {
+        Matchmaker matchmaker = newMatchmaker(10, 10);
+        Matchmaker.Ticket gone = matchmaker.join("gone", "MEDIUM");
+        assertTrue(matchmaker.cancel(gone), "A waiting ticket should cancel");
+        assertFalse(matchmaker.cancel(gone), "Cancelling twice should fail");
+        assertTrue(gone.getMatch().isCancelled(), "The match future should be cancelled");
+
+        Matchmaker.Ticket a = matchmaker.join("a", "MEDIUM");
+        Matchmaker.Ticket b = matchmaker.join("b", "MEDIUM");
+        Matchmaker.Match match = await(a);
+        matchmaker.shutdown();
+
+        assertSame(match, await(b), "Both players should share the match");
+        assertEquals(List.of("a", "b"), List.of(match.getFirst().getPlayerId(), match.getSecond().getPlayerId()),
+                "Players should be paired in arrival order");
+        assertFalse(matchmaker.cancel(a), "A matched ticket should not cancel");
+        assertEquals(1, matchmaker.getCancelledCount(), "Should count the cancel");
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.battleship.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PacingPolicy enum.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class PacingPolicyTest {
+
+    @Test
+    @DisplayName("Should parse policy names case-insensitively")
+    void testFromName() {
+        assertEquals(PacingPolicy.TURBO, PacingPolicy.fromName("turbo"), "Lower case name should parse");
+        assertEquals(PacingPolicy.ACCELERATED, PacingPolicy.fromName(" Accelerated "), "Padded name should parse");
+        assertEquals(PacingPolicy.REALISTIC, PacingPolicy.fromName(null), "Null should fall back to realistic");
+        assertEquals(PacingPolicy.REALISTIC, PacingPolicy.fromName("warp"), "Unknown name should fall back to realistic");
+    }
+
+    @Test
+    @DisplayName("Should keep realistic pacing as the original game and turbo free of delays")
+    void testPolicies() {
+        assertEquals(1000, PacingPolicy.REALISTIC.getThinkDelayMillis(), "Realistic think time should be 1 s");
+        assertEquals(1, PacingPolicy.REALISTIC.getShotsPerSave(), "Realistic should save after every shot");
+        assertFalse(PacingPolicy.REALISTIC.isCoalesceRendering(), "Realistic should redraw after every shot");
+
+        assertEquals(0, PacingPolicy.TURBO.getThinkDelayMillis(), "Turbo should not think");
+        assertEquals(0, PacingPolicy.TURBO.getHitDelayMillis(), "Turbo should not wait between hits");
+        assertTrue(PacingPolicy.TURBO.isCoalesceRendering(), "Turbo should coalesce redraws");
+    }
+}
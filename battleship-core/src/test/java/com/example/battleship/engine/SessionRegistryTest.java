@@ -0,0 +1,145 @@
+package com.example.battleship.engine;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.patterns.AiProvider;
+import com.example.battleship.patterns.PlacementStrategy;
+import com.example.battleship.patterns.ShootingStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SessionRegistry class.
+ * Tests concurrent creation, idle expiry and per-session statistics.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class SessionRegistryTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private SessionRegistry newRegistry() {
+        return new SessionRegistry(60_000, ForkJoinPool.commonPool(), clock::get);
+    }
+
+    @Test
+    @DisplayName("Should host thousands of sessions created concurrently")
+    void testConcurrentCreate() throws InterruptedException {
+        SessionRegistry registry = newRegistry();
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int perThread = 1000;
+
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int worker = t;
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(registry.create("player-" + worker + "-" + i).getId());
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        registry.shutdown();
+
+        assertEquals(threads * perThread, ids.size(), "Session ids should be unique");
+        assertEquals(threads * perThread, registry.size(), "Every session should be hosted");
+        assertEquals(threads * perThread, registry.getCreatedCount(), "Created counter should match");
+        assertNotSame(registry.getLocalSession(), registry.get(ids.iterator().next()), "Hosted sessions are not the local one");
+    }
+
+    @Test
+    @DisplayName("Should expire idle sessions and keep used ones")
+    void testExpireIdle() {
+        SessionRegistry registry = newRegistry();
+        GameSession idle = registry.create("idle");
+        GameSession active = registry.create("active");
+        registry.shutdown();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(45));
+        registry.get(active.getId());
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(45));
+
+        assertEquals(1, registry.expireIdle(), "Only the idle session should expire");
+        assertNull(registry.get(idle.getId()), "Idle session should be gone");
+        assertNotNull(registry.get(active.getId()), "Active session should remain");
+        assertEquals(1, registry.getExpiredCount(), "Expired counter should match");
+    }
+
+    @Test
+    @DisplayName("Should track each hosted game's statistics separately")
+    void testHostedStats() throws InterruptedException {
+        SessionRegistry registry = newRegistry();
+        GameSession first = registry.host("first", "EASY", PacingPolicy.TURBO, new FirstFreeCellAi());
+        GameSession second = registry.host("second", "EASY", PacingPolicy.TURBO, new FirstFreeCellAi());
+        registry.shutdown();
+
+        first.getGame().startNewGame(); // The machine places its fleet
+        Board machineBoard = first.getGame().getMachineBoard();
+        Coordinate shipCell = machineBoard.getShipPlacement().keySet().iterator().next();
+
+        assertTrue(first.getGame().shoot(shipCell), "Shot at a ship should hit");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (first.getSuccessfulHits() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1); // Statistics arrive through the event stream
+        }
+
+        assertEquals(1, first.getTotalShotsFired(), "First session should count its shot");
+        assertEquals(1, first.getSuccessfulHits(), "First session should count its hit");
+        assertEquals(0, second.getTotalShotsFired(), "Second session should be untouched");
+        assertNotSame(first.getRandom(), second.getRandom(), "Each session should have its own generator");
+    }
+
+    @Test
+    @DisplayName("Should release the hosted game's subscriptions when the session is removed")
+    void testRemoveReleasesGame() {
+        SessionRegistry registry = newRegistry();
+        GameSession session = registry.host("gone", "EASY", PacingPolicy.TURBO, new FirstFreeCellAi());
+        registry.shutdown();
+        GameEventStream events = session.getGame().getEvents();
+        assertEquals(1, events.getSubscriberCount(), "The statistics observer should be subscribed");
+
+        assertTrue(registry.remove(session.getId()), "The session should be removed");
+        assertEquals(0, events.getSubscriberCount(), "The statistics observer should be unsubscribed");
+        assertTrue(events.isClosed(), "The event stream should be closed");
+    }
+
+    /**
+     * Minimal AI for tests: fires at the first unresolved cell, places ships randomly.
+     */
+    private static class FirstFreeCellAi implements AiProvider {
+
+        @Override
+        public ShootingStrategy createShootingStrategy(String difficulty) {
+            return board -> {
+                for (int row = 0; row < 10; row++) {
+                    for (int col = 0; col < 10; col++) {
+                        Board.CellState state = board.getGrid().get(new Coordinate(row, col));
+                        if (state == Board.CellState.WATER || state == Board.CellState.SHIP) {
+                            return new Coordinate(row, col);
+                        }
+                    }
+                }
+                return new Coordinate(0, 0);
+            };
+        }
+
+        @Override
+        public PlacementStrategy createPlacementStrategy(String difficulty) {
+            return (board, fleet, random) -> board.placeFleetRandomly(fleet, random);
+        }
+    }
+}
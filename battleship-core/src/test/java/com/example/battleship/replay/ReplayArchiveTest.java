@@ -0,0 +1,150 @@
+package com.example.battleship.replay;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.simulation.ReferenceSimulator;
+import com.example.battleship.simulation.ShotOrder;
+import com.example.battleship.util.ShipFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the replay archive (ReplayWriter, ReplayReader and ReplayRecord).
+ * Tests round trips, random access, appending, recovery of an unclosed archive and damage detection.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ReplayArchiveTest {
+
+    @TempDir
+    Path dir;
+
+    private static ReplayRecord randomGame(Random random) {
+        Board player = new Board();
+        Board machine = new Board();
+        player.placeFleetRandomly(ShipFactory.createFleet(), random);
+        machine.placeFleetRandomly(ShipFactory.createFleet(), random);
+        ReplayRecord.Builder builder = new ReplayRecord.Builder(random.nextLong())
+                .fleet(true, player).fleet(false, machine);
+        int moves = random.nextInt(ReplayRecord.MAX_MOVES + 1);
+        for (int i = 0; i < moves; i++) {
+            builder.shot(random.nextBoolean(), random.nextInt(100));
+        }
+        return builder.build();
+    }
+
+    private static void assertSameGame(ReplayRecord expected, ReplayRecord actual) throws IOException {
+        assertEquals(expected.getSeed(), actual.getSeed(), "Seed should match");
+        assertEquals(expected.getMoveCount(), actual.getMoveCount(), "Move count should match");
+        for (int i = 0; i < expected.getMoveCount(); i++) {
+            assertEquals(expected.getCell(i), actual.getCell(i), "Cell of move " + i + " should match");
+            assertEquals(expected.isPlayerBoard(i), actual.isPlayerBoard(i), "Board of move " + i + " should match");
+        }
+        for (boolean side : new boolean[]{true, false}) {
+            assertEquals(expected.newBoard(side).getShipPlacement().keySet(),
+                    actual.newBoard(side).getShipPlacement().keySet(), "Fleet layout should match");
+        }
+    }
+
+    @Test
+    @DisplayName("Should stream games back in order and read any game by number")
+    void testRoundTripAndRandomAccess() throws IOException {
+        Random random = new Random(1);
+        List<ReplayRecord> games = new ArrayList<>();
+        Path file = dir.resolve("games.bsr");
+        try (ReplayWriter writer = new ReplayWriter(file, 4096)) {
+            for (int i = 0; i < 500; i++) {
+                games.add(randomGame(random));
+                writer.append(games.get(i));
+            }
+        }
+
+        try (ReplayReader reader = new ReplayReader(file)) {
+            assertEquals(500, reader.size(), "Every game should be indexed");
+            assertTrue(reader.getBlockCount() > 1, "Games should span several blocks");
+            int game = 0;
+            for (ReplayRecord record : reader) {
+                assertSameGame(games.get(game++), record);
+            }
+            assertEquals(500, game, "Iteration should return every game");
+
+            for (int i = 0; i < 50; i++) {
+                int pick = random.nextInt(500);
+                assertSameGame(games.get(pick), reader.get(pick));
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.get(500), "Reading past the end should fail");
+        }
+    }
+
+    @Test
+    @DisplayName("Should append to an archive and keep the complete blocks of an unclosed one")
+    void testAppendAndRecover() throws IOException {
+        Path file = dir.resolve("games.bsr");
+        ReferenceSimulator simulator = new ReferenceSimulator();
+        try (ReplayWriter writer = new ReplayWriter(file)) {
+            simulator.simulate(7, 100, ShotOrder.RANDOM, writer);
+        }
+        try (ReplayWriter writer = new ReplayWriter(file)) {
+            simulator.simulate(8, 50, ShotOrder.RANDOM, writer);
+        }
+        try (ReplayReader reader = new ReplayReader(file)) {
+            assertEquals(150, reader.size(), "Reopening should append after the existing games");
+            int[] shots = simulator.simulate(8, 50, ShotOrder.RANDOM);
+            assertEquals(shots[49], reader.get(149).getMoveCount(), "Recorded shots should match the simulation");
+        }
+
+        // A writer that died: no index, and the start of a block it never finished
+        long complete;
+        try (ReplayReader reader = new ReplayReader(file)) {
+            complete = Files.size(file) - ReplayFormat.INDEX_ENTRY_BYTES * reader.getBlockCount()
+                    - ReplayFormat.TRAILER_BYTES;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(complete + 10);
+        }
+        try (ReplayReader reader = new ReplayReader(file)) {
+            assertEquals(150, reader.size(), "Complete blocks should be found without the index");
+        }
+        try (ReplayWriter writer = new ReplayWriter(file)) {
+            simulator.simulate(9, 10, ShotOrder.RANDOM, writer);
+        }
+        try (ReplayReader reader = new ReplayReader(file)) {
+            assertEquals(160, reader.size(), "New games should overwrite the torn block");
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a damaged block")
+    void testDamagedBlock() throws IOException {
+        Path file = dir.resolve("games.bsr");
+        try (ReplayWriter writer = new ReplayWriter(file)) {
+            Random random = new Random(3);
+            for (int i = 0; i < 20; i++) {
+                writer.append(randomGame(random));
+            }
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[ReplayFormat.HEADER_BYTES + ReplayFormat.BLOCK_HEADER_BYTES + 40] ^= 0x55;
+        Files.write(file, bytes);
+
+        try (ReplayReader reader = new ReplayReader(file)) {
+            assertThrows(IOException.class, () -> reader.get(0), "A damaged block should not be decoded");
+            assertThrows(UncheckedIOException.class, () -> reader.iterator().next(),
+                    "Iteration should fail on a damaged block");
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.battleship.replay;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.util.ShipFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ReplayPlayer class.
+ * Tests that seeking reproduces the played game, reports the changed cells and stays within a keyframe.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ReplayPlayerTest {
+
+    private ReplayRecord record;
+    private List<Board.CellState[][]> positions; // Cells of both boards after each move
+
+    /**
+     * Plays a random game on real boards, keeping the cells after every move.
+     */
+    private void playGame(long seed) {
+        Random random = new Random(seed);
+        Board player = new Board();
+        Board machine = new Board();
+        player.placeFleetRandomly(ShipFactory.createFleet(), random);
+        machine.placeFleetRandomly(ShipFactory.createFleet(), random);
+        ReplayRecord.Builder builder = new ReplayRecord.Builder(seed).fleet(true, player).fleet(false, machine);
+
+        List<Integer> playerCells = new ArrayList<>();
+        List<Integer> machineCells = new ArrayList<>();
+        for (int cell = 0; cell < 100; cell++) {
+            playerCells.add(cell);
+            machineCells.add(cell);
+        }
+        Collections.shuffle(playerCells, random);
+        Collections.shuffle(machineCells, random);
+
+        positions = new ArrayList<>();
+        positions.add(new Board.CellState[][]{player.snapshotCells(), machine.snapshotCells()});
+        while (player.hasShipsAfloat() && machine.hasShipsAfloat()) {
+            boolean onPlayer = random.nextBoolean();
+            int cell = (onPlayer ? playerCells : machineCells).remove(0);
+            (onPlayer ? player : machine).fireAt(new Coordinate(cell / 10, cell % 10));
+            builder.shot(onPlayer, cell);
+            positions.add(new Board.CellState[][]{player.snapshotCells(), machine.snapshotCells()});
+        }
+        record = builder.build();
+    }
+
+    @Test
+    @DisplayName("Should reproduce every position of the game in any seek order")
+    void testSeekMatchesGame() throws IOException {
+        playGame(1);
+        ReplayPlayer replay = new ReplayPlayer(record, 10);
+        assertEquals(positions.size() - 1, replay.getMoveCount(), "Every move should be recorded");
+
+        List<Integer> order = new ArrayList<>();
+        for (int position = 0; position < positions.size(); position++) {
+            order.add(position);
+            order.add(positions.size() - 1 - position);
+        }
+        Collections.shuffle(order, new Random(2));
+        for (int position : order) {
+            replay.seek(position);
+            assertArrayEquals(positions.get(position)[0], replay.snapshotCells(true),
+                    "Player cells should match after move " + position);
+            assertArrayEquals(positions.get(position)[1], replay.snapshotCells(false),
+                    "Machine cells should match after move " + position);
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> replay.seek(replay.getMoveCount() + 1),
+                "Seeking past the end should fail");
+    }
+
+    @Test
+    @DisplayName("Should report exactly the cells that changed, applying fewer shots than a keyframe")
+    void testChangedCellsAndCost() throws IOException {
+        playGame(3);
+        int keyframeEvery = 8;
+        ReplayPlayer replay = new ReplayPlayer(record, keyframeEvery);
+        Random random = new Random(4);
+        int position = 0;
+        for (int i = 0; i < 300; i++) {
+            int target = i % 3 == 0 ? Math.min(position + 1, replay.getMoveCount()) : random.nextInt(replay.getMoveCount() + 1);
+            long before = replay.getShotsApplied();
+            int[] changed = replay.seek(target);
+            assertTrue(replay.getShotsApplied() - before < keyframeEvery,
+                    "A seek should apply fewer shots than the keyframe interval");
+
+            int expected = 0;
+            for (int cell = 0; cell < 2 * ReplayPlayer.CELLS; cell++) {
+                int board = cell < ReplayPlayer.CELLS ? 0 : 1;
+                if (positions.get(position)[board][cell % 100] != positions.get(target)[board][cell % 100]) {
+                    assertTrue(expected < changed.length && changed[expected] == cell,
+                            "Cell " + cell + " should be reported as changed");
+                    expected++;
+                }
+            }
+            assertEquals(expected, changed.length, "Only changed cells should be reported");
+            position = target;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.battleship.simulation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the BitSlicedSimulator class.
+ * Validates the batch kernel against the regular Board engine on identical seeds.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class BitSlicedSimulatorTest {
+
+    private final BitSlicedSimulator batch = new BitSlicedSimulator();
+    private final ReferenceSimulator reference = new ReferenceSimulator();
+
+    @Test
+    @DisplayName("Random order should match the regular engine game by game")
+    void testRandomMatchesReference() {
+        int[] expected = reference.simulate(7L, 300, ShotOrder.RANDOM);
+        int[] actual = batch.simulate(7L, 300, ShotOrder.RANDOM);
+
+        assertArrayEquals(expected, actual, "Bit-sliced results should match the Board engine");
+    }
+
+    @Test
+    @DisplayName("Parity order should match the regular engine game by game")
+    void testParityMatchesReference() {
+        int[] expected = reference.simulate(-1234L, 300, ShotOrder.PARITY);
+        int[] actual = batch.simulate(-1234L, 300, ShotOrder.PARITY);
+
+        assertArrayEquals(expected, actual, "Bit-sliced results should match the Board engine");
+    }
+
+    @Test
+    @DisplayName("Partial last batch should be simulated like a full one")
+    void testPartialBatch() {
+        int[] full = batch.simulate(99L, 128, ShotOrder.RANDOM);
+        int[] partial = batch.simulate(99L, 70, ShotOrder.RANDOM);
+
+        for (int i = 0; i < partial.length; i++) {
+            assertEquals(full[i], partial[i], "Game " + i + " should not depend on batch size");
+        }
+    }
+
+    @Test
+    @DisplayName("Every game should need between 20 and 100 shots")
+    void testShotBounds() {
+        for (int shots : batch.simulate(3L, 640, ShotOrder.PARITY)) {
+            assertTrue(shots >= 20 && shots <= 100, "Shots should cover the 20 ship cells: " + shots);
+        }
+    }
+
+    @Test
+    @DisplayName("Result should aggregate every simulated game")
+    void testResultAggregation() {
+        SimulationResult result = SimulationResult.of(batch.simulate(11L, 500, ShotOrder.RANDOM));
+
+        assertEquals(500, result.getGames(), "All games should be recorded");
+        assertTrue(result.getMinShots() >= 20, "Minimum should be at least the ship cells");
+        assertTrue(result.getMaxShots() <= 100, "Maximum should not exceed the board");
+    }
+
+    @Test
+    @DisplayName("Same seed should produce the same results")
+    void testDeterministic() {
+        assertArrayEquals(batch.simulate(5L, 200, ShotOrder.RANDOM),
+                batch.simulate(5L, 200, ShotOrder.RANDOM),
+                "Simulation should be reproducible from its seed");
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.battleship.simulation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SweepCoordinator class.
+ * Runs real worker JVMs and checks merging and recovery from lost workers.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class SweepCoordinatorTest {
+
+    private static final WorkerLauncher WORKER = WorkerLauncher.localJvm(List.of("-Xmx64m"));
+
+    /**
+     * Launcher whose process exits immediately without speaking the protocol.
+     */
+    private static ProcessBuilder brokenWorker() {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        return new ProcessBuilder(java, "-cp", ".", "does.not.Exist");
+    }
+
+    private static List<SweepTask> sweep() {
+        List<SweepTask> tasks = new ArrayList<>();
+        tasks.addAll(SweepTask.split(ShotOrder.RANDOM, 1000L, 1000, 256, 0));
+        tasks.addAll(SweepTask.split(ShotOrder.PARITY, 1000L, 1000, 256, tasks.size()));
+        return tasks;
+    }
+
+    private static SimulationResult expected(List<SweepTask> tasks, ShotOrder order) {
+        BitSlicedSimulator simulator = new BitSlicedSimulator();
+        SimulationResult result = new SimulationResult();
+        for (SweepTask task : tasks) {
+            if (task.getOrder() == order) {
+                result.merge(SimulationResult.of(simulator.simulate(task.getSeed(), task.getGames(), order)));
+            }
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("Should split a seed range into batch-aligned tasks")
+    void testSplit() {
+        List<SweepTask> tasks = SweepTask.split(ShotOrder.RANDOM, 10L, 1000, 300, 5);
+
+        assertEquals(4, tasks.size(), "1000 games in chunks of 256 should need 4 tasks");
+        assertEquals(5, tasks.get(0).getId(), "Ids should start at firstId");
+        assertEquals(10L + 768, tasks.get(3).getSeed(), "Seeds should be contiguous");
+        assertEquals(1000 - 768, tasks.get(3).getGames(), "Last task should take the remainder");
+        assertEquals(tasks.get(2).toLine(), SweepTask.parse(tasks.get(2).toLine()).toLine(),
+                "Task should survive the line protocol");
+    }
+
+    @Test
+    @DisplayName("Should merge results from several worker JVMs")
+    void testMergesWorkers() throws InterruptedException {
+        List<SweepTask> tasks = sweep();
+
+        SweepReport report = new SweepCoordinator(2, WORKER).run(tasks);
+
+        assertTrue(report.isComplete(), "No task should fail");
+        assertEquals(tasks.size(), report.getTasksCompleted(), "Every task should complete once");
+        for (ShotOrder order : ShotOrder.values()) {
+            assertArrayEquals(expected(tasks, order).getHistogram(), report.getResult(order).getHistogram(),
+                    "Merged histogram should match an in-process run for " + order);
+        }
+    }
+
+    @Test
+    @DisplayName("Should replace a lost worker and finish the sweep")
+    void testRetriesLostWorker() throws InterruptedException {
+        AtomicInteger launches = new AtomicInteger();
+        WorkerLauncher flaky = slot -> launches.getAndIncrement() == 0 ? brokenWorker() : WORKER.create(slot);
+        List<SweepTask> tasks = sweep();
+
+        SweepReport report = new SweepCoordinator(1, flaky).run(tasks);
+
+        assertTrue(report.isComplete(), "Sweep should recover from the lost worker");
+        assertEquals(1, report.getWorkersLost(), "Exactly one worker should be lost");
+        assertEquals(2, report.getWorkersLaunched(), "A replacement worker should be launched");
+        assertEquals(1000, report.getResult(ShotOrder.RANDOM).getGames(), "All games should be merged");
+    }
+
+    @Test
+    @DisplayName("Should give up tasks when workers never start")
+    void testGivesUpOnBrokenWorkers() throws InterruptedException {
+        SweepCoordinator coordinator = new SweepCoordinator(1, slot -> brokenWorker());
+        coordinator.setMaxAttempts(2);
+
+        SweepReport report = coordinator.run(sweep());
+
+        assertFalse(report.isComplete(), "Sweep should report failed tasks");
+        assertEquals(sweep().size(), report.getFailedTasks().size(), "Every task should be reported as failed");
+    }
+}
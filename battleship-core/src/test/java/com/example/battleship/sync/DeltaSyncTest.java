@@ -0,0 +1,149 @@
+package com.example.battleship.sync;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.util.ShipFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for DeltaEncoder and DeltaApplier.
+ * Tests that a client copy follows the board, and that lost or corrupted messages are
+ * detected and healed with a snapshot.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class DeltaSyncTest {
+
+    private final ByteBuffer wire = ByteBuffer.allocate(SyncProtocol.MAX_MESSAGE_BYTES);
+    private Board board;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        board = new Board();
+        random = new Random(7);
+        board.placeFleetRandomly(ShipFactory.createFleet(), random);
+    }
+
+    private int send(DeltaEncoder encoder) {
+        wire.clear();
+        int bytes = encoder.encode(board, wire);
+        wire.flip();
+        return bytes;
+    }
+
+    private void fireRandom() {
+        Coordinate target;
+        do {
+            target = new Coordinate(random.nextInt(10), random.nextInt(10));
+        } while (board.getGrid().get(target) != Board.CellState.WATER && board.getGrid().get(target) != Board.CellState.SHIP);
+        board.fireAt(target);
+    }
+
+    private void assertInSync(DeltaApplier applier, boolean hideShips) {
+        for (int row = 0; row < 10; row++) {
+            for (int col = 0; col < 10; col++) {
+                Board.CellState expected = board.getGrid().get(new Coordinate(row, col));
+                if (expected == null || (hideShips && expected == Board.CellState.SHIP)) expected = Board.CellState.WATER;
+                assertEquals(expected, applier.getCell(row, col), "Cell " + row + "," + col);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Client copy should follow a whole game with small deltas")
+    void testFollowsGame() {
+        DeltaEncoder encoder = new DeltaEncoder(false);
+        DeltaApplier applier = new DeltaApplier();
+
+        send(encoder);
+        assertEquals(DeltaApplier.Result.APPLIED, applier.apply(wire), "The 20 fleet cells still fit in a delta");
+
+        int shots = 0;
+        long bytes = 0;
+        while (board.hasShipsAfloat()) {
+            fireRandom();
+            shots++;
+            bytes += send(encoder);
+            assertNotEquals(DeltaApplier.Result.NEEDS_SNAPSHOT, applier.apply(wire));
+            assertEquals(encoder.getChecksum(), applier.getChecksum());
+        }
+        assertInSync(applier, false);
+        assertEquals(4, applier.getSunkCount(1), "All frigates should be reported sunk");
+        assertEquals(1, applier.getSunkCount(4), "The carrier should be reported sunk");
+
+        ByteBuffer snapshot = ByteBuffer.allocate(SyncProtocol.MAX_MESSAGE_BYTES);
+        int snapshotBytes = encoder.snapshot(snapshot);
+        assertTrue(bytes / (double) shots < snapshotBytes / 3.0,
+                "Deltas should be much smaller than snapshots: " + bytes / (double) shots + " vs " + snapshotBytes);
+    }
+
+    @Test
+    @DisplayName("A lost delta should be detected and healed with a snapshot")
+    void testGapHealsWithSnapshot() {
+        DeltaEncoder encoder = new DeltaEncoder(false);
+        DeltaApplier applier = new DeltaApplier();
+        send(encoder);
+        applier.apply(wire);
+
+        fireRandom();
+        send(encoder); // Lost on the way
+        fireRandom();
+        send(encoder);
+        assertEquals(DeltaApplier.Result.NEEDS_SNAPSHOT, applier.apply(wire), "Sequence gap should be detected");
+        fireRandom();
+        send(encoder);
+        assertEquals(DeltaApplier.Result.NEEDS_SNAPSHOT, applier.apply(wire), "Deltas wait for the snapshot");
+
+        wire.clear();
+        encoder.snapshot(wire);
+        wire.flip();
+        assertEquals(DeltaApplier.Result.SNAPSHOT_APPLIED, applier.apply(wire));
+        assertFalse(applier.isDesynced());
+        assertInSync(applier, false);
+
+        fireRandom();
+        send(encoder);
+        assertEquals(DeltaApplier.Result.APPLIED, applier.apply(wire), "Deltas apply again after healing");
+        assertEquals(1, applier.getDesyncs());
+    }
+
+    @Test
+    @DisplayName("A corrupted delta should fail the checksum")
+    void testCorruptionDetected() {
+        DeltaEncoder encoder = new DeltaEncoder(false);
+        DeltaApplier applier = new DeltaApplier();
+        send(encoder);
+        applier.apply(wire);
+
+        fireRandom();
+        send(encoder);
+        int stateByte = wire.limit() - 5; // Low byte of the last change
+        wire.put(stateByte, (byte) (wire.get(stateByte) ^ 1));
+
+        assertEquals(DeltaApplier.Result.NEEDS_SNAPSHOT, applier.apply(wire));
+    }
+
+    @Test
+    @DisplayName("Opponent streams should not reveal intact ships")
+    void testHideShips() {
+        DeltaEncoder encoder = new DeltaEncoder(true);
+        DeltaApplier applier = new DeltaApplier();
+
+        assertEquals(0, send(encoder), "A hidden fleet looks like open water: nothing to send");
+        for (int i = 0; i < 30; i++) {
+            fireRandom();
+            if (send(encoder) > 0) applier.apply(wire);
+        }
+        assertInSync(applier, true);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.battleship.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the LatencyHistogram class.
+ * Tests bucket bounds, percentiles and merging.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Every value should fall in a bucket whose bound is within 1/16 above it")
+    void testBucketBounds() {
+        long[] values = {0, 1, 15, 16, 17, 100, 1_000, 123_456, 9_999_999_999L};
+        for (long value : values) {
+            long bound = LatencyHistogram.upperBound(LatencyHistogram.index(value));
+            assertTrue(bound >= value, "Bound should not be below " + value);
+            assertTrue(bound <= value + value / 16, "Bound should be close to " + value);
+        }
+    }
+
+    @Test
+    @DisplayName("Should report percentiles of a uniform distribution")
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500.5, histogram.getMean(), 0.001);
+        assertEquals(500, histogram.getPercentile(50), 500 / 16.0);
+        assertEquals(990, histogram.getPercentile(99), 990 / 16.0);
+    }
+
+    @Test
+    @DisplayName("Merging should add the counts of both histograms")
+    void testMerge() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.record(10);
+        second.record(10_000);
+
+        first.merge(second);
+
+        assertEquals(2, first.getCount());
+        assertTrue(first.getPercentile(100) >= 10_000);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.battleship.util;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the LiveSaveFile class.
+ * Tests in-place shots across reopening, recovery from a torn update and per-turn durability.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class LiveSaveFileTest {
+
+    @TempDir
+    Path dir;
+
+    private static Board fleetBoard(long seed) {
+        Board board = new Board();
+        board.placeFleetRandomly(ShipFactory.createFleet(), new Random(seed));
+        return board;
+    }
+
+    @Test
+    @DisplayName("Should keep a written game and its in-place shots after reopening")
+    void testShotsInPlace() throws IOException {
+        Path file = dir.resolve("game.live");
+        Board player = fleetBoard(1);
+        Board machine = fleetBoard(2);
+
+        try (LiveSaveFile live = new LiveSaveFile(file, ShotJournal.Durability.NONE, 1)) {
+            assertNull(live.read(), "A new file should hold no game");
+            live.write(player, machine, true);
+            Random random = new Random(3);
+            for (int i = 0; i < 80; i++) {
+                Coordinate target = new Coordinate(random.nextInt(10), random.nextInt(10));
+                boolean onPlayer = random.nextBoolean();
+                (onPlayer ? player : machine).fireAt(target);
+                live.appendShot(onPlayer, target);
+            }
+            assertEquals(81, live.getGeneration(), "Every update should bump the generation");
+        }
+
+        try (LiveSaveFile live = new LiveSaveFile(file, ShotJournal.Durability.NONE, 1)) {
+            Object[] game = live.read();
+            assertArrayEquals(player.snapshotCells(), ((Board) game[0]).snapshotCells(), "Player cells should match");
+            assertArrayEquals(machine.snapshotCells(), ((Board) game[1]).snapshotCells(), "Machine cells should match");
+            assertEquals(true, game[2], "Turn should match");
+        }
+    }
+
+    @Test
+    @DisplayName("Should fall back to the previous state when the last update is torn")
+    void testTornUpdate() throws IOException {
+        Path file = dir.resolve("game.live");
+        Board player = fleetBoard(4);
+        Board machine = fleetBoard(5);
+        Coordinate first = new Coordinate(0, 0);
+        Coordinate second = new Coordinate(9, 9);
+
+        try (LiveSaveFile live = new LiveSaveFile(file, ShotJournal.Durability.NONE, 1)) {
+            live.write(player, machine, true);
+            live.appendShot(false, first);
+            live.appendShot(false, second); // Generation 3, in the slot of generation 1
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            int slot = 16; // Slot A holds generations 1 and 3
+            channel.write(ByteBuffer.wrap(new byte[]{0x5A}), slot + 60); // Crash mid-update
+        }
+
+        try (LiveSaveFile live = new LiveSaveFile(file, ShotJournal.Durability.NONE, 1)) {
+            Board loaded = (Board) live.read()[1];
+            assertEquals(2, live.getGeneration(), "The torn slot should be ignored");
+            assertNotEquals(Board.CellState.WATER, loaded.getGrid().get(first), "The previous shot should be kept");
+            Board.CellState lost = loaded.getGrid().get(second);
+            assertTrue(lost == Board.CellState.WATER || lost == Board.CellState.SHIP, "The torn shot should be lost");
+
+            live.appendShot(false, second);
+            assertEquals(3, live.getGeneration(), "Updates should continue over the torn slot");
+        }
+    }
+
+    @Test
+    @DisplayName("Should force the shots of a turn once, at the end of the turn")
+    void testDurability() throws IOException {
+        Board fleet = fleetBoard(6);
+        try (LiveSaveFile live = new LiveSaveFile(dir.resolve("game.live"), ShotJournal.Durability.TURN, 1)) {
+            live.write(fleet, new Board(), true);
+            long afterWrite = live.getForceCount();
+            for (int col = 0; col < 10; col++) {
+                Coordinate target = new Coordinate(4, col);
+                live.appendShot(true, target);
+                fleet.fireAt(target);
+            }
+            assertEquals(afterWrite, live.getForceCount(), "Updates within a turn should not be forced");
+            live.commitTurn();
+            assertEquals(afterWrite + 1, live.getForceCount(), "The turn should be forced once");
+
+            assertArrayEquals(fleet.snapshotCells(), ((Board) live.read()[0]).snapshotCells(),
+                    "Every shot should be set in place");
+        }
+    }
+}
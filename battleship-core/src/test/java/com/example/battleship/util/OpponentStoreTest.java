@@ -0,0 +1,92 @@
+package com.example.battleship.util;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.OpponentModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the OpponentStore class.
+ * Tests reloading from the log, compaction into the table and recovery from a torn record.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class OpponentStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private OpponentStore store() {
+        return new OpponentStore(dir.resolve("opponents.db"), dir.resolve("opponents.log"));
+    }
+
+    private static Board layout(long seed) {
+        Board board = new Board();
+        board.placeFleetRandomly(ShipFactory.createFleet(), new Random(seed));
+        return board;
+    }
+
+    @Test
+    @DisplayName("Should reload recorded layouts from the log")
+    void testReloadFromLog() throws Exception {
+        Board board = layout(1);
+        OpponentStore first = store();
+        first.record("Ana", board).get();
+        first.record("Ana", board).get();
+        first.record("Luis", layout(2)).get();
+
+        OpponentModel ana = store().load("Ana").get();
+        assertEquals(2, ana.getGames(), "Both of Ana's layouts should be replayed");
+        int[] counts = ana.getCounts();
+        board.getShipPlacement().keySet().forEach(cell ->
+                assertEquals(2, counts[cell.getRow() * 10 + cell.getCol()], "Ship cells should be counted twice"));
+        assertEquals(1, store().load("Luis").get().getGames(), "Luis should keep his own layout");
+        assertEquals(0, store().load("Nadie").get().getGames(), "An unknown player should get an empty model");
+    }
+
+    @Test
+    @DisplayName("Should fold the log into the table once it is full")
+    void testCompaction() throws Exception {
+        OpponentStore first = store();
+        for (int i = 0; i < OpponentStore.COMPACT_AFTER; i++) {
+            first.record(i % 2 == 0 ? "Ana" : "Luis", layout(i)).get();
+        }
+
+        assertTrue(Files.exists(dir.resolve("opponents.db")), "The table should be written");
+        assertFalse(Files.exists(dir.resolve("opponents.log")), "The log should be emptied");
+
+        OpponentStore second = store();
+        assertEquals(OpponentStore.COMPACT_AFTER / 2, second.load("Ana").get().getGames(), "Ana's games should be kept");
+        second.record("Ana", layout(999)).get();
+        assertEquals(OpponentStore.COMPACT_AFTER / 2 + 1, store().load("Ana").get().getGames(),
+                "Table and new log records should add up");
+    }
+
+    @Test
+    @DisplayName("Should cut off a torn record before appending after it")
+    void testTornRecord() throws Exception {
+        Path log = dir.resolve("opponents.log");
+        OpponentStore first = store();
+        first.record("Ana", layout(1)).get();
+        first.record("Ana", layout(2)).get();
+        long complete = Files.size(log);
+        Files.write(log, new byte[]{0, 3, 'A', 'n', 'a', 1, 2}, StandardOpenOption.APPEND); // Crash mid-record
+
+        OpponentStore second = store();
+        assertEquals(2, second.load("Ana").get().getGames(), "Only complete records should count");
+        assertEquals(complete, Files.size(log), "The torn record should be cut off");
+
+        second.record("Ana", layout(3)).get();
+        assertEquals(3, store().load("Ana").get().getGames(), "A record after the recovery should be readable");
+    }
+}
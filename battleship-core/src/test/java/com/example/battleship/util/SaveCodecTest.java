@@ -0,0 +1,85 @@
+package com.example.battleship.util;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SaveCodec class.
+ * Tests round trips of played games and rejection of damaged or foreign data.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class SaveCodecTest {
+
+    private static Board playedBoard(Random random, int shots) {
+        Board board = new Board();
+        board.placeFleetRandomly(ShipFactory.createFleet(), random);
+        for (int i = 0; i < shots; i++) {
+            board.fireAt(new Coordinate(random.nextInt(10), random.nextInt(10)));
+        }
+        return board;
+    }
+
+    private static ByteBuffer encode(Board player, Board machine, boolean turn) {
+        ByteBuffer buffer = ByteBuffer.allocate(SaveCodec.MAX_BYTES);
+        SaveCodec.encode(player, machine, turn, buffer);
+        return buffer.flip();
+    }
+
+    @Test
+    @DisplayName("Should restore every cell, ship and the turn of played games")
+    void testRoundTrip() throws IOException {
+        Random random = new Random(7);
+        for (int game = 0; game < 200; game++) {
+            Board player = playedBoard(random, random.nextInt(120));
+            Board machine = playedBoard(random, random.nextInt(120));
+            boolean turn = random.nextBoolean();
+
+            ByteBuffer buffer = encode(player, machine, turn);
+            assertEquals(84, buffer.remaining(), "The standard fleet should take 84 bytes");
+            Object[] loaded = SaveCodec.decode(buffer);
+
+            Board loadedPlayer = (Board) loaded[0];
+            Board loadedMachine = (Board) loaded[1];
+            assertArrayEquals(player.snapshotCells(), loadedPlayer.snapshotCells(), "Player cells should match");
+            assertArrayEquals(machine.snapshotCells(), loadedMachine.snapshotCells(), "Machine cells should match");
+            assertEquals(turn, loaded[2], "Turn should match");
+            assertEquals(machine.hasShipsAfloat(), loadedMachine.hasShipsAfloat(), "Fleet status should match");
+            for (Coordinate coord : player.getShipPlacement().keySet()) {
+                assertEquals(player.getShipPlacement().get(coord).getType(),
+                        loadedPlayer.getShipPlacement().get(coord).getType(), "Ship types should match");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject damaged, truncated and unknown data")
+    void testRejectsBadData() {
+        Random random = new Random(11);
+        ByteBuffer good = encode(playedBoard(random, 30), playedBoard(random, 30), true);
+
+        ByteBuffer flipped = ByteBuffer.allocate(good.remaining()).put(good.duplicate()).flip();
+        flipped.put(40, (byte) (flipped.get(40) ^ 1));
+        assertThrows(IOException.class, () -> SaveCodec.decode(flipped), "A flipped bit should fail the checksum");
+
+        ByteBuffer truncated = good.duplicate().limit(good.limit() - 10);
+        assertThrows(IOException.class, () -> SaveCodec.decode(truncated), "A truncated save should be rejected");
+
+        ByteBuffer newer = ByteBuffer.allocate(good.remaining()).put(good.duplicate()).flip();
+        newer.put(4, (byte) (SaveCodec.VERSION + 1));
+        assertThrows(IOException.class, () -> SaveCodec.decode(newer), "An unknown version should be rejected");
+
+        ByteBuffer foreign = ByteBuffer.wrap(new byte[]{(byte) 0xAC, (byte) 0xED, 0, 5, 1, 2, 3, 4});
+        assertThrows(IOException.class, () -> SaveCodec.decode(foreign), "Serialized data should be rejected");
+    }
+}
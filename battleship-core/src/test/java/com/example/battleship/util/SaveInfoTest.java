@@ -0,0 +1,74 @@
+package com.example.battleship.util;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SaveInfo class.
+ * Tests round trips, summaries of snapshots and rejection of damaged data.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class SaveInfoTest {
+
+    @Test
+    @DisplayName("Should restore every field of a summary")
+    void testRoundTrip() throws IOException {
+        SaveInfo info = new SaveInfo("Almirante Ñandú", "HARD", false, 1_000L, 2_000L, 37, 41, 6);
+        ByteBuffer buffer = ByteBuffer.allocate(SaveInfo.MAX_BYTES);
+        info.encode(buffer);
+        SaveInfo loaded = SaveInfo.decode(buffer.flip());
+
+        assertEquals("Almirante Ñandú", loaded.getNickname(), "Nickname should match");
+        assertEquals("HARD", loaded.getDifficulty(), "Difficulty should match");
+        assertFalse(loaded.isPlayerTurn(), "Turn should match");
+        assertEquals(1_000L, loaded.getCreatedAt(), "Creation time should match");
+        assertEquals(2_000L, loaded.getSavedAt(), "Save time should match");
+        assertEquals(37, loaded.getShotsFired(), "Shots fired should match");
+        assertEquals(41, loaded.getShotsReceived(), "Shots received should match");
+        assertEquals(6, loaded.getEnemyShipsSunk(), "Sunk ships should match");
+    }
+
+    @Test
+    @DisplayName("Should summarize a snapshot from its boards")
+    void testSnapshotSummary() {
+        Board player = new Board();
+        Board machine = new Board();
+        machine.placeFleetRandomly(ShipFactory.createFleet(), new Random(2));
+        for (int col = 0; col < 10; col++) {
+            machine.fireAt(new Coordinate(0, col));
+        }
+        player.fireAt(new Coordinate(5, 5));
+
+        SaveInfo info = new SaveWorker.Snapshot(player, machine, true, "Admiral", 1, "EASY", 0).toInfo(500L);
+
+        assertEquals(10, info.getShotsFired(), "Shots on the machine board should be counted");
+        assertEquals(1, info.getShotsReceived(), "Shots on the player board should be counted");
+        assertEquals(500L, info.getCreatedAt(), "An unknown start should default to the save time");
+    }
+
+    @Test
+    @DisplayName("Should reject damaged and truncated summaries")
+    void testRejectsBadData() {
+        ByteBuffer buffer = ByteBuffer.allocate(SaveInfo.MAX_BYTES);
+        new SaveInfo("Admiral", "EASY", true, 1L, 2L, 3, 4, 5).encode(buffer);
+        buffer.flip();
+
+        ByteBuffer flipped = ByteBuffer.allocate(buffer.remaining()).put(buffer.duplicate()).flip();
+        flipped.put(20, (byte) (flipped.get(20) ^ 1));
+        assertThrows(IOException.class, () -> SaveInfo.decode(flipped), "A flipped bit should fail the checksum");
+
+        ByteBuffer truncated = buffer.duplicate().limit(buffer.limit() - 3);
+        assertThrows(IOException.class, () -> SaveInfo.decode(truncated), "A truncated summary should be rejected");
+    }
+}
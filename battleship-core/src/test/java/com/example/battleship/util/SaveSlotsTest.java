@@ -0,0 +1,104 @@
+package com.example.battleship.util;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SaveSlots class.
+ * Tests listing from the index, lazy loading, slot reuse, eviction and index rebuilds.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class SaveSlotsTest {
+
+    @TempDir
+    Path dir;
+
+    private static Board playedBoard(Random random) {
+        Board board = new Board();
+        board.placeFleetRandomly(ShipFactory.createFleet(), random);
+        for (int i = 0; i < 20; i++) {
+            board.fireAt(new Coordinate(random.nextInt(10), random.nextInt(10)));
+        }
+        return board;
+    }
+
+    private static SaveInfo info(String nickname, long createdAt, long savedAt) {
+        return new SaveInfo(nickname, "EASY", true, createdAt, savedAt, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("Should list slots from the index and load a slot's game on demand")
+    void testListAndLoad() throws IOException {
+        Random random = new Random(1);
+        Board player = playedBoard(random);
+        Board machine = playedBoard(random);
+        SaveSlots slots = new SaveSlots(dir, 10);
+        SaveSlots.Slot first = slots.save(info("Ana", 1, 10), player, machine, false);
+        slots.save(info("Luis", 2, 20), playedBoard(random), playedBoard(random), true);
+
+        SaveSlots reopened = new SaveSlots(dir, 10);
+        Files.delete(dir.resolve(first.getId() + ".slot"));
+        List<SaveSlots.Slot> listed = reopened.list();
+        assertEquals(2, listed.size(), "Listing should not open the slot files");
+        assertEquals("Luis", listed.get(0).getInfo().getNickname(), "Most recent slot should come first");
+        assertThrows(IOException.class, () -> reopened.load(first.getId()), "A missing slot file should fail on load");
+
+        slots.save(info("Ana", 1, 30), player, machine, false);
+        Object[] game = reopened.load(first.getId());
+        assertArrayEquals(player.snapshotCells(), ((Board) game[0]).snapshotCells(), "Player cells should match");
+        assertArrayEquals(machine.snapshotCells(), ((Board) game[1]).snapshotCells(), "Machine cells should match");
+        assertEquals(false, game[2], "Turn should match");
+    }
+
+    @Test
+    @DisplayName("Should reuse the slot of the same game and evict the oldest beyond the cap")
+    void testReuseAndEviction() throws IOException {
+        Random random = new Random(2);
+        SaveSlots slots = new SaveSlots(dir, 3);
+        int id = slots.save(info("Ana", 100, 1), playedBoard(random), playedBoard(random), true).getId();
+        assertEquals(id, slots.save(info("Ana", 100, 2), playedBoard(random), playedBoard(random), true).getId(),
+                "Saving the same game should reuse its slot");
+
+        for (int game = 0; game < 5; game++) {
+            slots.save(info("Bot", game, 10 + game), playedBoard(random), playedBoard(random), true);
+        }
+
+        List<SaveSlots.Slot> listed = slots.list();
+        assertEquals(3, listed.size(), "Slots beyond the cap should be evicted");
+        assertEquals(14, listed.get(0).getInfo().getSavedAt(), "The most recent slots should be kept");
+        assertEquals(12, listed.get(2).getInfo().getSavedAt(), "The least recent slots should be evicted");
+        try (var files = Files.list(dir)) {
+            assertEquals(4, files.count(), "Evicted slot files should be deleted, leaving 3 slots and the index");
+        }
+    }
+
+    @Test
+    @DisplayName("Should rebuild a damaged index from the slot files")
+    void testRebuildIndex() throws IOException {
+        Random random = new Random(3);
+        SaveSlots slots = new SaveSlots(dir, 10);
+        for (int game = 0; game < 4; game++) {
+            slots.save(info("P" + game, game, game), playedBoard(random), playedBoard(random), true);
+        }
+        Files.write(dir.resolve("index.dat"), new byte[]{1, 2, 3});
+
+        SaveSlots reopened = new SaveSlots(dir, 10);
+        assertEquals(4, reopened.list().size(), "Every slot should be found again");
+        int id = reopened.save(info("New", 99, 99), playedBoard(random), playedBoard(random), true).getId();
+        assertEquals(5, id, "New slots should not reuse ids of existing ones");
+    }
+}
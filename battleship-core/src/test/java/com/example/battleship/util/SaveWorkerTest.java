@@ -0,0 +1,157 @@
+package com.example.battleship.util;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.replay.ReplayReader;
+import com.example.battleship.replay.ReplayRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SaveWorker class.
+ * Tests coalescing, immediate saves, flushing on close, summaries between saves, the replay
+ * archive and board copies.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class SaveWorkerTest {
+
+    @TempDir
+    Path dir;
+
+    private static SaveWorker.Snapshot snapshot(String nickname) {
+        return new SaveWorker.Snapshot(new Board(), new Board(), true, nickname, 0);
+    }
+
+    @Test
+    @DisplayName("Should coalesce a burst of requests into one write of the latest state")
+    void testCoalescing() throws InterruptedException {
+        List<String> writes = new CopyOnWriteArrayList<>();
+        CountDownLatch written = new CountDownLatch(1);
+        SaveWorker worker = new SaveWorker(100, snapshot -> {
+            writes.add(snapshot.getNickname());
+            written.countDown();
+        });
+
+        for (int i = 0; i < 1000; i++) {
+            String nickname = "shot-" + i;
+            worker.request(() -> snapshot(nickname));
+        }
+
+        assertTrue(written.await(5, TimeUnit.SECONDS), "The burst should be written");
+        worker.close();
+        assertEquals(List.of("shot-999"), writes, "Only the latest state should be written");
+        assertEquals(1000, worker.getRequestedCount(), "Every request should be counted");
+        assertEquals(1, worker.getWrittenCount(), "One write should be counted");
+    }
+
+    @Test
+    @DisplayName("Should write immediate requests without waiting for the interval")
+    void testRequestNow() throws InterruptedException {
+        CountDownLatch written = new CountDownLatch(1);
+        SaveWorker worker = new SaveWorker(60_000, snapshot -> written.countDown());
+
+        worker.requestNow(() -> snapshot("turn"));
+
+        assertTrue(written.await(5, TimeUnit.SECONDS), "Turn boundary saves should not wait for the interval");
+        worker.close();
+    }
+
+    @Test
+    @DisplayName("Should write pending saves on close")
+    void testFlushOnClose() {
+        List<String> writes = new CopyOnWriteArrayList<>();
+        SaveWorker worker = new SaveWorker(60_000, snapshot -> writes.add(snapshot.getNickname()));
+
+        worker.request(() -> snapshot("pending"));
+        worker.close();
+
+        assertEquals(List.of("pending"), writes, "Close should write the pending save");
+        worker.request(() -> snapshot("late")); // Must not throw once closed
+    }
+
+    @Test
+    @DisplayName("Should write the latest summary at turn boundaries and on close")
+    void testSummaryBetweenSaves() {
+        List<Integer> summaries = new CopyOnWriteArrayList<>();
+        MoveLog journal = new MoveLog() {
+            @Override public void appendShot(boolean playerBoard, Coordinate target) {}
+            @Override public void commitTurn() {}
+            @Override public void close() {}
+        };
+        SaveWorker worker = new SaveWorker(60_000, snapshot -> fail("No full save was asked for"), journal, 32,
+                info -> summaries.add(info.getShotsFired()));
+
+        for (int shots = 1; shots <= 3; shots++) {
+            worker.journalShot(false, new Coordinate(0, shots));
+            worker.updateInfo(new SaveInfo("Ana", "EASY", true, 1, 2, shots, 0, 0));
+        }
+        worker.endTurn();
+        worker.flush();
+        assertEquals(List.of(3), summaries, "The turn boundary should write the latest summary");
+
+        worker.journalShot(false, new Coordinate(1, 0));
+        worker.updateInfo(new SaveInfo("Ana", "EASY", false, 1, 3, 4, 0, 0));
+        worker.close();
+        assertEquals(List.of(3, 4), summaries, "Close should write the summary of the unfinished turn");
+    }
+
+    @Test
+    @DisplayName("Should keep one replay archive open, sharing blocks between games")
+    void testReplayArchive() throws IOException {
+        Path file = dir.resolve("replays.bsr");
+        SaveWorker worker = new SaveWorker(60_000, snapshot -> {}, null, 1, null, file);
+        Board board = new Board();
+        board.placeFleetRandomly(ShipFactory.createFleet(), new Random(5));
+
+        for (int game = 0; game < 3; game++) {
+            worker.archiveReplay(new ReplayRecord.Builder(game).fleet(true, board).fleet(false, board)
+                    .shot(false, new Coordinate(game, game)).build());
+        }
+        worker.flushReplays();
+        try (ReplayReader reader = new ReplayReader(file)) {
+            assertEquals(3, reader.size(), "Flushed games should be readable before close");
+            assertEquals(1, reader.getBlockCount(), "The games should share one block");
+            assertEquals(2, reader.get(2).getSeed(), "Games should keep their seed");
+        }
+
+        worker.archiveReplay(new ReplayRecord.Builder(3).fleet(true, board).fleet(false, board).build());
+        worker.close();
+        try (ReplayReader reader = new ReplayReader(file)) {
+            assertEquals(4, reader.size(), "Close should write the last block");
+            assertEquals(2, reader.getBlockCount(), "The flush and close should each end a block");
+        }
+    }
+
+    @Test
+    @DisplayName("Should copy boards independently of the original")
+    void testBoardCopy() {
+        Board board = new Board();
+        board.placeFleetRandomly(ShipFactory.createFleet(), new Random(3));
+        Coordinate shipCell = board.getShipPlacement().keySet().iterator().next();
+        board.fireAt(shipCell);
+
+        Board copy = board.copy();
+        board.fireAt(new Coordinate(9, 9));
+        board.getShipPlacement().keySet().forEach(board::fireAt);
+
+        assertEquals(Board.CellState.HIT, copy.getGrid().get(shipCell), "Copy should keep the hit");
+        assertTrue(copy.hasShipsAfloat(), "Shots after copying should not reach the copy");
+        assertNotSame(board.getShipPlacement().get(shipCell), copy.getShipPlacement().get(shipCell),
+                "Ships should be copied");
+        assertFalse(board.hasShipsAfloat(), "The original fleet should be sunk");
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.battleship.util;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ShotJournal class.
+ * Tests replay on a snapshot, torn records, foreign journals and durability modes.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ShotJournalTest {
+
+    @TempDir
+    Path dir;
+
+    private static Board fleetBoard(long seed) {
+        Board board = new Board();
+        board.placeFleetRandomly(ShipFactory.createFleet(), new Random(seed));
+        return board;
+    }
+
+    @Test
+    @DisplayName("Should rebuild the boards from a snapshot and the journaled moves")
+    void testReplay() throws IOException {
+        Board player = fleetBoard(1);
+        Board machine = fleetBoard(2);
+        Board savedPlayer = player.copy();
+        Board savedMachine = machine.copy();
+
+        try (ShotJournal journal = new ShotJournal(dir.resolve("game.journal"), ShotJournal.Durability.NONE, 1)) {
+            journal.reset(42);
+            Random random = new Random(3);
+            for (int i = 0; i < 60; i++) {
+                Coordinate target = new Coordinate(random.nextInt(10), random.nextInt(10));
+                boolean onPlayer = random.nextBoolean();
+                (onPlayer ? player : machine).fireAt(target);
+                journal.appendShot(onPlayer, target);
+            }
+        }
+
+        ShotJournal reopened = new ShotJournal(dir.resolve("game.journal"), ShotJournal.Durability.NONE, 1);
+        assertEquals(60, reopened.replay(42, savedPlayer, savedMachine), "Every move should be replayed");
+        assertArrayEquals(player.snapshotCells(), savedPlayer.snapshotCells(), "Player cells should match");
+        assertArrayEquals(machine.snapshotCells(), savedMachine.snapshotCells(), "Machine cells should match");
+
+        assertEquals(60, reopened.replay(42, savedPlayer, savedMachine), "Replay should be repeatable");
+        assertArrayEquals(player.snapshotCells(), savedPlayer.snapshotCells(), "Replaying twice should change nothing");
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Should drop a torn last record and keep appending after it")
+    void testTornTail() throws IOException {
+        Path file = dir.resolve("game.journal");
+        try (ShotJournal journal = new ShotJournal(file, ShotJournal.Durability.NONE, 1)) {
+            journal.reset(5);
+            for (int i = 0; i < 3; i++) {
+                journal.appendShot(false, new Coordinate(0, i));
+            }
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(ShotJournal.HEADER_BYTES + 2L * ShotJournal.RECORD_BYTES + 5); // Crash mid-write
+        }
+
+        try (ShotJournal journal = new ShotJournal(file, ShotJournal.Durability.NONE, 1)) {
+            Board machine = new Board();
+            assertEquals(2, journal.replay(5, new Board(), machine), "Only whole records should be replayed");
+            assertEquals(Board.CellState.MISS, machine.getGrid().get(new Coordinate(0, 1)), "Second shot should be kept");
+            assertEquals(Board.CellState.WATER, machine.getGrid().get(new Coordinate(0, 2)), "Torn shot should be lost");
+
+            journal.appendShot(false, new Coordinate(5, 5));
+            assertEquals(3, journal.getSequence(), "Appends should continue after the last whole record");
+        }
+        try (ShotJournal journal = new ShotJournal(file, ShotJournal.Durability.NONE, 1)) {
+            assertEquals(3, journal.replay(5, new Board(), new Board()), "The new record should be readable");
+        }
+    }
+
+    @Test
+    @DisplayName("Should ignore the journal of another snapshot")
+    void testForeignJournal() throws IOException {
+        Path file = dir.resolve("game.journal");
+        try (ShotJournal journal = new ShotJournal(file, ShotJournal.Durability.NONE, 1)) {
+            journal.reset(1);
+            journal.appendShot(true, new Coordinate(3, 3));
+        }
+
+        try (ShotJournal journal = new ShotJournal(file, ShotJournal.Durability.NONE, 1)) {
+            Board player = new Board();
+            assertEquals(0, journal.replay(2, player, new Board()), "Moves of another game should not be replayed");
+            assertEquals(Board.CellState.WATER, player.getGrid().get(new Coordinate(3, 3)), "Board should be untouched");
+            assertEquals(0, journal.getSequence(), "The stale journal should be emptied");
+        }
+    }
+
+    @Test
+    @DisplayName("Should force records to disk according to the durability mode")
+    void testDurability() throws IOException {
+        int[] forces = new int[3];
+        for (ShotJournal.Durability durability : ShotJournal.Durability.values()) {
+            try (ShotJournal journal = new ShotJournal(dir.resolve(durability + ".journal"), durability, 4)) {
+                journal.reset(0);
+                long afterReset = journal.getForceCount();
+                for (int i = 0; i < 10; i++) {
+                    journal.appendShot(true, new Coordinate(i, 0));
+                    if (i % 5 == 4) journal.commitTurn();
+                }
+                forces[durability.ordinal()] = (int) (journal.getForceCount() - afterReset);
+                assertEquals(10, journal.getAppendedCount(), "Every record should be counted");
+            }
+        }
+        assertEquals(0, forces[ShotJournal.Durability.NONE.ordinal()], "NONE should never force");
+        assertEquals(2, forces[ShotJournal.Durability.GROUP.ordinal()], "GROUP should force every 4 records");
+        assertEquals(2, forces[ShotJournal.Durability.TURN.ordinal()], "TURN should force once per turn");
+        assertEquals(ShotJournal.Durability.GROUP, ShotJournal.Durability.fromName(" group "), "Names should parse");
+    }
+}
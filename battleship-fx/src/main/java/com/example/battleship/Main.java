@@ -1,6 +1,7 @@
 package com.example.battleship;
 
 import com.example.battleship.controller.NavigationController;
+import com.example.battleship.util.SaveWorker;
 import javafx.application.Application;
 import javafx.stage.Stage;
 
@@ -29,13 +30,24 @@ public class Main extends Application {
         // Show main menu as initial screen
         navController.showMainMenu();
 
-        // Handle window close event
+        // Handle window close event: write the pending save before the JVM exits
         primaryStage.setOnCloseRequest(event -> {
             System.out.println("Application closing...");
-            // Could add save logic here if needed
+            SaveWorker.getDefault().close();
         });
     }
 
+    /**
+     * Writes the pending saves, journal, summary and replay block before the JVM exits.
+     * Every exit path ends here: the window's close button, and the Exit buttons of the
+     * main menu and the pause dialog, which call Platform.exit(). Never exit with
+     * System.exit(), which skips this method.
+     */
+    @Override
+    public void stop() {
+        SaveWorker.getDefault().close();
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
@@ -1,5 +1,6 @@
 package com.example.battleship.controller;
 
+import com.example.battleship.engine.SessionRegistry;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
@@ -56,8 +57,8 @@ public class GameOverController {
             containerBox.setStyle("-fx-background-color: linear-gradient(to bottom, #4a0000, #8b0000);");
         }
 
-        String nickname = GameSession.getInstance().getPlayerNickname();
-        String difficulty = GameSession.getInstance().getDifficulty();
+        String nickname = SessionRegistry.getDefault().getLocalSession().getPlayerNickname();
+        String difficulty = SessionRegistry.getDefault().getLocalSession().getDifficulty();
 
         lblStats.setText(
                 "Player: " + nickname + "\n" +
@@ -73,7 +74,7 @@ public class GameOverController {
      */
     @FXML
     private void handlePlayAgain() {
-        GameSession.getInstance().setIsNewGame(true);
+        SessionRegistry.getDefault().getLocalSession().setIsNewGame(true);
         NavigationController.getInstance().showGame();
     }
 
@@ -1,12 +1,25 @@
 package com.example.battleship.controller;
 
+import com.example.battleship.engine.GameSession;
+import com.example.battleship.engine.SessionRegistry;
 import com.example.battleship.util.ArchivoUtil;
+import com.example.battleship.util.SaveInfo;
+import com.example.battleship.util.SaveSlots;
+import com.example.battleship.util.SaveWorker;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.*;
 import javafx.scene.layout.VBox;
 
 import java.net.URL;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.ResourceBundle;
 
@@ -24,6 +37,7 @@ public class MenuController implements Initializable {
     @FXML private Button btnNewGame;
     @FXML private Button btnContinue;
     @FXML private Button btnDifficulty;
+    @FXML private Button btnReplays;
     @FXML private Button btnExit;
     @FXML private Label lblDifficulty;
     @FXML private VBox menuContainer;
@@ -39,25 +53,49 @@ public class MenuController implements Initializable {
      */
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        // Check if there's a saved game
-        boolean hasSavedGame = ArchivoUtil.loadGame() != null;
-        btnContinue.setDisable(!hasSavedGame);
+        // Check if there's a saved game (reads summaries only; the boards load on Continue)
+        SaveInfo savedGame = ArchivoUtil.loadSaveInfo();
+        int slotCount = SaveSlots.getDefault().list().size();
+        btnContinue.setDisable(savedGame == null && slotCount == 0);
+        if (savedGame != null) {
+            btnContinue.setTooltip(new Tooltip(describeSave(savedGame)
+                    + (slotCount > 0 ? "\n+ " + slotCount + " saved slots" : "")));
+        }
 
         // Load previous difficulty if exists
-        String savedDifficulty = GameSession.getInstance().getDifficulty();
+        String savedDifficulty = SessionRegistry.getDefault().getLocalSession().getDifficulty();
         if (savedDifficulty != null && !savedDifficulty.isEmpty()) {
             currentDifficulty = savedDifficulty;
         }
 
         updateDifficultyLabel();
 
+        // Recorded games are appended at the end of each game
+        btnReplays.setDisable(!Files.exists(ArchivoUtil.getReplayPath()));
+
         // Add hover effects to buttons
         addButtonHoverEffect(btnNewGame);
         addButtonHoverEffect(btnContinue);
         addButtonHoverEffect(btnDifficulty);
+        addButtonHoverEffect(btnReplays);
         addButtonHoverEffect(btnExit);
     }
 
+    /**
+     * Describes a saved game for the Continue button.
+     *
+     * @param info Summary of the saved game
+     * @return Nickname, difficulty, progress and save time
+     */
+    private String describeSave(SaveInfo info) {
+        String who = info.getNickname().isEmpty() ? "Saved game" : info.getNickname();
+        String difficulty = info.getDifficulty().isEmpty() ? "" : " - " + info.getDifficulty();
+        LocalDateTime savedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(info.getSavedAt()), ZoneId.systemDefault());
+        return who + difficulty + " - "
+                + info.getShotsFired() + " shots fired, " + info.getEnemyShipsSunk() + " enemy ships sunk - "
+                + savedAt.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+    }
+
     /**
      * Adds hover effect to a button for better UX.
      *
@@ -106,8 +144,12 @@ public class MenuController implements Initializable {
                 return;
             }
 
+            // Keep the previous game in its slot instead of overwriting it
+            SaveWorker.getDefault().flush();
+            ArchivoUtil.archiveGame();
+
             // Store session data
-            GameSession session = GameSession.getInstance();
+            GameSession session = SessionRegistry.getDefault().getLocalSession();
             session.setPlayerNickname(nickname);
             session.setDifficulty(currentDifficulty);
             session.setIsNewGame(true);
@@ -131,12 +173,21 @@ public class MenuController implements Initializable {
 
     /**
      * Handles the Continue Game button click.
-     * Loads the saved game and resumes gameplay.
+     * Resumes the saved game, or a save slot chosen by the player.
+     * The boards are loaded once, by the game screen.
      */
     @FXML
     private void handleContinue() {
+        // Choose among the current game and the save slots
+        SaveWorker.getDefault().flush();
+        List<SaveSlots.Slot> slots = SaveSlots.getDefault().list();
+        if (!slots.isEmpty() && !chooseSlot(slots)) {
+            return; // Cancelled
+        }
+
         // Verify saved game still exists
-        if (ArchivoUtil.loadGame() == null) {
+        SaveInfo savedGame = ArchivoUtil.loadSaveInfo();
+        if (savedGame == null) {
             showAlert("No Saved Game",
                     "Cannot continue",
                     "No saved game found. Please start a new game.",
@@ -146,9 +197,12 @@ public class MenuController implements Initializable {
         }
 
         // Set session to load mode
-        GameSession session = GameSession.getInstance();
+        GameSession session = SessionRegistry.getDefault().getLocalSession();
         session.setIsNewGame(false);
         session.setDifficulty(currentDifficulty);
+        if (!savedGame.getNickname().isEmpty()) {
+            session.setPlayerNickname(savedGame.getNickname());
+        }
 
         System.out.println("Continuing saved game with difficulty: " + currentDifficulty);
 
@@ -156,6 +210,47 @@ public class MenuController implements Initializable {
         NavigationController.getInstance().showGame();
     }
 
+    /**
+     * Lets the player pick the game to continue: the current one or a save slot.
+     * A chosen slot becomes the current game; the list comes from the slot index only.
+     *
+     * @param slots The save slots, most recent first
+     * @return false if the player cancelled
+     */
+    private boolean chooseSlot(List<SaveSlots.Slot> slots) {
+        SaveInfo current = ArchivoUtil.loadSaveInfo();
+        List<String> choices = new ArrayList<>();
+        String currentChoice = current != null ? "Current: " + describeSave(current) : null;
+        if (currentChoice != null) choices.add(currentChoice);
+        for (SaveSlots.Slot slot : slots) {
+            choices.add("#" + slot.getId() + " " + describeSave(slot.getInfo()));
+        }
+
+        ChoiceDialog<String> dialog = new ChoiceDialog<>(choices.get(0), choices);
+        dialog.setTitle("Continue Game");
+        dialog.setHeaderText("⚓ Choose a saved game");
+        dialog.setContentText("Game:");
+        dialog.getDialogPane().setStyle("-fx-background-color: #2c3e50;");
+
+        Optional<String> result = dialog.showAndWait();
+        if (result.isEmpty()) return false;
+        if (!result.get().equals(currentChoice)) {
+            int id = Integer.parseInt(result.get().substring(1, result.get().indexOf(' ')));
+            ArchivoUtil.restoreSlot(id);
+        }
+        return true;
+    }
+
+    /**
+     * Handles the Replays button click.
+     * Opens the viewer of the recorded games.
+     */
+    @FXML
+    private void handleReplays() {
+        SaveWorker.getDefault().flushReplays(); // The last games may still be held in the archive's block
+        NavigationController.getInstance().showReplays();
+    }
+
     /**
      * Handles the Difficulty button click.
      * Cycles through difficulty levels: EASY -> MEDIUM -> HARD -> EASY.
@@ -177,7 +272,7 @@ public class MenuController implements Initializable {
         }
 
         // Save to session
-        GameSession.getInstance().setDifficulty(currentDifficulty);
+        SessionRegistry.getDefault().getLocalSession().setDifficulty(currentDifficulty);
 
         updateDifficultyLabel();
 
@@ -211,7 +306,8 @@ public class MenuController implements Initializable {
 
     /**
      * Handles the Exit button click.
-     * Shows confirmation dialog and closes the application if confirmed.
+     * Shows confirmation dialog and closes the application if confirmed. Exits through
+     * Platform.exit() so that Main.stop() writes the pending saves.
      */
     @FXML
     private void handleExit() {
@@ -233,7 +329,7 @@ public class MenuController implements Initializable {
 
         if (result.isPresent() && result.get() == btnYes) {
             System.out.println("Application closed by user.");
-            System.exit(0);
+            Platform.exit();
         }
     }
 
@@ -47,6 +47,13 @@ public class NavigationController {
         loadScreen("/com/example/battleship/GameView.fxml", "Batalla Naval - Game");
     }
 
+    /**
+     * Navigates to the replay viewer.
+     */
+    public void showReplays() {
+        loadScreen("/com/example/battleship/ReplayView.fxml", "Batalla Naval - Replays");
+    }
+
     /**
      * Navigates to the difficulty selection screen.
      */
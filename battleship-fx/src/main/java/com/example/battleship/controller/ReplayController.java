@@ -0,0 +1,220 @@
+package com.example.battleship.controller;
+
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.replay.ReplayPlayer;
+import com.example.battleship.replay.ReplayReader;
+import com.example.battleship.replay.ReplayRecord;
+import com.example.battleship.util.ArchivoUtil;
+import com.example.battleship.view.CellRenderer;
+import com.example.battleship.view.PulseDispatcher;
+import javafx.application.Platform;
+import javafx.fxml.FXML;
+import javafx.fxml.Initializable;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.Slider;
+import javafx.scene.control.Spinner;
+import javafx.scene.control.SpinnerValueFactory;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.StackPane;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ResourceBundle;
+
+/**
+ * View controller for the replay viewer.
+ * Loads a game from the replay archive into two board views and scrubs through its moves.
+ * Positions come from a {@link ReplayPlayer}; only the cells that changed are redrawn, and
+ * slider moves are coalesced into one seek per frame by the {@link PulseDispatcher}.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ReplayController implements Initializable {
+
+    @FXML private GridPane playerGrid;
+    @FXML private GridPane machineGrid;
+    @FXML private Label lblStatus;
+    @FXML private Spinner<Integer> spnGame;
+    @FXML private Slider sldPosition;
+    @FXML private Button btnFirst;
+    @FXML private Button btnPrevious;
+    @FXML private Button btnNext;
+    @FXML private Button btnLast;
+    @FXML private Button btnMainMenu;
+
+    private final PulseDispatcher dispatcher = new PulseDispatcher(); // One seek per frame
+    private final StackPane[] cells = new StackPane[2 * ReplayPlayer.CELLS]; // Numbered like ReplayPlayer
+    private ReplayReader reader;
+    private ReplayPlayer player;
+
+    private final int CELL_SIZE = 30;
+
+    @Override
+    public void initialize(URL location, ResourceBundle resources) {
+        dispatcher.start();
+        initializeGrid(playerGrid, 0);
+        initializeGrid(machineGrid, ReplayPlayer.CELLS);
+        setControlsDisabled(true);
+        spnGame.setDisable(true);
+
+        try {
+            reader = new ReplayReader(ArchivoUtil.getReplayPath());
+        } catch (IOException e) {
+            System.err.println("Error abriendo las repeticiones: " + e.getMessage());
+            lblStatus.setText("No replays recorded");
+            return;
+        }
+        if (reader.size() == 0) {
+            lblStatus.setText("No replays recorded");
+            return;
+        }
+
+        int games = (int) Math.min(reader.size(), Integer.MAX_VALUE);
+        spnGame.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(1, games, games));
+        spnGame.setDisable(false);
+        spnGame.valueProperty().addListener((obs, oldVal, newVal) -> loadGame(newVal));
+        sldPosition.valueProperty().addListener((obs, oldVal, newVal) ->
+                dispatcher.update(sldPosition, () -> showPosition((int) Math.round(sldPosition.getValue()))));
+        loadGame(games); // Most recent game first
+
+        Platform.runLater(this::setupKeyboardEvents);
+    }
+
+    private void initializeGrid(GridPane grid, int offset) {
+        for (int row = 0; row < 10; row++) {
+            for (int col = 0; col < 10; col++) {
+                StackPane cell = new StackPane();
+                cell.setPrefSize(CELL_SIZE, CELL_SIZE);
+                cell.setStyle("-fx-border-color: #7f8c8d; -fx-border-width: 0.5; -fx-background-color: #3498db;");
+                cells[offset + row * 10 + col] = cell;
+                grid.add(cell, col, row);
+            }
+        }
+    }
+
+    private void setupKeyboardEvents() {
+        if (playerGrid.getScene() == null) return;
+        // A filter, so the focused slider or spinner does not move a second time
+        playerGrid.getScene().addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (player == null) return;
+            if (event.getCode() == KeyCode.LEFT) {
+                handlePrevious();
+            } else if (event.getCode() == KeyCode.RIGHT) {
+                handleNext();
+            } else if (event.getCode() == KeyCode.HOME) {
+                handleFirst();
+            } else if (event.getCode() == KeyCode.END) {
+                handleLast();
+            } else {
+                return;
+            }
+            event.consume();
+        });
+    }
+
+    /**
+     * Loads a recorded game and draws its starting position.
+     *
+     * @param game Game number, from 1
+     */
+    private void loadGame(int game) {
+        try {
+            ReplayRecord record = reader.get(game - 1);
+            player = new ReplayPlayer(record);
+        } catch (IOException e) {
+            System.err.println("Error cargando la repetición: " + e.getMessage());
+            player = null;
+            setControlsDisabled(true);
+            lblStatus.setText("Game #" + game + " is damaged");
+            return;
+        }
+
+        // A new game: every cell is drawn once, later positions redraw only changed cells
+        for (int cell = 0; cell < cells.length; cell++) {
+            renderCell(cell);
+        }
+        sldPosition.setMax(player.getMoveCount());
+        sldPosition.setValue(0);
+        setControlsDisabled(false);
+        updateStatus();
+    }
+
+    /**
+     * Moves the loaded game to a position, redrawing the cells that changed.
+     *
+     * @param position Number of moves played
+     */
+    private void showPosition(int position) {
+        if (player == null || position == player.getPosition()) return;
+        for (int cell : player.seek(position)) {
+            renderCell(cell);
+        }
+        updateStatus();
+    }
+
+    private void renderCell(int cell) {
+        boolean playerBoard = cell < ReplayPlayer.CELLS;
+        int index = cell % ReplayPlayer.CELLS;
+        Coordinate coord = new Coordinate(index / 10, index % 10);
+        Object[] shipInfo = player.getLayout(playerBoard).getShipRenderInfo(coord);
+        CellRenderer.renderCell(cells[cell], player.getCell(cell), false, shipInfo);
+    }
+
+    private void updateStatus() {
+        int position = player.getPosition();
+        String text = "Move " + position + " / " + player.getMoveCount();
+        if (position > 0) {
+            ReplayRecord record = player.getRecord();
+            int cell = record.getCell(position - 1);
+            text += record.isPlayerBoard(position - 1) ? " - 🤖 Machine fires at " : " - ⚔️ Player fires at ";
+            text += "(" + (cell / 10) + ", " + (cell % 10) + ")";
+        }
+        lblStatus.setText(text);
+    }
+
+    private void setControlsDisabled(boolean disabled) {
+        sldPosition.setDisable(disabled);
+        btnFirst.setDisable(disabled);
+        btnPrevious.setDisable(disabled);
+        btnNext.setDisable(disabled);
+        btnLast.setDisable(disabled);
+    }
+
+    @FXML
+    private void handleFirst() {
+        sldPosition.setValue(0);
+    }
+
+    @FXML
+    private void handlePrevious() {
+        sldPosition.setValue(Math.max(0, Math.round(sldPosition.getValue()) - 1));
+    }
+
+    @FXML
+    private void handleNext() {
+        sldPosition.setValue(Math.min(sldPosition.getMax(), Math.round(sldPosition.getValue()) + 1));
+    }
+
+    @FXML
+    private void handleLast() {
+        sldPosition.setValue(sldPosition.getMax());
+    }
+
+    @FXML
+    private void handleMainMenu() {
+        dispatcher.stop();
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                System.err.println("Error cerrando las repeticiones: " + e.getMessage());
+            }
+        }
+        NavigationController.getInstance().showMainMenu();
+    }
+}
@@ -1,12 +1,16 @@
 package com.example.battleship.controller;
 
+import com.example.battleship.engine.GameController;
+import com.example.battleship.engine.GameSession;
+import com.example.battleship.engine.SessionRegistry;
 import com.example.battleship.exceptions.InvalidShipPlacementException;
 import com.example.battleship.model.Board;
 import com.example.battleship.model.Coordinate;
+import com.example.battleship.model.GameEvent;
 import com.example.battleship.model.Ship;
 import com.example.battleship.patterns.GameObserver;
-import com.example.battleship.util.ArchivoUtil;
 import com.example.battleship.view.CellRenderer;
+import com.example.battleship.view.PulseDispatcher;
 import com.example.battleship.view.ShipPreviewPanel;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
@@ -19,7 +23,6 @@ import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 
 import java.net.URL;
-import java.util.Map;
 import java.util.Optional;
 import java.util.ResourceBundle;
 
@@ -45,55 +48,52 @@ public class ViewController implements Initializable, GameObserver {
     @FXML private VBox shipPreviewContainer; // NEW: Container for ship preview
 
     private GameController gameController;
+    private final PulseDispatcher dispatcher = new PulseDispatcher(); // Game updates, once per frame
     private boolean isHorizontalPlacement = true;
     private boolean isGameStarted = false;
     private boolean isPaused = false;
     private boolean showEnemyShips = false;
 
+    // Latest board snapshots drawn, from the event stream; read and written on the FX thread only
+    private GameEvent playerSnapshot;
+    private GameEvent machineSnapshot;
+
     private final int CELL_SIZE = 30;
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         gameController = new GameController();
         gameController.addObserver(this);
+        dispatcher.start();
 
         // Initialize grids
         initializeGrid(playerGrid, true);
         initializeGrid(machineGrid, false);
 
         // Get session data
-        GameSession session = GameSession.getInstance();
+        GameSession session = SessionRegistry.getDefault().getLocalSession();
         gameController.setPlayerNickname(session.getPlayerNickname());
         gameController.setDifficulty(session.getDifficulty());
-
-        // Set callback for machine turn
-        gameController.setOnMachineTurnFinished(() -> {
-            refreshBoard(playerGrid, gameController.getPlayerBoard(), false);
-            refreshBoard(machineGrid, gameController.getMachineBoard(), !showEnemyShips);
-            lblStatus.setText(gameController.isGameOver() ? "GAME OVER" : "Your Turn!");
-            checkGameOver();
-        });
-
-        // Check if continuing or new game
-        if (!session.isNewGame() && ArchivoUtil.loadGame() != null) {
-            boolean success = gameController.loadGameFromSave();
-            if (success) {
-                isGameStarted = true;
-                btnStart.setDisable(true);
-                btnRotate.setDisable(true);
-                btnPause.setDisable(false);
-                lblStatus.setText("Game Resumed. Fire away!");
-                log("Game loaded successfully. Resume battle!");
-
-                // Hide preview when game is loaded
-                if (shipPreviewContainer != null) {
-                    shipPreviewContainer.setVisible(false);
-                    shipPreviewContainer.setManaged(false);
-                }
-
-                refreshBoard(playerGrid, gameController.getPlayerBoard(), false);
-                refreshBoard(machineGrid, gameController.getMachineBoard(), !showEnemyShips);
+        gameController.setPacing(session.getPacing());
+
+        // No machine-turn callback: the end of a machine turn arrives as events (board snapshots,
+        // turn change, game over), drawn once per frame under the same keys as any other change
+
+        // Check if continuing or new game (the save is loaded once, here)
+        if (!session.isNewGame() && gameController.loadGameFromSave()) {
+            isGameStarted = true;
+            btnStart.setDisable(true);
+            btnRotate.setDisable(true);
+            btnPause.setDisable(false);
+            lblStatus.setText("Game Resumed. Fire away!");
+            log("Game loaded successfully. Resume battle!");
+
+            // Hide preview when game is loaded
+            if (shipPreviewContainer != null) {
+                shipPreviewContainer.setVisible(false);
+                shipPreviewContainer.setManaged(false);
             }
+            // Both boards are drawn from the board events published by the load
         } else {
             gameController.resetGame();
             isGameStarted = false;
@@ -112,7 +112,7 @@ public class ViewController implements Initializable, GameObserver {
         if (chkShowEnemyShips != null) {
             chkShowEnemyShips.setOnAction(e -> {
                 showEnemyShips = chkShowEnemyShips.isSelected();
-                refreshBoard(machineGrid, gameController.getMachineBoard(), !showEnemyShips);
+                refreshBoard(machineGrid, machineSnapshot, !showEnemyShips);
                 log(showEnemyShips ? "⚠️ Enemy ships revealed (Verification Mode)" : "Enemy ships hidden");
             });
         }
@@ -243,7 +243,6 @@ public class ViewController implements Initializable, GameObserver {
 
         lblStatus.setText("⚔️ BATTLE STARTED! Your Turn.");
         log("🎯 Enemy ships detected. Open fire!");
-        refreshBoard(machineGrid, gameController.getMachineBoard(), !showEnemyShips);
     }
 
     @FXML
@@ -253,7 +252,10 @@ public class ViewController implements Initializable, GameObserver {
         isPaused = !isPaused;
 
         if (isPaused) {
+            gameController.pause(); // Freezes a machine turn in progress
             showPauseDialog();
+        } else {
+            gameController.resume();
         }
     }
 
@@ -281,9 +283,12 @@ public class ViewController implements Initializable, GameObserver {
         if (result.isPresent()) {
             if (result.get() == btnResume) {
                 isPaused = false;
+                gameController.resume();
                 log("▶️ Game resumed");
             } else if (result.get() == btnToMenu) {
+                gameController.shutdown();
                 gameController.saveGame();
+                leaveView();
                 NavigationController.getInstance().showMainMenu();
             } else if (result.get() == btnExit) {
                 Alert confirmExit = new Alert(Alert.AlertType.CONFIRMATION);
@@ -293,14 +298,17 @@ public class ViewController implements Initializable, GameObserver {
 
                 Optional<ButtonType> exitResult = confirmExit.showAndWait();
                 if (exitResult.isPresent() && exitResult.get() == ButtonType.OK) {
+                    gameController.shutdown();
                     gameController.saveGame();
-                    System.exit(0);
+                    Platform.exit(); // Main.stop() writes the pending saves
                 } else {
                     isPaused = false;
+                    gameController.resume();
                 }
             }
         } else {
             isPaused = false;
+            gameController.resume();
         }
     }
 
@@ -313,7 +321,9 @@ public class ViewController implements Initializable, GameObserver {
 
         Optional<ButtonType> result = alert.showAndWait();
         if (result.isPresent() && result.get() == ButtonType.OK) {
+            gameController.shutdown(); // The pending machine turn must not save over the next game
             gameController.saveGame();
+            leaveView();
             NavigationController.getInstance().showMainMenu();
         }
     }
@@ -326,7 +336,6 @@ public class ViewController implements Initializable, GameObserver {
 
         try {
             gameController.placeShip(new Coordinate(row, col), currentShip.getSize(), isHorizontalPlacement);
-            refreshBoard(playerGrid, gameController.getPlayerBoard(), false);
 
             Ship next = gameController.getNextShipToPlace();
             if (next == null) {
@@ -358,8 +367,6 @@ public class ViewController implements Initializable, GameObserver {
 
         boolean shotResult = gameController.shoot(new Coordinate(row, col));
 
-        refreshBoard(machineGrid, gameController.getMachineBoard(), !showEnemyShips);
-
         if (shotResult) {
             log("💥 HIT! Shoot again.");
         } else {
@@ -374,30 +381,33 @@ public class ViewController implements Initializable, GameObserver {
         if (gameController.isGameOver()) {
             isGameStarted = false;
 
-            boolean playerWon = !gameController.getMachineBoard().getGrid()
-                    .containsValue(Board.CellState.SHIP);
-
-            int enemyShipsDestroyed = countSunkShips(gameController.getMachineBoard());
-            GameSession.getInstance().setEnemyShipsDestroyed(enemyShipsDestroyed);
+            boolean playerWon = gameController.hasPlayerWon();
+            int enemyShipsDestroyed = gameController.getEnemyShipsSunk();
+            SessionRegistry.getDefault().getLocalSession().setEnemyShipsDestroyed(enemyShipsDestroyed);
 
             log(playerWon ? "🎉 VICTORY! All enemy ships destroyed!" : "💀 DEFEAT! Fleet destroyed!");
 
             Platform.runLater(() -> {
+                leaveView();
                 NavigationController.getInstance().showGameOver(playerWon, enemyShipsDestroyed);
             });
         }
     }
 
-    private int countSunkShips(Board board) {
-        return (int) board.getShipPlacement().values().stream()
-                .distinct()
-                .filter(Ship::isSunk)
-                .count();
+    /**
+     * Stops rendering game updates before another screen replaces this one.
+     */
+    private void leaveView() {
+        gameController.removeObserver(this);
+        dispatcher.stop();
     }
 
-    private void refreshBoard(GridPane grid, Board board, boolean hideShips) {
-        Map<Coordinate, Board.CellState> gridState = board.getGrid();
-
+    /**
+     * Renders a board from the snapshot of a board change event: its cells and ship layout.
+     * The live board is never read, so a machine turn can run while the frame is drawn.
+     */
+    private void refreshBoard(GridPane grid, GameEvent snapshot, boolean hideShips) {
+        if (snapshot == null) return; // Nothing published for this board yet
         for (Node node : grid.getChildren()) {
             if (!(node instanceof StackPane)) continue;
 
@@ -406,10 +416,9 @@ public class ViewController implements Initializable, GameObserver {
             if (col == null || row == null) continue;
 
             StackPane cell = (StackPane) node;
-            Coordinate coord = new Coordinate(row, col);
-            Board.CellState state = gridState.getOrDefault(coord, Board.CellState.WATER);
+            Board.CellState state = snapshot.getCell(row, col) != null ? snapshot.getCell(row, col) : Board.CellState.WATER;
 
-            Object[] shipInfo = board.getShipRenderInfo(coord);
+            Object[] shipInfo = snapshot.getShipRenderInfo(row, col);
             CellRenderer.renderCell(cell, state, hideShips, shipInfo);
         }
     }
@@ -421,32 +430,45 @@ public class ViewController implements Initializable, GameObserver {
     }
 
     // GameObserver Implementation
+    // Called on the event stream's thread; UI work is coalesced and drawn once per frame
+
+    @Override
+    public void onEvent(GameEvent event) {
+        if (event.getType() != GameEvent.Type.BOARD_CHANGED) {
+            GameObserver.super.onEvent(event);
+            return;
+        }
+        // Render the snapshot carried by the event, not the live board; only the latest one is drawn
+        if (event.isPlayerBoard()) {
+            dispatcher.update(playerGrid, () -> {
+                playerSnapshot = event;
+                refreshBoard(playerGrid, event, false);
+            });
+        } else {
+            dispatcher.update(machineGrid, () -> {
+                machineSnapshot = event;
+                refreshBoard(machineGrid, event, !showEnemyShips);
+            });
+        }
+    }
 
     @Override
     public void onBoardChanged(boolean isPlayerBoard) {
-        Platform.runLater(() -> {
-            if (isPlayerBoard) {
-                refreshBoard(playerGrid, gameController.getPlayerBoard(), false);
-            } else {
-                refreshBoard(machineGrid, gameController.getMachineBoard(), !showEnemyShips);
-            }
-        });
+        // Not called: board changes are drawn from the event snapshots in onEvent
     }
 
     @Override
     public void onShotFired(boolean isHit, boolean isSunk) {
-        Platform.runLater(() -> {
-            if (isSunk) {
-                log("💥 SUNK! Enemy ship destroyed!");
-            } else if (isHit) {
-                log("🎯 HIT! Part of enemy ship damaged.");
-            }
-        });
+        if (isSunk) {
+            dispatcher.post(() -> log("💥 SUNK! Enemy ship destroyed!"));
+        } else if (isHit) {
+            dispatcher.post(() -> log("🎯 HIT! Part of enemy ship damaged."));
+        }
     }
 
     @Override
     public void onGameOver(boolean playerWon) {
-        Platform.runLater(() -> {
+        dispatcher.post(() -> {
             lblStatus.setText(playerWon ? "🎉 YOU WIN!" : "💀 YOU LOSE!");
             checkGameOver();
         });
@@ -454,8 +476,6 @@ public class ViewController implements Initializable, GameObserver {
 
     @Override
     public void onTurnChanged(boolean isPlayerTurn) {
-        Platform.runLater(() -> {
-            lblStatus.setText(isPlayerTurn ? "⚔️ Your Turn!" : "🤖 Enemy Turn...");
-        });
+        dispatcher.update(lblStatus, () -> lblStatus.setText(isPlayerTurn ? "⚔️ Your Turn!" : "🤖 Enemy Turn..."));
     }
-}
\ No newline at end of file
+}
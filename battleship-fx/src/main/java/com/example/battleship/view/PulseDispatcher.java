@@ -0,0 +1,127 @@
+package com.example.battleship.view;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Coalesces UI work from the game between JavaFX pulses and runs it once per frame.
+ * Any thread can post work; an {@link AnimationTimer} flushes it on the FX thread.
+ *
+ * <ul>
+ *   <li>{@link #update(Object, Runnable)}: latest wins per key, e.g. redraw a board. Ten
+ *       board changes between two frames cost one redraw. Keys run in the order they were
+ *       first scheduled in the frame.</li>
+ *   <li>{@link #post(Runnable)}: runs every task in order, e.g. log lines.</li>
+ * </ul>
+ *
+ * <p>Replaces one {@code Platform.runLater} per event, so a fast engine (turbo pacing, many
+ * hits per turn) can no longer flood the FX queue.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class PulseDispatcher {
+
+    private Map<Object, Runnable> updates = new LinkedHashMap<>(); // Guarded by this
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean pending = new AtomicBoolean();
+    private AnimationTimer timer; // Created by start(), so the dispatcher can be built off the FX toolkit
+
+    // Statistics
+    private long frames;
+    private long updatesRun;
+
+    /**
+     * Starts flushing once per pulse. Call on the FX thread.
+     */
+    public void start() {
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    flush();
+                }
+            };
+        }
+        timer.start();
+    }
+
+    /**
+     * Stops flushing and drops pending work, e.g. when leaving the view. Call on the FX thread.
+     */
+    public void stop() {
+        if (timer != null) timer.stop();
+        synchronized (this) {
+            updates.clear();
+        }
+        tasks.clear();
+    }
+
+    /**
+     * Schedules work for the next frame, replacing pending work with the same key.
+     *
+     * @param key What the work refreshes, e.g. a board
+     * @param update The work; runs on the FX thread
+     */
+    public void update(Object key, Runnable update) {
+        synchronized (this) {
+            updates.put(key, update); // A replaced key keeps its place
+        }
+        pending.set(true);
+    }
+
+    /**
+     * Schedules work for the next frame, after earlier posted work.
+     *
+     * @param task The work; runs on the FX thread
+     */
+    public void post(Runnable task) {
+        tasks.add(task);
+        pending.set(true);
+    }
+
+    /**
+     * Runs the pending work: ordered tasks first, then the latest update per key.
+     * Called by the timer on every pulse.
+     */
+    void flush() {
+        if (!pending.getAndSet(false)) return; // Idle frame
+
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+
+        // Take the updates before running them, so updates posted meanwhile wait for the next frame
+        Map<Object, Runnable> batch;
+        synchronized (this) {
+            batch = updates;
+            updates = new LinkedHashMap<>();
+        }
+        for (Runnable update : batch.values()) {
+            update.run();
+        }
+        frames++;
+        updatesRun += batch.size();
+    }
+
+    /**
+     * Gets how many frames had work to do.
+     *
+     * @return Busy frames
+     */
+    public long getFrames() { return frames; }
+
+    /**
+     * Gets how many coalesced updates ran.
+     *
+     * @return Updates run
+     */
+    public long getUpdatesRun() { return updatesRun; }
+}
@@ -1,14 +1,17 @@
-module com.example.battleship {
+module com.example.battleship.fx {
     requires javafx.controls;
     requires javafx.fxml;
+    requires com.example.battleship.core;
+
+    // Aporta los niveles de IA por ServiceLoader (no se usa directamente)
+    requires com.example.battleship.ai;
 
     // Permite que JavaFX acceda a la clase Main
     opens com.example.battleship to javafx.fxml;
 
-    // ESTA ES LA LÍNEA QUE TE FALTA:
     // Permite que JavaFX inyecte los botones y eventos en tu ViewController
     opens com.example.battleship.controller to javafx.fxml;
 
     // Exporta el paquete principal para que el sistema pueda iniciar la App
     exports com.example.battleship;
-}
\ No newline at end of file
+}
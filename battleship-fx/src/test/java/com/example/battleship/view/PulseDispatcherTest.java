@@ -0,0 +1,74 @@
+package com.example.battleship.view;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PulseDispatcher class.
+ * Frames are flushed by hand, so no JavaFX toolkit is needed.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class PulseDispatcherTest {
+
+    @Test
+    @DisplayName("Should run only the latest update per key in a frame")
+    void testLatestWinsPerKey() {
+        PulseDispatcher dispatcher = new PulseDispatcher();
+        List<String> ran = new ArrayList<>();
+
+        for (int i = 1; i <= 10; i++) {
+            int change = i;
+            dispatcher.update("playerGrid", () -> ran.add("player " + change));
+        }
+        dispatcher.update("machineGrid", () -> ran.add("machine 1"));
+        dispatcher.flush();
+
+        assertEquals(List.of("player 10", "machine 1"), ran, "Each key should run once, with its latest work");
+        assertEquals(2, dispatcher.getUpdatesRun(), "Two coalesced updates should run");
+        assertEquals(1, dispatcher.getFrames(), "One frame should have had work");
+
+        dispatcher.flush();
+        assertEquals(1, dispatcher.getFrames(), "An idle frame should do nothing");
+    }
+
+    @Test
+    @DisplayName("Should run tasks in order, then updates in the order their keys were first scheduled")
+    void testOrdering() {
+        PulseDispatcher dispatcher = new PulseDispatcher();
+        List<String> ran = new ArrayList<>();
+
+        dispatcher.update("b", () -> ran.add("b1"));
+        dispatcher.post(() -> ran.add("task 1"));
+        dispatcher.update("a", () -> ran.add("a"));
+        dispatcher.update("b", () -> ran.add("b2")); // Replaces b1, keeps its place
+        dispatcher.post(() -> ran.add("task 2"));
+        dispatcher.flush();
+
+        assertEquals(List.of("task 1", "task 2", "b2", "a"), ran, "Tasks first, then updates by first schedule");
+    }
+
+    @Test
+    @DisplayName("Should leave updates scheduled while flushing for the next frame")
+    void testUpdateDuringFlush() {
+        PulseDispatcher dispatcher = new PulseDispatcher();
+        List<String> ran = new ArrayList<>();
+
+        dispatcher.update("grid", () -> {
+            ran.add("first");
+            dispatcher.update("grid", () -> ran.add("second"));
+        });
+        dispatcher.flush();
+        assertEquals(List.of("first"), ran, "The new update should wait for the next frame");
+
+        dispatcher.flush();
+        assertEquals(List.of("first", "second"), ran, "The next frame should run it");
+    }
+}
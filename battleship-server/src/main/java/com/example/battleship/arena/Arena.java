@@ -0,0 +1,379 @@
+package com.example.battleship.arena;
+
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.model.Ship;
+import com.example.battleship.net.PlayerSide;
+import com.example.battleship.net.Protocol;
+import com.example.battleship.util.ShipFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Tournament runner for external bot executables, written in any language.
+ * Bots are separate processes that talk over stdin/stdout, one message per line:
+ *
+ * <pre>
+ * Arena to bot                          Bot answers
+ *   NEW 4 3 3 2 2 2 1 1 1 1               FLEET row col H|V ... (one triple per ship, same order)
+ *   TURN                                  SHOT row col
+ *   RESULT row col MISS|HIT|SUNK          (nothing) outcome of the bot's own shot
+ *   INCOMING row col MISS|HIT|SUNK        (nothing) the opponent's shot
+ *   END WIN|LOSS                          (nothing) the process is then reused for another game
+ *   QUIT                                  (nothing) the bot should exit
+ * </pre>
+ *
+ * <p>Each answer must arrive within the move time limit. A bot that times out, exits, or
+ * sends an invalid fleet or shot loses the match. Games follow the {@link PlayerSide}
+ * rules: a hit keeps the turn, a miss passes it.</p>
+ *
+ * <p>Matches run concurrently on a fixed pool; each one borrows a process from both bots'
+ * bounded pools. Processes are borrowed in bot order, so two matches never wait on each
+ * other's processes.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class Arena implements AutoCloseable {
+
+    /**
+     * Time limit for the first answer of a new process, which includes its startup.
+     */
+    public static final long STARTUP_TIMEOUT_MILLIS = 10_000;
+
+    private static final String NEW_GAME;
+
+    static {
+        StringBuilder sb = new StringBuilder("NEW");
+        for (Ship ship : ShipFactory.createFleet()) {
+            sb.append(' ').append(ship.getSize());
+        }
+        NEW_GAME = sb.toString();
+    }
+
+    private final List<Bot> bots;
+    private final long moveTimeoutMillis;
+    private final ExecutorService matchPool;
+
+    /**
+     * Creates an arena.
+     *
+     * @param bots Entered bots
+     * @param moveTimeoutMillis Time limit for every answer
+     * @param parallelism Matches played at once
+     */
+    public Arena(List<Bot> bots, long moveTimeoutMillis, int parallelism) {
+        this.bots = List.copyOf(bots);
+        this.moveTimeoutMillis = moveTimeoutMillis;
+        AtomicInteger count = new AtomicInteger();
+        this.matchPool = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "arena-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Usage: {@code Arena [--games N] [--timeout MS] [--parallel N] [--pool N] name=command ...}
+     * where each command is split on spaces, e.g. {@code "hunter=python3 hunter.py"}.
+     */
+    public static void main(String[] args) throws Exception {
+        int games = 10;
+        long timeout = 1000;
+        int parallel = Runtime.getRuntime().availableProcessors();
+        int pool = 2;
+        List<String[]> entries = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--games": games = Integer.parseInt(args[++i]); break;
+                case "--timeout": timeout = Long.parseLong(args[++i]); break;
+                case "--parallel": parallel = Integer.parseInt(args[++i]); break;
+                case "--pool": pool = Integer.parseInt(args[++i]); break;
+                default: entries.add(args[i].split("=", 2));
+            }
+        }
+        if (entries.size() < 2) {
+            System.err.println("Usage: Arena [--games N] [--timeout MS] [--parallel N] [--pool N] name=command ...");
+            return;
+        }
+
+        List<Bot> bots = new ArrayList<>();
+        for (String[] entry : entries) {
+            bots.add(new Bot(entry[0], Arrays.asList(entry[1].split(" +")), pool));
+        }
+        try (Arena arena = new Arena(bots, timeout, parallel)) {
+            long start = System.nanoTime();
+            arena.runRoundRobin(games, result -> System.out.println("⚔️ " + result));
+            System.out.printf("%nTournament finished in %.1f s%n", (System.nanoTime() - start) / 1e9);
+            System.out.println(arena.rankingTable());
+        }
+    }
+
+    /**
+     * Plays every pair of bots against each other, alternating who moves first.
+     * Results stream to the listener on the calling thread as matches finish.
+     *
+     * @param gamesPerPair Games between each pair of bots
+     * @param listener Called with every finished match
+     * @return All results, in completion order
+     * @throws InterruptedException If interrupted while waiting for the matches
+     */
+    public List<MatchResult> runRoundRobin(int gamesPerPair, Consumer<MatchResult> listener) throws InterruptedException {
+        ExecutorCompletionService<MatchResult> completion = new ExecutorCompletionService<>(matchPool);
+        int submitted = 0;
+        for (int i = 0; i < bots.size(); i++) {
+            for (int j = i + 1; j < bots.size(); j++) {
+                Bot first = bots.get(i);
+                Bot second = bots.get(j);
+                for (int game = 0; game < gamesPerPair; game++) {
+                    int starter = game % 2;
+                    completion.submit(() -> play(first, second, starter));
+                    submitted++;
+                }
+            }
+        }
+
+        List<MatchResult> results = new ArrayList<>(submitted);
+        for (int i = 0; i < submitted; i++) {
+            try {
+                MatchResult result = completion.take().get();
+                results.add(result);
+                listener.accept(result);
+            } catch (ExecutionException e) {
+                System.err.println("Arena match failed: " + e.getCause());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Plays one match.
+     *
+     * @param first Bot earlier in the entry list
+     * @param second Bot later in the entry list
+     * @param starter Seat that shoots first, 0 or 1
+     * @return The result
+     * @throws InterruptedException If interrupted while waiting for a bot
+     */
+    MatchResult play(Bot first, Bot second, int starter) throws InterruptedException {
+        Seat[] seats = {new Seat(first), new Seat(second)};
+        long start = System.nanoTime();
+        int shots = 0;
+        try {
+            for (Seat seat : seats) {
+                seat.process = acquire(seat);
+            }
+            PlayerSide.pair(seats[0].side, seats[1].side);
+            for (Seat seat : seats) {
+                placeFleet(seat);
+            }
+
+            int current = starter;
+            seats[current].side.setMyTurn(true);
+            while (true) {
+                Seat shooter = seats[current];
+                Seat target = seats[1 - current];
+                Coordinate cell = readShot(shooter);
+                boolean hit = shooter.side.shoot(cell);
+                shots++;
+                String outcome = !hit ? "MISS" : shooter.side.isSunkAt(cell) ? "SUNK" : "HIT";
+                String where = cell.getRow() + " " + cell.getCol() + " " + outcome;
+                send(shooter, "RESULT " + where);
+                send(target, "INCOMING " + where);
+
+                if (shooter.side.isGameOver()) {
+                    return finish(shooter, target, MatchResult.Reason.FLEET_SUNK, shots, start);
+                }
+                if (!hit) {
+                    shooter.side.setMyTurn(false);
+                    target.side.setMyTurn(true);
+                    current = 1 - current;
+                }
+            }
+        } catch (Forfeit forfeit) {
+            Seat loser = forfeit.seat;
+            Seat winner = loser == seats[0] ? seats[1] : seats[0];
+            return finish(winner, loser, forfeit.reason, shots, start);
+        } finally {
+            for (Seat seat : seats) {
+                if (seat.process != null) seat.bot.release(seat.process, seat.healthy);
+            }
+        }
+    }
+
+    private BotProcess acquire(Seat seat) throws InterruptedException {
+        try {
+            return seat.bot.acquire();
+        } catch (IOException e) {
+            seat.bot.recordCrash();
+            throw new Forfeit(seat, MatchResult.Reason.CRASH);
+        }
+    }
+
+    private void placeFleet(Seat seat) throws InterruptedException {
+        send(seat, NEW_GAME);
+        String[] parts = read(seat).split(" ");
+        int count = (parts.length - 1) / 3;
+        if (!"FLEET".equals(parts[0]) || parts.length != 1 + count * 3) illegal(seat);
+
+        int[] ships = new int[count];
+        try {
+            for (int i = 0; i < count; i++) {
+                int row = Integer.parseInt(parts[1 + i * 3]);
+                int col = Integer.parseInt(parts[2 + i * 3]);
+                String orientation = parts[3 + i * 3];
+                if (row < 0 || row > 9 || col < 0 || col > 9) illegal(seat);
+                if (!"H".equals(orientation) && !"V".equals(orientation)) illegal(seat);
+                ships[i] = Protocol.ship(Protocol.cell(row, col), "H".equals(orientation));
+            }
+        } catch (NumberFormatException e) {
+            illegal(seat);
+        }
+        if (!seat.side.placeFleet(ships, count)) illegal(seat);
+    }
+
+    private Coordinate readShot(Seat seat) throws InterruptedException {
+        send(seat, "TURN");
+        String[] parts = read(seat).split(" ");
+        if (parts.length != 3 || !"SHOT".equals(parts[0])) illegal(seat);
+        Coordinate cell;
+        try {
+            cell = new Coordinate(Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+        } catch (NumberFormatException e) {
+            throw illegal(seat);
+        }
+        if (cell.getRow() < 0 || cell.getRow() > 9 || cell.getCol() < 0 || cell.getCol() > 9
+                || !seat.side.canShootAt(cell)) {
+            illegal(seat);
+        }
+        return cell;
+    }
+
+    /**
+     * Waits for a bot's answer within the time limit and records how long it took.
+     * A new process gets extra time for its first answer, which is not recorded.
+     */
+    private String read(Seat seat) throws InterruptedException {
+        boolean starting = !seat.process.hasAnswered();
+        long start = System.nanoTime();
+        String line;
+        try {
+            line = seat.process.readLine(starting ? Math.max(moveTimeoutMillis, STARTUP_TIMEOUT_MILLIS) : moveTimeoutMillis);
+        } catch (IOException e) {
+            seat.healthy = false;
+            seat.bot.recordCrash();
+            throw new Forfeit(seat, MatchResult.Reason.CRASH);
+        }
+        if (line == null) {
+            seat.healthy = false; // A late answer would desync the next game
+            seat.bot.recordTimeout();
+            throw new Forfeit(seat, MatchResult.Reason.TIMEOUT);
+        }
+        if (!starting) seat.bot.recordMove(System.nanoTime() - start);
+        return line;
+    }
+
+    private void send(Seat seat, String line) {
+        try {
+            seat.process.send(line);
+        } catch (IOException e) {
+            seat.healthy = false;
+            seat.bot.recordCrash();
+            throw new Forfeit(seat, MatchResult.Reason.CRASH);
+        }
+    }
+
+    private Forfeit illegal(Seat seat) {
+        seat.healthy = false; // Its idea of the game no longer matches ours
+        seat.bot.recordIllegalMove();
+        throw new Forfeit(seat, MatchResult.Reason.ILLEGAL_MOVE);
+    }
+
+    private MatchResult finish(Seat winner, Seat loser, MatchResult.Reason reason, int shots, long start) {
+        winner.bot.recordWin();
+        loser.bot.recordLoss();
+        endGame(winner, "END WIN");
+        endGame(loser, "END LOSS");
+        return new MatchResult(winner.bot, loser.bot, reason, shots, System.nanoTime() - start);
+    }
+
+    private void endGame(Seat seat, String message) {
+        if (seat.process == null || !seat.healthy) return;
+        try {
+            seat.process.send(message);
+        } catch (IOException e) {
+            seat.healthy = false;
+        }
+    }
+
+    /**
+     * Formats the ranking: most wins first, with per-bot move latency and failures.
+     *
+     * @return Ranking table
+     */
+    public String rankingTable() {
+        List<Bot> ranked = new ArrayList<>(bots);
+        ranked.sort(Comparator.comparingLong(Bot::getWins).reversed().thenComparing(Bot::getName));
+
+        StringBuilder sb = new StringBuilder(String.format("%-4s %-16s %5s %5s %6s %9s %9s %8s %7s %7s %9s%n",
+                "#", "Bot", "Won", "Lost", "Win%", "p50 (ms)", "p99 (ms)", "Timeouts", "Crashes", "Illegal", "Processes"));
+        int rank = 1;
+        for (Bot bot : ranked) {
+            sb.append(String.format("%-4d %-16s %5d %5d %5.1f%% %9.2f %9.2f %8d %7d %7d %9d%n",
+                    rank++, bot.getName(), bot.getWins(), bot.getLosses(), bot.getWinRate() * 100,
+                    bot.getMoveLatency().getPercentile(50) / 1e6, bot.getMoveLatency().getPercentile(99) / 1e6,
+                    bot.getTimeouts(), bot.getCrashes(), bot.getIllegalMoves(), bot.getProcessesStarted()));
+        }
+        return sb.toString();
+    }
+
+    public List<Bot> getBots() {
+        return bots;
+    }
+
+    @Override
+    public void close() {
+        matchPool.shutdownNow();
+        for (Bot bot : bots) {
+            bot.shutdown();
+        }
+    }
+
+    /**
+     * One bot's side of a match.
+     */
+    private static class Seat {
+        private final Bot bot;
+        private final PlayerSide side = new PlayerSide();
+        private BotProcess process;
+        private boolean healthy = true;
+
+        Seat(Bot bot) {
+            this.bot = bot;
+        }
+    }
+
+    /**
+     * Ends a match early: the seat loses.
+     */
+    private static class Forfeit extends RuntimeException {
+        private final Seat seat;
+        private final MatchResult.Reason reason;
+
+        Forfeit(Seat seat, MatchResult.Reason reason) {
+            super(null, null, false, false);
+            this.seat = seat;
+            this.reason = reason;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.battleship.arena;
+
+import com.example.battleship.util.LatencyHistogram;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bot entered in the arena: its command, a bounded pool of running processes and its
+ * results. Processes are reused across matches; one that timed out or crashed is killed
+ * and replaced by a fresh one on the next match.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class Bot {
+
+    private final String name;
+    private final List<String> command;
+    private final Semaphore slots;
+    private final ConcurrentLinkedQueue<BotProcess> idle = new ConcurrentLinkedQueue<>();
+
+    // Results and metrics
+    private final LatencyHistogram moveLatency = new LatencyHistogram();
+    private final LongAdder wins = new LongAdder();
+    private final LongAdder losses = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder crashes = new LongAdder();
+    private final LongAdder illegalMoves = new LongAdder();
+    private final LongAdder processesStarted = new LongAdder();
+
+    /**
+     * Creates a bot.
+     *
+     * @param name Name shown in the ranking
+     * @param command Executable and arguments
+     * @param maxProcesses Maximum processes of this bot running at once
+     */
+    public Bot(String name, List<String> command, int maxProcesses) {
+        this.name = name;
+        this.command = List.copyOf(command);
+        this.slots = new Semaphore(maxProcesses);
+    }
+
+    /**
+     * Borrows a process, starting one if none is idle. Blocks while the pool is exhausted.
+     *
+     * @return A running process
+     * @throws IOException If the process cannot be started
+     * @throws InterruptedException If interrupted while waiting for a slot
+     */
+    BotProcess acquire() throws IOException, InterruptedException {
+        slots.acquire();
+        BotProcess process;
+        while ((process = idle.poll()) != null) {
+            if (process.isAlive()) return process;
+        }
+        try {
+            processesStarted.increment();
+            return new BotProcess(name, command);
+        } catch (IOException e) {
+            slots.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a process to the pool.
+     *
+     * @param process The process
+     * @param healthy false to kill it, e.g. after a timeout
+     */
+    void release(BotProcess process, boolean healthy) {
+        if (healthy && process.isAlive()) {
+            idle.add(process);
+        } else {
+            process.kill();
+        }
+        slots.release();
+    }
+
+    /**
+     * Stops every idle process.
+     */
+    void shutdown() {
+        BotProcess process;
+        while ((process = idle.poll()) != null) {
+            process.close();
+        }
+    }
+
+    void recordMove(long nanos) { moveLatency.record(nanos); }
+    void recordWin() { wins.increment(); }
+    void recordLoss() { losses.increment(); }
+    void recordTimeout() { timeouts.increment(); }
+    void recordCrash() { crashes.increment(); }
+    void recordIllegalMove() { illegalMoves.increment(); }
+
+    public String getName() { return name; }
+    public LatencyHistogram getMoveLatency() { return moveLatency; }
+    public long getWins() { return wins.sum(); }
+    public long getLosses() { return losses.sum(); }
+    public long getTimeouts() { return timeouts.sum(); }
+    public long getCrashes() { return crashes.sum(); }
+    public long getIllegalMoves() { return illegalMoves.sum(); }
+    public long getProcessesStarted() { return processesStarted.sum(); }
+
+    /**
+     * Gets the share of games won.
+     *
+     * @return Win rate between 0 and 1
+     */
+    public double getWinRate() {
+        long games = getWins() + getLosses();
+        return games == 0 ? 0 : (double) getWins() / games;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.battleship.arena;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One running bot executable, talked to line by line over stdin/stdout.
+ * A daemon thread pumps the bot's output into a queue, so replies can be awaited with a
+ * deadline. A process that timed out may still answer late, so it must not be reused.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class BotProcess {
+
+    private static final String EOF = new String("EOF"); // Unique marker, compared by identity
+
+    private final Process process;
+    private final BufferedWriter in;
+    private final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+    private boolean answered;
+
+    /**
+     * Starts a bot.
+     *
+     * @param name Bot name, used for the reader thread
+     * @param command Executable and arguments
+     * @throws IOException If the process cannot be started
+     */
+    public BotProcess(String name, List<String> command) throws IOException {
+        process = new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        in = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+
+        Thread reader = new Thread(() -> {
+            try (BufferedReader out = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = out.readLine()) != null) {
+                    lines.add(line.trim());
+                }
+            } catch (IOException ignored) {
+                // Process died; reported as end of output
+            }
+            lines.add(EOF);
+        }, "bot-" + name);
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    /**
+     * Sends one line to the bot.
+     *
+     * @param line Message without line terminator
+     * @throws IOException If the bot is no longer running
+     */
+    public void send(String line) throws IOException {
+        in.write(line);
+        in.newLine();
+        in.flush();
+    }
+
+    /**
+     * Waits for the bot's next line.
+     *
+     * @param timeoutMillis Time limit
+     * @return The line, or null if the time limit passed
+     * @throws IOException If the bot exited
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public String readLine(long timeoutMillis) throws IOException, InterruptedException {
+        String line = lines.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        if (line == EOF) {
+            lines.add(EOF); // Keep reporting it
+            throw new IOException("Bot exited");
+        }
+        if (line != null) answered = true;
+        return line;
+    }
+
+    /**
+     * Checks if the bot answered at least once, i.e. it has finished starting up.
+     *
+     * @return true after the first answer
+     */
+    public boolean hasAnswered() {
+        return answered;
+    }
+
+    /**
+     * Checks if the process is still running.
+     *
+     * @return true if alive
+     */
+    public boolean isAlive() {
+        return process.isAlive();
+    }
+
+    /**
+     * Asks the bot to quit and kills it if it does not.
+     */
+    public void close() {
+        try {
+            send("QUIT");
+        } catch (IOException ignored) {
+            // Already gone
+        }
+        try {
+            if (!process.waitFor(200, TimeUnit.MILLISECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Kills the bot at once, e.g. after a timeout.
+     */
+    public void kill() {
+        process.destroyForcibly();
+    }
+}
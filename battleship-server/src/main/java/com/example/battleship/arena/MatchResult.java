@@ -0,0 +1,51 @@
+package com.example.battleship.arena;
+
+/**
+ * Outcome of one arena match.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class MatchResult {
+
+    /**
+     * How a match was decided.
+     */
+    public enum Reason {
+        /** The loser's fleet was sunk */
+        FLEET_SUNK,
+        /** The loser did not answer within the time limit */
+        TIMEOUT,
+        /** The loser's process exited or could not be started */
+        CRASH,
+        /** The loser sent an invalid fleet or shot */
+        ILLEGAL_MOVE
+    }
+
+    private final Bot winner;
+    private final Bot loser;
+    private final Reason reason;
+    private final int shots;
+    private final long durationNanos;
+
+    MatchResult(Bot winner, Bot loser, Reason reason, int shots, long durationNanos) {
+        this.winner = winner;
+        this.loser = loser;
+        this.reason = reason;
+        this.shots = shots;
+        this.durationNanos = durationNanos;
+    }
+
+    public Bot getWinner() { return winner; }
+    public Bot getLoser() { return loser; }
+    public Reason getReason() { return reason; }
+    public int getShots() { return shots; }
+    public long getDurationNanos() { return durationNanos; }
+
+    @Override
+    public String toString() {
+        return String.format("%s beat %s (%s, %d shots, %.0f ms)",
+                winner.getName(), loser.getName(), reason, shots, durationNanos / 1e6);
+    }
+}
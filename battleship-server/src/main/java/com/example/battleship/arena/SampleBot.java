@@ -0,0 +1,110 @@
+package com.example.battleship.arena;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+/**
+ * Example arena bot: hunts on a checkerboard and, after a hit, tries the neighbouring cells.
+ * It only uses the JDK, like a bot written in any other language would only use the
+ * line protocol described in {@link Arena}.
+ * Usage: {@code java -cp <classes> com.example.battleship.arena.SampleBot [--seed N] [--delay MS]}
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SampleBot {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        long seed = System.nanoTime();
+        long delay = 0;
+        for (int i = 0; i < args.length; i++) {
+            if ("--seed".equals(args[i])) seed = Long.parseLong(args[++i]);
+            if ("--delay".equals(args[i])) delay = Long.parseLong(args[++i]);
+        }
+
+        Random random = new Random(seed);
+        boolean[] tried = new boolean[100];
+        Deque<Integer> targets = new ArrayDeque<>();
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
+
+        String line;
+        while ((line = in.readLine()) != null) {
+            String[] parts = line.trim().split(" ");
+            switch (parts[0]) {
+                case "NEW":
+                    tried = new boolean[100];
+                    targets.clear();
+                    System.out.println(fleet(parts, random));
+                    break;
+                case "TURN":
+                    if (delay > 0) Thread.sleep(delay);
+                    int cell = nextShot(tried, targets, random);
+                    tried[cell] = true;
+                    System.out.println("SHOT " + cell / 10 + " " + cell % 10);
+                    break;
+                case "RESULT":
+                    if (!"MISS".equals(parts[3])) {
+                        int row = Integer.parseInt(parts[1]);
+                        int col = Integer.parseInt(parts[2]);
+                        if (row > 0) targets.push((row - 1) * 10 + col);
+                        if (row < 9) targets.push((row + 1) * 10 + col);
+                        if (col > 0) targets.push(row * 10 + col - 1);
+                        if (col < 9) targets.push(row * 10 + col + 1);
+                    }
+                    break;
+                case "QUIT":
+                    return;
+                default:
+                    // INCOMING and END need no answer
+            }
+            System.out.flush();
+        }
+    }
+
+    /**
+     * Places ships one by one at random free positions.
+     */
+    private static String fleet(String[] sizes, Random random) {
+        boolean[] used = new boolean[100];
+        StringBuilder sb = new StringBuilder("FLEET");
+        for (int i = 1; i < sizes.length; i++) {
+            int size = Integer.parseInt(sizes[i]);
+            while (true) {
+                boolean horizontal = random.nextBoolean();
+                int row = random.nextInt(horizontal ? 10 : 11 - size);
+                int col = random.nextInt(horizontal ? 11 - size : 10);
+                boolean free = true;
+                for (int k = 0; k < size && free; k++) {
+                    free = !used[horizontal ? row * 10 + col + k : (row + k) * 10 + col];
+                }
+                if (!free) continue;
+                for (int k = 0; k < size; k++) {
+                    used[horizontal ? row * 10 + col + k : (row + k) * 10 + col] = true;
+                }
+                sb.append(' ').append(row).append(' ').append(col).append(horizontal ? " H" : " V");
+                break;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static int nextShot(boolean[] tried, Deque<Integer> targets, Random random) {
+        while (!targets.isEmpty()) {
+            int cell = targets.pop();
+            if (!tried[cell]) return cell;
+        }
+        for (int attempt = 0; attempt < 200; attempt++) {
+            int cell = random.nextInt(100);
+            if (!tried[cell] && (cell / 10 + cell % 10) % 2 == 0) return cell;
+        }
+        for (int cell = 0; cell < 100; cell++) {
+            if (!tried[cell]) return cell;
+        }
+        return 0;
+    }
+}
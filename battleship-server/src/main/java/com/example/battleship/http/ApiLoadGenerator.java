@@ -0,0 +1,188 @@
+package com.example.battleship.http;
+
+import com.example.battleship.engine.SessionRegistry;
+import com.example.battleship.patterns.AiProvider;
+import com.example.battleship.util.LatencyHistogram;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local load test for the {@link GameApi}. Each client plays whole games over HTTP: it
+ * creates a game, places its fleet, shoots until the game ends and starts over, polling
+ * the state while the machine plays. Every request's latency is recorded.
+ * The test runs for a fixed time at each concurrency level and reports requests/s and
+ * latency percentiles. Usage: {@code ApiLoadGenerator [secondsPerLevel] [maxClients]}
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ApiLoadGenerator {
+
+    private final URI base;
+    private final HttpClient client;
+
+    /**
+     * Creates a generator.
+     *
+     * @param base Base URI of the API, e.g. {@code http://127.0.0.1:8080}
+     */
+    public ApiLoadGenerator(URI base) {
+        this.base = base;
+        this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        int maxClients = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+
+        SessionRegistry registry = SessionRegistry.getDefault();
+        try (ApiServer server = new ApiServer(new InetSocketAddress("127.0.0.1", 0),
+                Runtime.getRuntime().availableProcessors() * 4, registry, AiProvider.getDefault())) {
+            server.start();
+            ApiLoadGenerator generator = new ApiLoadGenerator(URI.create("http://127.0.0.1:" + server.getPort()));
+            generator.run(4, seconds * 1000L / 2); // Warm-up
+            for (int clients = 1; clients <= maxClients; clients *= 4) {
+                System.out.println(generator.run(clients, seconds * 1000L));
+            }
+            System.out.println("Games hosted: " + registry.getCreatedCount());
+        }
+    }
+
+    /**
+     * Runs a number of clients for a fixed time.
+     *
+     * @param clients Concurrent clients
+     * @param durationMillis How long to run
+     * @return Results of the run
+     * @throws InterruptedException If interrupted while waiting for the clients
+     */
+    public Report run(int clients, long durationMillis) throws InterruptedException {
+        LatencyHistogram latency = new LatencyHistogram();
+        LongAdder games = new LongAdder();
+        LongAdder errors = new LongAdder();
+        long deadline = System.nanoTime() + durationMillis * 1_000_000L;
+
+        Thread[] threads = new Thread[clients];
+        for (int i = 0; i < clients; i++) {
+            long seed = i;
+            threads[i] = new Thread(() -> {
+                Random random = new Random(seed);
+                while (System.nanoTime() < deadline) {
+                    try {
+                        playGame(random, latency, deadline);
+                        games.increment();
+                    } catch (IOException | RuntimeException e) {
+                        errors.increment();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }, "api-client-" + i);
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return new Report(clients, durationMillis, latency, games.sum(), errors.sum());
+    }
+
+    /**
+     * Plays one game, or part of it if the deadline passes.
+     */
+    private void playGame(Random random, LatencyHistogram latency, long deadline) throws IOException, InterruptedException {
+        Map<String, String> game = send("POST", "/games", "{\"nickname\":\"load\",\"difficulty\":\"MEDIUM\"}", latency);
+        String path = "/games/" + game.get("id");
+
+        // Ship i goes at row i, column 0
+        for (int row = 0; row < 10; row++) {
+            send("POST", path + "/ships", "{\"row\":" + row + ",\"col\":0,\"horizontal\":true}", latency);
+        }
+
+        int[] order = new int[100];
+        for (int i = 0; i < 100; i++) order[i] = i;
+        for (int i = 99; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+
+        int next = 0;
+        boolean over = false;
+        while (!over && next < 100 && System.nanoTime() < deadline) {
+            int cell = order[next];
+            Map<String, String> shot = send("POST", path + "/shots",
+                    "{\"row\":" + cell / 10 + ",\"col\":" + cell % 10 + "}", latency);
+            if (shot.containsKey("error")) {
+                // Machine's turn: poll until it hands the turn back
+                Map<String, String> state = send("GET", path, null, latency);
+                over = "FINISHED".equals(state.get("phase"));
+                continue;
+            }
+            next++;
+            over = Boolean.parseBoolean(shot.get("gameOver"));
+        }
+        send("DELETE", path, null, latency);
+    }
+
+    private Map<String, String> send(String method, String path, String body, LatencyHistogram latency)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(base.resolve(path));
+        if (body == null) {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            request.method(method, HttpRequest.BodyPublishers.ofString(body)).header("Content-Type", "application/json");
+        }
+        long start = System.nanoTime();
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        latency.record(System.nanoTime() - start);
+        if (response.statusCode() >= 500 || response.statusCode() == 404) {
+            throw new IOException("HTTP " + response.statusCode() + " for " + method + " " + path);
+        }
+        return JsonReader.parseObject(response.body());
+    }
+
+    /**
+     * Results of one concurrency level.
+     */
+    public static class Report {
+        private final int clients;
+        private final long durationMillis;
+        private final LatencyHistogram latency;
+        private final long games;
+        private final long errors;
+
+        Report(int clients, long durationMillis, LatencyHistogram latency, long games, long errors) {
+            this.clients = clients;
+            this.durationMillis = durationMillis;
+            this.latency = latency;
+            this.games = games;
+            this.errors = errors;
+        }
+
+        public long getRequests() { return latency.getCount(); }
+        public long getErrors() { return errors; }
+        public long getGames() { return games; }
+        public LatencyHistogram getLatency() { return latency; }
+
+        public double getRequestsPerSecond() {
+            return latency.getCount() * 1000.0 / durationMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%3d clients: %7.0f req/s, p50=%.2f ms, p99=%.2f ms, %d games, %d errors",
+                    clients, getRequestsPerSecond(), latency.getPercentile(50) / 1e6,
+                    latency.getPercentile(99) / 1e6, games, errors);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.battleship.http;
+
+import com.example.battleship.engine.PacingPolicy;
+import com.example.battleship.engine.SessionRegistry;
+import com.example.battleship.patterns.AiProvider;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HTTP server for the {@link GameApi}, on the JDK's built-in {@link HttpServer}.
+ * Requests run on a fixed pool of daemon threads; each request only waits for its own
+ * game's actor, so the pool size bounds in-flight requests, not games.
+ * Usage: {@code ApiServer [port] [threads]}
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ApiServer implements AutoCloseable {
+
+    static {
+        // Responses are small: without TCP_NODELAY, Nagle's algorithm and delayed ACKs
+        // hold the body back ~40 ms behind the headers
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Creates a server for the given registry. Call {@link #start()} to begin serving.
+     *
+     * @param address Address to bind
+     * @param threads Request threads
+     * @param registry Registry that hosts the games
+     * @param ai Provider of the machine's strategies
+     * @throws IOException If the socket cannot be bound
+     */
+    public ApiServer(InetSocketAddress address, int threads, SessionRegistry registry, AiProvider ai) throws IOException {
+        AtomicInteger count = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "http-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server = HttpServer.create(address, 1024);
+        server.createContext("/games", new GameApi(registry, ai, PacingPolicy.TURBO));
+        server.setExecutor(executor);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors() * 4;
+        ApiServer server = new ApiServer(new InetSocketAddress(port), threads,
+                SessionRegistry.getDefault(), AiProvider.getDefault());
+        server.start();
+        System.out.println("🌐 Game API listening on http://localhost:" + server.getPort() + "/games");
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Gets the bound port.
+     *
+     * @return The local port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.example.battleship.http;
+
+import com.example.battleship.engine.GameController;
+import com.example.battleship.engine.GameSession;
+import com.example.battleship.engine.PacingPolicy;
+import com.example.battleship.engine.SessionRegistry;
+import com.example.battleship.exceptions.InvalidShipPlacementException;
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.model.Ship;
+import com.example.battleship.patterns.AiProvider;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * REST-style JSON API over hosted games of a {@link SessionRegistry}.
+ * Every game is a regular {@link GameController}, so the API follows the desktop rules;
+ * each request reads or changes its game in one command on the game's actor.
+ *
+ * <pre>
+ * POST   /games                 {"nickname": "ana", "difficulty": "HARD"}  create a game
+ * GET    /games/{id}                                                      game state
+ * DELETE /games/{id}                                                      leave the game
+ * POST   /games/{id}/ships      {"row": 0, "col": 0, "horizontal": true}  place the next ship
+ * POST   /games/{id}/shots      {"row": 4, "col": 7}                      fire at the machine
+ * </pre>
+ *
+ * <p>Boards are sent as 100-character strings, row by row: {@code .} water, {@code S} ship,
+ * {@code X} hit, {@code o} miss, {@code #} sunk. Machine ships are hidden until hit.
+ * Once the last ship is placed the machine places its fleet and the game starts. The
+ * machine plays its turn in the background; poll the state until {@code playerTurn}.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class GameApi implements HttpHandler {
+
+    private static final String PREFIX = "/games";
+
+    // Pool threads reuse their writer, so serving a request allocates no new buffer
+    private static final ThreadLocal<JsonWriter> WRITERS = ThreadLocal.withInitial(() -> new JsonWriter(512));
+
+    private final SessionRegistry registry;
+    private final AiProvider ai;
+    private final PacingPolicy pacing;
+
+    /**
+     * Creates the API.
+     *
+     * @param registry Registry that hosts the games
+     * @param ai Provider of the machine's strategies
+     * @param pacing Pacing of the machine's turns, usually {@link PacingPolicy#TURBO}
+     */
+    public GameApi(SessionRegistry registry, AiProvider ai, PacingPolicy pacing) {
+        this.registry = registry;
+        this.ai = ai;
+        this.pacing = pacing;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        JsonWriter json = WRITERS.get().reset();
+        int status;
+        try {
+            status = route(exchange, json);
+        } catch (ApiException e) {
+            status = e.status;
+            error(json.reset(), e.getMessage());
+        } catch (IllegalArgumentException e) {
+            status = 400;
+            error(json.reset(), e.getMessage());
+        } catch (RuntimeException e) {
+            status = 500;
+            error(json.reset(), "Internal error");
+            System.err.println("API error: " + e);
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, json.size());
+        json.writeTo(exchange.getResponseBody());
+        exchange.close();
+    }
+
+    private int route(HttpExchange exchange, JsonWriter json) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String method = exchange.getRequestMethod();
+        if (!path.startsWith(PREFIX)) throw new ApiException(404, "Not found");
+
+        String[] parts = path.substring(PREFIX.length()).split("/");
+        // parts[0] is the empty segment before the id
+        if (parts.length <= 1) {
+            requireMethod(method, "POST");
+            return create(readBody(exchange), json);
+        }
+
+        GameSession session = registry.get(parts[1]);
+        if (session == null || session.getGame() == null) throw new ApiException(404, "Unknown game");
+
+        if (parts.length == 2) {
+            if ("DELETE".equals(method)) {
+                registry.remove(session.getId());
+                json.beginObject().name("deleted").value(true).endObject();
+                return 200;
+            }
+            requireMethod(method, "GET");
+            writeState(session, json);
+            return 200;
+        }
+        if (parts.length == 3 && "ships".equals(parts[2])) {
+            requireMethod(method, "POST");
+            placeShip(session, readBody(exchange), json);
+            return 200;
+        }
+        if (parts.length == 3 && "shots".equals(parts[2])) {
+            requireMethod(method, "POST");
+            shoot(session, readBody(exchange), json);
+            return 200;
+        }
+        throw new ApiException(404, "Not found");
+    }
+
+    private int create(Map<String, String> body, JsonWriter json) {
+        String nickname = body.getOrDefault("nickname", "Player");
+        String difficulty = body.getOrDefault("difficulty", "EASY").toUpperCase();
+        if (!difficulty.matches("EASY|MEDIUM|HARD")) {
+            throw new IllegalArgumentException("Difficulty must be EASY, MEDIUM or HARD");
+        }
+        GameSession session = registry.host(nickname, difficulty, pacing, ai);
+        writeState(session, json);
+        return 201;
+    }
+
+    private void placeShip(GameSession session, Map<String, String> body, JsonWriter json) {
+        Coordinate start = coordinate(body);
+        boolean horizontal = Boolean.parseBoolean(body.getOrDefault("horizontal", "true"));
+        GameController game = session.getGame();
+        onGame(game, () -> {
+            if (game.getNextShipToPlace() == null) throw new ApiException(409, "All ships are already placed");
+            try {
+                game.placeShip(start, game.getNextShipToPlace().getSize(), horizontal);
+            } catch (InvalidShipPlacementException e) {
+                throw new IllegalArgumentException(e.getMessage());
+            }
+            if (game.getNextShipToPlace() == null) {
+                game.startNewGame(); // Machine places its fleet, the player shoots first
+            }
+            return null;
+        });
+        writeState(session, json);
+    }
+
+    private void shoot(GameSession session, Map<String, String> body, JsonWriter json) {
+        Coordinate target = coordinate(body);
+        GameController game = session.getGame();
+        Object[] result = onGame(game, () -> {
+            if (game.getNextShipToPlace() != null) throw new ApiException(409, "Fleet not placed yet");
+            if (game.isGameOver()) throw new ApiException(409, "Game is over");
+            if (!game.isPlayerTurn()) throw new ApiException(409, "Not your turn");
+            Board.CellState state = game.getMachineBoard().getGrid().get(target);
+            if (state != Board.CellState.WATER && state != Board.CellState.SHIP) {
+                throw new ApiException(409, "Cell already fired at");
+            }
+            boolean hit = game.shoot(target);
+            Ship ship = game.getMachineBoard().getShipPlacement().get(target);
+            return new Object[]{hit, ship != null && ship.isSunk(), game.isGameOver(), game.isPlayerTurn()};
+        });
+        json.beginObject()
+                .name("hit").value((boolean) result[0])
+                .name("sunk").value((boolean) result[1])
+                .name("gameOver").value((boolean) result[2])
+                .name("playerTurn").value((boolean) result[3])
+                .endObject();
+    }
+
+    /**
+     * Writes the game state, read in one command so both boards match.
+     */
+    private void writeState(GameSession session, JsonWriter json) {
+        GameController game = session.getGame();
+        Object[] state = onGame(game, () -> {
+            Ship next = game.getNextShipToPlace();
+            return new Object[]{
+                    game.getPlayerBoard().snapshotCells(), game.getMachineBoard().snapshotCells(),
+                    next == null ? 0 : next.getSize(), game.isPlayerTurn(),
+                    next == null && game.isGameOver(), game.getMachineBoard().hasShipsAfloat()};
+        });
+        int nextShipSize = (int) state[2];
+        boolean over = (boolean) state[4];
+
+        json.beginObject()
+                .name("id").value(session.getId())
+                .name("nickname").value(session.getPlayerNickname())
+                .name("difficulty").value(session.getDifficulty())
+                .name("phase").value(nextShipSize > 0 ? "PLACING" : over ? "FINISHED" : "PLAYING");
+        json.name("nextShipSize");
+        if (nextShipSize > 0) json.value(nextShipSize); else json.value((String) null);
+        json.name("playerTurn").value((boolean) state[3]);
+        json.name("winner").value(!over ? null : (boolean) state[5] ? "MACHINE" : "PLAYER");
+        json.name("playerBoard").value(cells((Board.CellState[]) state[0], false))
+                .name("machineBoard").value(cells((Board.CellState[]) state[1], true))
+                .name("shotsFired").value(session.getTotalShotsFired())
+                .name("hits").value(session.getSuccessfulHits())
+                .endObject();
+    }
+
+    private static String cells(Board.CellState[] cells, boolean hideShips) {
+        char[] text = new char[cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            Board.CellState cell = cells[i] == null ? Board.CellState.WATER : cells[i];
+            switch (cell) {
+                case SHIP: text[i] = hideShips ? '.' : 'S'; break;
+                case HIT: text[i] = 'X'; break;
+                case MISS: text[i] = 'o'; break;
+                case SUNK: text[i] = '#'; break;
+                default: text[i] = '.';
+            }
+        }
+        return new String(text);
+    }
+
+    private static void error(JsonWriter json, String message) {
+        json.beginObject().name("error").value(message).endObject();
+    }
+
+    private static Coordinate coordinate(Map<String, String> body) {
+        int row = intField(body, "row");
+        int col = intField(body, "col");
+        if (row < 0 || row > 9 || col < 0 || col > 9) {
+            throw new IllegalArgumentException("row and col must be between 0 and 9");
+        }
+        return new Coordinate(row, col);
+    }
+
+    private static int intField(Map<String, String> body, String name) {
+        String value = body.get(name);
+        if (value == null) throw new IllegalArgumentException("Missing field: " + name);
+        return Integer.parseInt(value);
+    }
+
+    private static void requireMethod(String method, String expected) {
+        if (!expected.equals(method)) throw new ApiException(405, "Use " + expected);
+    }
+
+    private static Map<String, String> readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return JsonReader.parseObject(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Runs a command on the game's actor and unwraps its failure.
+     */
+    private static <T> T onGame(GameController game, Callable<T> command) {
+        try {
+            return game.getActor().call(command);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Request failure with its HTTP status.
+     */
+    private static class ApiException extends RuntimeException {
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+}
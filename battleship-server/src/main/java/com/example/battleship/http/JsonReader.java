@@ -0,0 +1,118 @@
+package com.example.battleship.http;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reader for the flat JSON objects the API accepts as request bodies, e.g.
+ * {@code {"row": 3, "col": 4, "horizontal": true}}. Nested objects and arrays are rejected.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class JsonReader {
+
+    private final String text;
+    private int pos;
+
+    private JsonReader(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Parses a flat object. Strings are unescaped; numbers, booleans and null are kept
+     * as their literal text.
+     *
+     * @param text JSON text; empty means an empty object
+     * @return Member values by name
+     * @throws IllegalArgumentException If the text is not a flat JSON object
+     */
+    public static Map<String, String> parseObject(String text) {
+        Map<String, String> members = new HashMap<>();
+        if (text == null || text.isBlank()) return members;
+
+        JsonReader reader = new JsonReader(text);
+        reader.expect('{');
+        if (reader.peek() == '}') {
+            reader.pos++;
+        } else {
+            do {
+                String name = reader.string();
+                reader.expect(':');
+                members.put(name, reader.value());
+            } while (reader.next(',', '}') == ',');
+        }
+        if (reader.skipSpace() < text.length()) throw reader.error("Trailing data");
+        return members;
+    }
+
+    private String value() {
+        char c = peek();
+        if (c == '"') return string();
+        if (c == '{' || c == '[') throw error("Nested values are not supported");
+        int start = pos;
+        while (pos < text.length() && ",} \t\r\n".indexOf(text.charAt(pos)) < 0) pos++;
+        if (start == pos) throw error("Missing value");
+        return text.substring(start, pos);
+    }
+
+    private String string() {
+        expect('"');
+        StringBuilder sb = null;
+        int start = pos;
+        while (pos < text.length()) {
+            char c = text.charAt(pos++);
+            if (c == '"') {
+                return sb == null ? text.substring(start, pos - 1) : sb.toString();
+            }
+            if (c == '\\') {
+                if (sb == null) sb = new StringBuilder(text.substring(start, pos - 1));
+                if (pos >= text.length()) break;
+                char escaped = text.charAt(pos++);
+                switch (escaped) {
+                    case 'n': sb.append('\n'); break;
+                    case 't': sb.append('\t'); break;
+                    case 'r': sb.append('\r'); break;
+                    case 'b': sb.append('\b'); break;
+                    case 'f': sb.append('\f'); break;
+                    case 'u':
+                        if (pos + 4 > text.length()) throw error("Bad escape");
+                        sb.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                        pos += 4;
+                        break;
+                    default: sb.append(escaped);
+                }
+            } else if (sb != null) {
+                sb.append(c);
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    private char next(char first, char second) {
+        char c = peek();
+        if (c != first && c != second) throw error("Expected '" + first + "' or '" + second + "'");
+        pos++;
+        return c;
+    }
+
+    private void expect(char expected) {
+        if (peek() != expected) throw error("Expected '" + expected + "'");
+        pos++;
+    }
+
+    private char peek() {
+        if (skipSpace() >= text.length()) throw error("Unexpected end");
+        return text.charAt(pos);
+    }
+
+    private int skipSpace() {
+        while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) pos++;
+        return pos;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + pos);
+    }
+}
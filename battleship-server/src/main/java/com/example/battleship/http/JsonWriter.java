@@ -0,0 +1,252 @@
+package com.example.battleship.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Minimal streaming JSON writer that encodes straight into a byte array.
+ * Commas and nesting are tracked with a bit per level, so writing a document allocates
+ * nothing beyond the output array. Output is UTF-8.
+ *
+ * <pre>
+ * JsonWriter json = new JsonWriter();
+ * json.beginObject().name("hit").value(true).endObject();
+ * </pre>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JsonWriter {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes();
+    private static final int MAX_DEPTH = 64;
+
+    private byte[] buffer;
+    private int size;
+    private long hasElements; // Bit per nesting level: 1 once the level holds a value
+    private int depth;
+    private boolean afterName;
+
+    /**
+     * Creates a writer with a 256-byte initial buffer.
+     */
+    public JsonWriter() {
+        this(256);
+    }
+
+    /**
+     * Creates a writer.
+     *
+     * @param capacity Initial buffer size in bytes
+     */
+    public JsonWriter(int capacity) {
+        buffer = new byte[capacity];
+    }
+
+    /**
+     * Clears the writer so the buffer can be reused.
+     *
+     * @return This writer
+     */
+    public JsonWriter reset() {
+        size = 0;
+        depth = 0;
+        hasElements = 0;
+        afterName = false;
+        return this;
+    }
+
+    public JsonWriter beginObject() {
+        return open('{');
+    }
+
+    public JsonWriter endObject() {
+        return close('}');
+    }
+
+    public JsonWriter beginArray() {
+        return open('[');
+    }
+
+    public JsonWriter endArray() {
+        return close(']');
+    }
+
+    /**
+     * Writes a member name; the next call must write its value.
+     *
+     * @param name Member name
+     * @return This writer
+     */
+    public JsonWriter name(String name) {
+        separator();
+        string(name);
+        put((byte) ':');
+        afterName = true;
+        return this;
+    }
+
+    public JsonWriter value(String value) {
+        separator();
+        if (value == null) {
+            ascii("null");
+        } else {
+            string(value);
+        }
+        return this;
+    }
+
+    public JsonWriter value(long value) {
+        separator();
+        if (value == Long.MIN_VALUE) {
+            ascii("-9223372036854775808");
+            return this;
+        }
+        if (value < 0) {
+            put((byte) '-');
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) digits++;
+        ensure(digits);
+        for (int i = size + digits - 1; i >= size; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        size += digits;
+        return this;
+    }
+
+    public JsonWriter value(double value) {
+        separator();
+        ascii(Double.isFinite(value) ? Double.toString(value) : "null");
+        return this;
+    }
+
+    public JsonWriter value(boolean value) {
+        separator();
+        ascii(value ? "true" : "false");
+        return this;
+    }
+
+    /**
+     * Gets the number of bytes written.
+     *
+     * @return Document size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Copies the document to a stream.
+     *
+     * @param out Destination
+     * @throws IOException If the stream fails
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, size);
+    }
+
+    /**
+     * Gets the document as a string, mainly for tests and logs.
+     *
+     * @return The JSON text
+     */
+    @Override
+    public String toString() {
+        return new String(buffer, 0, size, StandardCharsets.UTF_8);
+    }
+
+    private JsonWriter open(char bracket) {
+        separator();
+        if (depth == MAX_DEPTH) throw new IllegalStateException("JSON nested too deep");
+        put((byte) bracket);
+        depth++;
+        hasElements &= ~(1L << depth);
+        return this;
+    }
+
+    private JsonWriter close(char bracket) {
+        if (depth == 0) throw new IllegalStateException("No open JSON container");
+        depth--;
+        put((byte) bracket);
+        return this;
+    }
+
+    /**
+     * Writes the comma before a value or member, unless it follows a member name.
+     */
+    private void separator() {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        long bit = 1L << depth;
+        if ((hasElements & bit) != 0) {
+            put((byte) ',');
+        } else {
+            hasElements |= bit;
+        }
+    }
+
+    private void string(String value) {
+        put((byte) '"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                put((byte) '\\');
+                put((byte) c);
+            } else if (c < 0x20) {
+                ensure(6);
+                buffer[size++] = '\\';
+                buffer[size++] = 'u';
+                buffer[size++] = '0';
+                buffer[size++] = '0';
+                buffer[size++] = HEX[c >> 4];
+                buffer[size++] = HEX[c & 0xF];
+            } else if (c < 0x80) {
+                put((byte) c);
+            } else if (c < 0x800) {
+                ensure(2);
+                buffer[size++] = (byte) (0xC0 | c >> 6);
+                buffer[size++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                ensure(4);
+                buffer[size++] = (byte) (0xF0 | codePoint >> 18);
+                buffer[size++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                buffer[size++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                buffer[size++] = (byte) (0x80 | codePoint & 0x3F);
+            } else {
+                ensure(3);
+                buffer[size++] = (byte) (0xE0 | c >> 12);
+                buffer[size++] = (byte) (0x80 | c >> 6 & 0x3F);
+                buffer[size++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        put((byte) '"');
+    }
+
+    private void ascii(String text) {
+        ensure(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            buffer[size++] = (byte) text.charAt(i);
+        }
+    }
+
+    private void put(byte b) {
+        ensure(1);
+        buffer[size++] = b;
+    }
+
+    private void ensure(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.battleship.net;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+/**
+ * Pool of direct buffers of one size, reused across connections.
+ * Direct buffers are expensive to allocate and free, so each connection borrows its
+ * buffers on connect and returns them on close. Not thread-safe: one pool per selector thread.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class DirectBufferPool {
+
+    private final int bufferSize;
+    private final int maxPooled;
+    private final ArrayDeque<ByteBuffer> free = new ArrayDeque<>();
+    private long allocated;
+
+    /**
+     * Creates a pool.
+     *
+     * @param bufferSize Capacity of every buffer
+     * @param maxPooled Maximum number of idle buffers kept
+     */
+    public DirectBufferPool(int bufferSize, int maxPooled) {
+        this.bufferSize = bufferSize;
+        this.maxPooled = maxPooled;
+    }
+
+    /**
+     * Borrows a cleared buffer.
+     *
+     * @return A buffer ready for writing
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = free.pollFirst();
+        if (buffer == null) {
+            allocated++;
+            return ByteBuffer.allocateDirect(bufferSize);
+        }
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer to the pool.
+     *
+     * @param buffer The buffer, no longer used by its owner
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer == null || free.size() >= maxPooled) return;
+        buffer.clear();
+        free.addFirst(buffer);
+    }
+
+    /**
+     * Gets how many buffers the pool ever allocated.
+     *
+     * @return Allocation count
+     */
+    public long getAllocatedCount() {
+        return allocated;
+    }
+}
@@ -0,0 +1,376 @@
+package com.example.battleship.net;
+
+import com.example.battleship.model.Coordinate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Multiplayer TCP server: one non-blocking selector loop serves every connection and match.
+ * Matches are only touched by the loop thread, so no locking is needed.
+ *
+ * <p>Each connection borrows one direct read buffer and one direct write buffer from a
+ * {@link DirectBufferPool}. Frames are parsed in place and replies are appended to the write
+ * buffer, so handling a message allocates no buffers or message objects. Replies are flushed
+ * once per loop iteration; OP_WRITE is only registered when the socket is full.</p>
+ *
+ * <p>See {@link Protocol} for the wire format.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class GameServer implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1024;
+    private static final int BACKLOG = 4096;
+
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final DirectBufferPool buffers = new DirectBufferPool(BUFFER_SIZE, 8192);
+    private final List<Connection> dirty = new ArrayList<>();
+    private final int[] fleetScratch = new int[Protocol.MAX_PAYLOAD];
+    private final Thread loop;
+    private volatile boolean running = true;
+    private Connection waiting;
+
+    // Statistics
+    private final LongAdder connectionsAccepted = new LongAdder();
+    private final LongAdder matchesStarted = new LongAdder();
+    private final LongAdder matchesFinished = new LongAdder();
+    private final LongAdder framesIn = new LongAdder();
+    private final LongAdder framesOut = new LongAdder();
+
+    /**
+     * Opens a server on the given address. Call {@link #start()} to begin serving.
+     *
+     * @param address Address to bind, e.g. {@code new InetSocketAddress("127.0.0.1", 0)}
+     * @throws IOException If the socket cannot be bound
+     */
+    public GameServer(InetSocketAddress address) throws IOException {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(address, BACKLOG);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        loop = new Thread(this::run, "game-server");
+        loop.setDaemon(true);
+    }
+
+    /**
+     * Starts the selector loop thread.
+     */
+    public void start() {
+        loop.start();
+    }
+
+    /**
+     * Gets the bound port.
+     *
+     * @return The local port
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+        try {
+            loop.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (SelectionKey key : selector.keys()) {
+            key.channel().close();
+        }
+        selector.close();
+    }
+
+    public long getConnectionsAccepted() { return connectionsAccepted.sum(); }
+    public long getMatchesStarted() { return matchesStarted.sum(); }
+    public long getMatchesFinished() { return matchesFinished.sum(); }
+    public long getFramesIn() { return framesIn.sum(); }
+    public long getFramesOut() { return framesOut.sum(); }
+
+    /**
+     * Gets how many direct buffers were ever allocated; stays flat once connections recycle.
+     *
+     * @return Direct buffer allocations
+     */
+    public long getBuffersAllocated() {
+        return buffers.getAllocatedCount();
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) continue;
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        Connection connection = (Connection) key.attachment();
+                        if (key.isReadable()) read(connection);
+                        if (key.isValid() && key.isWritable()) flush(connection);
+                    }
+                }
+                for (int i = 0; i < dirty.size(); i++) {
+                    flush(dirty.get(i));
+                }
+                dirty.clear();
+            }
+        } catch (IOException e) {
+            if (running) {
+                System.err.println("Game server stopped: " + e.getMessage());
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            Connection connection = new Connection(channel, buffers.acquire(), buffers.acquire());
+            connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+            connectionsAccepted.increment();
+
+            // Lobby: pair connections in arrival order
+            if (waiting == null) {
+                waiting = connection;
+            } else {
+                startMatch(waiting, connection);
+                waiting = null;
+            }
+        }
+    }
+
+    private void startMatch(Connection first, Connection second) {
+        first.side = new PlayerSide();
+        second.side = new PlayerSide();
+        PlayerSide.pair(first.side, second.side);
+        first.opponent = second;
+        second.opponent = first;
+        second.seat = 1;
+        matchesStarted.increment();
+        send(first, Protocol.MATCH_START, 0, -1, -1);
+        send(second, Protocol.MATCH_START, 1, -1, -1);
+    }
+
+    private void read(Connection connection) {
+        ByteBuffer in = connection.in;
+        int read;
+        try {
+            read = connection.channel.read(in);
+        } catch (IOException e) {
+            read = -1;
+        }
+        if (read < 0) {
+            disconnect(connection);
+            return;
+        }
+
+        in.flip();
+        while (in.remaining() >= Protocol.HEADER_BYTES) {
+            int start = in.position();
+            byte type = in.get(start);
+            int length = in.get(start + 1) & 0xFF;
+            if (in.remaining() < Protocol.HEADER_BYTES + length) break;
+            in.position(start + Protocol.HEADER_BYTES);
+            framesIn.increment();
+            handle(connection, type, in, length);
+            in.position(start + Protocol.HEADER_BYTES + length);
+            if (connection.closed) return;
+        }
+        in.compact();
+    }
+
+    private void handle(Connection connection, byte type, ByteBuffer in, int length) {
+        PlayerSide side = connection.side;
+        if (side == null || connection.finished) {
+            send(connection, Protocol.ERROR, Protocol.ERR_NOT_YOUR_TURN, -1, -1);
+            return;
+        }
+        switch (type) {
+            case Protocol.PLACE_FLEET:
+                placeFleet(connection, in, length);
+                break;
+            case Protocol.SHOOT:
+                if (length != 1) {
+                    send(connection, Protocol.ERROR, Protocol.ERR_BAD_FRAME, -1, -1);
+                } else {
+                    shoot(connection, in.get() & 0xFF);
+                }
+                break;
+            default:
+                send(connection, Protocol.ERROR, Protocol.ERR_BAD_FRAME, -1, -1);
+        }
+    }
+
+    private void placeFleet(Connection connection, ByteBuffer in, int length) {
+        PlayerSide side = connection.side;
+        if (side.isFleetPlaced()) {
+            send(connection, Protocol.ERROR, Protocol.ERR_INVALID_FLEET, -1, -1);
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            fleetScratch[i] = in.get() & 0xFF;
+        }
+        if (!side.placeFleet(fleetScratch, length)) {
+            send(connection, Protocol.ERROR, Protocol.ERR_INVALID_FLEET, -1, -1);
+            return;
+        }
+
+        Connection opponent = connection.opponent;
+        if (opponent.side.isFleetPlaced()) {
+            // Both fleets ready: seat 0 (the first to connect) moves first
+            Connection first = connection.seat == 0 ? connection : opponent;
+            first.side.setMyTurn(true);
+            sendTurns(connection);
+        }
+    }
+
+    private void shoot(Connection shooter, int cell) {
+        PlayerSide side = shooter.side;
+        if (!side.isMyTurn()) {
+            send(shooter, Protocol.ERROR, Protocol.ERR_NOT_YOUR_TURN, -1, -1);
+            return;
+        }
+        if (cell >= 100) {
+            send(shooter, Protocol.ERROR, Protocol.ERR_INVALID_TARGET, -1, -1);
+            return;
+        }
+        Coordinate target = new Coordinate(cell / 10, cell % 10);
+        if (!side.canShootAt(target)) {
+            send(shooter, Protocol.ERROR, Protocol.ERR_INVALID_TARGET, -1, -1);
+            return;
+        }
+
+        boolean hit = side.shoot(target);
+        int outcome = !hit ? Protocol.MISS : side.isSunkAt(target) ? Protocol.SUNK : Protocol.HIT;
+        Connection opponent = shooter.opponent;
+        send(shooter, Protocol.RESULT, 1, cell, outcome);
+        send(opponent, Protocol.RESULT, 0, cell, outcome);
+
+        if (side.isGameOver()) {
+            finish(shooter, side.hasWon());
+            return;
+        }
+        if (!hit) {
+            side.setMyTurn(false);
+            opponent.side.setMyTurn(true);
+        }
+        sendTurns(shooter);
+    }
+
+    private void sendTurns(Connection connection) {
+        send(connection, Protocol.TURN, connection.side.isMyTurn() ? 1 : 0, -1, -1);
+        Connection opponent = connection.opponent;
+        send(opponent, Protocol.TURN, opponent.side.isMyTurn() ? 1 : 0, -1, -1);
+    }
+
+    private void finish(Connection connection, boolean connectionWon) {
+        connection.finished = true;
+        send(connection, Protocol.GAME_OVER, connectionWon ? 1 : 0, -1, -1);
+        Connection opponent = connection.opponent;
+        if (opponent != null && !opponent.closed) {
+            opponent.finished = true;
+            send(opponent, Protocol.GAME_OVER, connectionWon ? 0 : 1, -1, -1);
+        }
+        matchesFinished.increment();
+    }
+
+    private void disconnect(Connection connection) {
+        if (connection.closed) return;
+        connection.closed = true;
+        if (waiting == connection) waiting = null;
+
+        Connection opponent = connection.opponent;
+        if (opponent != null && !opponent.closed && !opponent.finished) {
+            opponent.finished = true;
+            send(opponent, Protocol.ERROR, Protocol.ERR_OPPONENT_LEFT, -1, -1);
+            send(opponent, Protocol.GAME_OVER, 1, -1, -1);
+            matchesFinished.increment();
+        }
+
+        connection.key.cancel();
+        try {
+            connection.channel.close();
+        } catch (IOException ignored) {
+            // Already closed by the peer
+        }
+        buffers.release(connection.in);
+        buffers.release(connection.out);
+        connection.in = null;
+        connection.out = null;
+    }
+
+    private void send(Connection connection, byte type, int b0, int b1, int b2) {
+        if (connection.closed) return;
+        if (!Protocol.writeFrame(connection.out, type, b0, b1, b2)) {
+            // Client does not read its replies: drop it rather than buffer without bound
+            disconnect(connection);
+            return;
+        }
+        framesOut.increment();
+        if (!connection.dirty) {
+            connection.dirty = true;
+            dirty.add(connection);
+        }
+    }
+
+    private void flush(Connection connection) {
+        connection.dirty = false;
+        if (connection.closed) return;
+        ByteBuffer out = connection.out;
+        out.flip();
+        try {
+            connection.channel.write(out);
+        } catch (IOException e) {
+            out.clear();
+            disconnect(connection);
+            return;
+        }
+        boolean pending = out.hasRemaining();
+        out.compact();
+        connection.key.interestOps(pending ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+    }
+
+    /**
+     * State of one client connection.
+     */
+    private static class Connection {
+        private final SocketChannel channel;
+        private ByteBuffer in;
+        private ByteBuffer out;
+        private SelectionKey key;
+        private PlayerSide side;
+        private Connection opponent;
+        private int seat;
+        private boolean dirty;
+        private boolean finished;
+        private boolean closed;
+
+        Connection(SocketChannel channel, ByteBuffer in, ByteBuffer out) {
+            this.channel = channel;
+            this.in = in;
+            this.out = out;
+        }
+    }
+}
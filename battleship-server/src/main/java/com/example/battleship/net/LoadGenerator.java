@@ -0,0 +1,242 @@
+package com.example.battleship.net;
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.model.Ship;
+import com.example.battleship.util.LatencyHistogram;
+import com.example.battleship.util.ShipFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Load generator for {@link GameServer}: plays many matches at once between scripted bots.
+ * All bots share one client selector thread. Each bot places a random fleet and fires at
+ * cells in a shuffled order; the time from sending SHOOT to receiving its RESULT is recorded.
+ * Usage: {@code LoadGenerator [matches] [concurrentMatches] [host port]}; without a host an
+ * embedded server is started on localhost.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class LoadGenerator {
+
+    private final InetSocketAddress address;
+    private final long seed;
+
+    /**
+     * Creates a generator.
+     *
+     * @param address Server address
+     * @param seed Seed for fleets and shot orders
+     */
+    public LoadGenerator(InetSocketAddress address, long seed) {
+        this.address = address;
+        this.seed = seed;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int matches = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        int concurrent = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+
+        if (args.length > 3) {
+            InetSocketAddress address = new InetSocketAddress(args[2], Integer.parseInt(args[3]));
+            System.out.println(new LoadGenerator(address, 42).run(matches, concurrent));
+            return;
+        }
+        try (GameServer server = new GameServer(new InetSocketAddress("127.0.0.1", 0))) {
+            server.start();
+            LoadGenerator generator = new LoadGenerator(new InetSocketAddress("127.0.0.1", server.getPort()), 42);
+            generator.run(matches / 10, concurrent); // Warm-up
+            System.out.println(generator.run(matches, concurrent));
+            System.out.printf("Server: %d connections, %d frames in, %d frames out, %d direct buffers%n",
+                    server.getConnectionsAccepted(), server.getFramesIn(), server.getFramesOut(),
+                    server.getBuffersAllocated());
+        }
+    }
+
+    /**
+     * Plays a number of matches, keeping up to {@code concurrent} of them open at a time.
+     *
+     * @param matches Matches to play
+     * @param concurrent Maximum matches in progress
+     * @return Results of the run
+     * @throws IOException If the client selector fails
+     */
+    public Report run(int matches, int concurrent) throws IOException {
+        Random random = new Random(seed);
+        LatencyHistogram latency = new LatencyHistogram();
+        int bots = matches * 2;
+        int maxOpen = Math.max(2, concurrent * 2);
+        int opened = 0;
+        int open = 0;
+        int finished = 0;
+        long shots = 0;
+        long errors = 0;
+
+        long start = System.nanoTime();
+        try (Selector selector = Selector.open()) {
+            while (finished < bots) {
+                while (opened < bots && open < maxOpen) {
+                    Bot bot = new Bot(random);
+                    bot.channel = SocketChannel.open();
+                    bot.channel.configureBlocking(false);
+                    bot.channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                    bot.channel.connect(address);
+                    bot.channel.register(selector, SelectionKey.OP_CONNECT, bot);
+                    opened++;
+                    open++;
+                }
+
+                selector.select(1000);
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    Bot bot = (Bot) key.attachment();
+                    if (!key.isValid()) continue;
+                    try {
+                        if (key.isConnectable()) {
+                            bot.channel.finishConnect();
+                            key.interestOps(SelectionKey.OP_READ);
+                            continue;
+                        }
+                        if (bot.channel.read(bot.in) < 0) {
+                            bot.done = true;
+                            errors++;
+                        } else {
+                            bot.in.flip();
+                            while (!bot.done && bot.in.remaining() >= Protocol.HEADER_BYTES) {
+                                int frameStart = bot.in.position();
+                                int length = bot.in.get(frameStart + 1) & 0xFF;
+                                if (bot.in.remaining() < Protocol.HEADER_BYTES + length) break;
+                                byte type = bot.in.get(frameStart);
+                                int b0 = length > 0 ? bot.in.get(frameStart + 2) & 0xFF : 0;
+                                bot.in.position(frameStart + Protocol.HEADER_BYTES + length);
+
+                                if (type == Protocol.MATCH_START) {
+                                    bot.sendFleet();
+                                } else if (type == Protocol.TURN && b0 == 1) {
+                                    bot.sendShot();
+                                    shots++;
+                                } else if (type == Protocol.RESULT && b0 == 1) {
+                                    latency.record(System.nanoTime() - bot.shotSentAt);
+                                } else if (type == Protocol.GAME_OVER) {
+                                    bot.done = true;
+                                } else if (type == Protocol.ERROR) {
+                                    errors++;
+                                }
+                            }
+                            bot.in.compact();
+                            bot.flush();
+                        }
+                    } catch (IOException e) {
+                        bot.done = true;
+                        errors++;
+                    }
+                    if (bot.done) {
+                        key.cancel();
+                        bot.channel.close();
+                        open--;
+                        finished++;
+                    }
+                }
+            }
+        }
+        return new Report(matches, System.nanoTime() - start, shots, errors, latency);
+    }
+
+    /**
+     * Scripted client with a random fleet and a shuffled shot order.
+     */
+    private static class Bot {
+        private final ByteBuffer in = ByteBuffer.allocate(256);
+        private final ByteBuffer out = ByteBuffer.allocate(256);
+        private final byte[] fleet;
+        private final byte[] shotOrder = new byte[100];
+        private SocketChannel channel;
+        private int nextShot;
+        private long shotSentAt;
+        private boolean done;
+
+        Bot(Random random) {
+            Board board = new Board();
+            List<Ship> ships = ShipFactory.createFleet();
+            board.placeFleetRandomly(ships, random);
+            fleet = new byte[ships.size()];
+            for (int i = 0; i < fleet.length; i++) {
+                List<Coordinate> coords = ships.get(i).getCoordinates();
+                Coordinate first = coords.get(0);
+                boolean horizontal = coords.size() > 1 && coords.get(1).getRow() == first.getRow();
+                fleet[i] = (byte) Protocol.ship(Protocol.cell(first.getRow(), first.getCol()), horizontal);
+            }
+            for (int i = 0; i < 100; i++) {
+                shotOrder[i] = (byte) i;
+            }
+            for (int i = 99; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                byte swap = shotOrder[i];
+                shotOrder[i] = shotOrder[j];
+                shotOrder[j] = swap;
+            }
+        }
+
+        void sendFleet() {
+            out.put(Protocol.PLACE_FLEET).put((byte) fleet.length).put(fleet);
+        }
+
+        void sendShot() {
+            Protocol.writeFrame(out, Protocol.SHOOT, shotOrder[nextShot++], -1, -1);
+            shotSentAt = System.nanoTime();
+        }
+
+        void flush() throws IOException {
+            out.flip();
+            while (out.hasRemaining()) {
+                // Frames are tiny, the socket send buffer takes them at once
+                channel.write(out);
+            }
+            out.clear();
+        }
+    }
+
+    /**
+     * Results of one load run.
+     */
+    public static class Report {
+        private final int matches;
+        private final long elapsedNanos;
+        private final long shots;
+        private final long errors;
+        private final LatencyHistogram latency;
+
+        Report(int matches, long elapsedNanos, long shots, long errors, LatencyHistogram latency) {
+            this.matches = matches;
+            this.elapsedNanos = elapsedNanos;
+            this.shots = shots;
+            this.errors = errors;
+            this.latency = latency;
+        }
+
+        public int getMatches() { return matches; }
+        public long getShots() { return shots; }
+        public long getErrors() { return errors; }
+        public LatencyHistogram getLatency() { return latency; }
+
+        @Override
+        public String toString() {
+            double seconds = elapsedNanos / 1e9;
+            return String.format("%d matches in %.2f s (%.0f matches/s, %.0f shots/s, %d errors)%nShot latency: %s",
+                    matches, seconds, matches / seconds, shots / seconds, errors, latency.summary(1000, "µs"));
+        }
+    }
+}
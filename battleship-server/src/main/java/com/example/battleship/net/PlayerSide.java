@@ -0,0 +1,141 @@
+package com.example.battleship.net;
+
+import com.example.battleship.exceptions.InvalidShipPlacementException;
+import com.example.battleship.interfaces.IBattleShipGame;
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.model.Ship;
+import com.example.battleship.util.ShipFactory;
+
+import java.util.LinkedList;
+import java.util.Queue;
+
+/**
+ * One player's view of a two-player match, following the {@link IBattleShipGame} rules:
+ * the player places their own fleet and shoots at the opponent's board on their turn.
+ * Not thread-safe; a match is only touched by its server's selector thread.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class PlayerSide implements IBattleShipGame {
+
+    private Board board = new Board();
+    private Queue<Ship> shipsToPlace = new LinkedList<>(ShipFactory.createFleet());
+    private PlayerSide opponent;
+    private boolean myTurn;
+
+    /**
+     * Links two sides of a match.
+     *
+     * @param first One player
+     * @param second The other player
+     */
+    public static void pair(PlayerSide first, PlayerSide second) {
+        first.opponent = second;
+        second.opponent = first;
+    }
+
+    @Override
+    public void startNewGame() {
+        board = new Board();
+        shipsToPlace = new LinkedList<>(ShipFactory.createFleet());
+        myTurn = false;
+    }
+
+    @Override
+    public void placeShip(Coordinate start, int length, boolean isHorizontal) throws InvalidShipPlacementException {
+        Ship ship = shipsToPlace.peek();
+        if (ship == null) {
+            throw new InvalidShipPlacementException("All ships are already placed!");
+        }
+        if (ship.getSize() != length) {
+            throw new InvalidShipPlacementException("Expected a ship of size " + ship.getSize());
+        }
+        board.placeShip(ship, start, isHorizontal);
+        shipsToPlace.poll();
+    }
+
+    /**
+     * Places the whole fleet at once; on any invalid ship, nothing is kept.
+     *
+     * @param ships Encoded ships, see {@link Protocol#ship(int, boolean)}
+     * @param count Number of ships in the array
+     * @return true if the fleet was placed
+     */
+    public boolean placeFleet(int[] ships, int count) {
+        if (count != shipsToPlace.size()) return false;
+        try {
+            for (int i = 0; i < count; i++) {
+                int cell = ships[i] >> 1;
+                if (cell >= 100) throw new InvalidShipPlacementException("Cell out of range");
+                placeShip(new Coordinate(cell / 10, cell % 10), shipsToPlace.peek().getSize(), (ships[i] & 1) != 0);
+            }
+            return true;
+        } catch (InvalidShipPlacementException e) {
+            startNewGame();
+            return false;
+        }
+    }
+
+    @Override
+    public boolean shoot(Coordinate target) {
+        if (!canShootAt(target)) return false;
+        return opponent.board.fireAt(target);
+    }
+
+    /**
+     * Checks if a shot is allowed: own turn, both fleets placed, unresolved cell.
+     *
+     * @param target The target cell
+     * @return true if the shot can be fired
+     */
+    public boolean canShootAt(Coordinate target) {
+        if (!myTurn || !isFleetPlaced() || opponent == null || !opponent.isFleetPlaced()) return false;
+        Board.CellState state = opponent.board.getGrid().get(target);
+        return state == Board.CellState.WATER || state == Board.CellState.SHIP;
+    }
+
+    /**
+     * Checks if the ship at a cell of the opponent's board is sunk.
+     *
+     * @param target The cell
+     * @return true if a sunk ship covers the cell
+     */
+    public boolean isSunkAt(Coordinate target) {
+        return opponent.board.getGrid().get(target) == Board.CellState.SUNK;
+    }
+
+    @Override
+    public boolean isGameOver() {
+        return isFleetPlaced() && opponent != null && opponent.isFleetPlaced()
+                && (!board.hasShipsAfloat() || !opponent.board.hasShipsAfloat());
+    }
+
+    /**
+     * Checks if this player sunk the opponent's whole fleet.
+     *
+     * @return true if this player won
+     */
+    public boolean hasWon() {
+        return isGameOver() && board.hasShipsAfloat();
+    }
+
+    /**
+     * Network matches are not persisted.
+     */
+    @Override
+    public void saveGame() {}
+
+    /**
+     * Network matches are not persisted.
+     */
+    @Override
+    public void loadGame() {}
+
+    public boolean isFleetPlaced() { return shipsToPlace.isEmpty(); }
+    public boolean isMyTurn() { return myTurn; }
+    public void setMyTurn(boolean myTurn) { this.myTurn = myTurn; }
+    public Board getBoard() { return board; }
+}
@@ -0,0 +1,103 @@
+package com.example.battleship.net;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Binary wire format of the multiplayer server.
+ *
+ * <p>Every frame is {@code [type:u8][length:u8][payload:length bytes]}. Cells are encoded as
+ * one byte, {@code row * 10 + col}.</p>
+ *
+ * <pre>
+ * Client to server
+ *   PLACE_FLEET  one byte per ship, in fleet order: cell &lt;&lt; 1 | horizontal
+ *   SHOOT        cell
+ * Server to client
+ *   MATCH_START  seat (0 moves first)
+ *   TURN         1 if it is your turn, else 0
+ *   RESULT       byYou (1/0), cell, outcome (MISS / HIT / SUNK)
+ *   GAME_OVER    1 if you won, else 0
+ *   ERROR        error code
+ * </pre>
+ *
+ * <p>Connecting puts the client in the lobby; the server pairs clients in arrival order.
+ * After both fleets are placed the server sends TURN to both players, and again after
+ * every shot. A hit keeps the turn, a miss passes it.</p>
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class Protocol {
+
+    public static final int HEADER_BYTES = 2;
+    public static final int MAX_PAYLOAD = 255;
+
+    // Client to server
+    public static final byte PLACE_FLEET = 0x01;
+    public static final byte SHOOT = 0x02;
+
+    // Server to client
+    public static final byte MATCH_START = 0x10;
+    public static final byte TURN = 0x11;
+    public static final byte RESULT = 0x12;
+    public static final byte GAME_OVER = 0x13;
+    public static final byte ERROR = 0x14;
+
+    // Shot outcomes
+    public static final byte MISS = 0;
+    public static final byte HIT = 1;
+    public static final byte SUNK = 2;
+
+    // Error codes
+    public static final byte ERR_NOT_YOUR_TURN = 1;
+    public static final byte ERR_INVALID_TARGET = 2;
+    public static final byte ERR_INVALID_FLEET = 3;
+    public static final byte ERR_BAD_FRAME = 4;
+    public static final byte ERR_OPPONENT_LEFT = 5;
+
+    private Protocol() {}
+
+    /**
+     * Encodes a cell.
+     *
+     * @param row Row index
+     * @param col Column index
+     * @return Cell byte value, 0 to 99
+     */
+    public static int cell(int row, int col) {
+        return row * 10 + col;
+    }
+
+    /**
+     * Encodes one ship of a PLACE_FLEET payload.
+     *
+     * @param cell Start cell
+     * @param horizontal Orientation
+     * @return Ship byte value
+     */
+    public static int ship(int cell, boolean horizontal) {
+        return cell << 1 | (horizontal ? 1 : 0);
+    }
+
+    /**
+     * Writes a frame with up to three payload bytes; unused bytes are passed as -1.
+     * No objects are allocated.
+     *
+     * @param out Buffer to append to
+     * @param type Frame type
+     * @param b0 First payload byte, or -1
+     * @param b1 Second payload byte, or -1
+     * @param b2 Third payload byte, or -1
+     * @return false if the buffer has no room for the frame
+     */
+    public static boolean writeFrame(ByteBuffer out, byte type, int b0, int b1, int b2) {
+        int length = b0 < 0 ? 0 : b1 < 0 ? 1 : b2 < 0 ? 2 : 3;
+        if (out.remaining() < HEADER_BYTES + length) return false;
+        out.put(type).put((byte) length);
+        if (length > 0) out.put((byte) b0);
+        if (length > 1) out.put((byte) b1);
+        if (length > 2) out.put((byte) b2);
+        return true;
+    }
+}
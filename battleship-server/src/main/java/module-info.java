@@ -0,0 +1,10 @@
+// Servidor multijugador sin interfaz gráfica
+module com.example.battleship.server {
+    requires transitive com.example.battleship.core;
+    requires jdk.httpserver;
+    requires java.net.http;
+
+    exports com.example.battleship.net;
+    exports com.example.battleship.http;
+    exports com.example.battleship.arena;
+}
@@ -0,0 +1,90 @@
+package com.example.battleship.arena;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Arena class, with SampleBot processes as contestants.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ArenaTest {
+
+    private static List<String> sampleBot(String... args) throws Exception {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        String classes = Path.of(SampleBot.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        List<String> command = new ArrayList<>(List.of(java, "-XX:TieredStopAtLevel=1", "-Xshare:auto",
+                "-cp", classes, SampleBot.class.getName()));
+        command.addAll(List.of(args));
+        return command;
+    }
+
+    @Test
+    @DisplayName("Should run a concurrent round robin with bounded process pools")
+    void testRoundRobin() throws Exception {
+        Bot first = new Bot("first", sampleBot("--seed", "1"), 2);
+        Bot second = new Bot("second", sampleBot("--seed", "2"), 2);
+        Bot third = new Bot("third", sampleBot("--seed", "3"), 2);
+        List<MatchResult> streamed = new ArrayList<>();
+
+        try (Arena arena = new Arena(List.of(first, second, third), 2000, 3)) {
+            List<MatchResult> results = arena.runRoundRobin(4, streamed::add);
+
+            assertEquals(12, results.size(), "3 pairs x 4 games");
+            assertEquals(results, streamed, "Every result should be streamed");
+            for (MatchResult result : results) {
+                assertEquals(MatchResult.Reason.FLEET_SUNK, result.getReason(), "Sample bots play fair: " + result);
+                assertTrue(result.getShots() >= 20, "A fleet needs 20 hits to sink");
+            }
+            assertTrue(arena.rankingTable().contains("first"));
+        }
+
+        for (Bot bot : List.of(first, second, third)) {
+            assertEquals(8, bot.getWins() + bot.getLosses(), "Each bot plays 8 games");
+            assertTrue(bot.getProcessesStarted() <= 2, "Processes should be reused within the pool");
+            assertTrue(bot.getMoveLatency().getCount() > 0, "Move latency should be recorded");
+            assertEquals(0, bot.getTimeouts());
+        }
+    }
+
+    @Test
+    @DisplayName("A bot that exceeds the move time limit should forfeit")
+    void testTimeoutForfeits() throws Exception {
+        Bot fast = new Bot("fast", sampleBot("--seed", "1"), 1);
+        Bot slow = new Bot("slow", sampleBot("--seed", "2", "--delay", "2000"), 1);
+
+        try (Arena arena = new Arena(List.of(fast, slow), 200, 1)) {
+            List<MatchResult> results = arena.runRoundRobin(2, result -> {});
+
+            for (MatchResult result : results) {
+                assertSame(fast, result.getWinner());
+                assertEquals(MatchResult.Reason.TIMEOUT, result.getReason());
+            }
+        }
+        assertEquals(2, slow.getTimeouts(), "Both games should time out");
+        assertEquals(2, slow.getProcessesStarted(), "A timed-out process should be replaced");
+    }
+
+    @Test
+    @DisplayName("A bot that cannot start should lose by crash")
+    void testCrashForfeits() throws Exception {
+        Bot good = new Bot("good", sampleBot("--seed", "1"), 1);
+        Bot broken = new Bot("broken", List.of(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", "does-not-exist", "NoSuchBot"), 1);
+
+        try (Arena arena = new Arena(List.of(good, broken), 500, 1)) {
+            MatchResult result = arena.runRoundRobin(1, r -> {}).get(0);
+
+            assertSame(good, result.getWinner());
+            assertEquals(MatchResult.Reason.CRASH, result.getReason());
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.battleship.http;
+
+import com.example.battleship.engine.SessionRegistry;
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Coordinate;
+import com.example.battleship.patterns.AiProvider;
+import com.example.battleship.patterns.PlacementStrategy;
+import com.example.battleship.patterns.ShootingStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the GameApi over a local ApiServer.
+ * Plays through placement and shooting, and runs a short load test.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class GameApiTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private SessionRegistry registry;
+    private ApiServer server;
+    private URI base;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        registry = new SessionRegistry(60_000, ForkJoinPool.commonPool(), System::nanoTime);
+        server = new ApiServer(new InetSocketAddress("127.0.0.1", 0), 4, registry, new FirstFreeCellAi());
+        server.start();
+        base = URI.create("http://127.0.0.1:" + server.getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+        registry.shutdown();
+    }
+
+    private HttpResponse<String> send(String method, String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(base.resolve(path))
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private Map<String, String> json(HttpResponse<String> response) {
+        return JsonReader.parseObject(response.body());
+    }
+
+    @Test
+    @DisplayName("Should place a fleet and shoot through the API")
+    void testPlayThroughApi() throws Exception {
+        HttpResponse<String> created = send("POST", "/games", "{\"nickname\":\"ana\",\"difficulty\":\"hard\"}");
+        assertEquals(201, created.statusCode());
+        Map<String, String> game = json(created);
+        assertEquals("PLACING", game.get("phase"));
+        assertEquals("4", game.get("nextShipSize"), "The carrier is placed first");
+        assertEquals("HARD", game.get("difficulty"));
+        String path = "/games/" + game.get("id");
+
+        for (int row = 0; row < 10; row++) {
+            HttpResponse<String> placed = send("POST", path + "/ships", "{\"row\":" + row + ",\"col\":0,\"horizontal\":true}");
+            assertEquals(200, placed.statusCode(), placed.body());
+            if (row == 0) {
+                HttpResponse<String> overlap = send("POST", path + "/ships", "{\"row\":0,\"col\":1,\"horizontal\":true}");
+                assertEquals(400, overlap.statusCode(), "Overlapping ship should be rejected");
+            }
+        }
+
+        Map<String, String> state = json(send("GET", path, null));
+        assertEquals("PLAYING", state.get("phase"));
+        assertEquals("true", state.get("playerTurn"));
+        assertEquals(100, state.get("playerBoard").length());
+        assertTrue(state.get("playerBoard").startsWith("SSSS."), "Own ships should be visible");
+        assertFalse(state.get("machineBoard").contains("S"), "Machine ships should be hidden");
+
+        // Find a hit by shooting down the first column of the machine's board
+        Map<String, String> shot = null;
+        for (int row = 0; row < 10; row++) {
+            HttpResponse<String> response = send("POST", path + "/shots", "{\"row\":" + row + ",\"col\":0}");
+            if (response.statusCode() == 409) break; // Missed, machine's turn
+            assertEquals(200, response.statusCode(), response.body());
+            shot = json(response);
+            HttpResponse<String> again = send("POST", path + "/shots", "{\"row\":" + row + ",\"col\":0}");
+            assertEquals(409, again.statusCode(), "Repeated shot should be rejected");
+            if (!Boolean.parseBoolean(shot.get("hit"))) break;
+        }
+        assertNotNull(shot, "First shot should be accepted");
+        assertTrue(Integer.parseInt(json(send("GET", path, null)).get("shotsFired")) >= 1,
+                "Shots should be counted");
+
+        assertEquals(400, send("POST", path + "/shots", "{\"row\":12,\"col\":0}").statusCode());
+        assertEquals(400, send("POST", path + "/shots", "{\"row\":").statusCode(), "Malformed JSON should be rejected");
+        assertEquals(200, send("DELETE", path, null).statusCode());
+        assertEquals(404, send("GET", path, null).statusCode(), "Deleted game should be gone");
+    }
+
+    @Test
+    @DisplayName("Should serve concurrent clients without errors")
+    void testLoadGenerator() throws Exception {
+        ApiLoadGenerator.Report report = new ApiLoadGenerator(base).run(4, 500);
+
+        assertEquals(0, report.getErrors(), "No request should fail");
+        assertTrue(report.getRequests() > 0, "Clients should send requests");
+        assertTrue(report.getLatency().getPercentile(99) > 0);
+    }
+
+    /**
+     * Minimal AI for tests: fires at the first unresolved cell, places ships randomly.
+     */
+    private static class FirstFreeCellAi implements AiProvider {
+
+        @Override
+        public ShootingStrategy createShootingStrategy(String difficulty) {
+            return board -> {
+                for (int row = 0; row < 10; row++) {
+                    for (int col = 0; col < 10; col++) {
+                        Board.CellState state = board.getGrid().get(new Coordinate(row, col));
+                        if (state == Board.CellState.WATER || state == Board.CellState.SHIP) {
+                            return new Coordinate(row, col);
+                        }
+                    }
+                }
+                return new Coordinate(0, 0);
+            };
+        }
+
+        @Override
+        public PlacementStrategy createPlacementStrategy(String difficulty) {
+            return (board, fleet, random) -> board.placeFleetRandomly(fleet, random);
+        }
+    }
+}
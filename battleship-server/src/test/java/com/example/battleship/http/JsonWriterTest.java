@@ -0,0 +1,62 @@
+package com.example.battleship.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the JsonWriter and JsonReader classes.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class JsonWriterTest {
+
+    @Test
+    @DisplayName("Should separate members and nested containers with commas")
+    void testStructure() {
+        JsonWriter json = new JsonWriter(4);
+        json.beginObject()
+                .name("a").value(1)
+                .name("b").beginArray().value(true).value(-42).beginObject().endObject().endArray()
+                .name("c").value((String) null)
+                .endObject();
+
+        assertEquals("{\"a\":1,\"b\":[true,-42,{}],\"c\":null}", json.toString());
+    }
+
+    @Test
+    @DisplayName("Should escape strings and read them back")
+    void testEscapingRoundTrip() {
+        String text = "quote \" slash \\ tab \t ñ 🚢";
+        JsonWriter json = new JsonWriter();
+        json.beginObject().name("text").value(text).name("n").value(Long.MIN_VALUE).endObject();
+
+        Map<String, String> members = JsonReader.parseObject(json.toString());
+        assertEquals(text, members.get("text"));
+        assertEquals(String.valueOf(Long.MIN_VALUE), members.get("n"));
+    }
+
+    @Test
+    @DisplayName("Should reuse the buffer after reset")
+    void testReset() {
+        JsonWriter json = new JsonWriter();
+        json.beginArray().value(1).endArray();
+        json.reset().beginArray().value(2).endArray();
+
+        assertEquals("[2]", json.toString());
+    }
+
+    @Test
+    @DisplayName("Should reject nested or malformed request bodies")
+    void testReaderRejects() {
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.parseObject("{\"a\":{}}"));
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.parseObject("{\"a\":1"));
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.parseObject("{\"a\":1} x"));
+        assertTrue(JsonReader.parseObject("").isEmpty());
+    }
+}
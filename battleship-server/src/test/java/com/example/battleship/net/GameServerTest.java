@@ -0,0 +1,161 @@
+package com.example.battleship.net;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the GameServer class over localhost.
+ * Plays a scripted match with blocking clients and a short load run.
+ *
+ * @author Battleship Team
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class GameServerTest {
+
+    private GameServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new GameServer(new InetSocketAddress("127.0.0.1", 0));
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.close();
+    }
+
+    private SocketChannel connect() throws IOException {
+        return SocketChannel.open(new InetSocketAddress("127.0.0.1", server.getPort()));
+    }
+
+    /**
+     * Fleet in fleet order: ship i starts at row i, column 0, horizontal.
+     */
+    private static void placeFleet(SocketChannel channel) throws IOException {
+        ByteBuffer frame = ByteBuffer.allocate(12);
+        frame.put(Protocol.PLACE_FLEET).put((byte) 10);
+        for (int i = 0; i < 10; i++) {
+            frame.put((byte) Protocol.ship(Protocol.cell(i, 0), true));
+        }
+        write(channel, frame);
+    }
+
+    private static void shoot(SocketChannel channel, int cell) throws IOException {
+        ByteBuffer frame = ByteBuffer.allocate(3);
+        Protocol.writeFrame(frame, Protocol.SHOOT, cell, -1, -1);
+        write(channel, frame);
+    }
+
+    private static void write(SocketChannel channel, ByteBuffer frame) throws IOException {
+        frame.flip();
+        while (frame.hasRemaining()) {
+            channel.write(frame);
+        }
+    }
+
+    /**
+     * Reads one frame as {type, payload bytes...}.
+     */
+    private static int[] read(SocketChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(Protocol.HEADER_BYTES);
+        readFully(channel, header);
+        ByteBuffer payload = ByteBuffer.allocate(header.get(1) & 0xFF);
+        readFully(channel, payload);
+        int[] frame = new int[1 + payload.capacity()];
+        frame[0] = header.get(0);
+        for (int i = 0; i < payload.capacity(); i++) {
+            frame[i + 1] = payload.get(i) & 0xFF;
+        }
+        return frame;
+    }
+
+    private static void readFully(SocketChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) throw new IOException("Server closed the connection");
+        }
+    }
+
+    @Test
+    @DisplayName("Should play a full match between two clients")
+    void testScriptedMatch() throws IOException {
+        try (SocketChannel first = connect()) {
+            try (SocketChannel second = connect()) {
+                assertArrayEquals(new int[]{Protocol.MATCH_START, 0}, read(first), "First client gets seat 0");
+                assertArrayEquals(new int[]{Protocol.MATCH_START, 1}, read(second), "Second client gets seat 1");
+
+                placeFleet(first);
+                placeFleet(second);
+                assertArrayEquals(new int[]{Protocol.TURN, 1}, read(first), "Seat 0 moves first");
+                assertArrayEquals(new int[]{Protocol.TURN, 0}, read(second));
+
+                shoot(second, 0);
+                assertArrayEquals(new int[]{Protocol.ERROR, Protocol.ERR_NOT_YOUR_TURN}, read(second));
+
+                // A miss passes the turn
+                shoot(first, 99);
+                assertArrayEquals(new int[]{Protocol.RESULT, 1, 99, Protocol.MISS}, read(first));
+                assertArrayEquals(new int[]{Protocol.RESULT, 0, 99, Protocol.MISS}, read(second));
+                assertArrayEquals(new int[]{Protocol.TURN, 0}, read(first));
+                assertArrayEquals(new int[]{Protocol.TURN, 1}, read(second));
+
+                // The second player sinks the whole fleet, keeping the turn on every hit
+                int[] cells = {0, 1, 2, 3, 10, 11, 12, 20, 21, 22, 30, 31, 40, 41, 50, 51, 60, 70, 80, 90};
+                for (int i = 0; i < cells.length; i++) {
+                    shoot(second, cells[i]);
+                    int[] result = read(second);
+                    assertEquals(Protocol.RESULT, result[0]);
+                    assertEquals(cells[i], result[2]);
+                    assertNotEquals(Protocol.MISS, result[3], "Every shot should hit");
+                    assertEquals(Protocol.RESULT, read(first)[0]);
+                    if (i < cells.length - 1) {
+                        assertArrayEquals(new int[]{Protocol.TURN, 1}, read(second));
+                        assertArrayEquals(new int[]{Protocol.TURN, 0}, read(first));
+                    }
+                    if (cells[i] == 3) {
+                        assertEquals(Protocol.SUNK, result[3], "Last carrier cell should sink it");
+                    }
+                }
+                assertArrayEquals(new int[]{Protocol.GAME_OVER, 1}, read(second), "Second player should win");
+                assertArrayEquals(new int[]{Protocol.GAME_OVER, 0}, read(first));
+            }
+        }
+        assertEquals(1, server.getMatchesStarted());
+    }
+
+    @Test
+    @DisplayName("Should tell the remaining player when the opponent disconnects")
+    void testOpponentLeft() throws IOException {
+        try (SocketChannel first = connect()) {
+            try (SocketChannel second = connect()) {
+                read(first);
+                read(second);
+            }
+            assertArrayEquals(new int[]{Protocol.ERROR, Protocol.ERR_OPPONENT_LEFT}, read(first));
+            assertArrayEquals(new int[]{Protocol.GAME_OVER, 1}, read(first));
+        }
+    }
+
+    @Test
+    @DisplayName("Should complete concurrent matches from the load generator")
+    void testLoadGenerator() throws IOException {
+        LoadGenerator generator = new LoadGenerator(new InetSocketAddress("127.0.0.1", server.getPort()), 7);
+        LoadGenerator.Report report = generator.run(200, 100);
+
+        assertEquals(0, report.getErrors(), "No bot should see an error");
+        assertTrue(report.getShots() >= 200 * 20, "Every match needs at least 20 hits");
+        assertEquals(report.getShots(), report.getLatency().getCount(), "Every shot should get a result");
+        assertTrue(report.getLatency().getPercentile(99) > 0);
+        assertEquals(200, server.getMatchesFinished());
+    }
+}